@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.optimizer.commons.metrics;
+
+import java.util.ServiceLoader;
+
+/**
+ * The {@link OptimizerMetrics} services, loaded on first use only.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+final class LoadedOptimizerMetrics {
+
+    static final OptimizerMetrics METRICS = OptimizerMetrics.of(ServiceLoader.load(OptimizerMetrics.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .toList());
+
+    private LoadedOptimizerMetrics() {
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.optimizer.commons.metrics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Receives the measures of the phases of the optimizer runs, to be bridged to a metrics system.
+ * <p>
+ * The implementations declared as services, for instance with <code>@AutoService(OptimizerMetrics.class)</code>,
+ * are found by {@link #load()}. They are called by the threads of the runs, possibly concurrently, and must not block.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public interface OptimizerMetrics {
+
+    OptimizerMetrics NO_OP = (optimizer, phase, duration, allocatedBytes) -> {
+    };
+
+    /**
+     * @param optimizer      the optimizer of the run, for instance <code>open-reac</code>.
+     * @param phase          the phase of the run.
+     * @param duration       the wall time of the phase.
+     * @param allocatedBytes the bytes allocated by the JVM during the phase, negative if unknown, for instance for
+     *                       the phases in an external process.
+     */
+    void recordPhase(String optimizer, String phase, Duration duration, long allocatedBytes);
+
+    /**
+     * @return all the metrics declared as services, {@link #NO_OP} if none.
+     */
+    static OptimizerMetrics load() {
+        return LoadedOptimizerMetrics.METRICS;
+    }
+
+    /**
+     * @return metrics forwarding the measures to all the given ones.
+     */
+    static OptimizerMetrics of(List<OptimizerMetrics> metrics) {
+        List<OptimizerMetrics> copy = List.copyOf(metrics);
+        return switch (copy.size()) {
+            case 0 -> NO_OP;
+            case 1 -> copy.getFirst();
+            default -> (optimizer, phase, duration, allocatedBytes) -> copy.forEach(m -> m.recordPhase(optimizer, phase, duration, allocatedBytes));
+        };
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Limits the AMPL processes started by the runs sharing it, by a number of solver license tokens, one per process,
+ * and by a memory budget, each process using the memory estimated from the size of its network.
+ * <p>
+ * The waiting runs are admitted by decreasing priority, then in arrival order. A run is only admitted once all the
+ * runs before it are: a large run waiting for memory is not overtaken by smaller ones, so that it cannot starve.
+ * A run estimated above the whole memory budget is admitted alone.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class AmplAdmissionController {
+
+    private static final long MB = 1024L * 1024L;
+    private static final long KB = 1024L;
+
+    static final long DEFAULT_BASE_MEMORY_MB = 200;
+    static final long DEFAULT_MEMORY_PER_BUS_KB = 64;
+    static final long DEFAULT_MEMORY_PER_BRANCH_KB = 32;
+
+    private static final Map<Limits, AmplAdmissionController> SHARED_CONTROLLERS = new ConcurrentHashMap<>();
+
+    private static final Comparator<Request> ORDER = Comparator.comparingInt(Request::priority).reversed()
+            .thenComparingLong(Request::sequence);
+
+    private record Limits(int maxTokens, long memoryBudget, long baseMemory, long memoryPerBus, long memoryPerBranch) {
+    }
+
+    private record Request(int priority, long sequence, long memory, CompletableFuture<Permit> permit) {
+    }
+
+    private final int maxTokens;
+    private final long memoryBudget;
+    private final ToLongFunction<Network> memoryEstimator;
+
+    // state guarded by this
+    private final PriorityQueue<Request> waiting = new PriorityQueue<>(ORDER);
+    private int usedTokens;
+    private long usedMemory;
+    private long sequence;
+
+    /**
+     * @param maxTokens       the maximum number of AMPL processes running at the same time.
+     * @param memoryBudget    the memory the running AMPL processes can use together, in bytes.
+     * @param memoryEstimator the memory used by the AMPL process of a network, in bytes, evaluated on the variant of the run.
+     */
+    public AmplAdmissionController(int maxTokens, long memoryBudget, ToLongFunction<Network> memoryEstimator) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("The number of AMPL tokens must be >= 1 to be consistent.");
+        }
+        if (memoryBudget < 1) {
+            throw new IllegalArgumentException("The AMPL memory budget must be >= 1 to be consistent.");
+        }
+        this.maxTokens = maxTokens;
+        this.memoryBudget = memoryBudget;
+        this.memoryEstimator = Objects.requireNonNull(memoryEstimator);
+    }
+
+    /**
+     * Token limit only.
+     */
+    public AmplAdmissionController(int maxTokens) {
+        this(maxTokens, Long.MAX_VALUE, network -> 0);
+    }
+
+    /**
+     * The controller of the given limits shared by the whole JVM, so that the configs loaded separately do not start
+     * more processes together than the licenses or the memory allow.
+     */
+    public static AmplAdmissionController shared(int maxTokens, long memoryBudgetMb, long baseMemoryMb, long memoryPerBusKb,
+                                                 long memoryPerBranchKb) {
+        Limits limits = new Limits(maxTokens, memoryBudgetMb, baseMemoryMb, memoryPerBusKb, memoryPerBranchKb);
+        return SHARED_CONTROLLERS.computeIfAbsent(limits, l -> new AmplAdmissionController(maxTokens,
+                memoryBudgetMb == Long.MAX_VALUE ? Long.MAX_VALUE : memoryBudgetMb * MB,
+                linearMemoryEstimator(baseMemoryMb * MB, memoryPerBusKb * KB, memoryPerBranchKb * KB)));
+    }
+
+    /**
+     * Memory estimated as a base plus a memory per bus of the bus view and per branch, three windings transformers
+     * included.
+     */
+    public static ToLongFunction<Network> linearMemoryEstimator(long baseMemory, long memoryPerBus, long memoryPerBranch) {
+        checkMemoryEstimates(baseMemory, memoryPerBus, memoryPerBranch);
+        return network -> linearMemory(baseMemory, memoryPerBus, memoryPerBranch, network.getBusView().getBusStream().count(),
+                network.getBranchCount() + network.getThreeWindingsTransformerCount());
+    }
+
+    static void checkMemoryEstimates(long baseMemory, long memoryPerBus, long memoryPerBranch) {
+        if (baseMemory < 0 || memoryPerBus < 0 || memoryPerBranch < 0) {
+            throw new IllegalArgumentException("The AMPL memory estimates must be >= 0 to be consistent.");
+        }
+    }
+
+    static long linearMemory(long baseMemory, long memoryPerBus, long memoryPerBranch, long buses, long branches) {
+        return baseMemory + memoryPerBus * buses + memoryPerBranch * branches;
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public long estimateMemory(Network network) {
+        return memoryEstimator.applyAsLong(network);
+    }
+
+    public synchronized int getAvailableTokens() {
+        return maxTokens - usedTokens;
+    }
+
+    public synchronized long getAvailableMemory() {
+        return memoryBudget - usedMemory;
+    }
+
+    public synchronized int getWaitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Admission of a process, granted to the returned future once the tokens and the memory are available. Cancelling
+     * the future withdraws the request.
+     */
+    public CompletableFuture<Permit> acquire(long memory, int priority) {
+        if (memory < 0) {
+            throw new IllegalArgumentException("The AMPL memory estimate must be >= 0 to be consistent.");
+        }
+        CompletableFuture<Permit> permit = new CompletableFuture<>();
+        synchronized (this) {
+            waiting.add(new Request(priority, sequence++, Math.min(memory, memoryBudget), permit));
+        }
+        // a withdrawn request may have been holding back the ones after it
+        permit.whenComplete((p, e) -> {
+            if (e != null) {
+                admit();
+            }
+        });
+        admit();
+        return permit;
+    }
+
+    /**
+     * Starts the job once admitted, and releases the admission when the job completes. Cancelling the returned future
+     * withdraws the request if the job is not started yet, and cancels the future of the job otherwise.
+     */
+    public <T> CompletableFuture<T> submit(long memory, int priority, Supplier<CompletableFuture<T>> job) {
+        Objects.requireNonNull(job);
+        CompletableFuture<Permit> pendingPermit = acquire(memory, priority);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> startedJob = new AtomicReference<>();
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                pendingPermit.cancel(false);
+                CompletableFuture<T> started = startedJob.get();
+                if (started != null) {
+                    started.cancel(false);
+                }
+            }
+        });
+        pendingPermit.whenComplete((permit, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+                return;
+            }
+            // cancelled while the permit was granted
+            if (result.isDone()) {
+                permit.close();
+                return;
+            }
+            CompletableFuture<T> started;
+            try {
+                started = job.get();
+            } catch (RuntimeException ex) {
+                permit.close();
+                result.completeExceptionally(ex);
+                return;
+            }
+            startedJob.set(started);
+            started.whenComplete((r, ex) -> {
+                permit.close();
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(r);
+                }
+            });
+            if (result.isCancelled()) {
+                started.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for the admission, then runs the job in the calling thread.
+     */
+    public <T> T call(long memory, int priority, Supplier<T> job) {
+        Objects.requireNonNull(job);
+        CompletableFuture<Permit> pendingPermit = acquire(memory, priority);
+        Permit permit;
+        try {
+            permit = pendingPermit.get();
+        } catch (InterruptedException e) {
+            pendingPermit.cancel(false);
+            // the permit may have been granted meanwhile
+            if (!pendingPermit.isCancelled()) {
+                pendingPermit.join().close();
+            }
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while waiting for the AMPL admission", e);
+        } catch (ExecutionException e) {
+            throw new PowsyblException(e.getCause());
+        }
+        try (permit) {
+            return job.get();
+        }
+    }
+
+    private void admit() {
+        List<Request> admitted = new ArrayList<>();
+        synchronized (this) {
+            while (!waiting.isEmpty()) {
+                Request head = waiting.peek();
+                if (head.permit().isDone()) {
+                    // withdrawn
+                    waiting.poll();
+                    continue;
+                }
+                if (usedTokens >= maxTokens || head.memory() > memoryBudget - usedMemory) {
+                    break;
+                }
+                waiting.poll();
+                usedTokens++;
+                usedMemory += head.memory();
+                admitted.add(head);
+            }
+        }
+        // completed outside the lock, as the dependent stages may run in this thread
+        for (Request request : admitted) {
+            Permit permit = new Permit(request.memory());
+            if (!request.permit().complete(permit)) {
+                permit.close();
+            }
+        }
+    }
+
+    private void release(long memory) {
+        synchronized (this) {
+            usedTokens--;
+            usedMemory -= memory;
+        }
+        admit();
+    }
+
+    /**
+     * Admission of one AMPL process, to be closed when the process is over. Closing it several times has no effect.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long memory;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long memory) {
+            this.memory = memory;
+        }
+
+        public long getMemory() {
+            return memory;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(memory);
+            }
+        }
+    }
+}
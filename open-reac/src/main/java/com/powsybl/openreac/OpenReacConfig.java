@@ -6,9 +6,17 @@
  */
 package com.powsybl.openreac;
 
+import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.openreac.network.IncrementalParallelTransformersDetector;
+import com.powsybl.openreac.network.ParallelTransformersDetectionCache;
+import com.powsybl.optimizer.commons.metrics.OptimizerMetrics;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  *
@@ -17,8 +25,19 @@ import java.util.Objects;
 public class OpenReacConfig {
 
     private static final boolean DEFAULT_DEBUG = false;
+    private static final boolean DEFAULT_LAZY_RESULTS = false;
+    private static final boolean DEFAULT_PARALLEL_TRANSFORMERS_DETECTION = false;
+    private static final boolean DEFAULT_INCREMENTAL_PARALLEL_TRANSFORMERS_DETECTION = false;
+    private static final int DEFAULT_PARALLEL_TRANSFORMERS_DETECTION_CACHE_SIZE = 16;
 
     private final boolean debug;
+    private boolean lazyResults = DEFAULT_LAZY_RESULTS;
+    private boolean parallelTransformersDetection = DEFAULT_PARALLEL_TRANSFORMERS_DETECTION;
+    private boolean incrementalParallelTransformersDetection = DEFAULT_INCREMENTAL_PARALLEL_TRANSFORMERS_DETECTION;
+    private ParallelTransformersDetectionCache parallelTransformersDetectionCache;
+    private AmplAdmissionController admissionController;
+    private OpenReacCostModel costModel;
+    private OptimizerMetrics metrics;
 
     public OpenReacConfig(boolean debug) {
         this.debug = debug;
@@ -31,11 +50,136 @@ public class OpenReacConfig {
     public static OpenReacConfig load(PlatformConfig platformConfig) {
         Objects.requireNonNull(platformConfig);
         return platformConfig.getOptionalModuleConfig("open-reac")
-                .map(config -> new OpenReacConfig(config.getBooleanProperty("debug", DEFAULT_DEBUG)))
+                .map(config -> new OpenReacConfig(config.getBooleanProperty("debug", DEFAULT_DEBUG))
+                        .setLazyResults(config.getBooleanProperty("lazy-results", DEFAULT_LAZY_RESULTS))
+                        .setParallelTransformersDetection(config.getBooleanProperty("parallel-transformers-detection",
+                                DEFAULT_PARALLEL_TRANSFORMERS_DETECTION))
+                        .setIncrementalParallelTransformersDetection(config.getBooleanProperty(
+                                "incremental-parallel-transformers-detection", DEFAULT_INCREMENTAL_PARALLEL_TRANSFORMERS_DETECTION))
+                        .setParallelTransformersDetectionCache(loadParallelTransformersDetectionCache(config))
+                        .setAdmissionController(loadAdmissionController(config)))
                 .orElse(new OpenReacConfig(false));
     }
 
+    private static ParallelTransformersDetectionCache loadParallelTransformersDetectionCache(ModuleConfig config) {
+        int size = config.getIntProperty("parallel-transformers-detection-cache-size", 0);
+        Path directory = config.getOptionalPathProperty("parallel-transformers-detection-cache-dir").orElse(null);
+        if (size <= 0 && directory == null) {
+            return null;
+        }
+        return ParallelTransformersDetectionCache.shared(size > 0 ? size : DEFAULT_PARALLEL_TRANSFORMERS_DETECTION_CACHE_SIZE, directory);
+    }
+
+    private static AmplAdmissionController loadAdmissionController(ModuleConfig config) {
+        OptionalInt maxTokens = config.getOptionalIntProperty("ampl-max-tokens");
+        OptionalLong memoryBudgetMb = config.getOptionalLongProperty("ampl-memory-budget-mb");
+        if (maxTokens.isEmpty() && memoryBudgetMb.isEmpty()) {
+            return null;
+        }
+        return AmplAdmissionController.shared(maxTokens.orElse(Integer.MAX_VALUE), memoryBudgetMb.orElse(Long.MAX_VALUE),
+                config.getLongProperty("ampl-base-memory-mb", AmplAdmissionController.DEFAULT_BASE_MEMORY_MB),
+                config.getLongProperty("ampl-memory-per-bus-kb", AmplAdmissionController.DEFAULT_MEMORY_PER_BUS_KB),
+                config.getLongProperty("ampl-memory-per-branch-kb", AmplAdmissionController.DEFAULT_MEMORY_PER_BRANCH_KB));
+    }
+
     public boolean isDebug() {
         return debug;
     }
+
+    public boolean isLazyResults() {
+        return lazyResults;
+    }
+
+    /**
+     * In lazy results mode, the output files of a run are retained in the local directory of the computation
+     * manager and each section of the {@link com.powsybl.openreac.parameters.output.OpenReacResult} is only
+     * parsed on first access, but the reactive slacks that the status of the run depends on. The result should then
+     * be closed once read, to release the files.
+     */
+    public OpenReacConfig setLazyResults(boolean lazyResults) {
+        this.lazyResults = lazyResults;
+        return this;
+    }
+
+    public boolean isParallelTransformersDetection() {
+        return parallelTransformersDetection;
+    }
+
+    /**
+     * If enabled, the closed loops of parallel transformers are searched in the substations concurrently.
+     * The detected bundles, and so the AMPL inputs, are the same as with the serial detection.
+     */
+    public OpenReacConfig setParallelTransformersDetection(boolean parallelTransformersDetection) {
+        this.parallelTransformersDetection = parallelTransformersDetection;
+        return this;
+    }
+
+    public boolean isIncrementalParallelTransformersDetection() {
+        return incrementalParallelTransformersDetection;
+    }
+
+    /**
+     * If enabled, the parallel transformers are detected by the {@link IncrementalParallelTransformersDetector} attached
+     * to the network, which only recomputes the substations changed since the previous run on the same variant. It
+     * prevails over the {@link #setParallelTransformersDetectionCache cache}.
+     */
+    public OpenReacConfig setIncrementalParallelTransformersDetection(boolean incrementalParallelTransformersDetection) {
+        this.incrementalParallelTransformersDetection = incrementalParallelTransformersDetection;
+        return this;
+    }
+
+    public Optional<ParallelTransformersDetectionCache> getParallelTransformersDetectionCache() {
+        return Optional.ofNullable(parallelTransformersDetectionCache);
+    }
+
+    /**
+     * @param parallelTransformersDetectionCache cache of the detected parallel transformers, shared by the runs
+     *                                           using this config, <code>null</code> to detect them at each run.
+     */
+    public OpenReacConfig setParallelTransformersDetectionCache(ParallelTransformersDetectionCache parallelTransformersDetectionCache) {
+        this.parallelTransformersDetectionCache = parallelTransformersDetectionCache;
+        return this;
+    }
+
+    public Optional<AmplAdmissionController> getAdmissionController() {
+        return Optional.ofNullable(admissionController);
+    }
+
+    /**
+     * @param admissionController controller of the AMPL processes started by the runs using this config, with the
+     *                            priority of their parameters, <code>null</code> to start them without limit.
+     */
+    public OpenReacConfig setAdmissionController(AmplAdmissionController admissionController) {
+        this.admissionController = admissionController;
+        return this;
+    }
+
+    public Optional<OpenReacCostModel> getCostModel() {
+        return Optional.ofNullable(costModel);
+    }
+
+    /**
+     * @param costModel model learning the AMPL wall time of the successful runs using this config, <code>null</code>
+     *                  to record nothing.
+     */
+    public OpenReacConfig setCostModel(OpenReacCostModel costModel) {
+        this.costModel = costModel;
+        return this;
+    }
+
+    /**
+     * @return the metrics receiving the timings of the runs, by default the ones declared as services.
+     */
+    public OptimizerMetrics getMetrics() {
+        return metrics != null ? metrics : OptimizerMetrics.load();
+    }
+
+    /**
+     * @param metrics the metrics receiving the timings of the runs using this config, <code>null</code> for the ones
+     *                declared as services.
+     */
+    public OpenReacConfig setMetrics(OptimizerMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Estimates the wall time of the AMPL process of an OpenReac run from its {@link OpenReacJobStatistics}, before it
+ * starts, for instance to schedule the shortest runs first.
+ * <p>
+ * The wall time is linear in the statistics. The coefficients start from a prior, and are learnt by a ridge regression
+ * towards that prior on the completed runs: the prior prevails while few runs are recorded, then the observed times
+ * do. The model is thread-safe, and can be shared by the runs through {@link OpenReacConfig#setCostModel}, which then
+ * record the {@link com.powsybl.openreac.parameters.output.OpenReacTimings.Phase#AMPL_PROCESS} time once completed.
+ * The memory of the AMPL process is not observable from here, and is not learnt: its peak is estimated from static
+ * coefficients by {@link OpenReacJobStatistics#estimatePeakMemory}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacCostModel {
+
+    /**
+     * Prior of the wall time, in milliseconds: intercept, then per bus, branch, variable shunt, variable
+     * transformer and parallel transformers bundle.
+     */
+    private static final double[] DEFAULT_WALL_TIME_PRIOR = {1000, 0.5, 0.3, 2, 2, 5};
+
+    private static final double DEFAULT_PRIOR_WEIGHT = 2;
+
+    private final Regression wallTime;
+
+    public OpenReacCostModel() {
+        this(DEFAULT_WALL_TIME_PRIOR, DEFAULT_PRIOR_WEIGHT);
+    }
+
+    /**
+     * @param wallTimePrior prior coefficients of the wall time in milliseconds, see {@link OpenReacJobStatistics}:
+     *                      intercept, then per bus, branch, variable shunt, variable transformer and bundle.
+     * @param priorWeight   weight of the prior, as a number of runs.
+     */
+    public OpenReacCostModel(double[] wallTimePrior, double priorWeight) {
+        if (priorWeight <= 0 || Double.isNaN(priorWeight)) {
+            throw new IllegalArgumentException("The cost model prior weight must be > 0 to be consistent.");
+        }
+        this.wallTime = new Regression(wallTimePrior, priorWeight);
+    }
+
+    /**
+     * @return the estimated wall time of the AMPL process.
+     */
+    public Duration estimate(OpenReacJobStatistics statistics) {
+        return Duration.ofMillis(Math.round(wallTime.predict(statistics.features())));
+    }
+
+    /**
+     * Learns the wall time of the AMPL process of a completed run.
+     */
+    public void record(OpenReacJobStatistics statistics, Duration wallTime) {
+        Objects.requireNonNull(wallTime);
+        if (wallTime.isNegative()) {
+            throw new IllegalArgumentException("The wall time of a run must be >= 0 to be consistent.");
+        }
+        this.wallTime.add(statistics.features(), wallTime.toNanos() / 1e6);
+    }
+
+    public int getWallTimeSampleCount() {
+        return wallTime.getCount();
+    }
+
+    /**
+     * Orders the runs by increasing estimated wall time, for a shortest job first scheduling.
+     */
+    public Comparator<OpenReacJobStatistics> shortestFirst() {
+        return Comparator.comparingDouble(statistics -> wallTime.predict(statistics.features()));
+    }
+
+    /**
+     * Online ridge regression towards prior coefficients. The penalty of each coefficient is scaled by the mean square
+     * of its feature, so that the prior weighs as many runs whatever the magnitude of the feature.
+     */
+    private static final class Regression {
+
+        private final double[] prior;
+        private final double priorWeight;
+
+        // state guarded by this: normal equations of the recorded runs
+        private final double[][] xtx;
+        private final double[] xty;
+        private int count;
+        private double[] coefficients;
+
+        private Regression(double[] prior, double priorWeight) {
+            Objects.requireNonNull(prior);
+            if (prior.length != new OpenReacJobStatistics(0, 0, 0, 0, 0).features().length) {
+                throw new IllegalArgumentException("The cost model prior must have one coefficient per feature.");
+            }
+            this.prior = prior.clone();
+            this.priorWeight = priorWeight;
+            this.xtx = new double[prior.length][prior.length];
+            this.xty = new double[prior.length];
+            this.coefficients = this.prior;
+        }
+
+        private synchronized int getCount() {
+            return count;
+        }
+
+        private synchronized double predict(double[] features) {
+            double prediction = 0;
+            for (int i = 0; i < features.length; i++) {
+                prediction += coefficients[i] * features[i];
+            }
+            return Math.max(prediction, 0);
+        }
+
+        private synchronized void add(double[] features, double cost) {
+            for (int i = 0; i < features.length; i++) {
+                for (int j = 0; j < features.length; j++) {
+                    xtx[i][j] += features[i] * features[j];
+                }
+                xty[i] += features[i] * cost;
+            }
+            count++;
+            coefficients = solve();
+        }
+
+        /**
+         * Solves (XtX + L) w = Xty + L prior, L being the diagonal of the penalties, by a Gauss elimination with
+         * partial pivoting.
+         */
+        private double[] solve() {
+            int n = prior.length;
+            double[][] a = new double[n][n + 1];
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(xtx[i], 0, a[i], 0, n);
+                // a feature never seen is only penalized as a unit one
+                double penalty = priorWeight * Math.max(xtx[i][i] / count, 1);
+                a[i][i] += penalty;
+                a[i][n] = xty[i] + penalty * prior[i];
+            }
+            for (int col = 0; col < n; col++) {
+                int pivot = col;
+                for (int row = col + 1; row < n; row++) {
+                    if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                        pivot = row;
+                    }
+                }
+                double[] tmp = a[col];
+                a[col] = a[pivot];
+                a[pivot] = tmp;
+                for (int row = col + 1; row < n; row++) {
+                    double factor = a[row][col] / a[col][col];
+                    for (int k = col; k <= n; k++) {
+                        a[row][k] -= factor * a[col][k];
+                    }
+                }
+            }
+            double[] solution = new double[n];
+            for (int row = n - 1; row >= 0; row--) {
+                double sum = a[row][n];
+                for (int k = row + 1; k < n; k++) {
+                    sum -= a[row][k] * solution[k];
+                }
+                solution[row] = sum / a[row][row];
+            }
+            return solution;
+        }
+    }
+}
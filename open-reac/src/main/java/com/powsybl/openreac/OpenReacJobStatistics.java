@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.input.ResolvedElements;
+
+import java.util.Map;
+
+/**
+ * Size of an OpenReac run, the features of the {@link OpenReacCostModel}.
+ *
+ * @param buses                      number of buses of the bus view.
+ * @param branches                   number of branches, three windings transformers included.
+ * @param variableShunts             number of shunt compensators optimized.
+ * @param variableTransformers       number of two windings transformers with an optimized ratio.
+ * @param parallelTransformerBundles number of bundles of parallel transformers sent to AMPL.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public record OpenReacJobStatistics(int buses, int branches, int variableShunts, int variableTransformers,
+                                    int parallelTransformerBundles) {
+
+    // indicators of a run giving the size of the problem actually optimized by AMPL
+    private static final String BUSES_INDICATOR = "nb_bus_in_AC_CC";
+    private static final String BRANCHES_INDICATOR = "nb_branch_in_AC_CC";
+    private static final String VARIABLE_SHUNTS_INDICATOR = "nb_shunt_with_variable_value";
+    private static final String VARIABLE_TRANSFORMERS_INDICATOR = "nb_transformers_with_variable_ratio";
+
+    public OpenReacJobStatistics {
+        if (buses < 0 || branches < 0 || variableShunts < 0 || variableTransformers < 0 || parallelTransformerBundles < 0) {
+            throw new IllegalArgumentException("The job statistics must be >= 0 to be consistent.");
+        }
+    }
+
+    /**
+     * Statistics of a run on the working variant of the network.
+     */
+    public static OpenReacJobStatistics of(Network network, OpenReacParameters parameters, OpenReacConfig config) {
+        int bundles = 0;
+        if (parameters.isParallelTransformersGrouping()) {
+            bundles = config.getParallelTransformersDetectionCache()
+                    .map(cache -> cache.detect(network, config.isParallelTransformersDetection()))
+                    .orElseGet(() -> ParallelTwoWindingsTransformersDetector.detect(network, config.isParallelTransformersDetection()))
+                    .bundles().size();
+        }
+        return of(network, parameters.resolveElements(network), bundles);
+    }
+
+    public static OpenReacJobStatistics of(Network network, ResolvedElements elements, int parallelTransformerBundles) {
+        return new OpenReacJobStatistics((int) network.getBusView().getBusStream().count(),
+                network.getBranchCount() + network.getThreeWindingsTransformerCount(),
+                elements.variableShuntCompensators().size(), elements.variableTwoWindingsTransformers().size(),
+                parallelTransformerBundles);
+    }
+
+    /**
+     * The statistics with the sizes given by the indicators of a past run on the same network, which only count the
+     * elements of the main connected component. The sizes missing from the indicators are kept.
+     */
+    public OpenReacJobStatistics withIndicators(Map<String, String> indicators) {
+        return new OpenReacJobStatistics(getIndicator(indicators, BUSES_INDICATOR, buses),
+                getIndicator(indicators, BRANCHES_INDICATOR, branches),
+                getIndicator(indicators, VARIABLE_SHUNTS_INDICATOR, variableShunts),
+                getIndicator(indicators, VARIABLE_TRANSFORMERS_INDICATOR, variableTransformers),
+                parallelTransformerBundles);
+    }
+
+    private static int getIndicator(Map<String, String> indicators, String key, int defaultValue) {
+        String value = indicators.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @return the peak memory of the AMPL process in bytes, estimated with the default coefficients of the
+     * {@link AmplAdmissionController}: 200 MB, plus 64 KB per bus and 32 KB per branch.
+     */
+    public long estimatePeakMemory() {
+        return estimatePeakMemory(AmplAdmissionController.DEFAULT_BASE_MEMORY_MB * 1024 * 1024,
+                AmplAdmissionController.DEFAULT_MEMORY_PER_BUS_KB * 1024,
+                AmplAdmissionController.DEFAULT_MEMORY_PER_BRANCH_KB * 1024);
+    }
+
+    /**
+     * The peak memory of the AMPL process, estimated as a base plus a memory per bus and per branch, like
+     * {@link AmplAdmissionController#linearMemoryEstimator}, for instance to pack the runs on the available memory.
+     * The coefficients are given, not learnt: the memory of the AMPL process is not observable from here.
+     *
+     * @param baseMemory      the memory of the AMPL process of an empty network, in bytes.
+     * @param memoryPerBus    the memory per bus, in bytes.
+     * @param memoryPerBranch the memory per branch, in bytes.
+     * @return the estimated peak memory, in bytes.
+     */
+    public long estimatePeakMemory(long baseMemory, long memoryPerBus, long memoryPerBranch) {
+        AmplAdmissionController.checkMemoryEstimates(baseMemory, memoryPerBus, memoryPerBranch);
+        return AmplAdmissionController.linearMemory(baseMemory, memoryPerBus, memoryPerBranch, buses, branches);
+    }
+
+    /**
+     * The features of the linear cost model, the first one being the intercept.
+     */
+    double[] features() {
+        return new double[] {1, buses, branches, variableShunts, variableTransformers, parallelTransformerBundles};
+    }
+}
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Publisher of the results of a campaign of OpenReac runs, on the variants of a network or on a sequence of networks.
+ * <p>
+ * The variants or the networks are pulled one by one, and at most <code>maxInFlight</code> runs are started and not
+ * yet delivered at any time: however long the campaign, the number of AMPL processes and of results held by the
+ * publisher is bounded. The runs are prefetched: the first <code>maxInFlight</code> ones are started on subscription,
+ * before any demand, and a new one each time a result is delivered, while the demand of the subscriber only bounds
+ * the results emitted. The results are emitted in the order the runs complete, which may differ from the order of
+ * the campaign.
+ * <p>
+ * The first failed run stops the campaign with {@link Flow.Subscriber#onError}, with the cause of the failure of the
+ * run. On failure or cancellation, the runs already started are not interrupted, but their results are dropped and
+ * closed. A publisher can only be subscribed once.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacResultPublisher implements Flow.Publisher<OpenReacResult> {
+
+    private final Iterator<Supplier<CompletableFuture<OpenReacResult>>> runs;
+    private final int maxInFlight;
+    private final Object lock = new Object();
+
+    // state guarded by lock
+    private Flow.Subscriber<? super OpenReacResult> subscriber;
+    private long requested;
+    private int inFlight;
+    private final Queue<OpenReacResult> ready = new ArrayDeque<>();
+    private Throwable error;
+    private boolean exhausted;
+    private boolean cancelled;
+    private boolean terminated;
+    private boolean draining;
+    private boolean missed;
+
+    private OpenReacResultPublisher(Iterator<Supplier<CompletableFuture<OpenReacResult>>> runs, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximum number of runs in flight must be >= 1 to be consistent.");
+        }
+        this.runs = runs;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Campaign on the given variants of a network. To run several of them at once, the variant multi-thread access of
+     * the network must be allowed.
+     *
+     * @param executor the executor of the validation and of the building of the AMPL inputs of each run, see
+     *                 {@link OpenReacRunner#runAsync(Network, String, OpenReacParameters, OpenReacConfig, ComputationManager, ReportNode, com.powsybl.ampl.converter.AmplExportConfig, Executor)}
+     */
+    public static OpenReacResultPublisher ofVariants(Network network, Stream<String> variantIds, OpenReacParameters parameters,
+                                                     OpenReacConfig config, ComputationManager manager, Executor executor,
+                                                     int maxInFlight) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(manager);
+        Objects.requireNonNull(executor);
+        return new OpenReacResultPublisher(variantIds.<Supplier<CompletableFuture<OpenReacResult>>>map(variantId ->
+                () -> OpenReacRunner.runAsync(network, variantId, parameters, config, manager, ReportNode.NO_OP, null, executor))
+                .iterator(), maxInFlight);
+    }
+
+    /**
+     * Campaign on the working variant of each of the given networks. The networks are pulled from the stream only when
+     * their run is started, so they can be loaded lazily.
+     */
+    public static OpenReacResultPublisher ofNetworks(Stream<Network> networks, OpenReacParameters parameters,
+                                                     OpenReacConfig config, ComputationManager manager, Executor executor,
+                                                     int maxInFlight) {
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(manager);
+        Objects.requireNonNull(executor);
+        return new OpenReacResultPublisher(networks.<Supplier<CompletableFuture<OpenReacResult>>>map(network ->
+                () -> OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(), parameters, config,
+                        manager, ReportNode.NO_OP, null, executor))
+                .iterator(), maxInFlight);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super OpenReacResult> subscriber) {
+        Objects.requireNonNull(subscriber);
+        boolean alreadySubscribed;
+        synchronized (lock) {
+            alreadySubscribed = this.subscriber != null;
+            if (!alreadySubscribed) {
+                this.subscriber = subscriber;
+            }
+        }
+        if (alreadySubscribed) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // nothing to emit
+                }
+
+                @Override
+                public void cancel() {
+                    // nothing to cancel
+                }
+            });
+            subscriber.onError(new IllegalStateException("An OpenReac result publisher can only be subscribed once."));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                synchronized (lock) {
+                    if (n <= 0) {
+                        error = new IllegalArgumentException("The number of requested results must be > 0.");
+                    } else {
+                        requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                List<OpenReacResult> dropped;
+                synchronized (lock) {
+                    cancelled = true;
+                    dropped = dropReady();
+                }
+                dropped.forEach(OpenReacResult::close);
+            }
+        });
+        drain();
+    }
+
+    /**
+     * Starts the runs and delivers the results allowed by the demand. The signals are serialized: a single thread
+     * drains at a time, the other ones only mark that there is something new to drain.
+     */
+    private void drain() {
+        synchronized (lock) {
+            if (draining) {
+                missed = true;
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            startRuns();
+            OpenReacResult result = null;
+            Throwable failure = null;
+            List<OpenReacResult> dropped = List.of();
+            boolean complete = false;
+            synchronized (lock) {
+                if (cancelled || terminated) {
+                    draining = false;
+                    return;
+                }
+                if (error != null) {
+                    terminated = true;
+                    failure = error;
+                    dropped = dropReady();
+                } else if (requested > 0 && !ready.isEmpty()) {
+                    result = ready.poll();
+                    requested--;
+                } else if (ready.isEmpty() && inFlight == 0 && exhausted) {
+                    terminated = true;
+                    complete = true;
+                } else if (missed) {
+                    missed = false;
+                    continue;
+                } else {
+                    draining = false;
+                    return;
+                }
+            }
+            if (failure != null) {
+                dropped.forEach(OpenReacResult::close);
+                subscriber.onError(failure);
+            } else if (complete) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onNext(result);
+            }
+        }
+    }
+
+    /**
+     * Only called by the draining thread, so the runs are pulled by one thread at a time.
+     */
+    private void startRuns() {
+        while (true) {
+            synchronized (lock) {
+                if (cancelled || terminated || error != null || exhausted || inFlight + ready.size() >= maxInFlight) {
+                    return;
+                }
+            }
+            CompletableFuture<OpenReacResult> run;
+            try {
+                if (!runs.hasNext()) {
+                    synchronized (lock) {
+                        exhausted = true;
+                    }
+                    return;
+                }
+                run = runs.next().get();
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    error = e;
+                }
+                return;
+            }
+            synchronized (lock) {
+                inFlight++;
+            }
+            run.whenComplete((result, e) -> {
+                boolean dropped = false;
+                synchronized (lock) {
+                    inFlight--;
+                    if (e != null) {
+                        if (error == null) {
+                            error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        }
+                    } else if (cancelled || terminated || error != null) {
+                        dropped = true;
+                    } else {
+                        ready.add(result);
+                    }
+                }
+                if (dropped) {
+                    result.close();
+                }
+                drain();
+            });
+        }
+    }
+
+    /**
+     * Called with the lock held.
+     */
+    private List<OpenReacResult> dropReady() {
+        List<OpenReacResult> dropped = new ArrayList<>(ready);
+        ready.clear();
+        return dropped;
+    }
+}
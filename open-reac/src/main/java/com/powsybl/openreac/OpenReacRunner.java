@@ -14,15 +14,30 @@ import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.jfr.OpenReacValidationEvent;
+import com.powsybl.openreac.network.VariantScope;
 import com.powsybl.openreac.parameters.OpenReacAmplIOFiles;
+import com.powsybl.openreac.parameters.input.NetworkValidation;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
 import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.OpenReacTimings;
+import com.powsybl.openreac.parameters.output.RetainedOutputFiles;
+import com.powsybl.openreac.parameters.output.network.NetworkModifications;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
+ * The parameters are validated, and the AMPL inputs are built, on the requested variant, through a {@link VariantScope}:
+ * the working variant of the calling thread is restored before returning. When the variant multi-thread access of
+ * the network is allowed, no other thread is affected, and runs on different variants of the same network can be
+ * executed concurrently.
+ * <p>
+ * If the config has an {@link AmplAdmissionController}, the AMPL process of a run is only started once admitted, with
+ * the priority of its parameters: the synchronous runs wait for it, the asynchronous ones return before.
+ *
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
  * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
  */
@@ -34,7 +49,7 @@ public final class OpenReacRunner {
     /**
      * Run OpenReac on the given network. It will NOT modify the network.
      *
-     * @param variantId  the network variant to use. It will set the variant on the network.
+     * @param variantId  the network variant to use.
      * @param parameters parameters to customize the OpenReac run.
      * @return All information about the run and possible modifications to apply.
      */
@@ -45,9 +60,9 @@ public final class OpenReacRunner {
     /**
      * Run OpenReac on the given network. It will NOT modify the network.
      *
-     * @param variantId  the network variant to use. It will set the variant on the network.
+     * @param variantId  the network variant to use.
      * @param parameters parameters to customize the OpenReac run.
-     * @param config     allows debugging
+     * @param config     allows debugging and lazy results
      * @param manager    the ComputationManager to use
      * @return All information about the run and possible modifications to apply.
      */
@@ -63,9 +78,9 @@ public final class OpenReacRunner {
     /**
      * Run OpenReac on the given network. It will NOT modify the network.
      *
-     * @param variantId         the network variant to use. It will set the variant on the network.
+     * @param variantId         the network variant to use.
      * @param parameters        parameters to customize the OpenReac run.
-     * @param config            allows debugging
+     * @param config            allows debugging and lazy results
      * @param manager           the ComputationManager to use
      * @param reportNode        aggregates functional logging
      * @param amplExportConfig  enables tuning of Ampl exporter
@@ -73,23 +88,33 @@ public final class OpenReacRunner {
      */
     public static OpenReacResult run(Network network, String variantId, OpenReacParameters parameters, OpenReacConfig config,
                                      ComputationManager manager, ReportNode reportNode, AmplExportConfig amplExportConfig) {
-        checkParameters(network, variantId, parameters, config, manager, reportNode);
-        ReportNode openReacReportNode = Reports.createOpenReacReporter(reportNode, network.getId(), parameters.getObjective());
-        AmplModel reactiveOpf = OpenReacModel.buildModel();
-        OpenReacAmplIOFiles amplIoInterface = buildIoFilesOnVariant(network, variantId, parameters, amplExportConfig, config, openReacReportNode);
-        AmplResults run = AmplModelRunner.run(network, variantId, reactiveOpf, manager, amplIoInterface);
-        OpenReacResult result = new OpenReacResult(run.isSuccess() && amplIoInterface.checkErrors() ? OpenReacStatus.OK : OpenReacStatus.NOT_OK,
-                amplIoInterface, run.getIndicators());
-        Reports.createShuntModificationsReporter(reportNode, network.getId(), amplIoInterface.getNetworkModifications().getShuntsWithDeltaDiscreteOptimalOverThreshold());
-        return result;
+        OpenReacAmplIOFiles amplIoInterface;
+        AmplResults run;
+        try (VariantScope variantScope = VariantScope.enter(network, variantId)) {
+            OpenReacTimings timings = new OpenReacTimings(config.getMetrics());
+            NetworkValidation validation = checkParameters(network, variantId, parameters, config, manager, timings, reportNode);
+            ReportNode openReacReportNode = Reports.createOpenReacReporter(reportNode, network.getId(), parameters.getObjective());
+            AmplModel reactiveOpf = OpenReacModel.buildModel();
+            amplIoInterface = buildIoFiles(network, parameters, validation, amplExportConfig, config, manager, timings, openReacReportNode);
+            try {
+                run = config.getAdmissionController()
+                        .map(controller -> controller.call(controller.estimateMemory(network), parameters.getPriority(),
+                                () -> runAmpl(network, variantId, reactiveOpf, config, manager, amplIoInterface)))
+                        .orElseGet(() -> runAmpl(network, variantId, reactiveOpf, config, manager, amplIoInterface));
+            } catch (RuntimeException e) {
+                releaseRetainedOutputFiles(amplIoInterface);
+                throw e;
+            }
+        }
+        return buildResult(network, run, amplIoInterface, parameters.getReportDetailsLimit(), reportNode);
     }
 
     /**
      * Run OpenReac on the given network. It will NOT modify the network.
      *
-     * @param variantId     the network variant to use. It will set the variant on the network.
+     * @param variantId     the network variant to use.
      * @param parameters    parameters to customize the OpenReac run.
-     * @param config        allows debugging
+     * @param config        allows debugging and lazy results
      * @param manager       the ComputationManager to use
      * @return All information about the run and possible modifications to apply.
      */
@@ -100,53 +125,185 @@ public final class OpenReacRunner {
     /**
      * Run OpenReac on the given network. It will NOT modify the network.
      *
-     * @param variantId         the network variant to use. It will set the variant on the network.
+     * @param variantId         the network variant to use.
      * @param parameters        parameters to customize the OpenReac run.
-     * @param config            allows debugging
+     * @param config            allows debugging and lazy results
      * @param reportNode        aggregates functional logging
      * @param amplExportConfig  enables tuning of Ampl exporter
      * @return All information about the run and possible modifications to apply.
      */
     public static CompletableFuture<OpenReacResult> runAsync(Network network, String variantId, OpenReacParameters parameters,
                                                              OpenReacConfig config, ComputationManager manager, ReportNode reportNode, AmplExportConfig amplExportConfig) {
-        checkParameters(network, variantId, parameters, config, manager, reportNode);
-        ReportNode openReacReportNode = Reports.createOpenReacReporter(reportNode, network.getId(), parameters.getObjective());
-        AmplModel reactiveOpf = OpenReacModel.buildModel();
-        OpenReacAmplIOFiles amplIoInterface = buildIoFilesOnVariant(network, variantId, parameters, amplExportConfig, config, openReacReportNode);
-        CompletableFuture<AmplResults> runAsync = AmplModelRunner.runAsync(network, variantId, reactiveOpf, manager, amplIoInterface);
-        return runAsync.thenApply(run -> {
-            OpenReacResult result = new OpenReacResult(run.isSuccess() && amplIoInterface.checkErrors() ? OpenReacStatus.OK : OpenReacStatus.NOT_OK,
-                    amplIoInterface, run.getIndicators());
-            Reports.createShuntModificationsReporter(reportNode, network.getId(), amplIoInterface.getNetworkModifications().getShuntsWithDeltaDiscreteOptimalOverThreshold());
-            return result;
+        return completeRun(network, parameters, reportNode, startRun(network, variantId, parameters, config, manager, reportNode, amplExportConfig));
+    }
+
+    /**
+     * Run OpenReac on the given network. It will NOT modify the network.
+     * <p>
+     * Unlike the other asynchronous runs, the parameters validation and the building of the AMPL inputs are also
+     * performed asynchronously, on the given executor: the future is returned immediately, and invalid parameters
+     * complete it exceptionally. To run concurrently on several variants of the same network, its variant multi-thread
+     * access must be allowed. The blocking wait of the AMPL process is performed by the executor of the computation
+     * manager, for instance a {@link LocalComputationManager} built on a virtual thread per task executor, so that the
+     * runs in flight do not hold platform threads.
+     *
+     * @param variantId         the network variant to use.
+     * @param parameters        parameters to customize the OpenReac run.
+     * @param config            allows debugging and lazy results
+     * @param reportNode        aggregates functional logging
+     * @param amplExportConfig  enables tuning of Ampl exporter
+     * @param executor          the executor of the validation and of the building of the AMPL inputs
+     * @return All information about the run and possible modifications to apply.
+     */
+    public static CompletableFuture<OpenReacResult> runAsync(Network network, String variantId, OpenReacParameters parameters,
+                                                             OpenReacConfig config, ComputationManager manager, ReportNode reportNode,
+                                                             AmplExportConfig amplExportConfig, Executor executor) {
+        Objects.requireNonNull(executor);
+        CompletableFuture<StartedRun> startedRun = CompletableFuture.supplyAsync(
+                () -> startRun(network, variantId, parameters, config, manager, reportNode, amplExportConfig), executor);
+        CompletableFuture<OpenReacResult> result = startedRun.thenCompose(run -> completeRun(network, parameters, reportNode, run));
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                startedRun.thenAccept(OpenReacRunner::cancelRun);
+            }
         });
+        return result;
     }
 
     /**
-     * Builds the AMPL IO files on the requested variant: the parallel transformers detection
-     * reads the network through its current working variant (bus view, current taps), so the
-     * variant is set for the time of the construction and restored right after. The only
-     * lasting working-variant change remains the one performed by the AMPL executor at
-     * execution time, as before this feature.
+     * The AMPL inputs of a run, and its AMPL execution.
      */
-    private static OpenReacAmplIOFiles buildIoFilesOnVariant(Network network, String variantId, OpenReacParameters parameters,
-                                                             AmplExportConfig amplExportConfig, OpenReacConfig config, ReportNode openReacReportNode) {
-        String previousVariantId = network.getVariantManager().getWorkingVariantId();
-        network.getVariantManager().setWorkingVariant(variantId);
+    private record StartedRun(OpenReacAmplIOFiles amplIoInterface, CompletableFuture<AmplResults> amplRun) {
+    }
+
+    private static StartedRun startRun(Network network, String variantId, OpenReacParameters parameters, OpenReacConfig config,
+                                       ComputationManager manager, ReportNode reportNode, AmplExportConfig amplExportConfig) {
+        try (VariantScope variantScope = VariantScope.enter(network, variantId)) {
+            OpenReacTimings timings = new OpenReacTimings(config.getMetrics());
+            NetworkValidation validation = checkParameters(network, variantId, parameters, config, manager, timings, reportNode);
+            ReportNode openReacReportNode = Reports.createOpenReacReporter(reportNode, network.getId(), parameters.getObjective());
+            AmplModel reactiveOpf = OpenReacModel.buildModel();
+            OpenReacAmplIOFiles amplIoInterface = buildIoFiles(network, parameters, validation, amplExportConfig, config, manager, timings,
+                    openReacReportNode);
+            CompletableFuture<AmplResults> amplRun = config.getAdmissionController()
+                    .map(controller -> controller.submit(controller.estimateMemory(network), parameters.getPriority(),
+                            () -> runAmplAsync(network, variantId, reactiveOpf, config, manager, amplIoInterface)))
+                    .orElseGet(() -> runAmplAsync(network, variantId, reactiveOpf, config, manager, amplIoInterface));
+            return new StartedRun(amplIoInterface, amplRun);
+        }
+    }
+
+    private static AmplResults runAmpl(Network network, String variantId, AmplModel reactiveOpf, OpenReacConfig config,
+                                       ComputationManager manager, OpenReacAmplIOFiles amplIoInterface) {
+        amplIoInterface.amplStarted();
+        AmplResults run = null;
         try {
-            return new OpenReacAmplIOFiles(parameters, amplExportConfig, network, config.isDebug(), openReacReportNode);
+            run = AmplModelRunner.run(network, variantId, reactiveOpf, manager, amplIoInterface);
         } finally {
-            network.getVariantManager().setWorkingVariant(previousVariantId);
+            amplIoInterface.amplCompleted(run != null && run.isSuccess());
         }
+        recordCost(config, amplIoInterface, run);
+        return run;
+    }
+
+    private static CompletableFuture<AmplResults> runAmplAsync(Network network, String variantId, AmplModel reactiveOpf, OpenReacConfig config,
+                                                               ComputationManager manager, OpenReacAmplIOFiles amplIoInterface) {
+        amplIoInterface.amplStarted();
+        return AmplModelRunner.runAsync(network, variantId, reactiveOpf, manager, amplIoInterface)
+                .whenComplete((run, e) -> amplIoInterface.amplCompleted(run != null && run.isSuccess()))
+                .thenApply(run -> {
+                    recordCost(config, amplIoInterface, run);
+                    return run;
+                });
     }
 
-    private static void checkParameters(Network network, String variantId, OpenReacParameters parameters, OpenReacConfig config, ComputationManager manager, ReportNode reportNode) {
+    /**
+     * Only the successful runs are learnt, the failed ones possibly stopping early. The time learnt is the one of the
+     * AMPL process alone, neither the export of the network nor the wait for an admission.
+     */
+    private static void recordCost(OpenReacConfig config, OpenReacAmplIOFiles amplIoInterface, AmplResults run) {
+        if (run.isSuccess()) {
+            config.getCostModel().ifPresent(costModel -> amplIoInterface.getJobStatistics().ifPresent(statistics ->
+                    amplIoInterface.getTimings().get(OpenReacTimings.Phase.AMPL_PROCESS).ifPresent(timing ->
+                            costModel.record(statistics, timing.duration()))));
+        }
+    }
+
+    private static CompletableFuture<OpenReacResult> completeRun(Network network, OpenReacParameters parameters, ReportNode reportNode,
+                                                                 StartedRun startedRun) {
+        OpenReacAmplIOFiles amplIoInterface = startedRun.amplIoInterface();
+        CompletableFuture<OpenReacResult> result = startedRun.amplRun().whenComplete((run, e) -> {
+            if (e != null) {
+                releaseRetainedOutputFiles(amplIoInterface);
+            }
+        }).thenApply(run -> buildResult(network, run, amplIoInterface, parameters.getReportDetailsLimit(), reportNode));
+        result.whenComplete((r, e) -> {
+            if (result.isCancelled()) {
+                cancelRun(startedRun);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Withdraws the AMPL execution of a cancelled run from the admission, or cancels it, and releases its outputs,
+     * the result of the run being never built.
+     */
+    private static void cancelRun(StartedRun startedRun) {
+        startedRun.amplRun().cancel(false);
+        releaseRetainedOutputFiles(startedRun.amplIoInterface());
+    }
+
+    /**
+     * In lazy results mode, the network elements are captured before the result is returned, and the shunt alerts are
+     * reported when the shunt output is first parsed.
+     */
+    private static OpenReacResult buildResult(Network network, AmplResults run, OpenReacAmplIOFiles amplIoInterface,
+                                              int reportDetailsLimit, ReportNode reportNode) {
+        amplIoInterface.captureNetworkView();
+        OpenReacResult result = new OpenReacResult(run.isSuccess() && amplIoInterface.checkErrors() ? OpenReacStatus.OK : OpenReacStatus.NOT_OK,
+                amplIoInterface, run.getIndicators());
+        amplIoInterface.getTimings().publish();
+        NetworkModifications networkModifications = amplIoInterface.getNetworkModifications();
+        amplIoInterface.whenParsed(networkModifications.getShuntsOutput(), () ->
+                Reports.createShuntModificationsReporter(reportNode, network.getId(), networkModifications.getShuntsWithDeltaDiscreteOptimalOverThreshold(),
+                        reportDetailsLimit));
+        return result;
+    }
+
+    private static void releaseRetainedOutputFiles(OpenReacAmplIOFiles amplIoInterface) {
+        if (amplIoInterface.getRetainedOutputFiles() != null) {
+            amplIoInterface.getRetainedOutputFiles().close();
+        }
+    }
+
+    private static OpenReacAmplIOFiles buildIoFiles(Network network, OpenReacParameters parameters, NetworkValidation validation,
+                                                    AmplExportConfig amplExportConfig, OpenReacConfig config, ComputationManager manager,
+                                                    OpenReacTimings timings, ReportNode openReacReportNode) {
+        RetainedOutputFiles retainedOutputFiles = config.isLazyResults() ? RetainedOutputFiles.create(manager.getLocalDir()) : null;
+        return new OpenReacAmplIOFiles(parameters, amplExportConfig, network, config, retainedOutputFiles, validation, timings, openReacReportNode);
+    }
+
+    private static NetworkValidation checkParameters(Network network, String variantId, OpenReacParameters parameters, OpenReacConfig config,
+                                                     ComputationManager manager, OpenReacTimings timings, ReportNode reportNode) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(variantId);
         Objects.requireNonNull(parameters);
         Objects.requireNonNull(config);
         Objects.requireNonNull(manager);
         Objects.requireNonNull(reportNode);
-        parameters.checkIntegrity(network, Reports.createParameterIntegrityReporter(reportNode, network.getId()));
+        OpenReacTimings.Timer timer = timings.start();
+        OpenReacValidationEvent event = new OpenReacValidationEvent();
+        event.begin();
+        NetworkValidation validation = parameters.validate(network, Reports.createParameterIntegrityReporter(reportNode, network.getId()));
+        event.end();
+        timer.stop(OpenReacTimings.Phase.VALIDATION);
+        if (event.shouldCommit()) {
+            event.setNetwork(network.getId(), variantId);
+            event.setElementCounts(parameters.getVariableShuntCompensators().size(), parameters.getConstantQGenerators().size(),
+                    parameters.getVariableTwoWindingsTransformers().size(), parameters.getSpecificVoltageLimits().size());
+            event.commit();
+        }
+        return validation;
     }
 }
@@ -16,10 +16,8 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini_externe at rte-france.com>}
@@ -34,14 +32,20 @@ public final class Reports {
     private static final String REACTANCE = "x";
     private static final String RATIO = "ratio";
 
-    private static final DecimalFormat VALUE_FORMAT = new DecimalFormat("0.0", DecimalFormatSymbols.getInstance(Locale.ROOT));
-    private static final DecimalFormat VALUE_FORMAT_ACCURATE = new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.ROOT));
-    private static final DecimalFormat VALUE_FORMAT_SCIENTIFIC = new DecimalFormat("0.00E00", DecimalFormatSymbols.getInstance(Locale.ROOT));
+    // DecimalFormat is not thread-safe, and reports of concurrent runs are built at the same time:
+    // each thread gets its own instances, created once and reused for all the values it formats
+    private static final ThreadLocal<DecimalFormat> VALUE_FORMAT = decimalFormat("0.0");
+    private static final ThreadLocal<DecimalFormat> VALUE_FORMAT_ACCURATE = decimalFormat("0.00");
+    private static final ThreadLocal<DecimalFormat> VALUE_FORMAT_SCIENTIFIC = decimalFormat("0.00E00");
 
     private Reports() {
         // Should not be instantiated
     }
 
+    private static ThreadLocal<DecimalFormat> decimalFormat(String pattern) {
+        return ThreadLocal.withInitial(() -> new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ROOT)));
+    }
+
     public static ReportNode createOpenReacReporter(ReportNode reportNode, String networkId, OpenReacOptimisationObjective objective) {
         return reportNode.newReportNode()
             .withMessageTemplate("optimizer.openreac.openReac")
@@ -57,8 +61,36 @@ public final class Reports {
                 .add();
     }
 
+    /**
+     * Reports the first {@code limit} details with the given reporter, then the number of the omitted ones in a single
+     * node, so that neither the size of the report tree nor the formatting of its values grows with the network.
+     */
+    public static <T> void reportDetails(ReportNode reportNode, Collection<T> details, int limit, BiConsumer<ReportNode, T> reporter) {
+        int reported = 0;
+        for (T detail : details) {
+            if (reported == limit) {
+                break;
+            }
+            reporter.accept(reportNode, detail);
+            reported++;
+        }
+        if (details.size() > reported) {
+            reportNode.newReportNode()
+                    .withMessageTemplate("optimizer.openreac.omittedDetails")
+                    .withSeverity(TypedValue.DETAIL_SEVERITY)
+                    .withUntypedValue("count", details.size() - reported)
+                    .add();
+        }
+    }
+
     public static void createShuntModificationsReporter(ReportNode reportNode, String networkId,
                                                         List<ShuntCompensatorNetworkOutput.ShuntWithDeltaDiscreteOptimalOverThreshold> shuntsWithDeltaDiscreteOptimalOverThresholds) {
+        createShuntModificationsReporter(reportNode, networkId, shuntsWithDeltaDiscreteOptimalOverThresholds, Integer.MAX_VALUE);
+    }
+
+    public static void createShuntModificationsReporter(ReportNode reportNode, String networkId,
+                                                        List<ShuntCompensatorNetworkOutput.ShuntWithDeltaDiscreteOptimalOverThreshold> shuntsWithDeltaDiscreteOptimalOverThresholds,
+                                                        int detailsLimit) {
         if (!shuntsWithDeltaDiscreteOptimalOverThresholds.isEmpty()) {
             ReportNode reportShunts = reportNode.newReportNode()
                     .withMessageTemplate("optimizer.openreac.shuntCompensatorDeltaOverThreshold")
@@ -70,13 +102,13 @@ public final class Reports {
                     .withSeverity(TypedValue.INFO_SEVERITY)
                     .add();
 
-            shuntsWithDeltaDiscreteOptimalOverThresholds.forEach(shunt ->
-                    reportShunts.newReportNode()
+            reportDetails(reportShunts, shuntsWithDeltaDiscreteOptimalOverThresholds, detailsLimit, (node, shunt) ->
+                    node.newReportNode()
                             .withMessageTemplate("optimizer.openreac.shuntCompensatorDeltaDiscretizedOptimizedOverThreshold")
                             .withUntypedValue("shuntCompensatorId", shunt.id())
                             .withUntypedValue("maxSectionCount", shunt.maximumSectionCount())
-                            .withUntypedValue("discretizedValue", VALUE_FORMAT.format(shunt.discretizedReactiveValue()))
-                            .withUntypedValue("optimalValue", VALUE_FORMAT.format(shunt.optimalReactiveValue()))
+                            .withUntypedValue("discretizedValue", VALUE_FORMAT.get().format(shunt.discretizedReactiveValue()))
+                            .withUntypedValue("optimalValue", VALUE_FORMAT.get().format(shunt.optimalReactiveValue()))
                             .withSeverity(TypedValue.DETAIL_SEVERITY)
                             .add());
         }
@@ -141,6 +173,11 @@ public final class Reports {
     }
 
     public static void reportVoltageLevelsWithLimitsOutOfNominalVRange(ReportNode reportNode, Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange) {
+        reportVoltageLevelsWithLimitsOutOfNominalVRange(reportNode, voltageLevelsWithLimitsOutOfNominalVRange, Integer.MAX_VALUE);
+    }
+
+    public static void reportVoltageLevelsWithLimitsOutOfNominalVRange(ReportNode reportNode, Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange,
+                                                                       int detailsLimit) {
         if (!voltageLevelsWithLimitsOutOfNominalVRange.isEmpty()) {
             ReportNode reportLimitsOutOfRange = reportNode.newReportNode()
                 .withMessageTemplate("optimizer.openreac.voltageLevelsLimitsOutOfNominalVRange")
@@ -154,12 +191,12 @@ public final class Reports {
                 .withUntypedValue(SIZE, voltageLevelsWithLimitsOutOfNominalVRange.size())
                 .add();
 
-            voltageLevelsWithLimitsOutOfNominalVRange.forEach((voltageLevelId, voltageLevelLimitInfo) -> reportLimitsOutOfRange.newReportNode()
+            reportDetails(reportLimitsOutOfRange, voltageLevelsWithLimitsOutOfNominalVRange.values(), detailsLimit, (node, voltageLevelLimitInfo) -> node.newReportNode()
                 .withMessageTemplate("optimizer.openreac.voltageLevelWithLimitsOutOfNominalVRange")
                 .withSeverity(TypedValue.DETAIL_SEVERITY)
                 .withUntypedValue("vID", voltageLevelLimitInfo.voltageLevelId())
-                .withUntypedValue("lowVoltageLimit", VALUE_FORMAT.format(voltageLevelLimitInfo.lowLimit()))
-                .withUntypedValue("highVoltageLimit", VALUE_FORMAT.format(voltageLevelLimitInfo.highLimit()))
+                .withUntypedValue("lowVoltageLimit", VALUE_FORMAT.get().format(voltageLevelLimitInfo.lowLimit()))
+                .withUntypedValue("highVoltageLimit", VALUE_FORMAT.get().format(voltageLevelLimitInfo.highLimit()))
                 .withUntypedValue("nominalVoltage", voltageLevelLimitInfo.nominalV())
                 .add());
         }
@@ -179,9 +216,9 @@ public final class Reports {
                 .withMessageTemplate("optimizer.openreac.frenchBranchWithHighImpedanceRatio")
                 .withSeverity(TypedValue.DETAIL_SEVERITY)
                 .withUntypedValue(BRANCH_ID, branchId)
-                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.format(r))
-                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.format(x))
-                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.format(ratio))
+                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.get().format(r))
+                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.get().format(x))
+                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.get().format(ratio))
                 .add();
     }
 
@@ -199,9 +236,9 @@ public final class Reports {
                 .withMessageTemplate("optimizer.openreac.frenchBranchWithAcceptableHighImpedanceRatio")
                 .withSeverity(TypedValue.DETAIL_SEVERITY)
                 .withUntypedValue(BRANCH_ID, branchId)
-                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.format(r))
-                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.format(x))
-                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.format(ratio))
+                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.get().format(r))
+                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.get().format(x))
+                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.get().format(ratio))
                 .add();
     }
 
@@ -219,9 +256,9 @@ public final class Reports {
                 .withMessageTemplate("optimizer.openreac.nonFrenchBranchWithHighImpedanceRatio")
                 .withSeverity(TypedValue.DETAIL_SEVERITY)
                 .withUntypedValue(BRANCH_ID, branchId)
-                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.format(r))
-                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.format(x))
-                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.format(ratio))
+                .withUntypedValue(RESISTANCE, VALUE_FORMAT_ACCURATE.get().format(r))
+                .withUntypedValue(REACTANCE, VALUE_FORMAT_ACCURATE.get().format(x))
+                .withUntypedValue(RATIO, VALUE_FORMAT_ACCURATE.get().format(ratio))
                 .add();
     }
 
@@ -239,15 +276,21 @@ public final class Reports {
                 .withMessageTemplate("optimizer.openreac.branchWithLowImpedance")
                 .withSeverity(TypedValue.DETAIL_SEVERITY)
                 .withUntypedValue(BRANCH_ID, branchId)
-                .withUntypedValue(RESISTANCE, VALUE_FORMAT_SCIENTIFIC.format(r))
-                .withUntypedValue(REACTANCE, VALUE_FORMAT_SCIENTIFIC.format(x))
-                .withUntypedValue("threshold", VALUE_FORMAT_SCIENTIFIC.format(threshold))
+                .withUntypedValue(RESISTANCE, VALUE_FORMAT_SCIENTIFIC.get().format(r))
+                .withUntypedValue(REACTANCE, VALUE_FORMAT_SCIENTIFIC.get().format(x))
+                .withUntypedValue("threshold", VALUE_FORMAT_SCIENTIFIC.get().format(threshold))
                 .add();
     }
 
     public static void reportParallelTwoWindingsTransformers(ReportNode reportNode,
                                                              List<ParallelTwoWindingsTransformersDetector.Bundle> bundles,
                                                              Set<String> variableTransformerIds) {
+        reportParallelTwoWindingsTransformers(reportNode, bundles, variableTransformerIds, Integer.MAX_VALUE);
+    }
+
+    public static void reportParallelTwoWindingsTransformers(ReportNode reportNode,
+                                                             List<ParallelTwoWindingsTransformersDetector.Bundle> bundles,
+                                                             Set<String> variableTransformerIds, int detailsLimit) {
         if (bundles.isEmpty()) {
             return;
         }
@@ -263,12 +306,12 @@ public final class Reports {
         // membership written for AMPL and the num_bundle of the AMPL result files. Only the
         // user-declared ratio status (variable / fixed) is shown here: whether a bundle is
         // ultimately tied or fixed is decided in the AMPL model (see FixedParallelTransformersOutput).
-        int bundleIndex = 0;
-        for (ParallelTwoWindingsTransformersDetector.Bundle bundle : bundles) {
-            bundleIndex++;
-            ReportNode bundleNode = root.newReportNode()
+        int[] bundleIndex = {0};
+        reportDetails(root, bundles, detailsLimit, (node, bundle) -> {
+            bundleIndex[0]++;
+            ReportNode bundleNode = node.newReportNode()
                     .withMessageTemplate("optimizer.openreac.parallelTwoWindingsTransformersBundle")
-                    .withUntypedValue("bundleRef", "#" + bundleIndex)
+                    .withUntypedValue("bundleRef", "#" + bundleIndex[0])
                     .withUntypedValue("count", bundle.size())
                     .withSeverity(TypedValue.DETAIL_SEVERITY)
                     .add();
@@ -282,7 +325,7 @@ public final class Reports {
                         .withSeverity(TypedValue.DETAIL_SEVERITY)
                         .add();
             }
-        }
+        });
     }
 
     /**
@@ -291,12 +334,15 @@ public final class Reports {
      * optimized independently, which the user should be warned about.
      */
     public static void reportUndecidedOrientationParallelBundles(ReportNode reportNode, List<Set<String>> undecidedBundles) {
-        for (Set<String> bundle : undecidedBundles) {
-            reportNode.newReportNode()
+        reportUndecidedOrientationParallelBundles(reportNode, undecidedBundles, Integer.MAX_VALUE);
+    }
+
+    public static void reportUndecidedOrientationParallelBundles(ReportNode reportNode, List<Set<String>> undecidedBundles, int detailsLimit) {
+        reportDetails(reportNode, undecidedBundles, detailsLimit, (node, bundle) ->
+            node.newReportNode()
                     .withMessageTemplate("optimizer.openreac.parallelTwoWindingsTransformersUndecidedBundle")
                     .withUntypedValue("transformerIds", String.join(", ", bundle.stream().sorted().toList()))
                     .withSeverity(TypedValue.WARN_SEVERITY)
-                    .add();
-        }
+                    .add());
     }
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of the AMPL process of an OpenReac run, from the writing of its last input to the reading of its first
+ * output.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.AmplProcess")
+@Label("OpenReac AMPL Process")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacAmplProcessEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("Success")
+    @Description("Whether the AMPL model converged")
+    private boolean success;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
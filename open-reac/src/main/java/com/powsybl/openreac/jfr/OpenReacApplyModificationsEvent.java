@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Application of all the modifications of an OpenReac result to a network.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.ApplyModifications")
+@Label("OpenReac Apply Modifications")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacApplyModificationsEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("Generator Modifications")
+    private int generatorModifications;
+
+    @Label("Battery Modifications")
+    private int batteryModifications;
+
+    @Label("Shunt Modifications")
+    private int shuntModifications;
+
+    @Label("Static Var Compensator Modifications")
+    private int svcModifications;
+
+    @Label("Tap Position Modifications")
+    private int tapPositionModifications;
+
+    @Label("VSC Converter Station Modifications")
+    private int vscModifications;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setModificationCounts(int generatorModifications, int batteryModifications, int shuntModifications, int svcModifications, int tapPositionModifications, int vscModifications) {
+        this.generatorModifications = generatorModifications;
+        this.batteryModifications = batteryModifications;
+        this.shuntModifications = shuntModifications;
+        this.svcModifications = svcModifications;
+        this.tapPositionModifications = tapPositionModifications;
+        this.vscModifications = vscModifications;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Export of the network and writing of the OpenReac inputs in the working directory of the AMPL process, the wait
+ * for a thread of the computation manager included.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.NetworkExport")
+@Label("OpenReac Network Export")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacNetworkExportEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("Variable Shunt Compensators")
+    private int variableShuntCompensators;
+
+    @Label("Constant Q Generators")
+    private int constantQGenerators;
+
+    @Label("Variable Two Windings Transformers")
+    private int variableTwoWindingsTransformers;
+
+    @Label("Input Files")
+    @Description("OpenReac input files written")
+    private int inputFiles;
+
+    @Label("Bytes Written")
+    @Description("Bytes of the OpenReac input files, the network files not included")
+    @DataAmount
+    private long bytesWritten;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setElementCounts(int variableShuntCompensators, int constantQGenerators, int variableTwoWindingsTransformers) {
+        this.variableShuntCompensators = variableShuntCompensators;
+        this.constantQGenerators = constantQGenerators;
+        this.variableTwoWindingsTransformers = variableTwoWindingsTransformers;
+    }
+
+    public void setInputs(int inputFiles, long bytesWritten) {
+        this.inputFiles = inputFiles;
+        this.bytesWritten = bytesWritten;
+    }
+}
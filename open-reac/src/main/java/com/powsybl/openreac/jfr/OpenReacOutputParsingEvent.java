@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading of an output file of an OpenReac run. In lazy results mode, the file is only copied then.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.OutputParsing")
+@Label("OpenReac Output Parsing")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacOutputParsingEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("File Name")
+    private String fileName;
+
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytesRead;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setFile(String fileName, long bytesRead) {
+        this.fileName = fileName;
+        this.bytesRead = bytesRead;
+    }
+}
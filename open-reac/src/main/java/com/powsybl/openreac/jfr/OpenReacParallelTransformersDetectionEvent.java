@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Detection of the bundles of parallel two windings transformers of an OpenReac run, possibly from a cache.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.ParallelTransformersDetection")
+@Label("OpenReac Parallel Transformers Detection")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacParallelTransformersDetectionEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("Bundles")
+    @Description("Bundles sent to the AMPL model")
+    private int bundles;
+
+    @Label("Undecided Bundles")
+    @Description("Bundles without an established orientation, not sent")
+    private int undecidedBundles;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setBundleCounts(int bundles, int undecidedBundles) {
+        this.bundles = bundles;
+        this.undecidedBundles = undecidedBundles;
+    }
+}
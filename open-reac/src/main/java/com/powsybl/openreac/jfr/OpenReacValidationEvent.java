@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Validation of the parameters of an OpenReac run against the network.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@Name("com.powsybl.openreac.Validation")
+@Label("OpenReac Validation")
+@Category({"PowSyBl", "OpenReac"})
+@StackTrace(false)
+public final class OpenReacValidationEvent extends Event {
+
+    @Label("Network Id")
+    private String networkId;
+
+    @Label("Variant Id")
+    private String variantId;
+
+    @Label("Variable Shunt Compensators")
+    @Description("Shunt compensators declared variable by id")
+    private int variableShuntCompensators;
+
+    @Label("Constant Q Generators")
+    @Description("Generators declared with a constant reactive power by id")
+    private int constantQGenerators;
+
+    @Label("Variable Two Windings Transformers")
+    @Description("Transformers declared variable by id")
+    private int variableTwoWindingsTransformers;
+
+    @Label("Specific Voltage Limits")
+    @Description("Voltage limit overrides")
+    private int specificVoltageLimits;
+
+    public void setNetwork(String networkId, String variantId) {
+        this.networkId = networkId;
+        this.variantId = variantId;
+    }
+
+    public void setElementCounts(int variableShuntCompensators, int constantQGenerators, int variableTwoWindingsTransformers, int specificVoltageLimits) {
+        this.variableShuntCompensators = variableShuntCompensators;
+        this.constantQGenerators = constantQGenerators;
+        this.variableTwoWindingsTransformers = variableTwoWindingsTransformers;
+        this.specificVoltageLimits = specificVoltageLimits;
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.iidm.network.*;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.DetectionResult;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detection of parallel transformers that only recomputes the substations changed since the previous detection,
+ * attached to the network as an extension and used by the runs when
+ * {@link com.powsybl.openreac.OpenReacConfig#setIncrementalParallelTransformersDetection enabled}.
+ * <p>
+ * A bundle never spans two substations, so the bundles of each substation (simple parallels and closed loops, see
+ * {@link ParallelTwoWindingsTransformersDetector}) are merged and oriented apart, and kept between two detections.
+ * {@link #detect()} only recomputes the bundles of the substations changed since, then combines the kept ones: the
+ * result is the same as {@link ParallelTwoWindingsTransformersDetector#detect(Network)}. The transformers outside of
+ * any substation are grouped again only when one of them changed.
+ * <p>
+ * A listener of the network marks a substation as changed on the creation or removal of one of its elements, and on
+ * any update of one of its elements but the ones of the attributes known not to change the topology (flows,
+ * set points, tap positions, section counts, voltage limits...): an attribute not known here is a change, so that
+ * the bundles are recomputed too often rather than left stale. The bundles are kept per variant, the updates of a
+ * variant only changing the substations of that variant; the first detection on a variant computes all its
+ * substations.
+ * <p>
+ * Removing the extension from the network removes the listener.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class IncrementalParallelTransformersDetector extends AbstractExtension<Network> {
+
+    public static final String NAME = "openReacIncrementalParallelTransformersDetector";
+
+    /**
+     * Attributes that do not change the topology, the prefix of the attributes of the tap changers being ignored.
+     */
+    private static final Set<String> NON_TOPOLOGY_ATTRIBUTES = Set.of("p", "q", "p1", "q1", "p2", "q2", "p3", "q3",
+            "v", "angle", "targetP", "targetQ", "targetV", "voltageRegulatorOn", "regulating", "regulationMode",
+            "regulationValue", "targetDeadband", "voltageSetpoint", "reactivePowerSetpoint", "p0", "q0",
+            "tapPosition", "solvedTapPosition", "sectionCount", "solvedSectionCount", "lowVoltageLimit",
+            "highVoltageLimit", "name", "fictitious");
+
+    private final NetworkListener listener = new ChangeListener();
+    private final Map<String, VariantState> states = new ConcurrentHashMap<>();
+    private int lastRecomputedSubstationCount;
+
+    private IncrementalParallelTransformersDetector(Network network) {
+        super(network);
+        network.addListener(listener);
+    }
+
+    /**
+     * @return the detector attached to the network, attached first if absent.
+     */
+    public static synchronized IncrementalParallelTransformersDetector attach(Network network) {
+        IncrementalParallelTransformersDetector detector = network.getExtension(IncrementalParallelTransformersDetector.class);
+        if (detector == null) {
+            detector = new IncrementalParallelTransformersDetector(network);
+            network.addExtension(IncrementalParallelTransformersDetector.class, detector);
+        }
+        return detector;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void cleanup() {
+        getExtendable().removeListener(listener);
+        states.clear();
+    }
+
+    /**
+     * @return the bundles of parallel transformers of the working variant of the network.
+     */
+    public synchronized DetectionResult detect() {
+        Network network = getExtendable();
+        VariantState state = states.computeIfAbsent(network.getVariantManager().getWorkingVariantId(), id -> new VariantState());
+        lastRecomputedSubstationCount = 0;
+        if (!state.initialized) {
+            state.changedSubstationIds.clear();
+            network.getSubstationStream().forEach(substation -> recompute(state, substation));
+            state.initialized = true;
+        } else {
+            Set<String> changed = new HashSet<>(state.changedSubstationIds);
+            state.changedSubstationIds.removeAll(changed);
+            for (String substationId : changed) {
+                Substation substation = network.getSubstation(substationId);
+                if (substation != null) {
+                    recompute(state, substation);
+                } else if (state.resultsBySubstation.remove(substationId) != null) {
+                    state.result = null;
+                }
+            }
+        }
+        if (state.outsideSubstationsChanged) {
+            state.outsideSubstationsChanged = false;
+            state.outsideSubstationsResult = ParallelTwoWindingsTransformersDetector.mergeAndOrient(network,
+                    ParallelTwoWindingsTransformersDetector.detectSimpleParallels(network.getTwoWindingsTransformerStream()
+                            .filter(twt -> twt.getSubstation().isEmpty())
+                            .toList()));
+            state.result = null;
+        }
+        if (state.result == null) {
+            List<DetectionResult> results = new ArrayList<>(state.resultsBySubstation.values());
+            results.add(state.outsideSubstationsResult);
+            state.result = ParallelTwoWindingsTransformersDetector.combine(results);
+        }
+        return state.result;
+    }
+
+    /**
+     * @return the number of substations whose bundles were computed by the last detection.
+     */
+    synchronized int getLastRecomputedSubstationCount() {
+        return lastRecomputedSubstationCount;
+    }
+
+    private void recompute(VariantState state, Substation substation) {
+        DetectionResult result = ParallelTwoWindingsTransformersDetector.mergeAndOrient(getExtendable(),
+                ParallelTwoWindingsTransformersDetector.detectCandidates(substation, intraSubstationLines(substation)));
+        // only the substations with bundles are kept
+        if (result.bundles().isEmpty() && result.undecidedBundles().isEmpty()) {
+            if (state.resultsBySubstation.remove(substation.getId()) != null) {
+                state.result = null;
+            }
+        } else {
+            state.resultsBySubstation.put(substation.getId(), result);
+            state.result = null;
+        }
+        lastRecomputedSubstationCount++;
+    }
+
+    private static List<Line> intraSubstationLines(Substation substation) {
+        List<Line> lines = new ArrayList<>();
+        Set<String> lineIds = new HashSet<>();
+        for (VoltageLevel voltageLevel : substation.getVoltageLevels()) {
+            voltageLevel.getLineStream()
+                    .filter(line -> substation == line.getTerminal1().getVoltageLevel().getSubstation().orElse(null)
+                            && substation == line.getTerminal2().getVoltageLevel().getSubstation().orElse(null))
+                    .filter(line -> lineIds.add(line.getId()))
+                    .forEach(lines::add);
+        }
+        return lines;
+    }
+
+    private static boolean isTopologyAttribute(String attribute) {
+        return !NON_TOPOLOGY_ATTRIBUTES.contains(attribute.substring(attribute.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Changes of the topology of the network, marked in the states of the given variant, or of all the variants if
+     * <code>null</code>.
+     */
+    private void markChanged(Identifiable<?> identifiable, String variantId) {
+        if (variantId == null) {
+            states.values().forEach(state -> state.markChanged(identifiable));
+        } else {
+            VariantState state = states.get(variantId);
+            if (state != null) {
+                state.markChanged(identifiable);
+            }
+        }
+    }
+
+    private static final class VariantState {
+
+        private final Set<String> changedSubstationIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean outsideSubstationsChanged = true;
+
+        // state guarded by the detector
+        private final Map<String, DetectionResult> resultsBySubstation = new HashMap<>();
+        private DetectionResult outsideSubstationsResult;
+        private DetectionResult result;
+        private boolean initialized;
+
+        private void markChanged(Identifiable<?> identifiable) {
+            if (identifiable instanceof Substation substation) {
+                changedSubstationIds.add(substation.getId());
+            } else if (identifiable instanceof VoltageLevel voltageLevel) {
+                markChanged(voltageLevel);
+            } else if (identifiable instanceof Switch sw) {
+                markChanged(sw.getVoltageLevel());
+            } else if (identifiable instanceof Bus bus) {
+                markChanged(bus.getVoltageLevel());
+            } else if (identifiable instanceof Connectable<?> connectable) {
+                connectable.getTerminals().forEach(t -> markChanged(t.getVoltageLevel()));
+            }
+        }
+
+        private void markChanged(VoltageLevel voltageLevel) {
+            voltageLevel.getSubstation().ifPresentOrElse(substation -> changedSubstationIds.add(substation.getId()),
+                    () -> outsideSubstationsChanged = true);
+        }
+    }
+
+    private final class ChangeListener implements NetworkListener {
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            markChanged(identifiable, null);
+        }
+
+        @Override
+        public void beforeRemoval(Identifiable<?> identifiable) {
+            markChanged(identifiable, null);
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (isTopologyAttribute(attribute)) {
+                markChanged(identifiable, variantId);
+            }
+        }
+
+        @Override
+        public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
+            states.remove(targetVariantId);
+        }
+
+        @Override
+        public void onVariantRemoved(String variantId) {
+            states.remove(variantId);
+        }
+    }
+}
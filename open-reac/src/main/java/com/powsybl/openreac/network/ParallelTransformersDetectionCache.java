@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.network.*;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.Bundle;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.DetectionResult;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the {@link ParallelTwoWindingsTransformersDetector detection} of parallel transformers, keyed by a
+ * fingerprint of the inputs of the detection: for each transformer and each intra-substation line, its bus view
+ * buses and substation, and for transformers their nominal voltages and whether they have a ratio tap changer.
+ * Two networks, or two variants, with the same fingerprint have the same bundles.
+ * <p>
+ * The results are kept in memory, least recently used first evicted, and optionally stored in a directory, one
+ * file per fingerprint, so that separate JVM launches on the same topology also skip the detection. Unreadable
+ * or unwritable files are logged and ignored: the detection is then run again.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class ParallelTransformersDetectionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelTransformersDetectionCache.class);
+
+    /**
+     * Written in the fingerprints and in the files: to be changed with the detection rules, so that the results
+     * of a previous version are not reused.
+     */
+    private static final String VERSION = "1.1";
+    private static final String FILE_SUFFIX = ".json";
+
+    private static final Map<SharedKey, ParallelTransformersDetectionCache> SHARED_CACHES = new ConcurrentHashMap<>();
+
+    private record SharedKey(Path directory, int maxSize) {
+    }
+
+    private final int maxSize;
+    private final Path directory;
+    private final Map<String, DetectionResult> results;
+
+    /**
+     * In-memory cache only.
+     */
+    public ParallelTransformersDetectionCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * @param directory directory where the results are stored, <code>null</code> for an in-memory cache only.
+     */
+    public ParallelTransformersDetectionCache(int maxSize, Path directory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Parallel transformers detection cache size must be >= 1 to be consistent.");
+        }
+        this.maxSize = maxSize;
+        this.directory = directory;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DetectionResult> eldest) {
+                return size() > ParallelTransformersDetectionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cache of the JVM of the given size using the given directory.
+     */
+    public static ParallelTransformersDetectionCache shared(int maxSize, Path directory) {
+        return SHARED_CACHES.computeIfAbsent(new SharedKey(directory, maxSize), key -> new ParallelTransformersDetectionCache(maxSize, directory));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Optional<Path> getDirectory() {
+        return Optional.ofNullable(directory);
+    }
+
+    /**
+     * @return the cached detection result of the working variant of the network, detected and cached if absent.
+     * @see ParallelTwoWindingsTransformersDetector#detect(Network, boolean)
+     */
+    public DetectionResult detect(Network network, boolean parallel) {
+        String fingerprint = fingerprint(network);
+        DetectionResult result;
+        synchronized (results) {
+            result = results.get(fingerprint);
+        }
+        if (result == null) {
+            result = read(fingerprint);
+            if (result == null) {
+                result = ParallelTwoWindingsTransformersDetector.detect(network, parallel);
+                write(fingerprint, result);
+            }
+            synchronized (results) {
+                results.put(fingerprint, result);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * @return a SHA-256 digest, in hexadecimal, of the inputs of the detection on the working variant of the network.
+     */
+    public static String fingerprint(Network network) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder builder = new StringBuilder(VERSION).append('\n');
+        network.getTwoWindingsTransformerStream()
+                .sorted(Comparator.comparing(Identifiable::getId))
+                .forEach(twt -> {
+                    appendBranch(builder, twt, twt.getSubstation().map(Identifiable::getId).orElse(""));
+                    builder.append('|').append(twt.hasRatioTapChanger())
+                            .append('\n');
+                    flush(builder, digest);
+                });
+        builder.append("lines\n");
+        network.getLineStream()
+                .sorted(Comparator.comparing(Identifiable::getId))
+                .forEach(line -> {
+                    Substation s1 = line.getTerminal1().getVoltageLevel().getSubstation().orElse(null);
+                    Substation s2 = line.getTerminal2().getVoltageLevel().getSubstation().orElse(null);
+                    if (s1 != null && s1 == s2) {
+                        appendBranch(builder, line, s1.getId());
+                        builder.append('\n');
+                        flush(builder, digest);
+                    }
+                });
+        flush(builder, digest);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The nominal voltages of the lines matter too, the cycles being grouped by the nominal voltage pairs of all their
+     * edges.
+     */
+    private static void appendBranch(StringBuilder builder, Branch<?> branch, String substationId) {
+        builder.append(branch.getId())
+                .append('|').append(substationId)
+                .append('|').append(busId(branch.getTerminal1()))
+                .append('|').append(busId(branch.getTerminal2()))
+                .append('|').append(branch.getTerminal1().getVoltageLevel().getNominalV())
+                .append('|').append(branch.getTerminal2().getVoltageLevel().getNominalV());
+    }
+
+    private static String busId(Terminal terminal) {
+        Bus bus = terminal.getBusView().getBus();
+        return bus != null ? bus.getId() : "";
+    }
+
+    private static void flush(StringBuilder builder, MessageDigest digest) {
+        digest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+        builder.setLength(0);
+    }
+
+    // ---- Disk store ----
+
+    private Path file(String fingerprint) {
+        return directory.resolve(fingerprint + FILE_SUFFIX);
+    }
+
+    private DetectionResult read(String fingerprint) {
+        if (directory == null || !Files.exists(file(fingerprint))) {
+            return null;
+        }
+        try (InputStream is = Files.newInputStream(file(fingerprint))) {
+            JsonNode root = JsonUtil.createObjectMapper().readTree(is);
+            if (!VERSION.equals(root.path("version").asText()) || !fingerprint.equals(root.path("fingerprint").asText())) {
+                return null;
+            }
+            List<Bundle> bundles = new ArrayList<>();
+            for (JsonNode bundle : root.path("bundles")) {
+                List<Member> members = new ArrayList<>();
+                for (JsonNode member : bundle) {
+                    members.add(new Member(member.get("id").asText(), member.get("orientation").asInt()));
+                }
+                bundles.add(new Bundle(members));
+            }
+            List<Set<String>> undecidedBundles = new ArrayList<>();
+            for (JsonNode bundle : root.path("undecidedBundles")) {
+                Set<String> ids = new HashSet<>();
+                bundle.forEach(id -> ids.add(id.asText()));
+                undecidedBundles.add(ids);
+            }
+            return new DetectionResult(bundles, undecidedBundles);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot read parallel transformers detection from {}, running detection", file(fingerprint), e);
+            return null;
+        }
+    }
+
+    private void write(String fingerprint, DetectionResult result) {
+        if (directory == null) {
+            return;
+        }
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(directory);
+            // written aside then moved, so that a concurrent reader never sees a partial file
+            tmpFile = Files.createTempFile(directory, fingerprint, ".tmp");
+            ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+            try (OutputStream os = Files.newOutputStream(tmpFile);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(os)) {
+                generator.writeStartObject();
+                generator.writeStringField("version", VERSION);
+                generator.writeStringField("fingerprint", fingerprint);
+                generator.writeArrayFieldStart("bundles");
+                for (Bundle bundle : result.bundles()) {
+                    generator.writeStartArray();
+                    for (Member member : bundle.members()) {
+                        generator.writeStartObject();
+                        generator.writeStringField("id", member.transformerId());
+                        generator.writeNumberField("orientation", member.orientation());
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart("undecidedBundles");
+                for (Set<String> bundle : result.undecidedBundles()) {
+                    generator.writeStartArray();
+                    for (String id : new TreeSet<>(bundle)) {
+                        generator.writeString(id);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            Files.move(tmpFile, file(fingerprint), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot store parallel transformers detection in {}", directory, e);
+            deleteQuietly(tmpFile);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.warn("Cannot delete {}", file, e);
+            }
+        }
+    }
+}
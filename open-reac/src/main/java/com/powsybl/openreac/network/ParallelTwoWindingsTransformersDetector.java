@@ -13,13 +13,12 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +46,14 @@ import java.util.stream.Collectors;
  */
 public final class ParallelTwoWindingsTransformersDetector {
 
+    /**
+     * Deterministic ordering of the bundles, mirroring the notebook (largest bundles first), with a
+     * stable tie-break so the AMPL bundle numbering is reproducible across runs.
+     */
+    private static final Comparator<Set<String>> BUNDLE_ORDER = Comparator
+            .comparingInt(Set<String>::size).reversed()
+            .thenComparing(s -> s.stream().min(Comparator.naturalOrder()).orElse(""));
+
     private ParallelTwoWindingsTransformersDetector() {
         // utility class
     }
@@ -89,17 +96,49 @@ public final class ParallelTwoWindingsTransformersDetector {
      *         interval, tie / fix / relax) is performed in the AMPL model.
      */
     public static DetectionResult detect(Network network) {
+        return detect(network, false);
+    }
+
+    /**
+     * @param parallel if <code>true</code>, the closed loops are searched in the substations concurrently, in the
+     *                 common fork/join pool. The result is the same as the serial detection, in the same order.
+     * @see #detect(Network)
+     */
+    public static DetectionResult detect(Network network, boolean parallel) {
         Set<String> ratioTapChangerIds = network.getTwoWindingsTransformerStream()
                 .filter(t -> t.getRatioTapChanger() != null)
                 .map(Identifiable::getId)
                 .collect(Collectors.toSet());
 
         List<Set<String>> all = new ArrayList<>();
-        all.addAll(detectSimpleParallels(network, ratioTapChangerIds));
-        all.addAll(detectComplexParallels(network));
+        all.addAll(detectSimpleParallels(network.getTwoWindingsTransformers()));
+        all.addAll(detectComplexParallels(network, parallel));
+        return mergeAndOrient(network, keepRatioTapChangers(all, ratioTapChangerIds));
+    }
+
+    /**
+     * @return the candidate sets of the transformers of a substation: simple parallels and closed loops, reduced
+     *         to the transformers with a ratio tap changer, singletons filtered out. The bundles of a network are
+     *         the {@link #mergeAndOrient merge} of the candidates of its substations.
+     */
+    static List<Set<String>> detectCandidates(Substation substation, List<Line> intraSubstationLines) {
+        Set<String> ratioTapChangerIds = new HashSet<>();
+        for (TwoWindingsTransformer twt : substation.getTwoWindingsTransformers()) {
+            if (twt.getRatioTapChanger() != null) {
+                ratioTapChangerIds.add(twt.getId());
+            }
+        }
+        if (ratioTapChangerIds.size() < 2) {
+            return List.of();
+        }
+        List<Set<String>> all = new ArrayList<>();
+        all.addAll(detectSimpleParallels(substation.getTwoWindingsTransformers()));
+        all.addAll(detectComplexParallels(substation, Map.of(substation.getId(), intraSubstationLines)));
+        return keepRatioTapChangers(all, ratioTapChangerIds);
+    }
 
-        // Keep only RTCs
-        all = all.stream()
+    private static List<Set<String>> keepRatioTapChangers(List<Set<String>> candidates, Set<String> ratioTapChangerIds) {
+        return candidates.stream()
                 .map(s -> {
                     Set<String> filtered = new HashSet<>(s);
                     filtered.retainAll(ratioTapChangerIds);
@@ -107,18 +146,37 @@ public final class ParallelTwoWindingsTransformersDetector {
                 })
                 .filter(s -> s.size() >= 2)
                 .collect(Collectors.toList());
+    }
 
+    /**
+     * Merges the candidate sets, sorts and orients the resulting bundles.
+     */
+    static DetectionResult mergeAndOrient(Network network, List<Set<String>> candidates) {
         // Merge overlapping sets transitively
-        List<Set<String>> merged = mergeOverlappingSets(all);
+        List<Set<String>> merged = mergeOverlappingSets(candidates);
 
-        // Deterministic ordering, mirroring the notebook (largest bundles first), with a
-        // stable tie-break so the AMPL bundle numbering is reproducible across runs.
-        merged.sort(Comparator
-                .comparingInt(Set<String>::size).reversed()
-                .thenComparing(s -> s.stream().min(Comparator.naturalOrder()).orElse("")));
+        merged.sort(BUNDLE_ORDER);
         return orientBundles(network, merged);
     }
 
+    /**
+     * Combines the results of disjoint sets of transformers, such as the ones of different substations, in the order
+     * of {@link #mergeAndOrient}.
+     */
+    static DetectionResult combine(Collection<DetectionResult> results) {
+        List<Bundle> bundles = new ArrayList<>();
+        List<Set<String>> undecided = new ArrayList<>();
+        for (DetectionResult result : results) {
+            bundles.addAll(result.bundles());
+            undecided.addAll(result.undecidedBundles());
+        }
+        // the members of a bundle are sorted by id
+        bundles.sort(Comparator.comparingInt(Bundle::size).reversed()
+                .thenComparing(bundle -> bundle.members().getFirst().transformerId()));
+        undecided.sort(BUNDLE_ORDER);
+        return new DetectionResult(bundles, undecided);
+    }
+
     // ---- Step 4: orientation of each member against the bundle's canonical direction ----
 
     private static DetectionResult orientBundles(Network network, List<Set<String>> bundles) {
@@ -188,10 +246,13 @@ public final class ParallelTwoWindingsTransformersDetector {
 
     // ---- Step 1: simple parallels (same pair of BusView buses) ----
 
-    private static List<Set<String>> detectSimpleParallels(Network network, Set<String> ratioTapChangerIds) {
+    /**
+     * @return the groups of transformers with a ratio tap changer on the same pair of buses.
+     */
+    static List<Set<String>> detectSimpleParallels(Iterable<TwoWindingsTransformer> transformers) {
         Map<BusPair, List<String>> byBusPair = new HashMap<>();
-        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
-            if (!ratioTapChangerIds.contains(twt.getId())) {
+        for (TwoWindingsTransformer twt : transformers) {
+            if (twt.getRatioTapChanger() == null) {
                 continue;
             }
             Bus b1 = twt.getTerminal1().getBusView().getBus();
@@ -209,7 +270,7 @@ public final class ParallelTwoWindingsTransformersDetector {
 
     // ---- Step 2: complex parallels (chordless cycles <= 4 inside substations) ----
 
-    private static List<Set<String>> detectComplexParallels(Network network) {
+    private static List<Set<String>> detectComplexParallels(Network network, boolean parallel) {
         // Intra-substation lines take part in the graph as plain edges so they can close
         // cycles, exactly like the reference notebook (graph built from get_branches()).
         // Their ids are later dropped by the ratio-tap-changer filter in detect(), so a
@@ -222,86 +283,106 @@ public final class ParallelTwoWindingsTransformersDetector {
                 intraSubstationLines.computeIfAbsent(s1.getId(), k -> new ArrayList<>()).add(line);
             }
         }
-        List<Set<String>> result = new ArrayList<>();
-        for (Substation substation : network.getSubstations()) {
-            IntraSubstationGraph graph = buildIntraSubstationGraph(substation,
-                    intraSubstationLines.getOrDefault(substation.getId(), List.of()));
-            if (graph.adjacency.size() < 3) {
-                continue; // No cycle of length >= 3 possible
-            }
-            for (List<String> cycleNodes : graph.findChordlessCyclesUpToSize4()) {
-                processCycle(graph, cycleNodes, result);
+        if (!parallel) {
+            List<Set<String>> result = new ArrayList<>();
+            for (Substation substation : network.getSubstations()) {
+                result.addAll(detectComplexParallels(substation, intraSubstationLines));
             }
+            return result;
+        }
+
+        // The substations are independent: each one is processed by a fork/join task, and the per-substation
+        // results are concatenated in the substation order, exactly as in the serial loop.
+        List<Substation> substations = new ArrayList<>();
+        network.getSubstations().forEach(substations::add);
+        // The bus views are computed lazily and cached by the network, which is not thread-safe: they are all
+        // computed here, before the concurrent reads.
+        network.getBusView().getBuses().forEach(bus -> { });
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        boolean perThreadVariant = variantManager.isVariantMultiThreadAccessAllowed();
+        return substations.parallelStream()
+                .map(substation -> {
+                    if (!perThreadVariant) {
+                        return detectComplexParallels(substation, intraSubstationLines);
+                    }
+                    // the workers of the common pool are shared: their previous working variant is restored
+                    try (VariantScope variantScope = VariantScope.enter(network, variantId)) {
+                        return detectComplexParallels(substation, intraSubstationLines);
+                    }
+                })
+                .toList()
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Set<String>> detectComplexParallels(Substation substation, Map<String, List<Line>> intraSubstationLines) {
+        IntraSubstationGraph graph = buildIntraSubstationGraph(substation,
+                intraSubstationLines.getOrDefault(substation.getId(), List.of()));
+        if (graph.busCount() < 3) {
+            return List.of(); // No cycle of length >= 3 possible
+        }
+        List<Set<String>> result = new ArrayList<>();
+        for (int[] cycle : graph.findChordlessCyclesUpToSize4()) {
+            processCycle(graph, cycle, result);
         }
         return result;
     }
 
-    private static void processCycle(IntraSubstationGraph graph, List<String> cycleNodes, List<Set<String>> result) {
-        // Edges of the cycle, bundled by their nominal voltage pair
-        Map<NominalVoltagePair, List<BusPair>> edgesByVoltage = new HashMap<>();
-        int n = cycleNodes.size();
-        for (int i = 0; i < n; i++) {
-            BusPair edge = new BusPair(cycleNodes.get(i), cycleNodes.get((i + 1) % n));
-            NominalVoltagePair vp = graph.edges.get(edge).voltagePair;
-            edgesByVoltage.computeIfAbsent(vp, k -> new ArrayList<>()).add(edge);
-        }
-        // Within each voltage subgraph, find connected components
-        for (List<BusPair> edgesAtVoltage : edgesByVoltage.values()) {
-            for (Set<BusPair> component : connectedComponents(edgesAtVoltage)) {
-                Set<String> transformerIds = new HashSet<>();
-                for (BusPair edge : component) {
-                    transformerIds.addAll(graph.edges.get(edge).transformerIds);
-                }
-                if (transformerIds.size() >= 2) {
-                    result.add(transformerIds);
-                }
-            }
+    /**
+     * @return the chordless cycles of size 3 or 4 of the substation graph, as lists of bus ids.
+     */
+    static List<List<String>> findChordlessCyclesUpToSize4(Substation substation, List<Line> intraSubstationLines) {
+        IntraSubstationGraph graph = buildIntraSubstationGraph(substation, intraSubstationLines);
+        List<List<String>> cycles = new ArrayList<>();
+        for (int[] cycle : graph.findChordlessCyclesUpToSize4()) {
+            cycles.add(Arrays.stream(cycle).mapToObj(graph::busId).toList());
         }
+        return cycles;
     }
 
-    private static List<Set<BusPair>> connectedComponents(Collection<BusPair> edges) {
-        // Build an adjacency from the edge set, then flood-fill for components.
-        Map<String, Set<String>> adjacentBussesByBus = buildBusAdjacency(edges);
-        Map<String, Integer> componentIndexByBus = new HashMap<>();
-        int componentIndex = 0;
-        for (String start : adjacentBussesByBus.keySet()) {
-            if (!componentIndexByBus.containsKey(start)) {
-                floodFillComponent(start, componentIndex, adjacentBussesByBus, componentIndexByBus);
-                componentIndex++;
-            }
+    private static void processCycle(IntraSubstationGraph graph, int[] cycle, List<Set<String>> result) {
+        int n = cycle.length;
+        EdgeData[] cycleEdges = new EdgeData[n];
+        for (int i = 0; i < n; i++) {
+            cycleEdges[i] = graph.edge(cycle[i], cycle[(i + 1) % n]);
         }
-        List<Set<BusPair>> components = new ArrayList<>();
-        for (int i = 0; i < componentIndex; i++) {
-            components.add(new HashSet<>());
+        // Within each nominal voltage pair, the connected components of the cycle edges are the runs of
+        // consecutive edges: two edges of a cycle of size <= 4 share a bus if and only if they are consecutive.
+        int[] component = new int[n];
+        for (int i = 0; i < n; i++) {
+            component[i] = i;
         }
-        for (BusPair e : edges) {
-            components.get(componentIndexByBus.get(e.busId1)).add(e);
+        for (int i = 0; i < n; i++) {
+            int next = (i + 1) % n;
+            if (cycleEdges[i].voltagePair.equals(cycleEdges[next].voltagePair)) {
+                relabel(component, component[next], component[i]);
+            }
         }
-        return components;
-    }
-
-    private static Map<String, Set<String>> buildBusAdjacency(Collection<BusPair> edges) {
-        Map<String, Set<String>> adjacentBussesByBus = new HashMap<>();
-        for (BusPair e : edges) {
-            adjacentBussesByBus.computeIfAbsent(e.busId1, k -> new HashSet<>()).add(e.busId2);
-            adjacentBussesByBus.computeIfAbsent(e.busId2, k -> new HashSet<>()).add(e.busId1);
+        for (int i = 0; i < n; i++) {
+            if (component[i] != i) {
+                continue; // Not the first edge of its component
+            }
+            Set<String> transformerIds = new HashSet<>();
+            for (int j = 0; j < n; j++) {
+                if (component[j] == i) {
+                    transformerIds.addAll(cycleEdges[j].transformerIds);
+                }
+            }
+            if (transformerIds.size() >= 2) {
+                result.add(transformerIds);
+            }
         }
-        return adjacentBussesByBus;
     }
 
-    // Iterative flood fill: labels start and everything reachable from it with componentIndex.
-    private static void floodFillComponent(String start, int componentIndex,
-                                           Map<String, Set<String>> adjacentBussesByBus, Map<String, Integer> componentIndexByBus) {
-        Deque<String> stack = new ArrayDeque<>();
-        stack.push(start);
-        while (!stack.isEmpty()) {
-            String node = stack.pop();
-            if (componentIndexByBus.putIfAbsent(node, componentIndex) == null) {
-                for (String nbr : adjacentBussesByBus.getOrDefault(node, Set.of())) {
-                    if (!componentIndexByBus.containsKey(nbr)) {
-                        stack.push(nbr);
-                    }
-                }
+    // Labels are the smallest edge position of their component, so that each component is collected once.
+    private static void relabel(int[] component, int label1, int label2) {
+        int from = Math.max(label1, label2);
+        int to = Math.min(label1, label2);
+        for (int i = 0; i < component.length; i++) {
+            if (component[i] == from) {
+                component[i] = to;
             }
         }
     }
@@ -309,17 +390,17 @@ public final class ParallelTwoWindingsTransformersDetector {
     // ---- Graph construction ----
 
     private static IntraSubstationGraph buildIntraSubstationGraph(Substation substation, List<Line> intraSubstationLines) {
-        IntraSubstationGraph graph = new IntraSubstationGraph();
+        IntraSubstationGraph.Builder builder = new IntraSubstationGraph.Builder();
         for (TwoWindingsTransformer twt : substation.getTwoWindingsTransformers()) {
-            addBranchEdge(graph, twt.getId(), twt.getTerminal1(), twt.getTerminal2());
+            addBranchEdge(builder, twt.getId(), twt.getTerminal1(), twt.getTerminal2());
         }
         for (Line line : intraSubstationLines) {
-            addBranchEdge(graph, line.getId(), line.getTerminal1(), line.getTerminal2());
+            addBranchEdge(builder, line.getId(), line.getTerminal1(), line.getTerminal2());
         }
-        return graph;
+        return builder.build();
     }
 
-    private static void addBranchEdge(IntraSubstationGraph graph, String branchId, Terminal terminal1, Terminal terminal2) {
+    private static void addBranchEdge(IntraSubstationGraph.Builder builder, String branchId, Terminal terminal1, Terminal terminal2) {
         Bus b1 = terminal1.getBusView().getBus();
         Bus b2 = terminal2.getBusView().getBus();
         if (b1 == null || b2 == null || b1.getId().equals(b2.getId())) {
@@ -327,34 +408,96 @@ public final class ParallelTwoWindingsTransformersDetector {
         }
         double v1 = terminal1.getVoltageLevel().getNominalV();
         double v2 = terminal2.getVoltageLevel().getNominalV();
-        graph.addEdge(b1.getId(), b2.getId(), branchId, NominalVoltagePair.of(v1, v2));
+        builder.addBranch(b1.getId(), b2.getId(), branchId, NominalVoltagePair.of(v1, v2));
     }
 
     // ---- Step 3: merge overlapping sets transitively ----
 
+    /**
+     * Merges the sets sharing at least one element, transitively, with a union-find over the elements: the
+     * complexity is near-linear in the total size of the input sets, instead of quadratic in their number.
+     * The merged sets are in the order of the last input set they contain. Empty input sets are ignored.
+     */
     static List<Set<String>> mergeOverlappingSets(List<Set<String>> input) {
-        List<Set<String>> merged = new ArrayList<>();
-        for (Set<String> current : input) {
-            Set<String> combined = new HashSet<>(current);
-            List<Set<String>> updatedMerged = new ArrayList<>();
-            // For each set of "input", we update the previously computed overlapping sets.
-            // To do this, we loop on those previously computed sets and check, for each one, whether it overlaps "current".
-            // "combined" then contains the merge of "current" with ALL the previously computed sets it overlaps with.
-            for (Set<String> existing : merged) {
-                if (!Collections.disjoint(existing, current)) {
-                    // The current previously computed overlapping set ("existing") overlaps with "current".
-                    // It is integrated in "combined" and not preserved independently in "updatedMerged".
-                    combined.addAll(existing);
+        Map<String, Integer> indexById = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+        UnionFind unionFind = new UnionFind();
+        int[] firstIndexBySet = new int[input.size()];
+        for (int k = 0; k < input.size(); k++) {
+            int first = -1;
+            for (String id : input.get(k)) {
+                int index = indexById.computeIfAbsent(id, key -> {
+                    ids.add(key);
+                    return unionFind.add();
+                });
+                if (first < 0) {
+                    first = index;
                 } else {
-                    // The current previously computed overlapping set ("existing") does not overlap with "current".
-                    // It is kept untouched.
-                    updatedMerged.add(existing);
+                    unionFind.union(first, index);
                 }
             }
-            updatedMerged.add(combined);
-            merged = updatedMerged;
+            firstIndexBySet[k] = first;
+        }
+
+        // Rank of each merged set: the position of the last input set it contains
+        Map<Integer, Integer> lastSetByRoot = new HashMap<>();
+        for (int k = 0; k < input.size(); k++) {
+            if (firstIndexBySet[k] >= 0) {
+                lastSetByRoot.put(unionFind.find(firstIndexBySet[k]), k);
+            }
+        }
+        Map<Integer, Set<String>> mergedByRoot = new HashMap<>();
+        for (int index = 0; index < ids.size(); index++) {
+            mergedByRoot.computeIfAbsent(unionFind.find(index), root -> new HashSet<>()).add(ids.get(index));
+        }
+        return mergedByRoot.entrySet().stream()
+                .sorted(Comparator.comparingInt(e -> lastSetByRoot.get(e.getKey())))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Disjoint sets of dense indices, with path halving and union by size.
+     */
+    private static final class UnionFind {
+
+        private int[] parents = new int[16];
+        private int[] sizes = new int[16];
+        private int count;
+
+        int add() {
+            if (count == parents.length) {
+                parents = Arrays.copyOf(parents, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            parents[count] = count;
+            sizes[count] = 1;
+            return count++;
+        }
+
+        int find(int index) {
+            int i = index;
+            while (parents[i] != i) {
+                parents[i] = parents[parents[i]];
+                i = parents[i];
+            }
+            return i;
+        }
+
+        void union(int index1, int index2) {
+            int root1 = find(index1);
+            int root2 = find(index2);
+            if (root1 == root2) {
+                return;
+            }
+            if (sizes[root1] < sizes[root2]) {
+                int tmp = root1;
+                root1 = root2;
+                root2 = tmp;
+            }
+            parents[root2] = root1;
+            sizes[root1] += sizes[root2];
         }
-        return merged;
     }
 
     // ---- Internal value types ----
@@ -380,118 +523,232 @@ public final class ParallelTwoWindingsTransformersDetector {
 
     private static final class EdgeData {
         final List<String> transformerIds = new ArrayList<>();
-        NominalVoltagePair voltagePair;
+        final NominalVoltagePair voltagePair;
+
+        EdgeData(NominalVoltagePair voltagePair) {
+            this.voltagePair = voltagePair;
+        }
     }
 
+    /**
+     * Graph of the buses of a substation linked by transformers and lines, on dense bus indices.
+     * Buses are indexed in id order, so that comparing indices is comparing ids. The adjacency is stored in
+     * compressed sparse rows, neighbors sorted by index, and the branches between two buses are found by
+     * hashing the pair of indices into a long: the cycle enumeration does no allocation besides the cycles.
+     */
     private static final class IntraSubstationGraph {
 
-        final Map<String, Set<String>> adjacency = new HashMap<>();
-        final Map<BusPair, EdgeData> edges = new HashMap<>();
+        private final String[] busIds;
+        // neighbors of bus i are neighbors[offsets[i]] .. neighbors[offsets[i + 1] - 1], in increasing order
+        private final int[] offsets;
+        private final int[] neighbors;
+        private final EdgeTable edgeTable;
 
-        void addEdge(String busA, String busB, String transformerId, NominalVoltagePair voltagePair) {
-            BusPair key = new BusPair(busA, busB);
-            EdgeData data = edges.computeIfAbsent(key, k -> {
-                EdgeData newData = new EdgeData();
-                newData.voltagePair = voltagePair;
-                adjacency.computeIfAbsent(busA, b -> new HashSet<>()).add(busB);
-                adjacency.computeIfAbsent(busB, b -> new HashSet<>()).add(busA);
-                return newData;
-            });
-            data.transformerIds.add(transformerId);
+        private IntraSubstationGraph(String[] busIds, int[] offsets, int[] neighbors, EdgeTable edgeTable) {
+            this.busIds = busIds;
+            this.offsets = offsets;
+            this.neighbors = neighbors;
+            this.edgeTable = edgeTable;
         }
 
-        boolean hasEdge(String busA, String busB) {
-            return edges.containsKey(new BusPair(busA, busB));
+        int busCount() {
+            return busIds.length;
+        }
+
+        String busId(int bus) {
+            return busIds[bus];
+        }
+
+        boolean hasEdge(int busA, int busB) {
+            return edgeTable.get(busA, busB) != null;
+        }
+
+        EdgeData edge(int busA, int busB) {
+            return edgeTable.get(busA, busB);
         }
 
         /**
          * Enumerates all chordless cycles of length 3 or 4. Each cycle is returned
-         * exactly once, as the ordered list of its nodes.
+         * exactly once, as the ordered array of its bus indices.
          *
          * <p>Triangles are by definition chordless. Squares are filtered to exclude
          * those carrying a chord (i.e. an edge between opposite vertices).
          *
-         * <p>Canonical ordering is enforced by ranking nodes alphabetically and
-         * requiring the smallest-rank node to come first; among the two cycle
-         * neighbors of that node, we pick the smaller-rank as the second node.
+         * <p>Canonical ordering is enforced by requiring the smallest bus index to come
+         * first; among the two cycle neighbors of that bus, we pick the smaller index as
+         * the second bus.
          */
-        List<List<String>> findChordlessCyclesUpToSize4() {
-            List<String> nodes = new ArrayList<>(adjacency.keySet());
-            Collections.sort(nodes);
-            Map<String, Integer> rank = new HashMap<>();
-            for (int i = 0; i < nodes.size(); i++) {
-                rank.put(nodes.get(i), i);
-            }
-            List<List<String>> cycles = new ArrayList<>();
-            collectTriangles(nodes, rank, cycles);
-            collectChordlessSquares(nodes, rank, cycles);
+        List<int[]> findChordlessCyclesUpToSize4() {
+            List<int[]> cycles = new ArrayList<>();
+            collectTriangles(cycles);
+            collectChordlessSquares(cycles);
             return cycles;
         }
 
-        // Triangles are chordless by definition. Emitted once as (a, b, c) with rank(a) < rank(b) < rank(c).
-        private void collectTriangles(List<String> nodes, Map<String, Integer> rank, List<List<String>> cycles) {
-            for (String a : nodes) {
-                int ra = rank.get(a);
-                for (String b : adjacency.get(a)) {
-                    if (rank.get(b) > ra) {
-                        collectTrianglesThrough(a, b, rank, cycles);
+        // Triangles are chordless by definition. Emitted once as (a, b, c) with a < b < c.
+        private void collectTriangles(List<int[]> cycles) {
+            for (int a = 0; a < busIds.length; a++) {
+                for (int i = firstNeighborAbove(a, a); i < offsets[a + 1]; i++) {
+                    int b = neighbors[i];
+                    for (int j = firstNeighborAbove(b, b); j < offsets[b + 1]; j++) {
+                        int c = neighbors[j];
+                        if (hasEdge(a, c)) {
+                            cycles.add(new int[] {a, b, c});
+                        }
                     }
                 }
             }
         }
 
-        private void collectTrianglesThrough(String a, String b, Map<String, Integer> rank, List<List<String>> cycles) {
-            int rb = rank.get(b);
-            for (String c : adjacency.get(b)) {
-                if (rank.get(c) > rb && hasEdge(a, c)) {
-                    cycles.add(List.of(a, b, c));
+        // Chordless squares a-b-c-d-a: a is the smallest, b < d, no chord a-c or b-d.
+        // Emitted once as (a, b, c, d), a valid cycle walk.
+        private void collectChordlessSquares(List<int[]> cycles) {
+            if (busIds.length < 4) {
+                return; // A chordless square needs four distinct buses
+            }
+            for (int a = 0; a < busIds.length; a++) {
+                int end = offsets[a + 1];
+                for (int i = firstNeighborAbove(a, a); i < end; i++) {
+                    for (int j = i + 1; j < end; j++) {
+                        collectSquare(a, neighbors[i], neighbors[j], cycles);
+                    }
                 }
             }
         }
 
-        // Chordless squares a-b-c-d-a: a has smallest rank, rank(b) < rank(d), no chord a-c or b-d.
-        // Emitted once as (a, b, c, d), a valid cycle walk.
-        private void collectChordlessSquares(List<String> nodes, Map<String, Integer> rank, List<List<String>> cycles) {
-            if (adjacency.size() < 4) {
-                return; // A chordless square needs four distinct buses
+        private void collectSquare(int a, int b, int d, List<int[]> cycles) {
+            if (hasEdge(b, d)) {
+                return; // chord b-d: not chordless
             }
-            for (String a : nodes) {
-                collectSquaresAt(a, rank, cycles);
+            for (int i = firstNeighborAbove(b, a); i < offsets[b + 1]; i++) {
+                int c = neighbors[i];
+                if (c != d && hasEdge(d, c) && !hasEdge(a, c)) { // no chord a-c
+                    cycles.add(new int[] {a, b, c, d});
+                }
             }
         }
 
-        private void collectSquaresAt(String a, Map<String, Integer> rank, List<List<String>> cycles) {
-            int ra = rank.get(a);
-            List<String> higherNeighbors = sortedNeighborsAbove(a, ra, rank);
-            for (int i = 0; i < higherNeighbors.size(); i++) {
-                for (int j = i + 1; j < higherNeighbors.size(); j++) {
-                    collectSquare(a, ra, higherNeighbors.get(i), higherNeighbors.get(j), rank, cycles);
+        // Position of the first neighbor of bus greater than min, neighbors being sorted.
+        private int firstNeighborAbove(int bus, int min) {
+            int low = offsets[bus];
+            int high = offsets[bus + 1];
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (neighbors[middle] <= min) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
                 }
             }
+            return low;
         }
 
-        private void collectSquare(String a, int ra, String b, String d, Map<String, Integer> rank, List<List<String>> cycles) {
-            if (hasEdge(b, d)) {
-                return; // chord b-d: not chordless
+        private record Branch(String busId1, String busId2, String branchId, NominalVoltagePair voltagePair) { }
+
+        private static final class Builder {
+
+            private final List<Branch> branches = new ArrayList<>();
+
+            void addBranch(String busId1, String busId2, String branchId, NominalVoltagePair voltagePair) {
+                branches.add(new Branch(busId1, busId2, branchId, voltagePair));
             }
-            Set<String> neighborsOfD = adjacency.get(d);
-            for (String c : adjacency.get(b)) {
-                boolean closesChordlessSquare = rank.get(c) > ra
-                        && !c.equals(a) && !c.equals(d)
-                        && neighborsOfD.contains(c)
-                        && !hasEdge(a, c); // no chord a-c
-                if (closesChordlessSquare) {
-                    cycles.add(List.of(a, b, c, d));
+
+            IntraSubstationGraph build() {
+                Set<String> busIdSet = new HashSet<>();
+                for (Branch branch : branches) {
+                    busIdSet.add(branch.busId1);
+                    busIdSet.add(branch.busId2);
                 }
+                String[] busIds = busIdSet.toArray(String[]::new);
+                Arrays.sort(busIds);
+                Map<String, Integer> indexByBusId = HashMap.newHashMap(busIds.length);
+                for (int i = 0; i < busIds.length; i++) {
+                    indexByBusId.put(busIds[i], i);
+                }
+
+                // Branches between the same buses share one edge, keeping the voltage pair of the first one
+                EdgeTable edgeTable = new EdgeTable(branches.size());
+                int[] degrees = new int[busIds.length];
+                List<int[]> edgeEnds = new ArrayList<>();
+                for (Branch branch : branches) {
+                    int busA = indexByBusId.get(branch.busId1);
+                    int busB = indexByBusId.get(branch.busId2);
+                    EdgeData data = edgeTable.get(busA, busB);
+                    if (data == null) {
+                        data = new EdgeData(branch.voltagePair);
+                        edgeTable.put(busA, busB, data);
+                        degrees[busA]++;
+                        degrees[busB]++;
+                        edgeEnds.add(new int[] {busA, busB});
+                    }
+                    data.transformerIds.add(branch.branchId);
+                }
+
+                int[] offsets = new int[busIds.length + 1];
+                for (int i = 0; i < busIds.length; i++) {
+                    offsets[i + 1] = offsets[i] + degrees[i];
+                }
+                int[] neighbors = new int[offsets[busIds.length]];
+                int[] fill = Arrays.copyOf(offsets, busIds.length);
+                for (int[] ends : edgeEnds) {
+                    neighbors[fill[ends[0]]++] = ends[1];
+                    neighbors[fill[ends[1]]++] = ends[0];
+                }
+                for (int i = 0; i < busIds.length; i++) {
+                    Arrays.sort(neighbors, offsets[i], offsets[i + 1]);
+                }
+                return new IntraSubstationGraph(busIds, offsets, neighbors, edgeTable);
             }
         }
+    }
 
-        // Neighbors of {@code node} with rank strictly greater than {@code minRank}, sorted.
-        private List<String> sortedNeighborsAbove(String node, int minRank, Map<String, Integer> rank) {
-            return adjacency.get(node).stream()
-                    .filter(neighbor -> rank.get(neighbor) > minRank)
-                    .sorted()
-                    .toList();
+    /**
+     * Open addressing hash table of the edges, keyed by the unordered pair of bus indices packed in a long.
+     */
+    private static final class EdgeTable {
+
+        private static final long EMPTY = -1L;
+
+        private final long[] keys;
+        private final EdgeData[] values;
+        private final int mask;
+
+        EdgeTable(int maxEdgeCount) {
+            // load factor <= 0.5
+            int capacity = Integer.highestOneBit(Math.max(2, maxEdgeCount) * 4 - 1);
+            this.keys = new long[capacity];
+            this.values = new EdgeData[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        EdgeData get(int busA, int busB) {
+            long key = key(busA, busB);
+            for (int slot = slot(key); keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+
+        void put(int busA, int busB, EdgeData data) {
+            long key = key(busA, busB);
+            int slot = slot(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = data;
+        }
+
+        private static long key(int busA, int busB) {
+            return busA < busB ? ((long) busA << 32) | busB : ((long) busB << 32) | busA;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
         }
     }
 }
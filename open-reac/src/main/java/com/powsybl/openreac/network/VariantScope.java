@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.Objects;
+
+/**
+ * Sets the working variant of a network for the time of a block, and restores the previous one on {@link #close()}:
+ * <pre>
+ * try (VariantScope scope = VariantScope.enter(network, variantId)) {
+ *     // reads the network on variantId
+ * }
+ * </pre>
+ * When the variant multi-thread access of the network is allowed, the working variant is the one of the current
+ * thread only: other threads, and so other runs on other variants of the same network, are not affected. Otherwise
+ * the working variant is the one of the whole network, and concurrent scopes on different variants must not be used.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class VariantScope implements AutoCloseable {
+
+    private final VariantManager variantManager;
+
+    /**
+     * The working variant before the scope, <code>null</code> if there was none for the current thread.
+     */
+    private final String previousVariantId;
+
+    private VariantScope(VariantManager variantManager, String previousVariantId) {
+        this.variantManager = variantManager;
+        this.previousVariantId = previousVariantId;
+    }
+
+    public static VariantScope enter(Network network, String variantId) {
+        Objects.requireNonNull(variantId);
+        VariantManager variantManager = network.getVariantManager();
+        String previousVariantId = getWorkingVariantId(variantManager);
+        if (!variantId.equals(previousVariantId)) {
+            variantManager.setWorkingVariant(variantId);
+        }
+        return new VariantScope(variantManager, previousVariantId);
+    }
+
+    private static String getWorkingVariantId(VariantManager variantManager) {
+        try {
+            return variantManager.getWorkingVariantId();
+        } catch (PowsyblException e) {
+            // with multi-thread access, a thread which never set a working variant has none
+            return null;
+        }
+    }
+
+    /**
+     * Restores the previous working variant. A thread which had none keeps the one of the scope, as a working
+     * variant cannot be unset.
+     */
+    @Override
+    public void close() {
+        if (previousVariantId != null && !previousVariantId.equals(getWorkingVariantId(variantManager))) {
+            variantManager.setWorkingVariant(previousVariantId);
+        }
+    }
+}
@@ -7,26 +7,48 @@
 package com.powsybl.openreac.parameters;
 
 import com.powsybl.ampl.converter.AmplExportConfig;
+import com.powsybl.ampl.converter.AmplSubset;
 import com.powsybl.ampl.executor.AmplInputFile;
 import com.powsybl.ampl.executor.AmplOutputFile;
 import com.powsybl.ampl.executor.AmplParameters;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacJobStatistics;
 import com.powsybl.openreac.Reports;
+import com.powsybl.openreac.jfr.OpenReacAmplProcessEvent;
+import com.powsybl.openreac.jfr.OpenReacNetworkExportEvent;
+import com.powsybl.openreac.jfr.OpenReacOutputParsingEvent;
+import com.powsybl.openreac.jfr.OpenReacParallelTransformersDetectionEvent;
+import com.powsybl.openreac.network.IncrementalParallelTransformersDetector;
 import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector;
 import com.powsybl.openreac.parameters.input.*;
 import com.powsybl.openreac.parameters.input.algo.AlgorithmInput;
 import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacTimings;
 import com.powsybl.openreac.parameters.output.ReactiveSlackOutput;
+import com.powsybl.openreac.parameters.output.RetainedOutputFiles;
 import com.powsybl.openreac.parameters.output.VoltageProfileOutput;
 import com.powsybl.openreac.parameters.output.network.NetworkModifications;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterReader;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * OpenReacAmplIOFiles will interface all inputs and outputs needed for OpenReac to the abstracted Ampl Executor.
@@ -55,16 +77,58 @@ public class OpenReacAmplIOFiles implements AmplParameters {
     private final AmplExportConfig amplExportConfig;
     private final ParallelTwoWindingsTransformersBundles parallelTwoWindingsTransformersBundles;
     private final FixedParallelTransformersOutput fixedParallelTransformersOutput;
+    private final RetainedOutputFiles retainedOutputFiles;
+    private final OpenReacJobStatistics jobStatistics;
+    private final OpenReacTimings timings;
+
+    // instants of the AMPL execution, in nanoseconds, 0 if not reached
+    private volatile long amplStartNanos;
+    private volatile long inputsWrittenNanos;
+    private volatile long outputsReadNanos;
+
+    // content of the flight recorder events of the AMPL execution, the events being created when it starts
+    private final String networkId;
+    private final String variantId;
+    private final ResolvedElements resolvedElements;
+    private final AtomicInteger inputFilesWritten = new AtomicInteger();
+    private final AtomicLong inputBytesWritten = new AtomicLong();
+    private volatile OpenReacNetworkExportEvent exportEvent;
+    private volatile OpenReacAmplProcessEvent processEvent;
 
     public OpenReacAmplIOFiles(OpenReacParameters params, AmplExportConfig amplExportConfig, Network network, boolean debug, ReportNode reportNode) {
+        this(params, amplExportConfig, network, new OpenReacConfig(debug), null, null, null, reportNode);
+    }
+
+    /**
+     * Constructor of the runs of {@link com.powsybl.openreac.OpenReacRunner}.
+     *
+     * @param config              debug mode, parallel transformers detection settings and cache.
+     * @param retainedOutputFiles if not null, the output files are retained there and only parsed when the
+     *                            corresponding result section is first accessed.
+     * @param validation          the result of {@link OpenReacParameters#validate} on the network, reused by the inputs
+     *                            so that they do not walk the network again, <code>null</code> if the parameters were
+     *                            not validated.
+     * @param timings             the timings of the run, completed with the phases of the inputs, of the AMPL execution
+     *                            and of the outputs, <code>null</code> to create them from the metrics of the config.
+     */
+    public OpenReacAmplIOFiles(OpenReacParameters params, AmplExportConfig amplExportConfig, Network network, OpenReacConfig config,
+                               RetainedOutputFiles retainedOutputFiles, NetworkValidation validation, OpenReacTimings timings,
+                               ReportNode reportNode) {
+        this.timings = timings != null ? timings : new OpenReacTimings(config.getMetrics());
+        OpenReacTimings.Timer inputTimer = this.timings.start();
+        this.networkId = network.getId();
+        this.variantId = network.getVariantManager().getWorkingVariantId();
 
         //inputs
-        this.constantQGenerators = new ConstantQGenerators(params.getConstantQGenerators());
-        this.variableShuntCompensators = new VariableShuntCompensators(params.getVariableShuntCompensators());
-        this.variableTwoWindingsTransformers = new VariableTwoWindingsTransformers(params.getVariableTwoWindingsTransformers());
+        ResolvedElements elements = params.resolveElements(network);
+        this.constantQGenerators = new ConstantQGenerators(elements.constantQGenerators());
+        this.variableShuntCompensators = new VariableShuntCompensators(elements.variableShuntCompensators());
+        this.variableTwoWindingsTransformers = new VariableTwoWindingsTransformers(elements.variableTwoWindingsTransformers());
         this.algorithmParams = new AlgorithmInput(params.getAllAlgorithmParams());
-        this.voltageLimitsOverride = new VoltageLevelLimitsOverrideInput(params.getSpecificVoltageLimits(), network, reportNode);
-        this.configuredReactiveSlackBuses = new ConfiguredBusesWithReactiveSlack(params.getConfiguredReactiveSlackBuses());
+        this.voltageLimitsOverride = new VoltageLevelLimitsOverrideInput(params.getSpecificVoltageLimits(), network, validation,
+                params.getReportDetailsLimit(), reportNode);
+        this.configuredReactiveSlackBuses = new ConfiguredBusesWithReactiveSlack(elements.configuredReactiveSlackBuses());
+        this.resolvedElements = elements;
         this.amplExportConfig = amplExportConfig;
 
         //outputs
@@ -72,8 +136,9 @@ public class OpenReacAmplIOFiles implements AmplParameters {
         this.networkModifications = new NetworkModifications(network, params.getShuntCompensatorActivationAlertThreshold());
         this.voltageProfileOutput = new VoltageProfileOutput();
 
-        this.debug = debug;
+        this.debug = config.isDebug();
         this.debugDir = params.getDebugDir();
+        this.retainedOutputFiles = retainedOutputFiles;
 
         // Parallel transformer bundles are detected topologically here; every orientable bundle is
         // sent to AMPL as a membership + orientation relation (every member, no classification). The
@@ -84,18 +149,43 @@ public class OpenReacAmplIOFiles implements AmplParameters {
         // (POINT/EMPTY bundles) are read back from fixedParallelTransformersOutput. The whole grouping
         // can be opted out through OpenReacParameters, in which case the detection is skipped and the
         // membership file is written header-only, a no-op for the AMPL model.
+        inputTimer.stop(OpenReacTimings.Phase.INPUT_PREPARATION);
+        OpenReacTimings.Timer detectionTimer = this.timings.start();
+        OpenReacParallelTransformersDetectionEvent detectionEvent = new OpenReacParallelTransformersDetectionEvent();
+        detectionEvent.begin();
         ParallelTwoWindingsTransformersDetector.DetectionResult parallelDetection = params.isParallelTransformersGrouping()
-                ? ParallelTwoWindingsTransformersDetector.detect(network)
+                ? detectParallelTransformers(network, config)
                 : new ParallelTwoWindingsTransformersDetector.DetectionResult(List.of(), List.of());
+        detectionEvent.end();
+        detectionTimer.stop(OpenReacTimings.Phase.PARALLEL_TRANSFORMERS_DETECTION);
+        if (detectionEvent.shouldCommit()) {
+            detectionEvent.setNetwork(networkId, variantId);
+            detectionEvent.setBundleCounts(parallelDetection.bundles().size(), parallelDetection.undecidedBundles().size());
+            detectionEvent.commit();
+        }
+        inputTimer = this.timings.start();
         this.parallelTwoWindingsTransformersBundles = new ParallelTwoWindingsTransformersBundles(parallelDetection.bundles());
         this.fixedParallelTransformersOutput = new FixedParallelTransformersOutput();
-        Set<String> variableTransformerIds = new HashSet<>(params.getVariableTwoWindingsTransformers());
-        Reports.reportParallelTwoWindingsTransformers(reportNode, parallelDetection.bundles(), variableTransformerIds);
-        Reports.reportUndecidedOrientationParallelBundles(reportNode, parallelDetection.undecidedBundles());
+        Reports.reportParallelTwoWindingsTransformers(reportNode, parallelDetection.bundles(), elements.variableTwoWindingsTransformers(),
+                params.getReportDetailsLimit());
+        Reports.reportUndecidedOrientationParallelBundles(reportNode, parallelDetection.undecidedBundles(), params.getReportDetailsLimit());
+        this.jobStatistics = config.getCostModel().isPresent()
+                ? OpenReacJobStatistics.of(network, elements, parallelDetection.bundles().size())
+                : null;
+
+        Reports.reportConstantQGeneratorsSize(reportNode, elements.constantQGenerators().size());
+        Reports.reportVariableTwoWindingsTransformersSize(reportNode, elements.variableTwoWindingsTransformers().size());
+        Reports.reportVariableShuntCompensatorsSize(reportNode, elements.variableShuntCompensators().size());
+        inputTimer.stop(OpenReacTimings.Phase.INPUT_PREPARATION);
+    }
 
-        Reports.reportConstantQGeneratorsSize(reportNode, params.getConstantQGenerators().size());
-        Reports.reportVariableTwoWindingsTransformersSize(reportNode, params.getVariableTwoWindingsTransformers().size());
-        Reports.reportVariableShuntCompensatorsSize(reportNode, params.getVariableShuntCompensators().size());
+    private static ParallelTwoWindingsTransformersDetector.DetectionResult detectParallelTransformers(Network network, OpenReacConfig config) {
+        if (config.isIncrementalParallelTransformersDetection()) {
+            return IncrementalParallelTransformersDetector.attach(network).detect();
+        }
+        return config.getParallelTransformersDetectionCache()
+                .map(cache -> cache.detect(network, config.isParallelTransformersDetection()))
+                .orElseGet(() -> ParallelTwoWindingsTransformersDetector.detect(network, config.isParallelTransformersDetection()));
     }
 
     public ReactiveSlackOutput getReactiveSlackOutput() {
@@ -114,11 +204,115 @@ public class OpenReacAmplIOFiles implements AmplParameters {
         return fixedParallelTransformersOutput;
     }
 
+    /**
+     * @return the retained output files in lazy mode, <code>null</code> when outputs are parsed by the AMPL executor.
+     */
+    public RetainedOutputFiles getRetainedOutputFiles() {
+        return retainedOutputFiles;
+    }
+
+    public OpenReacTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * To be called when the AMPL execution starts: the network export is measured from then.
+     */
+    public void amplStarted() {
+        OpenReacNetworkExportEvent event = new OpenReacNetworkExportEvent();
+        event.begin();
+        exportEvent = event;
+        processEvent = new OpenReacAmplProcessEvent();
+        amplStartNanos = System.nanoTime();
+    }
+
+    /**
+     * To be called when the AMPL execution is over, to measure the network export and the AMPL process. The export
+     * ends with the writing of the last input, the process with the reading of the first output, if any.
+     *
+     * @param success whether the AMPL execution succeeded.
+     */
+    public void amplCompleted(boolean success) {
+        long now = System.nanoTime();
+        long start = amplStartNanos;
+        long inputsWritten = inputsWrittenNanos;
+        long outputsRead = outputsReadNanos;
+        if (start == 0 || inputsWritten == 0) {
+            return;
+        }
+        timings.add(OpenReacTimings.Phase.NETWORK_EXPORT, Duration.ofNanos(inputsWritten - start), -1);
+        timings.add(OpenReacTimings.Phase.AMPL_PROCESS, Duration.ofNanos((outputsRead != 0 ? outputsRead : now) - inputsWritten), -1);
+        commitAmplEvents(success, outputsRead == 0);
+    }
+
+    private void commitAmplEvents(boolean success, boolean processRunning) {
+        OpenReacNetworkExportEvent export = exportEvent;
+        if (export.shouldCommit()) {
+            export.setNetwork(networkId, variantId);
+            export.setElementCounts(resolvedElements.variableShuntCompensators().size(), resolvedElements.constantQGenerators().size(),
+                    resolvedElements.variableTwoWindingsTransformers().size());
+            export.setInputs(inputFilesWritten.get(), inputBytesWritten.get());
+            export.commit();
+        }
+        OpenReacAmplProcessEvent process = processEvent;
+        if (processRunning) {
+            process.end();
+        }
+        if (process.shouldCommit()) {
+            process.setNetwork(networkId, variantId);
+            process.setSuccess(success);
+            process.commit();
+        }
+    }
+
+    /**
+     * @return the statistics of the run, only computed when the config has a cost model.
+     */
+    public Optional<OpenReacJobStatistics> getJobStatistics() {
+        return Optional.ofNullable(jobStatistics);
+    }
+
+    /**
+     * @return a supplier of a value read from the given output: the value is extracted right away when outputs are
+     * parsed by the AMPL executor, on first call after parsing the retained file in lazy mode.
+     */
+    public <T> Supplier<T> section(AmplOutputFile output, Supplier<T> extractor) {
+        if (retainedOutputFiles != null) {
+            return retainedOutputFiles.section(output, extractor);
+        }
+        T value = extractor.get();
+        return () -> value;
+    }
+
+    /**
+     * In lazy mode, captures the network elements read by the outputs not parsed yet, with the values sent to AMPL,
+     * so that the sections accessed later do not depend on the changes of the network or of its variants since.
+     * Nothing is done when outputs are parsed by the AMPL executor.
+     */
+    public void captureNetworkView() {
+        if (retainedOutputFiles != null) {
+            retainedOutputFiles.getMapper().ifPresent(networkModifications::captureNetworkView);
+        }
+    }
+
+    /**
+     * Runs the given action once the output is parsed, which is immediate when outputs are parsed by the AMPL executor.
+     */
+    public void whenParsed(AmplOutputFile output, Runnable action) {
+        if (retainedOutputFiles != null) {
+            retainedOutputFiles.whenParsed(output, action);
+        } else {
+            action.run();
+        }
+    }
+
     @Override
     public Collection<AmplInputFile> getInputParameters() {
-        return List.of(constantQGenerators, variableShuntCompensators, variableTwoWindingsTransformers,
+        return Stream.of(constantQGenerators, variableShuntCompensators, variableTwoWindingsTransformers,
                 algorithmParams, voltageLimitsOverride, configuredReactiveSlackBuses,
-                parallelTwoWindingsTransformersBundles);
+                parallelTwoWindingsTransformersBundles)
+                .<AmplInputFile>map(TimedInputFile::new)
+                .toList();
     }
 
     @Override
@@ -130,6 +324,11 @@ public class OpenReacAmplIOFiles implements AmplParameters {
             list.add(reactiveSlackOutput);
             list.add(voltageProfileOutput);
             list.add(fixedParallelTransformersOutput);
+            if (retainedOutputFiles != null) {
+                // the reactive slacks are parsed right away, the status of the run depending on them
+                list.replaceAll(output -> output == reactiveSlackOutput ? output : retainedOutputFiles.retain(output));
+            }
+            list.replaceAll(TimedOutputFile::new);
             return list;
         }
         return List.of();
@@ -158,4 +357,165 @@ public class OpenReacAmplIOFiles implements AmplParameters {
     public String getDebugDir() {
         return debugDir;
     }
+
+    /**
+     * Marks the end of the export with the writing of the inputs, the network being exported first.
+     */
+    private final class TimedInputFile implements AmplInputFile {
+
+        private final AmplInputFile input;
+
+        private TimedInputFile(AmplInputFile input) {
+            this.input = input;
+        }
+
+        @Override
+        public String getFileName() {
+            return input.getFileName();
+        }
+
+        @Override
+        public void write(BufferedWriter writer, StringToIntMapper<AmplSubset> stringToIntMapper) throws IOException {
+            OpenReacNetworkExportEvent export = exportEvent;
+            if (export != null && export.isEnabled()) {
+                CountingWriter countingWriter = new CountingWriter(writer);
+                // not closed, the writer of the AMPL executor being closed by itself
+                BufferedWriter countedWriter = new BufferedWriter(countingWriter);
+                input.write(countedWriter, stringToIntMapper);
+                countedWriter.flush();
+                inputFilesWritten.incrementAndGet();
+                inputBytesWritten.addAndGet(countingWriter.bytes);
+            } else {
+                input.write(writer, stringToIntMapper);
+            }
+            inputsWrittenNanos = System.nanoTime();
+            if (export != null) {
+                // the export ends, and the AMPL process starts, with the writing of the last input
+                export.end();
+                processEvent.begin();
+            }
+        }
+    }
+
+    /**
+     * Measures the reading of the outputs, and marks the end of the AMPL process with the first one.
+     */
+    private final class TimedOutputFile implements AmplOutputFile {
+
+        private final AmplOutputFile output;
+
+        private TimedOutputFile(AmplOutputFile output) {
+            this.output = output;
+        }
+
+        @Override
+        public String getFileName() {
+            return output.getFileName();
+        }
+
+        @Override
+        public boolean throwOnMissingFile() {
+            return output.throwOnMissingFile();
+        }
+
+        @Override
+        public void read(BufferedReader reader, StringToIntMapper<AmplSubset> stringToIntMapper) throws IOException {
+            OpenReacTimings.Timer timer = timings.start();
+            if (outputsReadNanos == 0) {
+                outputsReadNanos = System.nanoTime();
+                OpenReacAmplProcessEvent process = processEvent;
+                if (process != null) {
+                    process.end();
+                }
+            }
+            OpenReacOutputParsingEvent event = new OpenReacOutputParsingEvent();
+            CountingReader countingReader = event.isEnabled() ? new CountingReader(reader) : null;
+            event.begin();
+            try {
+                output.read(countingReader != null ? new BufferedReader(countingReader) : reader, stringToIntMapper);
+            } finally {
+                event.end();
+                timer.stop(OpenReacTimings.Phase.OUTPUT_PARSING);
+                if (event.shouldCommit()) {
+                    event.setNetwork(networkId, variantId);
+                    event.setFile(output.getFileName(), countingReader != null ? countingReader.bytes : -1);
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes of the characters written, in UTF-8.
+     */
+    private static final class CountingWriter extends FilterWriter {
+
+        private long bytes;
+
+        private CountingWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            bytes += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            super.write(cbuf, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            super.write(str, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(str.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes of the characters read, in UTF-8.
+     */
+    private static final class CountingReader extends FilterReader {
+
+        private long bytes;
+
+        private CountingReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+                bytes += utf8Length((char) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int n = super.read(cbuf, off, len);
+            for (int i = off; i < off + n; i++) {
+                bytes += utf8Length(cbuf[i]);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * A surrogate pair counting 4 bytes, each of its characters counts 2.
+     */
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        return c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+    }
 }
@@ -13,16 +13,16 @@ import com.powsybl.openreac.parameters.AmplIOUtils;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.util.List;
+import java.util.Collection;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
  */
 public abstract class AbstractElementsInput implements AmplInputFile {
 
-    private final List<String> elementIds;
+    private final Collection<String> elementIds;
 
-    protected AbstractElementsInput(List<String> elementIds) {
+    protected AbstractElementsInput(Collection<String> elementIds) {
         this.elementIds = elementIds;
     }
 
@@ -8,7 +8,7 @@ package com.powsybl.openreac.parameters.input;
 
 import com.powsybl.ampl.converter.AmplSubset;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * @author Pierre Arvy {@literal <pierre.arvy at artelys.com>}
@@ -16,7 +16,7 @@ import java.util.List;
 public class ConfiguredBusesWithReactiveSlack extends AbstractElementsInput {
     public static final String PARAM_BUSES_FILE_NAME = "param_buses_with_reactive_slack.txt";
 
-    public ConfiguredBusesWithReactiveSlack(List<String> elementIds) {
+    public ConfiguredBusesWithReactiveSlack(Collection<String> elementIds) {
         super(elementIds);
     }
 
@@ -8,7 +8,7 @@ package com.powsybl.openreac.parameters.input;
 
 import com.powsybl.ampl.converter.AmplSubset;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -20,7 +20,7 @@ public class ConstantQGenerators extends AbstractElementsInput {
 
     public static final String PARAM_GENERATOR_FILE_NAME = "param_generators_reactive.txt";
 
-    public ConstantQGenerators(List<String> elementIds) {
+    public ConstantQGenerators(Collection<String> elementIds) {
         super(elementIds);
     }
 
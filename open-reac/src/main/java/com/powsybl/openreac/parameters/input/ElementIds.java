@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import java.util.*;
+
+/**
+ * List of element ids without duplicates: adding an id already in the list does nothing and returns
+ * <code>false</code>, and {@link #contains} is a hash lookup. The ids are kept in insertion order and can be
+ * removed, directly or through an iterator. Inserting or replacing an id at a position is not supported.
+ * <p>
+ * Not thread-safe: the ids must not be changed while the parameters are used by a run.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+final class ElementIds extends AbstractList<String> implements RandomAccess {
+
+    private final List<String> ids = new ArrayList<>();
+    private final Set<String> idSet = new LinkedHashSet<>();
+
+    @Override
+    public boolean add(String id) {
+        if (!idSet.add(Objects.requireNonNull(id))) {
+            return false;
+        }
+        ids.add(id);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public String get(int index) {
+        return ids.get(index);
+    }
+
+    @Override
+    public String remove(int index) {
+        String id = ids.remove(index);
+        idSet.remove(id);
+        modCount++;
+        return id;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!idSet.remove(o)) {
+            return false;
+        }
+        ids.remove(o);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        ids.clear();
+        idSet.clear();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return ids.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return idSet.contains(o);
+    }
+
+    /**
+     * @return an unmodifiable view of the ids, in insertion order.
+     */
+    Set<String> asSet() {
+        return Collections.unmodifiableSet(idSet);
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Selection of network elements, as an alternative to the lists of element ids of {@link OpenReacParameters}.
+ * The selectors are only resolved on the network when the AMPL inputs are built, in one pass over each element type,
+ * see {@link OpenReacParameters#resolveElements(Network)}.
+ * <p>
+ * An element is located by its voltage levels: the voltage level of its terminal for an injection or a bus, the ones
+ * of its two terminals for a transformer. An element matches a voltage level based selector if one of its voltage
+ * levels matches.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class ElementSelector {
+
+    public enum Type {
+        ALL,
+        NOMINAL_VOLTAGE_RANGE,
+        SUBSTATIONS,
+        COUNTRIES,
+        PREDICATE
+    }
+
+    private static final ElementSelector ALL = new ElementSelector(Type.ALL, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Set.of(), Set.of(), null);
+
+    private final Type type;
+    private final double minNominalV;
+    private final double maxNominalV;
+    private final Set<String> substationIds;
+    private final Set<Country> countries;
+    private final Predicate<Identifiable<?>> predicate;
+
+    private ElementSelector(Type type, double minNominalV, double maxNominalV, Set<String> substationIds,
+                            Set<Country> countries, Predicate<Identifiable<?>> predicate) {
+        this.type = type;
+        this.minNominalV = minNominalV;
+        this.maxNominalV = maxNominalV;
+        this.substationIds = substationIds;
+        this.countries = countries;
+        this.predicate = predicate;
+    }
+
+    /**
+     * All the elements of the network.
+     */
+    public static ElementSelector all() {
+        return ALL;
+    }
+
+    /**
+     * The elements with a voltage level whose nominal voltage is in [minNominalV, maxNominalV], in kV. Bounds may be
+     * infinite.
+     */
+    public static ElementSelector nominalVoltageRange(double minNominalV, double maxNominalV) {
+        if (Double.isNaN(minNominalV) || Double.isNaN(maxNominalV) || minNominalV > maxNominalV) {
+            throw new IllegalArgumentException("Nominal voltage range of element selector must be a valid interval to be consistent.");
+        }
+        return new ElementSelector(Type.NOMINAL_VOLTAGE_RANGE, minNominalV, maxNominalV, Set.of(), Set.of(), null);
+    }
+
+    /**
+     * The elements with a voltage level in one of the given substations.
+     */
+    public static ElementSelector substations(Collection<String> substationIds) {
+        return new ElementSelector(Type.SUBSTATIONS, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Collections.unmodifiableSet(new LinkedHashSet<>(substationIds)), Set.of(), null);
+    }
+
+    /**
+     * The elements with a voltage level in a substation of one of the given countries.
+     */
+    public static ElementSelector countries(Collection<Country> countries) {
+        Set<Country> countrySet = countries.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(countries));
+        return new ElementSelector(Type.COUNTRIES, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Set.of(), countrySet, null);
+    }
+
+    /**
+     * The elements matching the given predicate. Such a selector cannot be serialized.
+     */
+    public static ElementSelector predicate(Predicate<Identifiable<?>> predicate) {
+        return new ElementSelector(Type.PREDICATE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Set.of(), Set.of(), Objects.requireNonNull(predicate));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public double getMinNominalV() {
+        return minNominalV;
+    }
+
+    public double getMaxNominalV() {
+        return maxNominalV;
+    }
+
+    public Set<String> getSubstationIds() {
+        return substationIds;
+    }
+
+    public Set<Country> getCountries() {
+        return countries;
+    }
+
+    /**
+     * @return true if the element is selected.
+     */
+    public boolean test(Identifiable<?> element) {
+        return switch (type) {
+            case ALL -> true;
+            case NOMINAL_VOLTAGE_RANGE -> voltageLevels(element)
+                    .anyMatch(vl -> vl.getNominalV() >= minNominalV && vl.getNominalV() <= maxNominalV);
+            case SUBSTATIONS -> voltageLevels(element)
+                    .anyMatch(vl -> vl.getSubstation().map(s -> substationIds.contains(s.getId())).orElse(false));
+            case COUNTRIES -> voltageLevels(element)
+                    .anyMatch(vl -> vl.getSubstation().flatMap(Substation::getCountry).map(countries::contains).orElse(false));
+            case PREDICATE -> predicate.test(element);
+        };
+    }
+
+    private static Stream<VoltageLevel> voltageLevels(Identifiable<?> element) {
+        if (element instanceof Bus bus) {
+            return Stream.of(bus.getVoltageLevel());
+        } else if (element instanceof Connectable<?> connectable) {
+            return connectable.getTerminals().stream().map(Terminal::getVoltageLevel);
+        }
+        return Stream.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ElementSelector that = (ElementSelector) o;
+        return type == that.type
+                && Double.compare(minNominalV, that.minNominalV) == 0
+                && Double.compare(maxNominalV, that.maxNominalV) == 0
+                && substationIds.equals(that.substationIds)
+                && countries.equals(that.countries)
+                && Objects.equals(predicate, that.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, minNominalV, maxNominalV, substationIds, countries, predicate);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case ALL -> "ElementSelector(ALL)";
+            case NOMINAL_VOLTAGE_RANGE -> "ElementSelector(NOMINAL_VOLTAGE_RANGE, " + minNominalV + ", " + maxNominalV + ")";
+            case SUBSTATIONS -> "ElementSelector(SUBSTATIONS, " + substationIds + ")";
+            case COUNTRIES -> "ElementSelector(COUNTRIES, " + countries + ")";
+            case PREDICATE -> "ElementSelector(PREDICATE)";
+        };
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Network findings of {@link OpenReacParameters#validate}, kept for the inputs written afterwards so that they do
+ * not walk the network again.
+ * <p>
+ * All the checks on an element type are run in a single parallel traversal of the elements, see
+ * {@link #collectFindings}: each thread gathers its findings in its own buffer, and the buffers are concatenated
+ * in the order of the elements, so the findings, and the reports and logs built from them, do not depend on
+ * the scheduling.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class NetworkValidation {
+
+    private final Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange;
+
+    NetworkValidation(Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange) {
+        this.voltageLevelsWithLimitsOutOfNominalVRange = Collections.unmodifiableMap(voltageLevelsWithLimitsOutOfNominalVRange);
+    }
+
+    /**
+     * @return the voltage levels whose limits, after overrides, are out of the range of their nominal voltage, in
+     * the order of the network.
+     */
+    public Map<String, VoltageLevelLimitInfo> getVoltageLevelsWithLimitsOutOfNominalVRange() {
+        return voltageLevelsWithLimitsOutOfNominalVRange;
+    }
+
+    /**
+     * Runs the check on every element, in parallel, and returns the findings in the order of the elements.
+     * The check must only read attributes of the element that are not variant dependent, or the working variant
+     * must be accessible from several threads.
+     *
+     * @param check called with an element and the consumer of its findings.
+     */
+    static <T, F> List<F> collectFindings(Stream<T> elements, BiConsumer<T, Consumer<F>> check) {
+        return elements.parallel()
+                .collect(ArrayList<F>::new, (buffer, element) -> check.accept(element, buffer::add), ArrayList::addAll);
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.iidm.network.*;
+import com.powsybl.openreac.parameters.input.OpenReacParameters.BranchFinding;
+import com.powsybl.openreac.parameters.input.OpenReacParameters.VoltageLevelFinding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Cache of the network checks of {@link OpenReacParameters#validate}, attached to the network as an extension: the
+ * findings of each branch and of each voltage level without voltage limit override are kept, and only the elements
+ * changed since the previous validation are checked again.
+ * <p>
+ * A listener of the network evicts an element on its removal and on the update of one of its attributes that are
+ * not variant dependent (limits, impedances, nominal voltage, connection bus...). The branches of a voltage level
+ * are evicted on the change of its nominal voltage, the branches of a substation on the change of its country.
+ * The checked attributes are not variant dependent, so the cache serves all the variants of the network. The branch
+ * findings are kept per low impedance threshold of the parameters, so that validations with different thresholds,
+ * possibly running concurrently, do not share them.
+ * <p>
+ * Removing the extension from the network removes the listener.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class NetworkValidationCache extends AbstractExtension<Network> {
+
+    public static final String NAME = "openReacValidationCache";
+
+    private final NetworkListener listener = new ChangeListener();
+    private final Map<Double, Map<String, List<BranchFinding>>> branchFindings = new ConcurrentHashMap<>();
+    private final Map<String, List<VoltageLevelFinding>> voltageLevelFindings = new ConcurrentHashMap<>();
+
+    private NetworkValidationCache(Network network) {
+        super(network);
+        network.addListener(listener);
+    }
+
+    /**
+     * @return the cache attached to the network, attached first if absent.
+     */
+    public static synchronized NetworkValidationCache attach(Network network) {
+        NetworkValidationCache cache = network.getExtension(NetworkValidationCache.class);
+        if (cache == null) {
+            cache = new NetworkValidationCache(network);
+            network.addExtension(NetworkValidationCache.class, cache);
+        }
+        return cache;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void cleanup() {
+        getExtendable().removeListener(listener);
+        invalidateAll();
+    }
+
+    /**
+     * Evicts all the findings, for the next validation to check every element.
+     */
+    public void invalidateAll() {
+        branchFindings.clear();
+        voltageLevelFindings.clear();
+    }
+
+    /**
+     * @param lowImpedanceThreshold the low impedance threshold the findings are checked with.
+     */
+    List<BranchFinding> getBranchFindings(double lowImpedanceThreshold, Branch<?> branch,
+                                          BiConsumer<Branch<?>, Consumer<BranchFinding>> check) {
+        return branchFindings.computeIfAbsent(lowImpedanceThreshold, threshold -> new ConcurrentHashMap<>())
+                .computeIfAbsent(branch.getId(), id -> collect(branch, check));
+    }
+
+    List<VoltageLevelFinding> getVoltageLevelFindings(VoltageLevel voltageLevel, BiConsumer<VoltageLevel, Consumer<VoltageLevelFinding>> check) {
+        return voltageLevelFindings.computeIfAbsent(voltageLevel.getId(), id -> collect(voltageLevel, check));
+    }
+
+    boolean isBranchCached(double lowImpedanceThreshold, String branchId) {
+        Map<String, List<BranchFinding>> findings = branchFindings.get(lowImpedanceThreshold);
+        return findings != null && findings.containsKey(branchId);
+    }
+
+    boolean isVoltageLevelCached(String voltageLevelId) {
+        return voltageLevelFindings.containsKey(voltageLevelId);
+    }
+
+    private static <T, F> List<F> collect(T element, BiConsumer<T, Consumer<F>> check) {
+        List<F> findings = new ArrayList<>(1);
+        check.accept(element, findings::add);
+        return findings.isEmpty() ? List.of() : List.copyOf(findings);
+    }
+
+    private void invalidateBranches(VoltageLevel voltageLevel) {
+        voltageLevel.getLineStream().forEach(line -> invalidateBranch(line.getId()));
+        voltageLevel.getTwoWindingsTransformerStream().forEach(twt -> invalidateBranch(twt.getId()));
+    }
+
+    private void invalidateBranch(String branchId) {
+        branchFindings.values().forEach(findings -> findings.remove(branchId));
+    }
+
+    private void invalidate(Identifiable<?> identifiable) {
+        if (identifiable instanceof Branch<?>) {
+            invalidateBranch(identifiable.getId());
+        } else if (identifiable instanceof VoltageLevel voltageLevel) {
+            voltageLevelFindings.remove(voltageLevel.getId());
+        }
+    }
+
+    private final class ChangeListener implements NetworkListener {
+
+        @Override
+        public void beforeRemoval(Identifiable<?> identifiable) {
+            invalidate(identifiable);
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (variantId != null) {
+                // injections, taps, flows... are not checked
+                return;
+            }
+            invalidate(identifiable);
+            if (identifiable instanceof VoltageLevel voltageLevel && "nominalV".equals(attribute)) {
+                invalidateBranches(voltageLevel);
+            } else if (identifiable instanceof Substation substation) {
+                substation.getVoltageLevelStream().forEach(NetworkValidationCache.this::invalidateBranches);
+            }
+        }
+    }
+}
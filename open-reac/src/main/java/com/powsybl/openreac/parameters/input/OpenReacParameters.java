@@ -9,6 +9,7 @@ package com.powsybl.openreac.parameters.input;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Branch;
 import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
@@ -22,6 +23,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
@@ -38,13 +41,21 @@ public class OpenReacParameters {
 
     private final List<VoltageLimitOverride> specificVoltageLimits = new ArrayList<>();
 
-    private final List<String> variableShuntCompensators = new ArrayList<>();
+    private final ElementIds variableShuntCompensators = new ElementIds();
 
-    private final List<String> constantQGenerators = new ArrayList<>();
+    private final ElementIds constantQGenerators = new ElementIds();
 
-    private final List<String> variableTwoWindingsTransformers = new ArrayList<>();
+    private final ElementIds variableTwoWindingsTransformers = new ElementIds();
 
-    private final List<String> configuredReactiveSlackBuses = new ArrayList<>();
+    private final ElementIds configuredReactiveSlackBuses = new ElementIds();
+
+    private final List<ElementSelector> variableShuntCompensatorSelectors = new ArrayList<>();
+
+    private final List<ElementSelector> constantQGeneratorSelectors = new ArrayList<>();
+
+    private final List<ElementSelector> variableTwoWindingsTransformerSelectors = new ArrayList<>();
+
+    private final List<ElementSelector> configuredReactiveSlackBusSelectors = new ArrayList<>();
 
     private static final String NOT_FOUND_IN_NETWORK = " not found in the network.";
 
@@ -168,6 +179,15 @@ public class OpenReacParameters {
 
     private double shuntCompensatorActivationAlertThreshold;
 
+    // Maximum number of detail nodes reported per category (voltage levels, branches, shunt compensators, ...),
+    // the number of elements of each category is always reported
+
+    private int reportDetailsLimit = 100;
+
+    // Priority of the run in the admission of the AMPL processes, higher first, see OpenReacConfig#setAdmissionController
+
+    private int priority = 0;
+
     /**
      * Override some voltage level limits in the network. This will NOT modify the network object.
      * <p>
@@ -186,52 +206,144 @@ public class OpenReacParameters {
     /**
      * A list of shunt compensators, which susceptance will be considered as variable by the optimizer.
      * The optimizer computes a continuous value that is rounded when results are stored in {@link com.powsybl.openreac.parameters.output.OpenReacResult}.
+     * Ids already in the list are ignored.
      */
     public OpenReacParameters addVariableShuntCompensators(List<String> shuntsIds) {
         this.variableShuntCompensators.addAll(shuntsIds);
         return this;
     }
 
+    /**
+     * The shunt compensators selected on the network are added to {@link #getVariableShuntCompensators()}.
+     */
+    public OpenReacParameters addVariableShuntCompensatorSelector(ElementSelector selector) {
+        this.variableShuntCompensatorSelectors.add(Objects.requireNonNull(selector));
+        return this;
+    }
+
+    /**
+     * @return the ids of the variable shunt compensators, without duplicates: adding an id already in the list does nothing
+     * and returns <code>false</code>. Ids can be removed, but not inserted or replaced at a position.
+     */
     public List<String> getVariableShuntCompensators() {
         return variableShuntCompensators;
     }
 
+    public List<ElementSelector> getVariableShuntCompensatorSelectors() {
+        return variableShuntCompensatorSelectors;
+    }
+
     /**
      * The reactive power produced by every generator in the list will be constant and equal to `targetQ`.
+     * Ids already in the list are ignored.
      */
     public OpenReacParameters addConstantQGenerators(List<String> generatorsIds) {
         this.constantQGenerators.addAll(generatorsIds);
         return this;
     }
 
+    /**
+     * The generators selected on the network are added to {@link #getConstantQGenerators()}.
+     */
+    public OpenReacParameters addConstantQGeneratorSelector(ElementSelector selector) {
+        this.constantQGeneratorSelectors.add(Objects.requireNonNull(selector));
+        return this;
+    }
+
+    /**
+     * @return the ids of the constant Q generators, without duplicates: adding an id already in the list does nothing
+     * and returns <code>false</code>. Ids can be removed, but not inserted or replaced at a position.
+     */
     public List<String> getConstantQGenerators() {
         return constantQGenerators;
     }
 
+    public List<ElementSelector> getConstantQGeneratorSelectors() {
+        return constantQGeneratorSelectors;
+    }
+
     /**
      * A list of two windings transformers, which ratio will be considered as variable by the optimizer.
+     * Ids already in the list are ignored.
      */
     public OpenReacParameters addVariableTwoWindingsTransformers(List<String> transformerIds) {
         this.variableTwoWindingsTransformers.addAll(transformerIds);
         return this;
     }
 
+    /**
+     * The two windings transformers selected on the network are added to {@link #getVariableTwoWindingsTransformers()}.
+     */
+    public OpenReacParameters addVariableTwoWindingsTransformerSelector(ElementSelector selector) {
+        this.variableTwoWindingsTransformerSelectors.add(Objects.requireNonNull(selector));
+        return this;
+    }
+
+    /**
+     * @return the ids of the variable two windings transformers, without duplicates: adding an id already in the list does nothing
+     * and returns <code>false</code>. Ids can be removed, but not inserted or replaced at a position.
+     */
     public List<String> getVariableTwoWindingsTransformers() {
         return variableTwoWindingsTransformers;
     }
 
+    public List<ElementSelector> getVariableTwoWindingsTransformerSelectors() {
+        return variableTwoWindingsTransformerSelectors;
+    }
+
     /**
      * A list of buses, to which reactive slacks variable will be attached by the optimizer.
+     * Ids already in the list are ignored.
      */
     public OpenReacParameters addConfiguredReactiveSlackBuses(List<String> busesIds) {
         this.configuredReactiveSlackBuses.addAll(busesIds);
         return this;
     }
 
+    /**
+     * The buses of the bus view selected on the network are added to {@link #getConfiguredReactiveSlackBuses()}.
+     */
+    public OpenReacParameters addConfiguredReactiveSlackBusSelector(ElementSelector selector) {
+        this.configuredReactiveSlackBusSelectors.add(Objects.requireNonNull(selector));
+        return this;
+    }
+
+    /**
+     * @return the ids of the configured reactive slack buses, without duplicates: adding an id already in the list does nothing
+     * and returns <code>false</code>. Ids can be removed, but not inserted or replaced at a position.
+     */
     public List<String> getConfiguredReactiveSlackBuses() {
         return configuredReactiveSlackBuses;
     }
 
+    public List<ElementSelector> getConfiguredReactiveSlackBusSelectors() {
+        return configuredReactiveSlackBusSelectors;
+    }
+
+    /**
+     * Resolves the element selectors on the working variant of the network, in one pass over each element type
+     * with selectors. Without selectors, the explicit ids are returned as is.
+     */
+    public ResolvedElements resolveElements(Network network) {
+        return new ResolvedElements(
+                resolveElements(variableShuntCompensators, variableShuntCompensatorSelectors, network::getShuntCompensatorStream),
+                resolveElements(constantQGenerators, constantQGeneratorSelectors, network::getGeneratorStream),
+                resolveElements(variableTwoWindingsTransformers, variableTwoWindingsTransformerSelectors, network::getTwoWindingsTransformerStream),
+                resolveElements(configuredReactiveSlackBuses, configuredReactiveSlackBusSelectors, () -> network.getBusView().getBusStream()));
+    }
+
+    private static Set<String> resolveElements(ElementIds ids, List<ElementSelector> selectors,
+                                               Supplier<Stream<? extends Identifiable<?>>> elements) {
+        if (selectors.isEmpty()) {
+            return ids.asSet();
+        }
+        Set<String> resolvedIds = new LinkedHashSet<>(ids.asSet());
+        elements.get()
+                .filter(element -> selectors.stream().anyMatch(selector -> selector.test(element)))
+                .forEach(element -> resolvedIds.add(element.getId()));
+        return Collections.unmodifiableSet(resolvedIds);
+    }
+
     /**
      * The definition of the objective function for the optimization.
      */
@@ -745,6 +857,33 @@ public class OpenReacParameters {
         return this;
     }
 
+    /**
+     * @return the maximum number of detail nodes reported per category
+     */
+    public int getReportDetailsLimit() {
+        return reportDetailsLimit;
+    }
+
+    public OpenReacParameters setReportDetailsLimit(int reportDetailsLimit) {
+        if (reportDetailsLimit < 0) {
+            throw new IllegalArgumentException("The report details limit must be >= 0 to be consistent.");
+        }
+        this.reportDetailsLimit = reportDetailsLimit;
+        return this;
+    }
+
+    /**
+     * @return the priority of the run when its AMPL process waits for admission, higher first
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    public OpenReacParameters setPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
     public List<OpenReacAlgoParam> getAllAlgorithmParams() {
         ArrayList<OpenReacAlgoParam> allAlgoParams = new ArrayList<>();
         allAlgoParams.add(objective.toParam());
@@ -791,23 +930,25 @@ public class OpenReacParameters {
         return allAlgoParams;
     }
 
-    private void checkLowAndHighVoltageLimitIntegrity(Network network, boolean integrityVoltageLimitOverrides,
+    private void checkLowAndHighVoltageLimitIntegrity(List<VoltageLevelFinding> voltageLevelFindings, boolean integrityVoltageLimitOverrides,
                                                       Map<String, Pair<Double, Double>> voltageLevelsWithInconsistentLimits,
                                                       ReportNode reportNode) {
         Map<String, Pair<Integer, Integer>> voltageLevelsWithMissingLimits = new TreeMap<>();
 
         // Check integrity of low/high voltage limits, taking into account voltage limit overrides
-        boolean integrityVoltageLevelLimits = checkLowVoltageLevelLimits(network, voltageLevelsWithMissingLimits);
-        integrityVoltageLevelLimits &= checkHighVoltageLevelLimits(network, voltageLevelsWithMissingLimits);
+        boolean integrityVoltageLevelLimits = checkLowVoltageLevelLimits(voltageLevelFindings, voltageLevelsWithMissingLimits);
+        integrityVoltageLevelLimits &= checkHighVoltageLevelLimits(voltageLevelFindings, voltageLevelsWithMissingLimits);
 
         if (!integrityVoltageLevelLimits || !integrityVoltageLimitOverrides) {
             if (!voltageLevelsWithMissingLimits.isEmpty()) {
                 Reports.reportNbVoltageLevelsWithMissingLimits(reportNode, voltageLevelsWithMissingLimits.size());
-                voltageLevelsWithMissingLimits.forEach((vlId, value) -> Reports.reportMissingLimitsOnVoltageLevel(reportNode, getMissingLimitsMessageKey(value), vlId));
+                Reports.reportDetails(reportNode, voltageLevelsWithMissingLimits.entrySet(), reportDetailsLimit,
+                    (node, e) -> Reports.reportMissingLimitsOnVoltageLevel(node, getMissingLimitsMessageKey(e.getValue()), e.getKey()));
             }
             if (!voltageLevelsWithInconsistentLimits.isEmpty()) {
                 Reports.reportNbVoltageLevelsWithInconsistentLimits(reportNode, voltageLevelsWithInconsistentLimits.size());
-                voltageLevelsWithInconsistentLimits.forEach((key, value) -> Reports.reportInconsistentLimitsOnVoltageLevel(reportNode, key, value));
+                Reports.reportDetails(reportNode, voltageLevelsWithInconsistentLimits.entrySet(), reportDetailsLimit,
+                    (node, e) -> Reports.reportInconsistentLimitsOnVoltageLevel(node, e.getKey(), e.getValue()));
             }
 
             if (!integrityVoltageLevelLimits) {
@@ -870,44 +1011,63 @@ public class OpenReacParameters {
         List<BranchImpedanceInfo> problematicNonFrenchBranches = new ArrayList<>();
         List<LowImpedanceBranchInfo> branchesWithLowImpedances = new ArrayList<>();
 
-        // Check all branches
-        Stream.<Branch<?>>concat(
+        // Check all branches, in a single parallel traversal, the unchanged ones being skipped if the network has a cache
+        NetworkValidationCache cache = network.getExtension(NetworkValidationCache.class);
+        double threshold = lowImpedanceThreshold;
+        List<BranchFinding> findings = NetworkValidation.collectFindings(Stream.<Branch<?>>concat(
                 network.getLineStream(),
                 network.getTwoWindingsTransformerStream()
-        ).forEach(branch ->
-            checkBranchImpedanceRatio(branch, branchesWithLowImpedances, violatingFrenchBranches, problematicFrenchBranches, problematicNonFrenchBranches)
-        );
+        ), (branch, consumer) -> {
+            if (cache != null) {
+                cache.getBranchFindings(threshold, branch, this::checkBranchImpedanceRatio).forEach(consumer);
+            } else {
+                checkBranchImpedanceRatio(branch, consumer);
+            }
+        });
+        for (BranchFinding finding : findings) {
+            if (finding instanceof LowImpedanceBranchInfo lowImpedanceBranch) {
+                branchesWithLowImpedances.add(lowImpedanceBranch);
+            } else if (finding instanceof BranchImpedanceInfo branch) {
+                if (branch.french && branch.ratio > 10) {
+                    violatingFrenchBranches.add(branch);
+                } else if (branch.french) {
+                    problematicFrenchBranches.add(branch);
+                } else {
+                    problematicNonFrenchBranches.add(branch);
+                }
+            }
+        }
 
         // Report branches with low impedance
         if (!branchesWithLowImpedances.isEmpty()) {
             Reports.reportNbBranchesWithLowImpedance(reportNode, branchesWithLowImpedances.size());
-            branchesWithLowImpedances.forEach(branch -> {
-                Reports.reportBranchWithLowImpedance(reportNode, branch.id, branch.r, branch.x, branch.thresholdOhms);
+            Reports.reportDetails(reportNode, branchesWithLowImpedances, reportDetailsLimit,
+                (node, branch) -> Reports.reportBranchWithLowImpedance(node, branch.id, branch.r, branch.x, branch.thresholdOhms));
+            branchesWithLowImpedances.forEach(branch ->
                 LOGGER.warn("Branch with low impedance: '{}': r={} Ω, x={} Ω (threshold={} Ω) [Vnom1={} kV, Vnom2={} kV]",
-                    branch.id, branch.r, branch.x, branch.thresholdOhms, branch.vNom1, branch.vNom2);
-            });
+                    branch.id, branch.r, branch.x, branch.thresholdOhms, branch.vNom1, branch.vNom2));
         }
 
         // Report warnings for French branches
         if (!problematicFrenchBranches.isEmpty()) {
             Reports.reportNbFrenchBranchesWithAcceptableHighImpedanceRatio(reportNode, problematicFrenchBranches.size());
-            problematicFrenchBranches.forEach(branch -> {
-                Reports.reportFrenchBranchWithAcceptableHighImpedanceRatio(reportNode, branch.id,
-                                                                           branch.r, branch.x, branch.ratio);
+            Reports.reportDetails(reportNode, problematicFrenchBranches, reportDetailsLimit,
+                (node, branch) -> Reports.reportFrenchBranchWithAcceptableHighImpedanceRatio(node, branch.id,
+                                                                                             branch.r, branch.x, branch.ratio));
+            problematicFrenchBranches.forEach(branch ->
                 LOGGER.warn("French branch with high impedance ratio: '{}': r={} Ω, x={} Ω (r/|x|={}) [Vnom1={} kV, Vnom2={} kV]",
-                    branch.id, branch.r, branch.x, branch.ratio, branch.vNom1, branch.vNom2);
-            });
+                    branch.id, branch.r, branch.x, branch.ratio, branch.vNom1, branch.vNom2));
         }
 
         // Report warnings for non-French branches
         if (!problematicNonFrenchBranches.isEmpty()) {
             Reports.reportNbNonFrenchBranchesWithHighImpedanceRatio(reportNode, problematicNonFrenchBranches.size());
-            problematicNonFrenchBranches.forEach(branch -> {
-                Reports.reportNonFrenchBranchWithHighImpedanceRatio(reportNode, branch.id,
-                                                                    branch.r, branch.x, branch.ratio);
+            Reports.reportDetails(reportNode, problematicNonFrenchBranches, reportDetailsLimit,
+                (node, branch) -> Reports.reportNonFrenchBranchWithHighImpedanceRatio(node, branch.id,
+                                                                                      branch.r, branch.x, branch.ratio));
+            problematicNonFrenchBranches.forEach(branch ->
                 LOGGER.warn("Non-French branch with high impedance ratio: '{}': r={} Ω, x={} Ω (r/|x|={}) [Vnom1={} kV, Vnom2={} kV]",
-                    branch.id, branch.r, branch.x, branch.ratio, branch.vNom1, branch.vNom2);
-            });
+                    branch.id, branch.r, branch.x, branch.ratio, branch.vNom1, branch.vNom2));
         }
 
         // Report and throw error for French branches
@@ -915,9 +1075,10 @@ public class OpenReacParameters {
             Reports.reportNbFrenchBranchesWithHighImpedanceRatio(reportNode, violatingFrenchBranches.size());
             StringBuilder errorMessage = new StringBuilder();
             errorMessage.append("The following French branches have r > 10 * |x|, which is not supported by OpenReac:\n");
+            Reports.reportDetails(reportNode, violatingFrenchBranches, reportDetailsLimit,
+                (node, branch) -> Reports.reportFrenchBranchWithHighImpedanceRatio(node, branch.id,
+                                                                                   branch.r, branch.x, branch.ratio));
             violatingFrenchBranches.forEach(branch -> {
-                Reports.reportFrenchBranchWithHighImpedanceRatio(reportNode, branch.id,
-                                                                 branch.r, branch.x, branch.ratio);
                 String message = String.format("'%s': r=%.6f Ω, x=%.6f Ω (r/|x|=%.2f) [Vnom1=%.1f kV, Vnom2=%.1f kV]",
                     branch.id, branch.r, branch.x, branch.ratio, branch.vNom1, branch.vNom2);
                 errorMessage.append("  - ").append(message).append("\n");
@@ -927,9 +1088,7 @@ public class OpenReacParameters {
         }
     }
 
-    private void checkBranchImpedanceRatio(Branch<?> branch, List<LowImpedanceBranchInfo> branchesWithLowImpedances,
-                                           List<BranchImpedanceInfo> violatingFrenchBranches, List<BranchImpedanceInfo> problematicFrenchBranches,
-                                           List<BranchImpedanceInfo> problematicNonFrenchBranches) {
+    private void checkBranchImpedanceRatio(Branch<?> branch, Consumer<BranchFinding> findings) {
         double r = getR(branch);  // in Ohms
         double x = getX(branch);  // in Ohms
         double vNom1 = branch.getTerminal1().getVoltageLevel().getNominalV();
@@ -940,7 +1099,7 @@ public class OpenReacParameters {
 
         // Check if impedance is too low
         if (r * r + x * x <= lowImpedanceThresholdOhms * lowImpedanceThresholdOhms) {
-            branchesWithLowImpedances.add(new LowImpedanceBranchInfo(branch.getId(), r, x, vNom1, vNom2, lowImpedanceThresholdOhms));
+            findings.accept(new LowImpedanceBranchInfo(branch.getId(), r, x, vNom1, vNom2, lowImpedanceThresholdOhms));
             x = lowImpedanceThresholdOhms;
         }
 
@@ -953,13 +1112,7 @@ public class OpenReacParameters {
         double ratio = r / Math.abs(x);
 
         if (ratio > 1) {
-            if (isFrench && ratio > 10) {
-                violatingFrenchBranches.add(new BranchImpedanceInfo(branch.getId(), r, x, ratio, vNom1, vNom2));
-            } else if (isFrench) {
-                problematicFrenchBranches.add(new BranchImpedanceInfo(branch.getId(), r, x, ratio, vNom1, vNom2));
-            } else {
-                problematicNonFrenchBranches.add(new BranchImpedanceInfo(branch.getId(), r, x, ratio, vNom1, vNom2));
-            }
+            findings.accept(new BranchImpedanceInfo(branch.getId(), r, x, ratio, vNom1, vNom2, isFrench));
         }
     }
 
@@ -997,14 +1150,39 @@ public class OpenReacParameters {
      * Record to store branch information for impedance ratio validation and reporting
      * Used to collect and report branches with high r/|x| ratios during the validation
      */
-    private record BranchImpedanceInfo(String id, double r, double x, double ratio, double vNom1, double vNom2) {
+    private record BranchImpedanceInfo(String id, double r, double x, double ratio, double vNom1, double vNom2,
+                                       boolean french) implements BranchFinding {
     }
 
     /**
      * Record to store branch information for impedance value validation and reporting
      * Used to collect and report branches with low impedance
      */
-    private record LowImpedanceBranchInfo(String id, double r, double x, double vNom1, double vNom2, double thresholdOhms) {
+    private record LowImpedanceBranchInfo(String id, double r, double x, double vNom1, double vNom2,
+                                          double thresholdOhms) implements BranchFinding {
+    }
+
+    sealed interface BranchFinding permits BranchImpedanceInfo, LowImpedanceBranchInfo {
+    }
+
+    /**
+     * Voltage level limit undefined in the network, and without a single absolute override.
+     */
+    private record MissingLimit(String voltageLevelId, VoltageLimitOverride.VoltageLimitType type,
+                                boolean relativeOverride) implements VoltageLevelFinding {
+    }
+
+    /**
+     * Voltage level limit far from the nominal voltage, only logged.
+     */
+    private record SuspiciousLimit(String voltageLevelId, VoltageLimitOverride.VoltageLimitType type,
+                                   double limit) implements VoltageLevelFinding {
+    }
+
+    private record LimitsOutOfNominalVRange(VoltageLevelLimitInfo info) implements VoltageLevelFinding {
+    }
+
+    sealed interface VoltageLevelFinding permits MissingLimit, SuspiciousLimit, LimitsOutOfNominalVRange {
     }
 
     /**
@@ -1031,6 +1209,28 @@ public class OpenReacParameters {
      * @throws InvalidParametersException if the parameters contain some incoherences.
      */
     public void checkIntegrity(Network network, ReportNode reportNode) throws InvalidParametersException {
+        validate(network, reportNode);
+    }
+
+    /**
+     * Do some checks on the parameters given, such as provided IDs must correspond to the given network element
+     *
+     * @param network Network on which ID are going to be infered
+     * @throws InvalidParametersException if the parameters contain some incoherences.
+     */
+    public void checkIntegrity(Network network) throws InvalidParametersException {
+        checkIntegrity(network, ReportNode.NO_OP);
+    }
+
+    /**
+     * Same checks as {@link #checkIntegrity(Network, ReportNode)}, each element type of the network being checked
+     * in a single parallel traversal. If a {@link NetworkValidationCache} is attached to the network, the branches and
+     * the voltage levels unchanged since the previous validation are not checked again.
+     *
+     * @return the findings on the network that the AMPL inputs also need, so that they do not walk the network again.
+     * @throws InvalidParametersException if the parameters contain some incoherences.
+     */
+    public NetworkValidation validate(Network network, ReportNode reportNode) throws InvalidParametersException {
         Map<String, Pair<Double, Double>> voltageLevelsWithInconsistentLimits = new TreeMap<>();
 
         for (String shuntId : getVariableShuntCompensators()) {
@@ -1060,23 +1260,71 @@ public class OpenReacParameters {
         // Check integrity of voltage overrides
         boolean integrityVoltageLimitOverrides = checkVoltageLimitOverrides(network, voltageLevelsWithInconsistentLimits);
 
+        // All the voltage level checks in one traversal: low/high voltage limits, taking into account voltage
+        // limit overrides, and limits in the nominal voltage range, for the AMPL inputs
+        Map<String, List<VoltageLimitOverride>> overridesByVoltageLevel = new HashMap<>();
+        specificVoltageLimits.forEach(o -> overridesByVoltageLevel.computeIfAbsent(o.getVoltageLevelId(), k -> new ArrayList<>()).add(o));
+        Map<String, org.jgrapht.alg.util.Pair<Double, Double>> normalizedOverrides = integrityVoltageLimitOverrides
+                ? VoltageLevelLimitsOverrideInput.normalizeVoltageLimits(specificVoltageLimits, network)
+                : Map.of();
+        // The findings of a voltage level without override only depend on the voltage level: they are cached if the
+        // network has a cache
+        NetworkValidationCache cache = network.getExtension(NetworkValidationCache.class);
+        List<VoltageLevelFinding> voltageLevelFindings = NetworkValidation.collectFindings(network.getVoltageLevelStream(),
+                (voltageLevel, findings) -> {
+                    if (cache != null && !overridesByVoltageLevel.containsKey(voltageLevel.getId())) {
+                        cache.getVoltageLevelFindings(voltageLevel, (vl, consumer) -> checkVoltageLevel(vl, overridesByVoltageLevel, normalizedOverrides, consumer))
+                                .forEach(findings);
+                    } else {
+                        checkVoltageLevel(voltageLevel, overridesByVoltageLevel, normalizedOverrides, findings);
+                    }
+                });
+
         // Check integrity of low/high voltage limits, taking into account voltage limit overrides
-        checkLowAndHighVoltageLimitIntegrity(network, integrityVoltageLimitOverrides, voltageLevelsWithInconsistentLimits, reportNode);
+        checkLowAndHighVoltageLimitIntegrity(voltageLevelFindings, integrityVoltageLimitOverrides, voltageLevelsWithInconsistentLimits, reportNode);
 
         boolean integrityAlgorithmParameters = checkAlgorithmParametersIntegrity();
         if (!integrityAlgorithmParameters) {
             throw new InvalidParametersException("At least one algorithm parameter is inconsistent.");
         }
+
+        Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange = new LinkedHashMap<>();
+        for (VoltageLevelFinding finding : voltageLevelFindings) {
+            if (finding instanceof LimitsOutOfNominalVRange outOfRange) {
+                voltageLevelsWithLimitsOutOfNominalVRange.put(outOfRange.info().voltageLevelId(), outOfRange.info());
+            }
+        }
+        return new NetworkValidation(voltageLevelsWithLimitsOutOfNominalVRange);
+    }
+
+    private void checkVoltageLevel(VoltageLevel vl, Map<String, List<VoltageLimitOverride>> overridesByVoltageLevel,
+                                   Map<String, org.jgrapht.alg.util.Pair<Double, Double>> normalizedOverrides,
+                                   Consumer<VoltageLevelFinding> findings) {
+        List<VoltageLimitOverride> overrides = overridesByVoltageLevel.getOrDefault(vl.getId(), List.of());
+        checkVoltageLevelLimit(vl, VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT, overrides, findings);
+        checkVoltageLevelLimit(vl, VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT, overrides, findings);
+        VoltageLevelLimitInfo outOfRange = VoltageLevelLimitsOverrideInput.checkLimitsInNominalVoltageRange(vl, normalizedOverrides);
+        if (outOfRange != null) {
+            findings.accept(new LimitsOutOfNominalVRange(outOfRange));
+        }
     }
 
-    /**
-     * Do some checks on the parameters given, such as provided IDs must correspond to the given network element
-     *
-     * @param network Network on which ID are going to be infered
-     * @throws InvalidParametersException if the parameters contain some incoherences.
-     */
-    public void checkIntegrity(Network network) throws InvalidParametersException {
-        checkIntegrity(network, ReportNode.NO_OP);
+    private static void checkVoltageLevelLimit(VoltageLevel vl, VoltageLimitOverride.VoltageLimitType type,
+                                               List<VoltageLimitOverride> voltageLevelOverrides, Consumer<VoltageLevelFinding> findings) {
+        boolean low = type == VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT;
+        double limit = low ? vl.getLowVoltageLimit() : vl.getHighVoltageLimit();
+        if (Double.isNaN(limit)) {
+            List<VoltageLimitOverride> overrides = voltageLevelOverrides.stream()
+                    .filter(o -> o.getVoltageLimitType() == type)
+                    .toList();
+            if (overrides.size() != 1) {
+                findings.accept(new MissingLimit(vl.getId(), type, false));
+            } else if (overrides.get(0).isRelative()) { // we have one and just one
+                findings.accept(new MissingLimit(vl.getId(), type, true));
+            }
+        } else if (low ? limit < 0.5 * vl.getNominalV() : limit > 1.5 * vl.getNominalV()) {
+            findings.accept(new SuspiciousLimit(vl.getId(), type, limit));
+        }
     }
 
     /**
@@ -1123,58 +1371,50 @@ public class OpenReacParameters {
     }
 
     /**
-     * @param network the network on which voltage levels are verified.
+     * @param voltageLevelFindings the findings of the traversal of the voltage levels.
      * @return true if the low voltage level limits are correct taking into account low voltage limit overrides,
      * false otherwise.
      */
-    boolean checkLowVoltageLevelLimits(Network network, Map<String, Pair<Integer, Integer>> voltageLevelsWithMissingLimits) {
+    private static boolean checkLowVoltageLevelLimits(List<VoltageLevelFinding> voltageLevelFindings,
+                                                      Map<String, Pair<Integer, Integer>> voltageLevelsWithMissingLimits) {
         boolean integrityVoltageLevelLimits = true;
 
-        for (VoltageLevel vl : network.getVoltageLevels()) {
-            double lowLimit = vl.getLowVoltageLimit();
-
-            if (Double.isNaN(lowLimit)) {
-                List<VoltageLimitOverride> overrides = getSpecificVoltageLimits(vl.getId(), VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT);
-                if (overrides.size() != 1) {
-                    voltageLevelsWithMissingLimits.merge(vl.getId(), Pair.of(1, 0), (old, value) -> Pair.of(old.getLeft() + 1, old.getRight()));
-                    LOGGER.warn("Voltage level {} has no low voltage limit defined. Please add one or use a voltage limit override.", vl.getId());
-                    integrityVoltageLevelLimits = false;
-                } else if (overrides.get(0).isRelative()) { // we have one and just one
-                    voltageLevelsWithMissingLimits.merge(vl.getId(), Pair.of(1, 0), (old, value) -> Pair.of(old.getLeft() + 1, old.getRight()));
-                    LOGGER.warn("Relative voltage override impossible on undefined low voltage limit for voltage level {}.", vl.getId());
-                    integrityVoltageLevelLimits = false;
+        for (VoltageLevelFinding finding : voltageLevelFindings) {
+            if (finding instanceof MissingLimit missing && missing.type() == VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT) {
+                voltageLevelsWithMissingLimits.merge(missing.voltageLevelId(), Pair.of(1, 0), (old, value) -> Pair.of(old.getLeft() + 1, old.getRight()));
+                if (missing.relativeOverride()) {
+                    LOGGER.warn("Relative voltage override impossible on undefined low voltage limit for voltage level {}.", missing.voltageLevelId());
+                } else {
+                    LOGGER.warn("Voltage level {} has no low voltage limit defined. Please add one or use a voltage limit override.", missing.voltageLevelId());
                 }
-            } else if (lowLimit < 0.5 * vl.getNominalV()) {
-                LOGGER.info("Voltage level {} has maybe an inconsistent low voltage limit ({} kV)", vl.getId(), lowLimit);
+                integrityVoltageLevelLimits = false;
+            } else if (finding instanceof SuspiciousLimit suspicious && suspicious.type() == VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT) {
+                LOGGER.info("Voltage level {} has maybe an inconsistent low voltage limit ({} kV)", suspicious.voltageLevelId(), suspicious.limit());
             }
         }
         return integrityVoltageLevelLimits;
     }
 
     /**
-     * @param network the network on which voltage levels are verified.
+     * @param voltageLevelFindings the findings of the traversal of the voltage levels.
      * @return true if the high voltage level limits are correct taking into account high voltage limit overrides,
      * false otherwise.
      */
-    boolean checkHighVoltageLevelLimits(Network network, Map<String, Pair<Integer, Integer>> voltageLevelsWithMissingLimits) {
+    private static boolean checkHighVoltageLevelLimits(List<VoltageLevelFinding> voltageLevelFindings,
+                                                       Map<String, Pair<Integer, Integer>> voltageLevelsWithMissingLimits) {
         boolean integrityVoltageLevelLimits = true;
 
-        for (VoltageLevel vl : network.getVoltageLevels()) {
-            double highLimit = vl.getHighVoltageLimit();
-
-            if (Double.isNaN(highLimit)) {
-                List<VoltageLimitOverride> overrides = getSpecificVoltageLimits(vl.getId(), VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT);
-                if (overrides.size() != 1) {
-                    voltageLevelsWithMissingLimits.merge(vl.getId(), Pair.of(0, 1), (old, value) -> Pair.of(old.getLeft(), old.getRight() + 1));
-                    LOGGER.warn("Voltage level {} has no high voltage limit defined. Please add one or use a voltage limit override.", vl.getId());
-                    integrityVoltageLevelLimits = false;
-                } else if (overrides.get(0).isRelative()) {
-                    voltageLevelsWithMissingLimits.merge(vl.getId(), Pair.of(0, 1), (old, value) -> Pair.of(old.getLeft(), old.getRight() + 1));
-                    LOGGER.warn("Relative voltage override impossible on undefined high voltage limit for voltage level {}.", vl.getId());
-                    integrityVoltageLevelLimits = false;
+        for (VoltageLevelFinding finding : voltageLevelFindings) {
+            if (finding instanceof MissingLimit missing && missing.type() == VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT) {
+                voltageLevelsWithMissingLimits.merge(missing.voltageLevelId(), Pair.of(0, 1), (old, value) -> Pair.of(old.getLeft(), old.getRight() + 1));
+                if (missing.relativeOverride()) {
+                    LOGGER.warn("Relative voltage override impossible on undefined high voltage limit for voltage level {}.", missing.voltageLevelId());
+                } else {
+                    LOGGER.warn("Voltage level {} has no high voltage limit defined. Please add one or use a voltage limit override.", missing.voltageLevelId());
                 }
-            } else if (highLimit > 1.5 * vl.getNominalV()) {
-                LOGGER.info("Voltage level {} has maybe an inconsistent high voltage limit ({} kV)", vl.getId(), highLimit);
+                integrityVoltageLevelLimits = false;
+            } else if (finding instanceof SuspiciousLimit suspicious && suspicious.type() == VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT) {
+                LOGGER.info("Voltage level {} has maybe an inconsistent high voltage limit ({} kV)", suspicious.voltageLevelId(), suspicious.limit());
             }
         }
         return integrityVoltageLevelLimits;
@@ -1266,9 +1506,4 @@ public class OpenReacParameters {
 
         return integrityVoltageLimitOverrides;
     }
-
-    private List<VoltageLimitOverride> getSpecificVoltageLimits(String voltageLevelId, VoltageLimitOverride.VoltageLimitType type) {
-        return specificVoltageLimits.stream()
-                .filter(limit -> limit.getVoltageLevelId().equals(voltageLevelId) && limit.getVoltageLimitType() == type).toList();
-    }
 }
@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import java.util.Set;
+
+/**
+ * Element ids of {@link OpenReacParameters}, explicit ones first, then the ones of the {@link ElementSelector selectors}
+ * in the order of the network.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public record ResolvedElements(Set<String> variableShuntCompensators, Set<String> constantQGenerators,
+                               Set<String> variableTwoWindingsTransformers, Set<String> configuredReactiveSlackBuses) {
+}
@@ -8,7 +8,7 @@ package com.powsybl.openreac.parameters.input;
 
 import com.powsybl.ampl.converter.AmplSubset;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -20,7 +20,7 @@ public class VariableShuntCompensators extends AbstractElementsInput {
 
     public static final String PARAM_SHUNT_FILE_NAME = "param_shunts.txt";
 
-    public VariableShuntCompensators(List<String> elementIds) {
+    public VariableShuntCompensators(Collection<String> elementIds) {
         super(elementIds);
     }
 
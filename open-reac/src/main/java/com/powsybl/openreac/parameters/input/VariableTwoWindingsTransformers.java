@@ -7,7 +7,7 @@
 package com.powsybl.openreac.parameters.input;
 
 import com.powsybl.ampl.converter.AmplSubset;
-import java.util.List;
+import java.util.Collection;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -18,7 +18,7 @@ public class VariableTwoWindingsTransformers extends AbstractElementsInput {
 
     public static final String PARAM_TRANSFORMER_FILE_NAME = "param_transformers.txt";
 
-    public VariableTwoWindingsTransformers(List<String> elementIds) {
+    public VariableTwoWindingsTransformers(Collection<String> elementIds) {
         super(elementIds);
     }
 
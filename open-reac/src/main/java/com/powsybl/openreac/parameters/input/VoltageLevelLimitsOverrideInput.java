@@ -11,6 +11,7 @@ import com.powsybl.ampl.executor.AmplInputFile;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.openreac.exceptions.InvalidParametersException;
 import com.powsybl.openreac.parameters.AmplIOUtils;
 import org.jgrapht.alg.util.Pair;
@@ -18,6 +19,7 @@ import org.jgrapht.alg.util.Pair;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,52 +46,85 @@ public class VoltageLevelLimitsOverrideInput implements AmplInputFile {
     }
 
     public VoltageLevelLimitsOverrideInput(List<VoltageLimitOverride> voltageLimitsOverrides, Network network, ReportNode reportNode) {
-        Objects.requireNonNull(voltageLimitsOverrides);
-        Objects.requireNonNull(network);
-        this.normalizedVoltageLimitsOverride = new HashMap<>();
-        transformToNormalizedVoltage(voltageLimitsOverrides, network, reportNode);
+        this(voltageLimitsOverrides, network, null, reportNode);
     }
 
-    private void checkLimitsInNominalVoltageRange(Network network, ReportNode reportNode) {
-        // check that the limits are in the nominal voltage range [0.85 * nominal_V - 5, 1.15 * nominal_V + 5]
-        Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange = new HashMap<>();
-        network.getVoltageLevelStream().forEach(voltageLevel -> {
-            String voltageLevelId = voltageLevel.getId();
-            double nominalV = voltageLevel.getNominalV();
-            double lowLimit = voltageLevel.getLowVoltageLimit();
-            double highLimit = voltageLevel.getHighVoltageLimit();
-
-            Pair<Double, Double> limitsOverride = normalizedVoltageLimitsOverride.get(voltageLevelId);
-            if (limitsOverride != null) {
-                lowLimit = limitsOverride.getFirst() * nominalV;
-                highLimit = limitsOverride.getSecond() * nominalV;
-            }
+    public VoltageLevelLimitsOverrideInput(List<VoltageLimitOverride> voltageLimitsOverrides, Network network,
+                                           NetworkValidation validation, ReportNode reportNode) {
+        this(voltageLimitsOverrides, network, validation, Integer.MAX_VALUE, reportNode);
+    }
 
-            double minAllowed = VOLTAGE_LIMIT_LOW_THRESHOLD * nominalV - VOLTAGE_LIMIT_TOLERANCE;
-            double maxAllowed = VOLTAGE_LIMIT_HIGH_THRESHOLD * nominalV + VOLTAGE_LIMIT_TOLERANCE;
-            if (lowLimit < minAllowed || lowLimit > maxAllowed ||
-                highLimit < minAllowed || highLimit > maxAllowed) {
-                voltageLevelsWithLimitsOutOfNominalVRange.put(voltageLevelId, new VoltageLevelLimitInfo(voltageLevelId, lowLimit, highLimit, nominalV));
+    /**
+     * @param validation the validation of the parameters on the network, whose voltage levels with limits out of the
+     *                   nominal voltage range are reported without walking the network again, <code>null</code> to
+     *                   check them here.
+     * @param reportDetailsLimit the maximum number of these voltage levels reported in detail.
+     */
+    public VoltageLevelLimitsOverrideInput(List<VoltageLimitOverride> voltageLimitsOverrides, Network network,
+                                           NetworkValidation validation, int reportDetailsLimit, ReportNode reportNode) {
+        Objects.requireNonNull(voltageLimitsOverrides);
+        Objects.requireNonNull(network);
+        this.normalizedVoltageLimitsOverride = normalizeVoltageLimits(voltageLimitsOverrides, network);
+        for (Map.Entry<String, Pair<Double, Double>> entry : normalizedVoltageLimitsOverride.entrySet()) {
+            if (entry.getValue().getFirst() >= entry.getValue().getSecond()) {
+                throw new InvalidParametersException(OVERRIDE_ON_VOLTAGE_LEVEL + entry.getKey() + " leads to low voltage limit >= high voltage limit.");
             }
-        });
+        }
 
-        reportVoltageLevelsWithLimitsOutOfNominalVRange(reportNode, voltageLevelsWithLimitsOutOfNominalVRange);
+        if (validation != null) {
+            reportVoltageLevelsWithLimitsOutOfNominalVRange(reportNode, validation.getVoltageLevelsWithLimitsOutOfNominalVRange(), reportDetailsLimit);
+        } else {
+            Map<String, VoltageLevelLimitInfo> voltageLevelsWithLimitsOutOfNominalVRange = new LinkedHashMap<>();
+            network.getVoltageLevelStream().forEach(voltageLevel -> {
+                VoltageLevelLimitInfo info = checkLimitsInNominalVoltageRange(voltageLevel, normalizedVoltageLimitsOverride);
+                if (info != null) {
+                    voltageLevelsWithLimitsOutOfNominalVRange.put(info.voltageLevelId(), info);
+                }
+            });
+            reportVoltageLevelsWithLimitsOutOfNominalVRange(reportNode, voltageLevelsWithLimitsOutOfNominalVRange, reportDetailsLimit);
+        }
+    }
+
+    /**
+     * Check that the limits, taking into account the overrides, are in the nominal voltage range
+     * [0.85 * nominal_V - 5, 1.15 * nominal_V + 5].
+     *
+     * @return the limits of the voltage level if they are out of the range, <code>null</code> otherwise.
+     */
+    static VoltageLevelLimitInfo checkLimitsInNominalVoltageRange(VoltageLevel voltageLevel, Map<String, Pair<Double, Double>> normalizedVoltageLimitsOverride) {
+        String voltageLevelId = voltageLevel.getId();
+        double nominalV = voltageLevel.getNominalV();
+        double lowLimit = voltageLevel.getLowVoltageLimit();
+        double highLimit = voltageLevel.getHighVoltageLimit();
+
+        Pair<Double, Double> limitsOverride = normalizedVoltageLimitsOverride.get(voltageLevelId);
+        if (limitsOverride != null) {
+            lowLimit = limitsOverride.getFirst() * nominalV;
+            highLimit = limitsOverride.getSecond() * nominalV;
+        }
+
+        double minAllowed = VOLTAGE_LIMIT_LOW_THRESHOLD * nominalV - VOLTAGE_LIMIT_TOLERANCE;
+        double maxAllowed = VOLTAGE_LIMIT_HIGH_THRESHOLD * nominalV + VOLTAGE_LIMIT_TOLERANCE;
+        if (lowLimit < minAllowed || lowLimit > maxAllowed ||
+            highLimit < minAllowed || highLimit > maxAllowed) {
+            return new VoltageLevelLimitInfo(voltageLevelId, lowLimit, highLimit, nominalV);
+        }
+        return null;
     }
 
     /**
      * voltageLimitsOverride contains absolute voltage limits.
      * This function compute limits in pair-unit quantities.
      */
-    private void transformToNormalizedVoltage(List<VoltageLimitOverride> voltageLimitsOverrides, Network network, ReportNode reportNode) {
+    static Map<String, Pair<Double, Double>> normalizeVoltageLimits(List<VoltageLimitOverride> voltageLimitsOverrides, Network network) {
+        Map<String, Pair<Double, Double>> normalizedVoltageLimitsOverride = new HashMap<>();
         Map<String, List<VoltageLimitOverride>> voltageLimitOverridesPerVoltageLevelId = voltageLimitsOverrides.stream().collect(Collectors.groupingBy(VoltageLimitOverride::getVoltageLevelId));
         for (Map.Entry<String, List<VoltageLimitOverride>> entry : voltageLimitOverridesPerVoltageLevelId.entrySet()) {
             String voltageLevelId = entry.getKey();
             double nominalV = network.getVoltageLevel(voltageLevelId).getNominalV();
             double previousNormalizedLowVoltageLimit = network.getVoltageLevel(voltageLevelId).getLowVoltageLimit() / nominalV;
             double previousNormalizedHighVoltageLimit = network.getVoltageLevel(voltageLevelId).getHighVoltageLimit() / nominalV;
-            // Get or create voltage limit override of the voltage level
-            Pair<Double, Double> newLimits = normalizedVoltageLimitsOverride.containsKey(voltageLevelId) ? normalizedVoltageLimitsOverride.get(voltageLevelId)
-                    : new Pair<>(previousNormalizedLowVoltageLimit, previousNormalizedHighVoltageLimit);
+            Pair<Double, Double> newLimits = new Pair<>(previousNormalizedLowVoltageLimit, previousNormalizedHighVoltageLimit);
             for (VoltageLimitOverride voltageLimitOverride : entry.getValue()) {
                 if (voltageLimitOverride.getVoltageLimitType() == VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT) {
                     double value = (voltageLimitOverride.isRelative() ? newLimits.getFirst() : 0.0) + voltageLimitOverride.getLimit() / nominalV;
@@ -101,13 +136,9 @@ public class VoltageLevelLimitsOverrideInput implements AmplInputFile {
                     throw new UnsupportedOperationException("Unsupported voltage limit type: " + voltageLimitOverride.getVoltageLimitType());
                 }
             }
-            if (newLimits.getFirst() >= newLimits.getSecond()) {
-                throw new InvalidParametersException(OVERRIDE_ON_VOLTAGE_LEVEL + voltageLevelId + " leads to low voltage limit >= high voltage limit.");
-            }
             normalizedVoltageLimitsOverride.put(voltageLevelId, newLimits);
         }
-
-        checkLimitsInNominalVoltageRange(network, reportNode);
+        return normalizedVoltageLimitsOverride;
     }
 
     @Override
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openreac.exceptions.InvalidParametersException;
+import com.powsybl.openreac.parameters.input.ElementSelector;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class ElementSelectorDeserializer extends StdDeserializer<ElementSelector> {
+
+    public ElementSelectorDeserializer() {
+        super(ElementSelector.class);
+    }
+
+    @Override
+    public ElementSelector deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        ElementSelector.Type type = null;
+        double minNominalV = Double.NEGATIVE_INFINITY;
+        double maxNominalV = Double.POSITIVE_INFINITY;
+        List<String> substationIds = List.of();
+        List<Country> countries = List.of();
+
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.currentName()) {
+                case "type" -> {
+                    parser.nextToken();
+                    type = parser.readValueAs(ElementSelector.Type.class);
+                }
+                case "minNominalV" -> {
+                    parser.nextToken();
+                    minNominalV = parser.getValueAsDouble();
+                }
+                case "maxNominalV" -> {
+                    parser.nextToken();
+                    maxNominalV = parser.getValueAsDouble();
+                }
+                case "substationIds" -> {
+                    parser.nextToken();
+                    substationIds = parser.readValueAs(new TypeReference<List<String>>() { });
+                }
+                case "countries" -> {
+                    parser.nextToken();
+                    countries = parser.readValueAs(new TypeReference<List<Country>>() { });
+                }
+                default -> throw new IllegalStateException("Unexpected field: " + parser.currentName());
+            }
+        }
+        if (type == null) {
+            throw new InvalidParametersException("An element selector type must be specified.");
+        }
+        return switch (type) {
+            case ALL -> ElementSelector.all();
+            case NOMINAL_VOLTAGE_RANGE -> ElementSelector.nominalVoltageRange(minNominalV, maxNominalV);
+            case SUBSTATIONS -> ElementSelector.substations(substationIds);
+            case COUNTRIES -> ElementSelector.countries(countries);
+            case PREDICATE -> throw new InvalidParametersException("Predicate element selectors cannot be deserialized.");
+        };
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openreac.parameters.input.ElementSelector;
+
+import java.io.IOException;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class ElementSelectorSerializer extends StdSerializer<ElementSelector> {
+
+    public ElementSelectorSerializer() {
+        super(ElementSelector.class);
+    }
+
+    @Override
+    public void serialize(ElementSelector selector, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("type", selector.getType().name());
+        switch (selector.getType()) {
+            case ALL -> { /* no attribute */ }
+            case NOMINAL_VOLTAGE_RANGE -> {
+                // infinite bounds are not written
+                if (Double.isFinite(selector.getMinNominalV())) {
+                    jsonGenerator.writeNumberField("minNominalV", selector.getMinNominalV());
+                }
+                if (Double.isFinite(selector.getMaxNominalV())) {
+                    jsonGenerator.writeNumberField("maxNominalV", selector.getMaxNominalV());
+                }
+            }
+            case SUBSTATIONS -> {
+                jsonGenerator.writeArrayFieldStart("substationIds");
+                for (String substationId : selector.getSubstationIds()) {
+                    jsonGenerator.writeString(substationId);
+                }
+                jsonGenerator.writeEndArray();
+            }
+            case COUNTRIES -> {
+                jsonGenerator.writeArrayFieldStart("countries");
+                for (Country country : selector.getCountries()) {
+                    jsonGenerator.writeString(country.name());
+                }
+                jsonGenerator.writeEndArray();
+            }
+            case PREDICATE -> throw new PowsyblException("Predicate element selectors cannot be serialized.");
+        }
+        jsonGenerator.writeEndObject();
+    }
+}
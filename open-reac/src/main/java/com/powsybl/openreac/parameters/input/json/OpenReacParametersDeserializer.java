@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.openreac.parameters.input.ElementSelector;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
 import com.powsybl.openreac.parameters.input.VoltageLimitOverride;
 import com.powsybl.openreac.parameters.input.algo.OpenReacAmplLogLevel;
@@ -49,6 +50,10 @@ public class OpenReacParametersDeserializer extends StdDeserializer<OpenReacPara
         };
     }
 
+    private static List<ElementSelector> readSelectors(JsonParser parser) throws IOException {
+        return parser.readValueAs(new TypeReference<List<ElementSelector>>() { });
+    }
+
     private static final Map<String, BiConsumer<JsonParser, OpenReacParameters>> FIELD_PROCESSORS = Map.ofEntries(
             entry("version", (parser, parameters) -> { }),
             entry("specificVoltageLimits", safeRead((parser, parameters) ->
@@ -66,6 +71,18 @@ public class OpenReacParametersDeserializer extends StdDeserializer<OpenReacPara
             entry("configuredReactiveSlackBuses", safeRead((parser, parameters) ->
                 parameters.addConfiguredReactiveSlackBuses(parser.readValueAs(new TypeReference<List<String>>() { }))
             )),
+            entry("variableShuntCompensatorSelectors", safeRead((parser, parameters) ->
+                readSelectors(parser).forEach(parameters::addVariableShuntCompensatorSelector)
+            )),
+            entry("constantQGeneratorSelectors", safeRead((parser, parameters) ->
+                readSelectors(parser).forEach(parameters::addConstantQGeneratorSelector)
+            )),
+            entry("variableTwoWindingsTransformerSelectors", safeRead((parser, parameters) ->
+                readSelectors(parser).forEach(parameters::addVariableTwoWindingsTransformerSelector)
+            )),
+            entry("configuredReactiveSlackBusSelectors", safeRead((parser, parameters) ->
+                readSelectors(parser).forEach(parameters::addConfiguredReactiveSlackBusSelector)
+            )),
             entry("objective", safeRead((parser, parameters) ->
                 parameters.setObjective(OpenReacOptimisationObjective.valueOf(parser.getText()))
             )),
@@ -194,6 +211,9 @@ public class OpenReacParametersDeserializer extends StdDeserializer<OpenReacPara
                     JsonUtil.assertGreaterOrEqualThanReferenceVersion("OpenReacParameters", fieldName, version, "1.1");
                 case "parallelTransformersGrouping" ->
                     JsonUtil.assertGreaterOrEqualThanReferenceVersion("OpenReacParameters", fieldName, version, "1.2");
+                case "variableShuntCompensatorSelectors", "constantQGeneratorSelectors",
+                     "variableTwoWindingsTransformerSelectors", "configuredReactiveSlackBusSelectors" ->
+                    JsonUtil.assertGreaterOrEqualThanReferenceVersion("OpenReacParameters", fieldName, version, "1.3");
                 default -> { /* no version gate */ }
             }
 
@@ -9,10 +9,12 @@ package com.powsybl.openreac.parameters.input.json;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.openreac.parameters.input.ElementSelector;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
 import com.powsybl.openreac.parameters.input.algo.ReactiveSlackBusesMode;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -20,7 +22,7 @@ import java.io.IOException;
  */
 public class OpenReacParametersSerializer extends StdSerializer<OpenReacParameters> {
 
-    static final String VERSION = "1.2";
+    static final String VERSION = "1.3";
 
     public OpenReacParametersSerializer() {
         super(OpenReacParameters.class);
@@ -39,6 +41,12 @@ public class OpenReacParametersSerializer extends StdSerializer<OpenReacParamete
         if (openReacParameters.getReactiveSlackBusesMode() == ReactiveSlackBusesMode.CONFIGURED) {
             serializerProvider.defaultSerializeField("configuredReactiveSlackBuses", openReacParameters.getConfiguredReactiveSlackBuses(), jsonGenerator);
         }
+        writeSelectors("constantQGeneratorSelectors", openReacParameters.getConstantQGeneratorSelectors(), jsonGenerator, serializerProvider);
+        writeSelectors("variableTwoWindingsTransformerSelectors", openReacParameters.getVariableTwoWindingsTransformerSelectors(), jsonGenerator, serializerProvider);
+        writeSelectors("variableShuntCompensatorSelectors", openReacParameters.getVariableShuntCompensatorSelectors(), jsonGenerator, serializerProvider);
+        if (openReacParameters.getReactiveSlackBusesMode() == ReactiveSlackBusesMode.CONFIGURED) {
+            writeSelectors("configuredReactiveSlackBusSelectors", openReacParameters.getConfiguredReactiveSlackBusSelectors(), jsonGenerator, serializerProvider);
+        }
         serializerProvider.defaultSerializeField("objective", openReacParameters.getObjective().name(), jsonGenerator);
         if (openReacParameters.getObjectiveDistance() != null) {
             serializerProvider.defaultSerializeField("objectiveDistance", openReacParameters.getObjectiveDistance(), jsonGenerator);
@@ -77,4 +85,11 @@ public class OpenReacParametersSerializer extends StdSerializer<OpenReacParamete
         serializerProvider.defaultSerializeField("parallelTransformersGrouping", openReacParameters.isParallelTransformersGrouping(), jsonGenerator);
         jsonGenerator.writeEndObject();
     }
+
+    private static void writeSelectors(String fieldName, List<ElementSelector> selectors, JsonGenerator jsonGenerator,
+                                       SerializerProvider serializerProvider) throws IOException {
+        if (!selectors.isEmpty()) {
+            serializerProvider.defaultSerializeField(fieldName, selectors, jsonGenerator);
+        }
+    }
 }
@@ -7,6 +7,7 @@
 package com.powsybl.openreac.parameters.input.json;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.powsybl.openreac.parameters.input.ElementSelector;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
 import com.powsybl.openreac.parameters.input.VoltageLimitOverride;
 import com.powsybl.openreac.parameters.input.algo.OpenReacAlgoParam;
@@ -21,8 +22,10 @@ public class OpenReactJsonModule extends SimpleModule {
         addSerializer(OpenReacParameters.class, new OpenReacParametersSerializer());
         addSerializer(VoltageLimitOverride.class, new VoltageLimitOverrideSerializer());
         addSerializer(OpenReacAlgoParam.class, new OpenReacAlgoParamSerializer());
+        addSerializer(ElementSelector.class, new ElementSelectorSerializer());
         addDeserializer(OpenReacParameters.class, new OpenReacParametersDeserializer());
         addDeserializer(VoltageLimitOverride.class, new VoltageLimitOverrideDeserializer());
         addDeserializer(OpenReacAlgoParam.class, new OpenReacAlgoParamDeserializer());
+        addDeserializer(ElementSelector.class, new ElementSelectorDeserializer());
     }
 }
@@ -11,15 +11,20 @@ import com.powsybl.iidm.modification.tapchanger.AbstractTapPositionModification;
 import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.VoltageRegulation;
+import com.powsybl.openreac.jfr.OpenReacApplyModificationsEvent;
 import com.powsybl.openreac.parameters.OpenReacAmplIOFiles;
 import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput.FixedParallelTransformer;
 import com.powsybl.openreac.parameters.output.ReactiveSlackOutput.ReactiveSlack;
+import com.powsybl.openreac.parameters.output.network.NetworkModifications;
+import com.powsybl.optimizer.commons.metrics.OptimizerMetrics;
 import org.jgrapht.alg.util.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.BiPredicate;
 import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
 
 /**
  * OpenReac user interface to get results information.
@@ -27,23 +32,29 @@ import java.util.function.DoubleConsumer;
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
  * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
  */
-public class OpenReacResult {
+public class OpenReacResult implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenReacResult.class);
     private final OpenReacStatus status;
-    private final List<ReactiveSlack> reactiveSlacks;
-    private final List<FixedParallelTransformer> fixedParallelTransformers;
+    private final Supplier<List<ReactiveSlack>> reactiveSlacks;
+    private final Supplier<List<FixedParallelTransformer>> fixedParallelTransformers;
     private final Map<String, String> indicators;
-    private final List<GeneratorModification> generatorModifications;
-    private final List<BatteryModification> batteryModifications;
-    private final List<ShuntCompensatorModification> shuntsModifications;
-    private final List<VscConverterStationModification> vscModifications;
-    private final List<StaticVarCompensatorModification> svcModifications;
-    private final List<RatioTapPositionModification> tapPositionModifications;
-    private final HashMap<String, Pair<Double, Double>> voltageProfile;
+    private final OpenReacSolverStatistics solverStatistics;
+    private final Supplier<List<GeneratorModification>> generatorModifications;
+    private final Supplier<List<BatteryModification>> batteryModifications;
+    private final Supplier<List<ShuntCompensatorModification>> shuntsModifications;
+    private final Supplier<List<VscConverterStationModification>> vscModifications;
+    private final Supplier<List<StaticVarCompensatorModification>> svcModifications;
+    private final Supplier<List<RatioTapPositionModification>> tapPositionModifications;
+    private final Supplier<HashMap<String, Pair<Double, Double>>> voltageProfile;
+    private final RetainedOutputFiles retainedOutputFiles;
+    private final OpenReacTimings timings;
     private boolean updateNetworkWithVoltages = true;
 
     /**
+     * In lazy mode (see {@link OpenReacAmplIOFiles#getRetainedOutputFiles()}), each section of the result is parsed
+     * on first access, and {@link #close()} releases the output files that have not been parsed yet.
+     *
      * @param status      the final status of the OpenReac run.
      * @param amplIOFiles a file interface to fetch output file information.
      * @param indicators  a standard map written by the OpenReac ampl model.
@@ -52,15 +63,134 @@ public class OpenReacResult {
         Objects.requireNonNull(amplIOFiles);
         this.status = Objects.requireNonNull(status);
         this.indicators = Map.copyOf(Objects.requireNonNull(indicators));
-        this.reactiveSlacks = List.copyOf(amplIOFiles.getReactiveSlackOutput().getSlacks());
-        this.fixedParallelTransformers = List.copyOf(amplIOFiles.getFixedParallelTransformersOutput().getFixedTransformers());
-        this.generatorModifications = List.copyOf(amplIOFiles.getNetworkModifications().getGeneratorModifications());
-        this.batteryModifications = List.copyOf(amplIOFiles.getNetworkModifications().getBatteryModifications());
-        this.shuntsModifications = List.copyOf(amplIOFiles.getNetworkModifications().getShuntModifications());
-        this.vscModifications = List.copyOf(amplIOFiles.getNetworkModifications().getVscModifications());
-        this.svcModifications = List.copyOf(amplIOFiles.getNetworkModifications().getSvcModifications());
-        this.tapPositionModifications = List.copyOf(amplIOFiles.getNetworkModifications().getTapPositionModifications());
-        this.voltageProfile = new HashMap<>(amplIOFiles.getVoltageProfileOutput().getVoltageProfile());
+        this.solverStatistics = OpenReacSolverStatistics.of(this.indicators);
+        this.retainedOutputFiles = amplIOFiles.getRetainedOutputFiles();
+        this.timings = amplIOFiles.getTimings();
+        ReactiveSlackOutput reactiveSlackOutput = amplIOFiles.getReactiveSlackOutput();
+        this.reactiveSlacks = amplIOFiles.section(reactiveSlackOutput, () -> List.copyOf(reactiveSlackOutput.getSlacks()));
+        FixedParallelTransformersOutput fixedParallelTransformersOutput = amplIOFiles.getFixedParallelTransformersOutput();
+        this.fixedParallelTransformers = amplIOFiles.section(fixedParallelTransformersOutput,
+            () -> List.copyOf(fixedParallelTransformersOutput.getFixedTransformers()));
+        NetworkModifications networkModifications = amplIOFiles.getNetworkModifications();
+        this.generatorModifications = amplIOFiles.section(networkModifications.getGeneratorOutput(),
+            () -> List.copyOf(networkModifications.getGeneratorModifications()));
+        this.batteryModifications = amplIOFiles.section(networkModifications.getBatteryOutput(),
+            () -> List.copyOf(networkModifications.getBatteryModifications()));
+        this.shuntsModifications = amplIOFiles.section(networkModifications.getShuntsOutput(),
+            () -> List.copyOf(networkModifications.getShuntModifications()));
+        this.vscModifications = amplIOFiles.section(networkModifications.getVscOutput(),
+            () -> List.copyOf(networkModifications.getVscModifications()));
+        this.svcModifications = amplIOFiles.section(networkModifications.getSvcOutput(),
+            () -> List.copyOf(networkModifications.getSvcModifications()));
+        this.tapPositionModifications = amplIOFiles.section(networkModifications.getTapPositionOutput(),
+            () -> List.copyOf(networkModifications.getTapPositionModifications()));
+        VoltageProfileOutput voltageProfileOutput = amplIOFiles.getVoltageProfileOutput();
+        this.voltageProfile = amplIOFiles.section(voltageProfileOutput, () -> new HashMap<>(voltageProfileOutput.getVoltageProfile()));
+    }
+
+    private OpenReacResult(Builder builder) {
+        this.status = builder.status;
+        this.indicators = Map.copyOf(builder.indicators);
+        this.solverStatistics = OpenReacSolverStatistics.of(this.indicators);
+        this.retainedOutputFiles = null;
+        // not measured, the result being built directly
+        this.timings = new OpenReacTimings(OptimizerMetrics.NO_OP);
+        this.reactiveSlacks = constant(List.copyOf(builder.reactiveSlacks));
+        this.fixedParallelTransformers = constant(List.copyOf(builder.fixedParallelTransformers));
+        this.generatorModifications = constant(List.copyOf(builder.generatorModifications));
+        this.batteryModifications = constant(List.copyOf(builder.batteryModifications));
+        this.shuntsModifications = constant(List.copyOf(builder.shuntsModifications));
+        this.vscModifications = constant(List.copyOf(builder.vscModifications));
+        this.svcModifications = constant(List.copyOf(builder.svcModifications));
+        this.tapPositionModifications = constant(List.copyOf(builder.tapPositionModifications));
+        this.voltageProfile = constant(new HashMap<>(builder.voltageProfile));
+    }
+
+    private static <T> Supplier<T> constant(T value) {
+        return () -> value;
+    }
+
+    /**
+     * @return a builder of results from already available values, for instance read back from an archive.
+     */
+    public static Builder builder(OpenReacStatus status) {
+        return new Builder(status);
+    }
+
+    /**
+     * Builds an {@link OpenReacResult} from its values, without any output file.
+     */
+    public static final class Builder {
+
+        private final OpenReacStatus status;
+        private Map<String, String> indicators = Map.of();
+        private List<ReactiveSlack> reactiveSlacks = List.of();
+        private List<FixedParallelTransformer> fixedParallelTransformers = List.of();
+        private List<GeneratorModification> generatorModifications = List.of();
+        private List<BatteryModification> batteryModifications = List.of();
+        private List<ShuntCompensatorModification> shuntsModifications = List.of();
+        private List<VscConverterStationModification> vscModifications = List.of();
+        private List<StaticVarCompensatorModification> svcModifications = List.of();
+        private List<RatioTapPositionModification> tapPositionModifications = List.of();
+        private Map<String, Pair<Double, Double>> voltageProfile = Map.of();
+
+        private Builder(OpenReacStatus status) {
+            this.status = Objects.requireNonNull(status);
+        }
+
+        public Builder setIndicators(Map<String, String> indicators) {
+            this.indicators = Objects.requireNonNull(indicators);
+            return this;
+        }
+
+        public Builder setReactiveSlacks(List<ReactiveSlack> reactiveSlacks) {
+            this.reactiveSlacks = Objects.requireNonNull(reactiveSlacks);
+            return this;
+        }
+
+        public Builder setFixedParallelTransformers(List<FixedParallelTransformer> fixedParallelTransformers) {
+            this.fixedParallelTransformers = Objects.requireNonNull(fixedParallelTransformers);
+            return this;
+        }
+
+        public Builder setGeneratorModifications(List<GeneratorModification> generatorModifications) {
+            this.generatorModifications = Objects.requireNonNull(generatorModifications);
+            return this;
+        }
+
+        public Builder setBatteryModifications(List<BatteryModification> batteryModifications) {
+            this.batteryModifications = Objects.requireNonNull(batteryModifications);
+            return this;
+        }
+
+        public Builder setShuntsModifications(List<ShuntCompensatorModification> shuntsModifications) {
+            this.shuntsModifications = Objects.requireNonNull(shuntsModifications);
+            return this;
+        }
+
+        public Builder setVscModifications(List<VscConverterStationModification> vscModifications) {
+            this.vscModifications = Objects.requireNonNull(vscModifications);
+            return this;
+        }
+
+        public Builder setSvcModifications(List<StaticVarCompensatorModification> svcModifications) {
+            this.svcModifications = Objects.requireNonNull(svcModifications);
+            return this;
+        }
+
+        public Builder setTapPositionModifications(List<RatioTapPositionModification> tapPositionModifications) {
+            this.tapPositionModifications = Objects.requireNonNull(tapPositionModifications);
+            return this;
+        }
+
+        public Builder setVoltageProfile(Map<String, Pair<Double, Double>> voltageProfile) {
+            this.voltageProfile = Objects.requireNonNull(voltageProfile);
+            return this;
+        }
+
+        public OpenReacResult build() {
+            return new OpenReacResult(this);
+        }
     }
 
     public OpenReacStatus getStatus() {
@@ -68,7 +198,7 @@ public class OpenReacResult {
     }
 
     public List<ReactiveSlack> getReactiveSlacks() {
-        return reactiveSlacks;
+        return reactiveSlacks.get();
     }
 
     /**
@@ -81,45 +211,66 @@ public class OpenReacResult {
      * optimized freely, to avoid circulating reactive flows.
      */
     public List<FixedParallelTransformer> getFixedParallelTransformers() {
-        return fixedParallelTransformers;
+        return fixedParallelTransformers.get();
+    }
+
+    /**
+     * @return the wall time and allocations of the phases of the run, and of the application of its modifications.
+     */
+    public OpenReacTimings getTimings() {
+        return timings;
     }
 
     public Map<String, String> getIndicators() {
         return indicators;
     }
 
+    /**
+     * @return the statistics of the solves of the run, read from its indicators.
+     */
+    public OpenReacSolverStatistics getSolverStatistics() {
+        return solverStatistics;
+    }
+
     public List<GeneratorModification> getGeneratorModifications() {
-        return generatorModifications;
+        return generatorModifications.get();
     }
 
     public List<BatteryModification> getBatteryModifications() {
-        return batteryModifications;
+        return batteryModifications.get();
     }
 
     public List<ShuntCompensatorModification> getShuntsModifications() {
-        return shuntsModifications;
+        return shuntsModifications.get();
     }
 
     public List<StaticVarCompensatorModification> getSvcModifications() {
-        return svcModifications;
+        return svcModifications.get();
     }
 
     public List<RatioTapPositionModification> getTapPositionModifications() {
-        return tapPositionModifications;
+        return tapPositionModifications.get();
     }
 
     public List<VscConverterStationModification> getVscModifications() {
-        return vscModifications;
+        return vscModifications.get();
     }
 
     public Map<String, Pair<Double, Double>> getVoltageProfile() {
-        return voltageProfile;
+        return voltageProfile.get();
     }
 
     public boolean isUpdateNetworkWithVoltages() {
         return updateNetworkWithVoltages;
     }
 
+    /**
+     * @return <code>true</code> if the sections of this result are parsed on first access.
+     */
+    public boolean isLazy() {
+        return retainedOutputFiles != null;
+    }
+
     public void setUpdateNetworkWithVoltages(boolean updateNetworkWithVoltages) {
         this.updateNetworkWithVoltages = updateNetworkWithVoltages;
     }
@@ -141,10 +292,35 @@ public class OpenReacResult {
     }
 
     public void applyAllModifications(Network network) {
-        for (NetworkModification modif : getAllNetworkModifications()) {
-            modif.apply(network);
+        OpenReacTimings.Timer timer = timings.start();
+        OpenReacApplyModificationsEvent event = new OpenReacApplyModificationsEvent();
+        event.begin();
+        applyModifications(network);
+        updateRegulationTargets(network, (elementId, bus) -> true);
+        updateBusVoltages(network);
+        event.end();
+        timer.stop(OpenReacTimings.Phase.APPLY_MODIFICATIONS);
+        if (event.shouldCommit()) {
+            event.setNetwork(network.getId(), network.getVariantManager().getWorkingVariantId());
+            event.setModificationCounts(getGeneratorModifications().size(), getBatteryModifications().size(),
+                getShuntsModifications().size(), getSvcModifications().size(), getTapPositionModifications().size(),
+                getVscModifications().size());
+            event.commit();
         }
+    }
+
+    void applyModifications(Network network) {
+        // same order as getAllNetworkModifications, without building the combined list
+        List.of(getGeneratorModifications(), getBatteryModifications(), getShuntsModifications(),
+                getSvcModifications(), getTapPositionModifications(), getVscModifications())
+            .forEach(modifs -> modifs.forEach(modif -> modif.apply(network)));
+    }
 
+    /**
+     * Updates the target voltage of the ratio tap changers, shunts and batteries of this result from the voltage
+     * profile, for the elements accepted by the filter given their id and regulating bus.
+     */
+    void updateRegulationTargets(Network network, BiPredicate<String, Bus> filter) {
         // update target of ratio tap changers specified as variable by user
         getTapPositionModifications().stream()
                 .map(AbstractTapPositionModification::getTransformerId)
@@ -152,7 +328,7 @@ public class OpenReacResult {
                 .forEach(transformer -> {
                     RatioTapChanger ratioTapChanger = transformer.getRatioTapChanger();
                     if (ratioTapChanger != null) {
-                        updateTargetV(ratioTapChanger.getRegulationTerminal(), transformer.getId(), ratioTapChanger::setTargetV);
+                        updateTargetV(ratioTapChanger.getRegulationTerminal(), transformer.getId(), ratioTapChanger::setTargetV, filter);
                     }
                 });
 
@@ -161,7 +337,7 @@ public class OpenReacResult {
                 .map(ShuntCompensatorModification::getShuntCompensatorId)
                 .map(network::getShuntCompensator)
                 .forEach(shunt ->
-                        updateTargetV(shunt.getRegulatingTerminal(), shunt.getId(), shunt::setTargetV));
+                        updateTargetV(shunt.getRegulatingTerminal(), shunt.getId(), shunt::setTargetV, filter));
 
         // update target voltage of regulating batteries
         getBatteryModifications().stream()
@@ -173,12 +349,13 @@ public class OpenReacResult {
                     if (vr == null || !vr.isVoltageRegulatorOn()) {
                         return;
                     }
-                    updateTargetV(vr.getRegulatingTerminal(), battery.getId(), vr::setTargetV);
+                    updateTargetV(vr.getRegulatingTerminal(), battery.getId(), vr::setTargetV, filter);
                 });
+    }
 
-        // update voltages of the buses
+    void updateBusVoltages(Network network) {
         if (isUpdateNetworkWithVoltages()) {
-            for (var busUpdate : voltageProfile.entrySet()) {
+            for (var busUpdate : getVoltageProfile().entrySet()) {
                 Optional.ofNullable(network.getBusView().getBus(busUpdate.getKey())).ifPresentOrElse(
                     bus -> {
                         double v = busUpdate.getValue().getFirst();
@@ -198,10 +375,10 @@ public class OpenReacResult {
      * silently skipped with a warning. If the bus is resolved but missing from the voltage profile, an
      * {@link IllegalStateException} is thrown.
      */
-    private void updateTargetV(Terminal regulatingTerminal, String elementId, DoubleConsumer targetVSetter) {
+    private void updateTargetV(Terminal regulatingTerminal, String elementId, DoubleConsumer targetVSetter, BiPredicate<String, Bus> filter) {
         Optional<Bus> bus = getRegulatingBus(regulatingTerminal, elementId);
-        bus.ifPresent(b -> {
-            Pair<Double, Double> busUpdate = voltageProfile.get(b.getId());
+        bus.filter(b -> filter.test(elementId, b)).ifPresent(b -> {
+            Pair<Double, Double> busUpdate = getVoltageProfile().get(b.getId());
             if (busUpdate != null) {
                 targetVSetter.accept(busUpdate.getFirst() * b.getVoltageLevel().getNominalV());
             } else {
@@ -210,6 +387,17 @@ public class OpenReacResult {
         });
     }
 
+    /**
+     * Releases the output files retained in lazy mode. Sections that have not been accessed yet can not be
+     * accessed anymore. No-op when the result was parsed eagerly.
+     */
+    @Override
+    public void close() {
+        if (retainedOutputFiles != null) {
+            retainedOutputFiles.close();
+        }
+    }
+
     Optional<Bus> getRegulatingBus(Terminal terminal, String elementId) {
         if (terminal == null) {
             LOGGER.warn("Regulating terminal of element {} is null.", elementId);
@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.Network;
+import org.jgrapht.alg.util.Pair;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Difference between two OpenReac results, typically two successive runs on the same network.
+ * <p>
+ * The delta holds the modifications of the next result that are new or that differ from the previous result
+ * beyond the {@link Tolerances}, and the buses whose voltage moved beyond them. {@link #apply(Network)} brings
+ * a network on which the previous result has been applied to the state of the next result, within the
+ * tolerances, writing only the delta.
+ * <p>
+ * To chain the runs, the diff to a newer result is computed by {@link #then(OpenReacResult)}, against the values
+ * actually written, {@link #getApplied()}, and not against the next result: the values moving under the tolerances
+ * at each run are written once their cumulated move exceeds them.
+ * <p>
+ * The output readers leave undefined the values equal to the ones of the network: a value undefined in the next
+ * result is unchanged, the network holding the previous one. A value undefined in the previous result but defined
+ * in the next one is part of the delta, the value on the network being unknown.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacResultDiff {
+
+    /**
+     * Tolerances under which two values are considered equal. All of them default to 0: any change is part of
+     * the delta. Discrete values (connection status, section counts, tap positions) are always compared exactly.
+     */
+    public static final class Tolerances {
+
+        private double targetVoltage = 0; // in kV, generators, SVC and VSC voltage setpoints
+        private double activePower = 0; // in MW
+        private double reactivePower = 0; // in MVar
+        private double busVoltage = 0; // in p.u.
+        private double busAngle = 0; // in rad
+
+        public double getTargetVoltage() {
+            return targetVoltage;
+        }
+
+        public Tolerances setTargetVoltage(double targetVoltage) {
+            this.targetVoltage = checkTolerance(targetVoltage, "Target voltage");
+            return this;
+        }
+
+        public double getActivePower() {
+            return activePower;
+        }
+
+        public Tolerances setActivePower(double activePower) {
+            this.activePower = checkTolerance(activePower, "Active power");
+            return this;
+        }
+
+        public double getReactivePower() {
+            return reactivePower;
+        }
+
+        public Tolerances setReactivePower(double reactivePower) {
+            this.reactivePower = checkTolerance(reactivePower, "Reactive power");
+            return this;
+        }
+
+        public double getBusVoltage() {
+            return busVoltage;
+        }
+
+        public Tolerances setBusVoltage(double busVoltage) {
+            this.busVoltage = checkTolerance(busVoltage, "Bus voltage");
+            return this;
+        }
+
+        public double getBusAngle() {
+            return busAngle;
+        }
+
+        public Tolerances setBusAngle(double busAngle) {
+            this.busAngle = checkTolerance(busAngle, "Bus angle");
+            return this;
+        }
+
+        private static double checkTolerance(double tolerance, String name) {
+            if (Double.isNaN(tolerance) || tolerance < 0) {
+                throw new IllegalArgumentException(name + " tolerance must be defined and >= 0 to be consistent.");
+            }
+            return tolerance;
+        }
+    }
+
+    private final OpenReacResult next;
+    private final OpenReacResult delta;
+    private final OpenReacResult applied;
+    private final Tolerances tolerances;
+    private final Set<String> changedBuses;
+    private final Set<String> changedRegulatingElements;
+
+    private OpenReacResultDiff(OpenReacResult next, OpenReacResult delta, OpenReacResult applied, Tolerances tolerances) {
+        this.next = next;
+        this.delta = delta;
+        this.applied = applied;
+        this.tolerances = tolerances;
+        this.changedBuses = Set.copyOf(delta.getVoltageProfile().keySet());
+        Set<String> elements = new HashSet<>();
+        delta.getTapPositionModifications().forEach(m -> elements.add(m.getTransformerId()));
+        delta.getShuntsModifications().forEach(m -> elements.add(m.getShuntCompensatorId()));
+        delta.getBatteryModifications().forEach(m -> elements.add(m.getBatteryId()));
+        this.changedRegulatingElements = elements;
+    }
+
+    /**
+     * Computes the modifications needed to move from the previous result to the next one.
+     *
+     * @param previous the values on the network, the result of the first run, then the {@link #getApplied()} values
+     *                 of the last diff.
+     */
+    public static OpenReacResultDiff between(OpenReacResult previous, OpenReacResult next, Tolerances tolerances) {
+        Objects.requireNonNull(previous);
+        Objects.requireNonNull(next);
+        Objects.requireNonNull(tolerances);
+        OpenReacResult delta = OpenReacResult.builder(next.getStatus())
+                .setIndicators(next.getIndicators())
+                .setReactiveSlacks(next.getReactiveSlacks())
+                .setFixedParallelTransformers(next.getFixedParallelTransformers())
+                .setGeneratorModifications(changed(previous.getGeneratorModifications(), next.getGeneratorModifications(),
+                        GeneratorModification::getGeneratorId, (p, n) -> unchanged(p.getModifs(), n.getModifs(), tolerances)))
+                .setBatteryModifications(changed(previous.getBatteryModifications(), next.getBatteryModifications(),
+                        BatteryModification::getBatteryId, (p, n) -> unchanged(p.getTargetP(), n.getTargetP(), tolerances.getActivePower())
+                                && unchanged(p.getTargetQ(), n.getTargetQ(), tolerances.getReactivePower())))
+                .setShuntsModifications(changed(previous.getShuntsModifications(), next.getShuntsModifications(),
+                        ShuntCompensatorModification::getShuntCompensatorId, (p, n) -> unchanged(p.getConnect(), n.getConnect())
+                                && unchanged(p.getSectionCount(), n.getSectionCount())))
+                .setSvcModifications(changed(previous.getSvcModifications(), next.getSvcModifications(),
+                        StaticVarCompensatorModification::getStaticVarCompensatorId,
+                        (p, n) -> unchanged(p.getVoltageSetpoint(), n.getVoltageSetpoint(), tolerances.getTargetVoltage())
+                                && unchanged(p.getReactivePowerSetpoint(), n.getReactivePowerSetpoint(), tolerances.getReactivePower())))
+                .setVscModifications(changed(previous.getVscModifications(), next.getVscModifications(),
+                        VscConverterStationModification::getVscConverterStationId,
+                        (p, n) -> unchanged(p.getVoltageSetpoint(), n.getVoltageSetpoint(), tolerances.getTargetVoltage())
+                                && unchanged(p.getReactivePowerSetpoint(), n.getReactivePowerSetpoint(), tolerances.getReactivePower())))
+                .setTapPositionModifications(changed(previous.getTapPositionModifications(), next.getTapPositionModifications(),
+                        OpenReacResultDiff::tapPositionKey,
+                        (p, n) -> p.getTapPosition() == n.getTapPosition()))
+                .setVoltageProfile(changedBuses(previous.getVoltageProfile(), next.getVoltageProfile(), tolerances))
+                .build();
+        delta.setUpdateNetworkWithVoltages(next.isUpdateNetworkWithVoltages());
+        OpenReacResult applied = OpenReacResult.builder(next.getStatus())
+                .setIndicators(next.getIndicators())
+                .setReactiveSlacks(next.getReactiveSlacks())
+                .setFixedParallelTransformers(next.getFixedParallelTransformers())
+                .setGeneratorModifications(merged(previous.getGeneratorModifications(), delta.getGeneratorModifications(),
+                        GeneratorModification::getGeneratorId, OpenReacResultDiff::mergedGenerator))
+                .setBatteryModifications(merged(previous.getBatteryModifications(), delta.getBatteryModifications(),
+                        BatteryModification::getBatteryId, (p, c) -> new BatteryModification(c.getBatteryId(),
+                                orPrevious(c.getTargetP(), p.getTargetP()), orPrevious(c.getTargetQ(), p.getTargetQ()))))
+                .setShuntsModifications(merged(previous.getShuntsModifications(), delta.getShuntsModifications(),
+                        ShuntCompensatorModification::getShuntCompensatorId, (p, c) -> new ShuntCompensatorModification(
+                                c.getShuntCompensatorId(), orPrevious(c.getConnect(), p.getConnect()),
+                                orPrevious(c.getSectionCount(), p.getSectionCount()))))
+                .setSvcModifications(merged(previous.getSvcModifications(), delta.getSvcModifications(),
+                        StaticVarCompensatorModification::getStaticVarCompensatorId, (p, c) -> new StaticVarCompensatorModification(
+                                c.getStaticVarCompensatorId(), orPrevious(c.getVoltageSetpoint(), p.getVoltageSetpoint()),
+                                orPrevious(c.getReactivePowerSetpoint(), p.getReactivePowerSetpoint()))))
+                .setVscModifications(merged(previous.getVscModifications(), delta.getVscModifications(),
+                        VscConverterStationModification::getVscConverterStationId, (p, c) -> new VscConverterStationModification(
+                                c.getVscConverterStationId(), orPrevious(c.getVoltageSetpoint(), p.getVoltageSetpoint()),
+                                orPrevious(c.getReactivePowerSetpoint(), p.getReactivePowerSetpoint()))))
+                .setTapPositionModifications(merged(previous.getTapPositionModifications(), delta.getTapPositionModifications(),
+                        OpenReacResultDiff::tapPositionKey, (p, c) -> c))
+                .setVoltageProfile(mergedVoltageProfile(previous.getVoltageProfile(), delta.getVoltageProfile()))
+                .build();
+        applied.setUpdateNetworkWithVoltages(next.isUpdateNetworkWithVoltages());
+        return new OpenReacResultDiff(next, delta, applied, tolerances);
+    }
+
+    /**
+     * Computes the modifications needed to move from the values written by this diff to a newer result, with the
+     * same tolerances.
+     */
+    public OpenReacResultDiff then(OpenReacResult newer) {
+        return between(applied, newer, tolerances);
+    }
+
+    /**
+     * @return the delta as a result: the changed modifications, the changed buses of the voltage profile, and the
+     * indicators, slacks and status of the next result. To update a network, use {@link #apply(Network)}: the
+     * target voltages of unchanged elements may depend on changed buses.
+     */
+    public OpenReacResult getDelta() {
+        return delta;
+    }
+
+    /**
+     * @return the values on the network once the delta is applied: those of the previous result, overridden by those
+     * defined in the delta. The unchanged values of the next result, within the tolerances, are not part of it.
+     */
+    public OpenReacResult getApplied() {
+        return applied;
+    }
+
+    public Set<String> getChangedBuses() {
+        return changedBuses;
+    }
+
+    /**
+     * @return the number of network modifications of the delta.
+     */
+    public int getModificationCount() {
+        return delta.getGeneratorModifications().size()
+                + delta.getBatteryModifications().size()
+                + delta.getShuntsModifications().size()
+                + delta.getSvcModifications().size()
+                + delta.getTapPositionModifications().size()
+                + delta.getVscModifications().size();
+    }
+
+    public boolean isEmpty() {
+        return getModificationCount() == 0 && changedBuses.isEmpty();
+    }
+
+    /**
+     * Applies the delta to a network holding the previous result. The target voltages of ratio tap changers,
+     * shunts and batteries are updated for the changed elements and for the elements regulating a changed bus.
+     * Bus voltages are updated for the changed buses only, if the next result updates the network with voltages.
+     */
+    public void apply(Network network) {
+        Objects.requireNonNull(network);
+        delta.applyModifications(network);
+        next.updateRegulationTargets(network, (elementId, bus) -> changedRegulatingElements.contains(elementId)
+                || changedBuses.contains(bus.getId()));
+        delta.updateBusVoltages(network);
+    }
+
+    private static <T> List<T> changed(List<T> previous, List<T> next, Function<T, String> idGetter, BiPredicate<T, T> equivalent) {
+        Map<String, T> previousById = HashMap.newHashMap(previous.size());
+        previous.forEach(modification -> previousById.put(idGetter.apply(modification), modification));
+        List<T> changed = new ArrayList<>();
+        for (T modification : next) {
+            T previousModification = previousById.get(idGetter.apply(modification));
+            if (previousModification == null || !equivalent.test(previousModification, modification)) {
+                changed.add(modification);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return the previous modifications, overridden by the changed ones, in the order of the previous ones then of
+     * the new ones. A changed modification overrides a previous one through the given merge function, that keeps the
+     * previous values of the fields it leaves undefined.
+     */
+    private static <T> List<T> merged(List<T> previous, List<T> changed, Function<T, String> idGetter, BinaryOperator<T> merge) {
+        Map<String, T> mergedById = LinkedHashMap.newLinkedHashMap(previous.size() + changed.size());
+        previous.forEach(modification -> mergedById.put(idGetter.apply(modification), modification));
+        changed.forEach(modification -> mergedById.merge(idGetter.apply(modification), modification, merge));
+        return List.copyOf(mergedById.values());
+    }
+
+    private static GeneratorModification mergedGenerator(GeneratorModification previous, GeneratorModification changed) {
+        GeneratorModification.Modifs p = previous.getModifs();
+        GeneratorModification.Modifs c = changed.getModifs();
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        modifs.setMinP(orPrevious(c.getMinP(), p.getMinP()));
+        modifs.setMaxP(orPrevious(c.getMaxP(), p.getMaxP()));
+        modifs.setTargetP(orPrevious(c.getTargetP(), p.getTargetP()));
+        modifs.setDeltaTargetP(orPrevious(c.getDeltaTargetP(), p.getDeltaTargetP()));
+        modifs.setTargetV(orPrevious(c.getTargetV(), p.getTargetV()));
+        modifs.setTargetQ(orPrevious(c.getTargetQ(), p.getTargetQ()));
+        modifs.setVoltageRegulatorOn(orPrevious(c.getVoltageRegulatorOn(), p.getVoltageRegulatorOn()));
+        modifs.setConnected(orPrevious(c.getConnected(), p.getConnected()));
+        modifs.setIgnoreCorrectiveOperations(c.isIgnoreCorrectiveOperations());
+        return new GeneratorModification(changed.getGeneratorId(), modifs);
+    }
+
+    private static <V> V orPrevious(V value, V previous) {
+        return value != null ? value : previous;
+    }
+
+    private static Map<String, Pair<Double, Double>> mergedVoltageProfile(Map<String, Pair<Double, Double>> previous,
+                                                                          Map<String, Pair<Double, Double>> changed) {
+        Map<String, Pair<Double, Double>> merged = new HashMap<>(previous);
+        merged.putAll(changed);
+        return merged;
+    }
+
+    private static String tapPositionKey(RatioTapPositionModification modification) {
+        return modification.getTransformerId() + modification.getOptionalLeg().map(leg -> "/" + leg).orElse("");
+    }
+
+    private static boolean unchanged(GeneratorModification.Modifs previous, GeneratorModification.Modifs next, Tolerances tolerances) {
+        return unchanged(previous.getTargetV(), next.getTargetV(), tolerances.getTargetVoltage())
+                && unchanged(previous.getTargetQ(), next.getTargetQ(), tolerances.getReactivePower())
+                && unchanged(previous.getTargetP(), next.getTargetP(), tolerances.getActivePower())
+                && unchanged(previous.getDeltaTargetP(), next.getDeltaTargetP(), tolerances.getActivePower())
+                && unchanged(previous.getMinP(), next.getMinP(), tolerances.getActivePower())
+                && unchanged(previous.getMaxP(), next.getMaxP(), tolerances.getActivePower())
+                && unchanged(previous.getVoltageRegulatorOn(), next.getVoltageRegulatorOn())
+                && unchanged(previous.getConnected(), next.getConnected())
+                && previous.isIgnoreCorrectiveOperations() == next.isIgnoreCorrectiveOperations();
+    }
+
+    private static Map<String, Pair<Double, Double>> changedBuses(Map<String, Pair<Double, Double>> previous,
+                                                                  Map<String, Pair<Double, Double>> next, Tolerances tolerances) {
+        Map<String, Pair<Double, Double>> changed = new HashMap<>();
+        for (Map.Entry<String, Pair<Double, Double>> entry : next.entrySet()) {
+            Pair<Double, Double> previousVoltage = previous.get(entry.getKey());
+            if (previousVoltage == null
+                    || !close(previousVoltage.getFirst(), entry.getValue().getFirst(), tolerances.getBusVoltage())
+                    || !close(previousVoltage.getSecond(), entry.getValue().getSecond(), tolerances.getBusAngle())) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return whether the next value is undefined, that is equal to the one of the network, or equal to the previous
+     * value.
+     */
+    private static <V> boolean unchanged(V previous, V next) {
+        return next == null || next.equals(previous);
+    }
+
+    /**
+     * @return whether the next value is undefined, that is equal to the one of the network, or defined as the previous
+     * one, both NaN or within the tolerance.
+     */
+    private static boolean unchanged(Double previous, Double next, double tolerance) {
+        return next == null || previous != null && close(previous, next, tolerance);
+    }
+
+    /**
+     * Compares two defined values: both NaN or within the tolerance.
+     */
+    private static boolean close(double previous, double next, double tolerance) {
+        if (Double.isNaN(previous) || Double.isNaN(next)) {
+            return Double.isNaN(previous) && Double.isNaN(next);
+        }
+        return Math.abs(previous - next) <= tolerance;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Statistics of the solves of an OpenReac run, read from the indicators written by the AMPL model.
+ * <p>
+ * The indicators missing or unreadable, for instance those of a model predating the statistics, are ignored: the
+ * solve is then absent, or its value unknown.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacSolverStatistics {
+
+    public enum Solve {
+        /**
+         * Computation of the main connected component.
+         */
+        CONNECTED_COMPONENT("cc"),
+        DCOPF("dcopf"),
+        ACOPF("acopf"),
+        /**
+         * Second ACOPF, after the rounding of the transformer taps.
+         */
+        ACOPF_AFTER_ROUNDING("acopf_rounding");
+
+        private final String indicatorPrefix;
+
+        Solve(String indicatorPrefix) {
+            this.indicatorPrefix = indicatorPrefix;
+        }
+
+        public String getIndicatorPrefix() {
+            return indicatorPrefix;
+        }
+    }
+
+    /**
+     * @param resultCode          the <code>solve_result_num</code> of AMPL, at most 103 for a feasible solution.
+     * @param time                the elapsed time of the solve, null if unknown.
+     * @param iterations          the iterations of the solver, negative if unknown.
+     * @param functionEvaluations the evaluations of the functions of the problem, negative if unknown.
+     * @param feasibilityError    the final feasibility error, NaN if unknown.
+     */
+    public record SolveStatistics(int resultCode, Duration time, int iterations, int functionEvaluations,
+                                  double feasibilityError) {
+
+        public boolean isFeasible() {
+            return resultCode <= 103;
+        }
+    }
+
+    static final String TOTAL_ITERATIONS_INDICATOR = "nb_iter_total";
+    static final String AMPL_ELAPSED_TIME_INDICATOR = "_ampl_elapsed_time";
+    static final String TOTAL_SOLVE_TIME_INDICATOR = "_total_solve_time";
+
+    private static final OpenReacSolverStatistics EMPTY = new OpenReacSolverStatistics(new EnumMap<>(Solve.class), -1, null, null);
+
+    private final Map<Solve, SolveStatistics> solves;
+    private final int totalIterations;
+    private final Duration amplElapsedTime;
+    private final Duration totalSolveTime;
+
+    private OpenReacSolverStatistics(Map<Solve, SolveStatistics> solves, int totalIterations, Duration amplElapsedTime,
+                                     Duration totalSolveTime) {
+        this.solves = Collections.unmodifiableMap(solves);
+        this.totalIterations = totalIterations;
+        this.amplElapsedTime = amplElapsedTime;
+        this.totalSolveTime = totalSolveTime;
+    }
+
+    /**
+     * @param indicators the indicators of a run, see {@link OpenReacResult#getIndicators()}.
+     */
+    public static OpenReacSolverStatistics of(Map<String, String> indicators) {
+        Objects.requireNonNull(indicators);
+        Map<Solve, SolveStatistics> solves = new EnumMap<>(Solve.class);
+        for (Solve solve : Solve.values()) {
+            String prefix = solve.getIndicatorPrefix() + "_solve_";
+            int resultCode = getInt(indicators, prefix + "result");
+            // a negative result means that the solve did not happen
+            if (resultCode >= 0) {
+                solves.put(solve, new SolveStatistics(resultCode,
+                        getDuration(indicators, prefix + "time"),
+                        getInt(indicators, prefix + "iterations"),
+                        getInt(indicators, prefix + "function_evaluations"),
+                        getDouble(indicators, prefix + "feasibility_error")));
+            }
+        }
+        int totalIterations = getInt(indicators, TOTAL_ITERATIONS_INDICATOR);
+        Duration amplElapsedTime = getDuration(indicators, AMPL_ELAPSED_TIME_INDICATOR);
+        Duration totalSolveTime = getDuration(indicators, TOTAL_SOLVE_TIME_INDICATOR);
+        if (solves.isEmpty() && totalIterations < 0 && amplElapsedTime == null && totalSolveTime == null) {
+            return EMPTY;
+        }
+        return new OpenReacSolverStatistics(solves, totalIterations, amplElapsedTime, totalSolveTime);
+    }
+
+    public Optional<SolveStatistics> get(Solve solve) {
+        return Optional.ofNullable(solves.get(Objects.requireNonNull(solve)));
+    }
+
+    /**
+     * @return the statistics of the solves that happened, in the order of the run.
+     */
+    public Map<Solve, SolveStatistics> getAll() {
+        return solves;
+    }
+
+    /**
+     * @return the iterations of all the ACOPF solves.
+     */
+    public OptionalInt getTotalIterations() {
+        return totalIterations < 0 ? OptionalInt.empty() : OptionalInt.of(totalIterations);
+    }
+
+    /**
+     * @return the elapsed time of the AMPL process when the indicators were written, the solves included.
+     */
+    public Optional<Duration> getAmplElapsedTime() {
+        return Optional.ofNullable(amplElapsedTime);
+    }
+
+    /**
+     * @return the processor time of all the solves.
+     */
+    public Optional<Duration> getTotalSolveTime() {
+        return Optional.ofNullable(totalSolveTime);
+    }
+
+    private static int getInt(Map<String, String> indicators, String key) {
+        double value = getDouble(indicators, key);
+        return Double.isNaN(value) ? -1 : (int) value;
+    }
+
+    private static Duration getDuration(Map<String, String> indicators, String key) {
+        double seconds = getDouble(indicators, key);
+        return Double.isNaN(seconds) || seconds < 0 ? null : Duration.ofNanos(Math.round(seconds * 1e9));
+    }
+
+    private static double getDouble(Map<String, String> indicators, String key) {
+        String value = indicators.get(key);
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OpenReacSolverStatistics(solves=" + solves + ", totalIterations=" + totalIterations
+                + ", amplElapsedTime=" + amplElapsedTime + ", totalSolveTime=" + totalSolveTime + ")";
+    }
+}
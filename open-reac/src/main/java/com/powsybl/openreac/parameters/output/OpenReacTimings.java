@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import com.powsybl.optimizer.commons.metrics.OptimizerMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Wall time and JVM allocations of the phases of an OpenReac run, forwarded to the {@link OptimizerMetrics} of the
+ * run once the result is built, then as they are measured, for instance {@link Phase#APPLY_MODIFICATIONS} when the
+ * modifications are applied.
+ * <p>
+ * The allocations are those of the thread of the phase, when the JVM measures them, and are negative for the
+ * phases happening in another process or across threads.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacTimings {
+
+    public static final String OPTIMIZER_NAME = "open-reac";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+    public enum Phase {
+        /**
+         * Validation of the parameters against the network.
+         */
+        VALIDATION,
+        /**
+         * Detection of the parallel transformers.
+         */
+        PARALLEL_TRANSFORMERS_DETECTION,
+        /**
+         * Preparation of the other AMPL inputs.
+         */
+        INPUT_PREPARATION,
+        /**
+         * Export of the network and writing of the inputs in the working directory, the wait for a thread of the
+         * computation manager included.
+         */
+        NETWORK_EXPORT,
+        /**
+         * Execution of the AMPL process.
+         */
+        AMPL_PROCESS,
+        /**
+         * Reading of the outputs by the AMPL executor. In lazy results mode, the outputs are only copied then, and
+         * their parsing on first access is not measured.
+         */
+        OUTPUT_PARSING,
+        /**
+         * Application of all the modifications by {@link OpenReacResult#applyAllModifications}.
+         */
+        APPLY_MODIFICATIONS
+    }
+
+    /**
+     * @param allocatedBytes bytes allocated by the thread of the phase, negative if unknown.
+     */
+    public record PhaseTiming(Duration duration, long allocatedBytes) {
+    }
+
+    private final OptimizerMetrics metrics;
+
+    // state guarded by this
+    private final Map<Phase, PhaseTiming> timings = new EnumMap<>(Phase.class);
+    private boolean published;
+
+    public OpenReacTimings(OptimizerMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Measure of a phase running in a single thread.
+     */
+    public final class Timer {
+
+        private final long startNanos = System.nanoTime();
+        private final long startAllocatedBytes = allocatedBytes();
+
+        private Timer() {
+        }
+
+        /**
+         * Adds the time and the allocations since the start of the timer to the phase.
+         */
+        public void stop(Phase phase) {
+            long allocatedBytes = allocatedBytes();
+            add(phase, Duration.ofNanos(System.nanoTime() - startNanos),
+                    startAllocatedBytes < 0 || allocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes);
+        }
+    }
+
+    public Timer start() {
+        return new Timer();
+    }
+
+    /**
+     * Adds a measure to the phase, which may be measured in several parts. Once the timings are published, the
+     * measure is also forwarded to the metrics.
+     *
+     * @param allocatedBytes negative if unknown, the allocations of the phase being then unknown.
+     */
+    public void add(Phase phase, Duration duration, long allocatedBytes) {
+        Objects.requireNonNull(phase);
+        Objects.requireNonNull(duration);
+        boolean forward;
+        synchronized (this) {
+            timings.merge(phase, new PhaseTiming(duration, allocatedBytes), (t1, t2) -> new PhaseTiming(t1.duration().plus(t2.duration()),
+                    t1.allocatedBytes() < 0 || t2.allocatedBytes() < 0 ? -1 : t1.allocatedBytes() + t2.allocatedBytes()));
+            forward = published;
+        }
+        if (forward) {
+            record(phase, new PhaseTiming(duration, allocatedBytes));
+        }
+    }
+
+    public synchronized Optional<PhaseTiming> get(Phase phase) {
+        return Optional.ofNullable(timings.get(phase));
+    }
+
+    public synchronized Map<Phase, PhaseTiming> getAll() {
+        return Collections.unmodifiableMap(new EnumMap<>(timings));
+    }
+
+    /**
+     * @return the sum of the wall times of the phases measured.
+     */
+    public synchronized Duration getTotalDuration() {
+        return timings.values().stream().map(PhaseTiming::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Forwards the phases measured so far to the metrics, then the next measures as they are added. Only the first
+     * call has an effect.
+     */
+    public void publish() {
+        Map<Phase, PhaseTiming> toPublish;
+        synchronized (this) {
+            if (published) {
+                return;
+            }
+            published = true;
+            toPublish = new EnumMap<>(timings);
+        }
+        toPublish.forEach(this::record);
+    }
+
+    private void record(Phase phase, PhaseTiming timing) {
+        metrics.recordPhase(OPTIMIZER_NAME, phase.name().toLowerCase(Locale.ROOT), timing.duration(), timing.allocatedBytes());
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN != null && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()
+                ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes()
+                : -1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "OpenReacTimings" + timings;
+    }
+}
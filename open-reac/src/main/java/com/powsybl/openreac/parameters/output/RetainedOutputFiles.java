@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.ampl.executor.AmplOutputFile;
+import com.powsybl.commons.util.StringToIntMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the raw output files of an OpenReac run in a private directory, so that each of them is
+ * parsed only when the corresponding result section is first accessed.
+ * <p>
+ * The outputs given to {@link #retain(AmplOutputFile)} are wrapped so that the AMPL executor copies
+ * their file here instead of reading it. A retained file is parsed at most once, by the first thread
+ * asking for it, and deleted right after. The remaining files are released by {@link #close()} or,
+ * at the latest, when this object becomes unreachable.
+ * <p>
+ * The outputs read against the network capture the values they need when the run ends, see
+ * {@link com.powsybl.openreac.parameters.OpenReacAmplIOFiles#captureNetworkView()}, so that lazy sections
+ * can be accessed after the network was modified.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class RetainedOutputFiles implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetainedOutputFiles.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Path directory;
+    private final Map<AmplOutputFile, RetainedFile> files = new ConcurrentHashMap<>();
+    private final Cleaner.Cleanable cleanable;
+    private volatile StringToIntMapper<AmplSubset> mapper;
+    private volatile boolean closed = false;
+
+    private RetainedOutputFiles(Path directory) {
+        this.directory = directory;
+        this.cleanable = CLEANER.register(this, new DirectoryCleanup(directory));
+    }
+
+    /**
+     * Creates the retention directory of a run in the given parent directory.
+     */
+    public static RetainedOutputFiles create(Path parentDirectory) {
+        Objects.requireNonNull(parentDirectory);
+        try {
+            return new RetainedOutputFiles(Files.createTempDirectory(parentDirectory, "openreac_results_"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return an output file that, when read by the AMPL executor, copies its content in the retention
+     * directory instead of parsing it.
+     */
+    public AmplOutputFile retain(AmplOutputFile output) {
+        Objects.requireNonNull(output);
+        RetainedFile retainedFile = files.computeIfAbsent(output, RetainedFile::new);
+        return new RetainingOutputFile(retainedFile);
+    }
+
+    /**
+     * Parses the retained file of the given output, if any and if not done yet.
+     * Outputs that were never retained or whose file was missing are left untouched.
+     *
+     * @throws IllegalStateException if the files have been released before the output was parsed.
+     */
+    public void parse(AmplOutputFile output) {
+        RetainedFile retainedFile = files.get(output);
+        if (retainedFile != null) {
+            retainedFile.parse();
+        }
+    }
+
+    /**
+     * Runs the given action once the output has been parsed: immediately if there is nothing left to parse,
+     * right after the lazy parsing otherwise.
+     */
+    public void whenParsed(AmplOutputFile output, Runnable action) {
+        Objects.requireNonNull(action);
+        RetainedFile retainedFile = files.get(output);
+        if (retainedFile == null || !retainedFile.addParsedAction(action)) {
+            action.run();
+        }
+    }
+
+    /**
+     * @return a thread-safe memoized supplier, that parses the output on first call and then extracts the value from it.
+     */
+    public <T> Supplier<T> section(AmplOutputFile output, Supplier<T> extractor) {
+        Objects.requireNonNull(extractor);
+        return new Section<>(() -> {
+            parse(output);
+            return extractor.get();
+        });
+    }
+
+    /**
+     * @return the mapper of the run, known once a file is retained.
+     */
+    public Optional<StringToIntMapper<AmplSubset>> getMapper() {
+        return Optional.ofNullable(mapper);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Deletes the retained files. Sections not parsed yet can not be accessed anymore.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cleanable.clean();
+    }
+
+    private final class RetainedFile {
+
+        private final AmplOutputFile output;
+        private final List<Runnable> parsedActions = new ArrayList<>();
+        private Path file;
+        private boolean parsed = false;
+
+        private RetainedFile(AmplOutputFile output) {
+            this.output = output;
+        }
+
+        private synchronized void copy(BufferedReader reader, StringToIntMapper<AmplSubset> stringToIntMapper) throws IOException {
+            Path copy = directory.resolve(output.getFileName());
+            try (BufferedWriter writer = Files.newBufferedWriter(copy, StandardCharsets.UTF_8)) {
+                reader.transferTo(writer);
+            }
+            mapper = stringToIntMapper;
+            file = copy;
+        }
+
+        private synchronized boolean addParsedAction(Runnable action) {
+            if (parsed || file == null) {
+                return false;
+            }
+            parsedActions.add(action);
+            return true;
+        }
+
+        private void parse() {
+            List<Runnable> actions;
+            synchronized (this) {
+                if (parsed || file == null) {
+                    return;
+                }
+                if (closed) {
+                    throw new IllegalStateException("Output file " + output.getFileName() + " has been released before being parsed");
+                }
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    output.read(reader, mapper);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                parsed = true;
+                deleteQuietly(file);
+                actions = List.copyOf(parsedActions);
+                parsedActions.clear();
+            }
+            actions.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Output file handed to the AMPL executor in place of the real output.
+     */
+    private static final class RetainingOutputFile implements AmplOutputFile {
+
+        private final RetainedFile retainedFile;
+
+        private RetainingOutputFile(RetainedFile retainedFile) {
+            this.retainedFile = retainedFile;
+        }
+
+        @Override
+        public String getFileName() {
+            return retainedFile.output.getFileName();
+        }
+
+        @Override
+        public boolean throwOnMissingFile() {
+            // missing files are known at execution time, the error state is set right away
+            return retainedFile.output.throwOnMissingFile();
+        }
+
+        @Override
+        public void read(BufferedReader reader, StringToIntMapper<AmplSubset> stringToIntMapper) throws IOException {
+            retainedFile.copy(reader, stringToIntMapper);
+        }
+    }
+
+    private static final class Section<T> implements Supplier<T> {
+
+        private Supplier<T> loader;
+        private volatile T value;
+
+        private Section(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = Objects.requireNonNull(loader.get());
+                        value = result;
+                        loader = null;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Must not reference the {@link RetainedOutputFiles} instance, otherwise it would never become phantom reachable.
+     */
+    private record DirectoryCleanup(Path directory) implements Runnable {
+
+        @Override
+        public void run() {
+            if (!Files.exists(directory)) {
+                return;
+            }
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(RetainedOutputFiles::deleteQuietly);
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.warn("Could not release retained OpenReac output files in {}", directory, e);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete retained OpenReac output file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.NetworkModification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Columnar storage of the network modifications of one element type: the element ids are indexes in a shared
+ * {@link IdDictionary}, values are stored in primitive arrays and a bitmask per element tells which fields are set.
+ * A column whose field is set on no element is not allocated.
+ * <p>
+ * {@link NetworkModification} objects are only materialized on request, through {@link #get(int)},
+ * {@link #toList()} or {@link #forEach(Consumer)}. Instances are immutable.
+ *
+ * @param <T> the type of the stored modifications.
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public abstract class AbstractCompactModifications<T extends NetworkModification> {
+
+    protected final IdDictionary dictionary;
+    protected final int[] ids;
+    /**
+     * One bitmask per element, subclasses define the meaning of each bit.
+     */
+    protected final int[] masks;
+
+    protected AbstractCompactModifications(IdDictionary dictionary, List<T> modifications, Function<T, String> idGetter) {
+        this.dictionary = Objects.requireNonNull(dictionary);
+        this.ids = new int[modifications.size()];
+        this.masks = new int[modifications.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.intern(idGetter.apply(modifications.get(i)));
+        }
+    }
+
+    /**
+     * Builds the storage directly from its columns, no copy is made.
+     */
+    protected AbstractCompactModifications(IdDictionary dictionary, int[] ids, int[] masks) {
+        this.dictionary = Objects.requireNonNull(dictionary);
+        this.ids = Objects.requireNonNull(ids);
+        this.masks = Objects.requireNonNull(masks);
+        if (ids.length != masks.length) {
+            throw new IllegalArgumentException("Ids and masks columns must have the same size");
+        }
+    }
+
+    public IdDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public String getId(int index) {
+        return dictionary.getId(ids[index]);
+    }
+
+    public int getIdIndex(int index) {
+        return ids[index];
+    }
+
+    public int getMask(int index) {
+        return masks[index];
+    }
+
+    protected boolean isSet(int index, int bit) {
+        return (masks[index] & bit) != 0;
+    }
+
+    /**
+     * Materializes the modification stored at the given index.
+     */
+    public abstract T get(int index);
+
+    /**
+     * Materializes all the modifications, in their original order.
+     */
+    public List<T> toList() {
+        List<T> modifications = new ArrayList<>(ids.length);
+        forEach(modifications::add);
+        return modifications;
+    }
+
+    /**
+     * Materializes the modifications one by one, without building a list.
+     */
+    public void forEach(Consumer<? super T> consumer) {
+        for (int i = 0; i < ids.length; i++) {
+            consumer.accept(get(i));
+        }
+    }
+
+    /**
+     * Fills the column of a nullable double field, setting the presence bit of the elements where it is defined.
+     *
+     * @return the column, <code>null</code> if the field is defined on no element.
+     */
+    protected double[] doubleColumn(List<T> modifications, int presenceBit, Function<T, Double> getter) {
+        double[] column = null;
+        for (int i = 0; i < ids.length; i++) {
+            Double value = getter.apply(modifications.get(i));
+            if (value != null) {
+                if (column == null) {
+                    column = new double[ids.length];
+                }
+                column[i] = value;
+                masks[i] |= presenceBit;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Stores a nullable boolean field in the masks only: one bit for presence, one for the value.
+     */
+    protected void booleanColumn(List<T> modifications, int presenceBit, int valueBit, Function<T, Boolean> getter) {
+        for (int i = 0; i < ids.length; i++) {
+            Boolean value = getter.apply(modifications.get(i));
+            if (value != null) {
+                masks[i] |= presenceBit;
+                if (value) {
+                    masks[i] |= valueBit;
+                }
+            }
+        }
+    }
+
+    protected Double boxedDouble(double[] column, int index, int presenceBit) {
+        return isSet(index, presenceBit) ? column[index] : null;
+    }
+
+    protected double primitiveDouble(double[] column, int index, int presenceBit) {
+        return isSet(index, presenceBit) ? column[index] : Double.NaN;
+    }
+
+    protected Boolean boxedBoolean(int index, int presenceBit, int valueBit) {
+        return isSet(index, presenceBit) ? isSet(index, valueBit) : null;
+    }
+
+    /**
+     * Checks a column given to a subclass constructor: either absent or of the size of the ids column.
+     */
+    protected double[] checkColumn(double[] column) {
+        if (column != null && column.length != ids.length) {
+            throw new IllegalArgumentException("Column size " + column.length + " differs from the number of elements " + ids.length);
+        }
+        return column;
+    }
+
+    /**
+     * Checks a column given to a subclass constructor: either absent or of the size of the ids column.
+     */
+    protected int[] checkColumn(int[] column) {
+        if (column != null && column.length != ids.length) {
+            throw new IllegalArgumentException("Column size " + column.length + " differs from the number of elements " + ids.length);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.BatteryModification;
+
+import java.util.List;
+
+/**
+ * Columnar storage of {@link BatteryModification}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactBatteryModifications extends AbstractCompactModifications<BatteryModification> {
+
+    public static final int TARGET_P = 1;
+    public static final int TARGET_Q = 1 << 1;
+
+    private final double[] targetP;
+    private final double[] targetQ;
+
+    public CompactBatteryModifications(IdDictionary dictionary, List<BatteryModification> modifications) {
+        super(dictionary, modifications, BatteryModification::getBatteryId);
+        targetP = doubleColumn(modifications, TARGET_P, BatteryModification::getTargetP);
+        targetQ = doubleColumn(modifications, TARGET_Q, BatteryModification::getTargetQ);
+    }
+
+    CompactBatteryModifications(IdDictionary dictionary, int[] ids, int[] masks, double[] targetP, double[] targetQ) {
+        super(dictionary, ids, masks);
+        this.targetP = checkColumn(targetP);
+        this.targetQ = checkColumn(targetQ);
+    }
+
+    /**
+     * @return the target active power of the element at the given index, NaN if not modified.
+     */
+    public double getTargetP(int index) {
+        return primitiveDouble(targetP, index, TARGET_P);
+    }
+
+    /**
+     * @return the target reactive power of the element at the given index, NaN if not modified.
+     */
+    public double getTargetQ(int index) {
+        return primitiveDouble(targetQ, index, TARGET_Q);
+    }
+
+    @Override
+    public BatteryModification get(int index) {
+        return new BatteryModification(getId(index), boxedDouble(targetP, index, TARGET_P), boxedDouble(targetQ, index, TARGET_Q));
+    }
+
+    double[] getTargetPColumn() {
+        return targetP;
+    }
+
+    double[] getTargetQColumn() {
+        return targetQ;
+    }
+}
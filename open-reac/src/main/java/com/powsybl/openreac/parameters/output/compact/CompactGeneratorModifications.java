@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.GeneratorModification;
+
+import java.util.List;
+
+/**
+ * Columnar storage of {@link GeneratorModification}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactGeneratorModifications extends AbstractCompactModifications<GeneratorModification> {
+
+    public static final int MIN_P = 1;
+    public static final int MAX_P = 1 << 1;
+    public static final int TARGET_P = 1 << 2;
+    public static final int DELTA_TARGET_P = 1 << 3;
+    public static final int TARGET_V = 1 << 4;
+    public static final int TARGET_Q = 1 << 5;
+    public static final int VOLTAGE_REGULATOR_ON = 1 << 6;
+    public static final int VOLTAGE_REGULATOR_ON_VALUE = 1 << 7;
+    public static final int CONNECTED = 1 << 8;
+    public static final int CONNECTED_VALUE = 1 << 9;
+    public static final int IGNORE_CORRECTIVE_OPERATIONS = 1 << 10;
+
+    private final double[] minP;
+    private final double[] maxP;
+    private final double[] targetP;
+    private final double[] deltaTargetP;
+    private final double[] targetV;
+    private final double[] targetQ;
+
+    public CompactGeneratorModifications(IdDictionary dictionary, List<GeneratorModification> modifications) {
+        super(dictionary, modifications, GeneratorModification::getGeneratorId);
+        minP = doubleColumn(modifications, MIN_P, m -> m.getModifs().getMinP());
+        maxP = doubleColumn(modifications, MAX_P, m -> m.getModifs().getMaxP());
+        targetP = doubleColumn(modifications, TARGET_P, m -> m.getModifs().getTargetP());
+        deltaTargetP = doubleColumn(modifications, DELTA_TARGET_P, m -> m.getModifs().getDeltaTargetP());
+        targetV = doubleColumn(modifications, TARGET_V, m -> m.getModifs().getTargetV());
+        targetQ = doubleColumn(modifications, TARGET_Q, m -> m.getModifs().getTargetQ());
+        booleanColumn(modifications, VOLTAGE_REGULATOR_ON, VOLTAGE_REGULATOR_ON_VALUE, m -> m.getModifs().getVoltageRegulatorOn());
+        booleanColumn(modifications, CONNECTED, CONNECTED_VALUE, m -> m.getModifs().getConnected());
+        booleanColumn(modifications, IGNORE_CORRECTIVE_OPERATIONS, IGNORE_CORRECTIVE_OPERATIONS, m -> m.getModifs().isIgnoreCorrectiveOperations() ? Boolean.TRUE : null);
+    }
+
+    CompactGeneratorModifications(IdDictionary dictionary, int[] ids, int[] masks, double[] minP, double[] maxP, double[] targetP,
+                                  double[] deltaTargetP, double[] targetV, double[] targetQ) {
+        super(dictionary, ids, masks);
+        this.minP = checkColumn(minP);
+        this.maxP = checkColumn(maxP);
+        this.targetP = checkColumn(targetP);
+        this.deltaTargetP = checkColumn(deltaTargetP);
+        this.targetV = checkColumn(targetV);
+        this.targetQ = checkColumn(targetQ);
+    }
+
+    /**
+     * @return the target voltage of the element at the given index, NaN if not modified.
+     */
+    public double getTargetV(int index) {
+        return primitiveDouble(targetV, index, TARGET_V);
+    }
+
+    /**
+     * @return the target reactive power of the element at the given index, NaN if not modified.
+     */
+    public double getTargetQ(int index) {
+        return primitiveDouble(targetQ, index, TARGET_Q);
+    }
+
+    @Override
+    public GeneratorModification get(int index) {
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        modifs.setMinP(boxedDouble(minP, index, MIN_P));
+        modifs.setMaxP(boxedDouble(maxP, index, MAX_P));
+        modifs.setTargetP(boxedDouble(targetP, index, TARGET_P));
+        modifs.setDeltaTargetP(boxedDouble(deltaTargetP, index, DELTA_TARGET_P));
+        modifs.setTargetV(boxedDouble(targetV, index, TARGET_V));
+        modifs.setTargetQ(boxedDouble(targetQ, index, TARGET_Q));
+        modifs.setVoltageRegulatorOn(boxedBoolean(index, VOLTAGE_REGULATOR_ON, VOLTAGE_REGULATOR_ON_VALUE));
+        modifs.setConnected(boxedBoolean(index, CONNECTED, CONNECTED_VALUE));
+        modifs.setIgnoreCorrectiveOperations(isSet(index, IGNORE_CORRECTIVE_OPERATIONS));
+        return new GeneratorModification(getId(index), modifs);
+    }
+
+    double[] getMinPColumn() {
+        return minP;
+    }
+
+    double[] getMaxPColumn() {
+        return maxP;
+    }
+
+    double[] getTargetPColumn() {
+        return targetP;
+    }
+
+    double[] getDeltaTargetPColumn() {
+        return deltaTargetP;
+    }
+
+    double[] getTargetVColumn() {
+        return targetV;
+    }
+
+    double[] getTargetQColumn() {
+        return targetQ;
+    }
+}
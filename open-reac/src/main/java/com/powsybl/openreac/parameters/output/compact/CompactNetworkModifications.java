@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.NetworkModification;
+import com.powsybl.iidm.modification.StaticVarCompensatorModification;
+import com.powsybl.iidm.modification.VscConverterStationModification;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Compact, columnar copy of the network modifications of an {@link OpenReacResult}, meant to keep many results
+ * in memory, for instance for the post-processing of a campaign. All the results computed on the same network
+ * should share the same {@link IdDictionary}.
+ * <p>
+ * The modifications are enumerated in the order of {@link OpenReacResult#getAllNetworkModifications()}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactNetworkModifications {
+
+    private final CompactGeneratorModifications generatorModifications;
+    private final CompactBatteryModifications batteryModifications;
+    private final CompactShuntCompensatorModifications shuntModifications;
+    private final CompactSetpointModifications<StaticVarCompensatorModification> svcModifications;
+    private final CompactTapPositionModifications tapPositionModifications;
+    private final CompactSetpointModifications<VscConverterStationModification> vscModifications;
+
+    CompactNetworkModifications(CompactGeneratorModifications generatorModifications,
+                                CompactBatteryModifications batteryModifications,
+                                CompactShuntCompensatorModifications shuntModifications,
+                                CompactSetpointModifications<StaticVarCompensatorModification> svcModifications,
+                                CompactTapPositionModifications tapPositionModifications,
+                                CompactSetpointModifications<VscConverterStationModification> vscModifications) {
+        this.generatorModifications = Objects.requireNonNull(generatorModifications);
+        this.batteryModifications = Objects.requireNonNull(batteryModifications);
+        this.shuntModifications = Objects.requireNonNull(shuntModifications);
+        this.svcModifications = Objects.requireNonNull(svcModifications);
+        this.tapPositionModifications = Objects.requireNonNull(tapPositionModifications);
+        this.vscModifications = Objects.requireNonNull(vscModifications);
+    }
+
+    public static CompactNetworkModifications of(OpenReacResult result, IdDictionary dictionary) {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(dictionary);
+        return new CompactNetworkModifications(
+                new CompactGeneratorModifications(dictionary, result.getGeneratorModifications()),
+                new CompactBatteryModifications(dictionary, result.getBatteryModifications()),
+                new CompactShuntCompensatorModifications(dictionary, result.getShuntsModifications()),
+                CompactSetpointModifications.ofSvc(dictionary, result.getSvcModifications()),
+                new CompactTapPositionModifications(dictionary, result.getTapPositionModifications()),
+                CompactSetpointModifications.ofVsc(dictionary, result.getVscModifications()));
+    }
+
+    public CompactGeneratorModifications getGeneratorModifications() {
+        return generatorModifications;
+    }
+
+    public CompactBatteryModifications getBatteryModifications() {
+        return batteryModifications;
+    }
+
+    public CompactShuntCompensatorModifications getShuntModifications() {
+        return shuntModifications;
+    }
+
+    public CompactSetpointModifications<StaticVarCompensatorModification> getSvcModifications() {
+        return svcModifications;
+    }
+
+    public CompactTapPositionModifications getTapPositionModifications() {
+        return tapPositionModifications;
+    }
+
+    public CompactSetpointModifications<VscConverterStationModification> getVscModifications() {
+        return vscModifications;
+    }
+
+    /**
+     * @return the total number of modifications, all element types included.
+     */
+    public int size() {
+        return generatorModifications.size() + batteryModifications.size() + shuntModifications.size()
+                + svcModifications.size() + tapPositionModifications.size() + vscModifications.size();
+    }
+
+    /**
+     * Materializes the modifications one by one, without building a combined list.
+     */
+    public void forEachNetworkModification(Consumer<? super NetworkModification> consumer) {
+        generatorModifications.forEach(consumer);
+        batteryModifications.forEach(consumer);
+        shuntModifications.forEach(consumer);
+        svcModifications.forEach(consumer);
+        tapPositionModifications.forEach(consumer);
+        vscModifications.forEach(consumer);
+    }
+
+    /**
+     * Materializes all the modifications in a new list.
+     */
+    public List<NetworkModification> getAllNetworkModifications() {
+        List<NetworkModification> modifications = new ArrayList<>(size());
+        forEachNetworkModification(modifications::add);
+        return modifications;
+    }
+}
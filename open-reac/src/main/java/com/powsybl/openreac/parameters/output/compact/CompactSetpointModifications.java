@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.AbstractSetpointModification;
+import com.powsybl.iidm.modification.StaticVarCompensatorModification;
+import com.powsybl.iidm.modification.VscConverterStationModification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Columnar storage of voltage and reactive power setpoint modifications, that is
+ * {@link StaticVarCompensatorModification} and {@link VscConverterStationModification}.
+ *
+ * @param <T> the type of the stored modifications.
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactSetpointModifications<T extends AbstractSetpointModification<?>> extends AbstractCompactModifications<T> {
+
+    public static final int VOLTAGE_SETPOINT = 1;
+    public static final int REACTIVE_POWER_SETPOINT = 1 << 1;
+
+    /**
+     * Builds a setpoint modification from an element id, a voltage setpoint and a reactive power setpoint.
+     */
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create(String id, Double voltageSetpoint, Double reactivePowerSetpoint);
+    }
+
+    private final Factory<T> factory;
+    private final double[] voltageSetpoints;
+    private final double[] reactivePowerSetpoints;
+
+    private CompactSetpointModifications(IdDictionary dictionary, List<T> modifications, Function<T, String> idGetter, Factory<T> factory) {
+        super(dictionary, modifications, idGetter);
+        this.factory = factory;
+        voltageSetpoints = doubleColumn(modifications, VOLTAGE_SETPOINT, AbstractSetpointModification::getVoltageSetpoint);
+        reactivePowerSetpoints = doubleColumn(modifications, REACTIVE_POWER_SETPOINT, AbstractSetpointModification::getReactivePowerSetpoint);
+    }
+
+    CompactSetpointModifications(IdDictionary dictionary, int[] ids, int[] masks, double[] voltageSetpoints,
+                                 double[] reactivePowerSetpoints, Factory<T> factory) {
+        super(dictionary, ids, masks);
+        this.factory = Objects.requireNonNull(factory);
+        this.voltageSetpoints = checkColumn(voltageSetpoints);
+        this.reactivePowerSetpoints = checkColumn(reactivePowerSetpoints);
+    }
+
+    public static CompactSetpointModifications<StaticVarCompensatorModification> ofSvc(IdDictionary dictionary,
+                                                                                      List<StaticVarCompensatorModification> modifications) {
+        return new CompactSetpointModifications<>(dictionary, modifications, StaticVarCompensatorModification::getStaticVarCompensatorId,
+                StaticVarCompensatorModification::new);
+    }
+
+    public static CompactSetpointModifications<VscConverterStationModification> ofVsc(IdDictionary dictionary,
+                                                                                     List<VscConverterStationModification> modifications) {
+        return new CompactSetpointModifications<>(dictionary, modifications, VscConverterStationModification::getVscConverterStationId,
+                VscConverterStationModification::new);
+    }
+
+    /**
+     * @return the voltage setpoint of the element at the given index, NaN if not modified.
+     */
+    public double getVoltageSetpoint(int index) {
+        return primitiveDouble(voltageSetpoints, index, VOLTAGE_SETPOINT);
+    }
+
+    /**
+     * @return the reactive power setpoint of the element at the given index, NaN if not modified.
+     */
+    public double getReactivePowerSetpoint(int index) {
+        return primitiveDouble(reactivePowerSetpoints, index, REACTIVE_POWER_SETPOINT);
+    }
+
+    @Override
+    public T get(int index) {
+        return factory.create(getId(index), boxedDouble(voltageSetpoints, index, VOLTAGE_SETPOINT),
+                boxedDouble(reactivePowerSetpoints, index, REACTIVE_POWER_SETPOINT));
+    }
+
+    double[] getVoltageSetpointColumn() {
+        return voltageSetpoints;
+    }
+
+    double[] getReactivePowerSetpointColumn() {
+        return reactivePowerSetpoints;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.ShuntCompensatorModification;
+
+import java.util.List;
+
+/**
+ * Columnar storage of {@link ShuntCompensatorModification}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactShuntCompensatorModifications extends AbstractCompactModifications<ShuntCompensatorModification> {
+
+    public static final int CONNECT = 1;
+    public static final int CONNECT_VALUE = 1 << 1;
+    public static final int SECTION_COUNT = 1 << 2;
+
+    private final int[] sectionCounts;
+
+    public CompactShuntCompensatorModifications(IdDictionary dictionary, List<ShuntCompensatorModification> modifications) {
+        super(dictionary, modifications, ShuntCompensatorModification::getShuntCompensatorId);
+        booleanColumn(modifications, CONNECT, CONNECT_VALUE, ShuntCompensatorModification::getConnect);
+        int[] column = null;
+        for (int i = 0; i < ids.length; i++) {
+            Integer sectionCount = modifications.get(i).getSectionCount();
+            if (sectionCount != null) {
+                if (column == null) {
+                    column = new int[ids.length];
+                }
+                column[i] = sectionCount;
+                masks[i] |= SECTION_COUNT;
+            }
+        }
+        sectionCounts = column;
+    }
+
+    CompactShuntCompensatorModifications(IdDictionary dictionary, int[] ids, int[] masks, int[] sectionCounts) {
+        super(dictionary, ids, masks);
+        this.sectionCounts = checkColumn(sectionCounts);
+    }
+
+    /**
+     * @return the section count of the element at the given index, -1 if not modified.
+     */
+    public int getSectionCount(int index) {
+        return isSet(index, SECTION_COUNT) ? sectionCounts[index] : -1;
+    }
+
+    @Override
+    public ShuntCompensatorModification get(int index) {
+        return new ShuntCompensatorModification(getId(index), boxedBoolean(index, CONNECT, CONNECT_VALUE),
+                isSet(index, SECTION_COUNT) ? sectionCounts[index] : null);
+    }
+
+    int[] getSectionCountColumn() {
+        return sectionCounts;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.ThreeSides;
+
+import java.util.List;
+
+/**
+ * Columnar storage of {@link RatioTapPositionModification}. The leg of three windings transformers, if any,
+ * is stored in the masks.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class CompactTapPositionModifications extends AbstractCompactModifications<RatioTapPositionModification> {
+
+    /**
+     * The two bits holding the leg number, 0 when there is no leg.
+     */
+    public static final int LEG = 0b11;
+
+    private final int[] tapPositions;
+
+    public CompactTapPositionModifications(IdDictionary dictionary, List<RatioTapPositionModification> modifications) {
+        super(dictionary, modifications, RatioTapPositionModification::getTransformerId);
+        tapPositions = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            RatioTapPositionModification modification = modifications.get(i);
+            tapPositions[i] = modification.getTapPosition();
+            masks[i] = modification.getOptionalLeg().map(ThreeSides::getNum).orElse(0);
+        }
+    }
+
+    CompactTapPositionModifications(IdDictionary dictionary, int[] ids, int[] masks, int[] tapPositions) {
+        super(dictionary, ids, masks);
+        if (tapPositions.length != ids.length) {
+            throw new IllegalArgumentException("Column size " + tapPositions.length + " differs from the number of elements " + ids.length);
+        }
+        this.tapPositions = tapPositions;
+    }
+
+    public int getTapPosition(int index) {
+        return tapPositions[index];
+    }
+
+    @Override
+    public RatioTapPositionModification get(int index) {
+        int leg = masks[index] & LEG;
+        return leg == 0 ? new RatioTapPositionModification(getId(index), tapPositions[index])
+                : new RatioTapPositionModification(getId(index), tapPositions[index], ThreeSides.valueOf(leg));
+    }
+
+    int[] getTapPositionColumn() {
+        return tapPositions;
+    }
+}
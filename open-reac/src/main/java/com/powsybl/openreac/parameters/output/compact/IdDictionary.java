@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Append-only dictionary of element ids, meant to be shared by all the compact results computed on the same
+ * network, so that each id string is stored once whatever the number of results.
+ * <p>
+ * Thread safe: ids can be interned concurrently, and looked up without locking.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class IdDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private volatile String[] ids = new String[INITIAL_CAPACITY];
+    private volatile int size = 0;
+
+    /**
+     * @return the index of the id, which is added to the dictionary if not known yet.
+     */
+    public synchronized int intern(String id) {
+        Objects.requireNonNull(id);
+        Integer index = indexes.get(id);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = size;
+        String[] current = ids;
+        if (newIndex == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+            ids = current;
+        }
+        current[newIndex] = id;
+        indexes.put(id, newIndex);
+        // volatile write last: a reader seeing the new size also sees the id
+        size = newIndex + 1;
+        return newIndex;
+    }
+
+    /**
+     * @return the index of the id, -1 if unknown.
+     */
+    public synchronized int indexOf(String id) {
+        return indexes.getOrDefault(id, -1);
+    }
+
+    public String getId(int index) {
+        int currentSize = size;
+        Objects.checkIndex(index, currentSize);
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+}
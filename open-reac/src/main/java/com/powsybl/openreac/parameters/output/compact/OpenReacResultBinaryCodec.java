@@ -0,0 +1,515 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.modification.NetworkModification;
+import com.powsybl.iidm.modification.StaticVarCompensatorModification;
+import com.powsybl.iidm.modification.VscConverterStationModification;
+import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput.FixedParallelTransformer;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.ReactiveSlackOutput.ReactiveSlack;
+import org.jgrapht.alg.util.Pair;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Versioned binary codec of {@link OpenReacResult}, meant for result archives.
+ * <p>
+ * The stream starts with a magic number and the format version, followed by the status, the indicators and one
+ * section per result part, in the order of {@link OpenReacResult#getAllNetworkModifications()} for modifications,
+ * then reactive slacks, fixed parallel transformers and voltage profile. Element ids are dictionary encoded: each
+ * section starts with the ids not seen yet in the stream, and then refers to ids by their index. Values are written
+ * column by column (see {@link AbstractCompactModifications}), integers as variable length quantities and doubles
+ * as raw IEEE 754 values, so that they are read back exactly.
+ * <p>
+ * Both reading and writing are done in a single pass over the stream, which is not closed. Reading stops right
+ * after the result, so several results can be stored one after the other in the same stream; the input stream
+ * should then be buffered by the caller. A truncated or corrupt stream is reported by a {@link PowsyblException}.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class OpenReacResultBinaryCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4F524252; // "ORBR"
+
+    /**
+     * Maximum number of elements allocated before they are read, so that a corrupt size does not allocate more than
+     * the stream actually holds.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private OpenReacResultBinaryCodec() {
+    }
+
+    public static void write(OpenReacResult result, Path file) {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(result, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(OpenReacResult result, OutputStream os) {
+        Objects.requireNonNull(result);
+        Objects.requireNonNull(os);
+        try {
+            new Writer(os).write(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static OpenReacResult read(Path file) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static OpenReacResult read(InputStream is) {
+        Objects.requireNonNull(is);
+        try {
+            return new Reader(is).read();
+        } catch (EOFException e) {
+            throw new PowsyblException("Unexpected end of OpenReac result binary stream", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final IdDictionary dictionary = new IdDictionary();
+        private int writtenIds = 0;
+
+        private Writer(OutputStream os) {
+            this.out = new DataOutputStream(os instanceof BufferedOutputStream ? os : new BufferedOutputStream(os));
+        }
+
+        private void write(OpenReacResult result) throws IOException {
+            out.writeInt(MAGIC);
+            writeVarInt(VERSION);
+            writeString(result.getStatus().name());
+            writeVarInt(result.getIndicators().size());
+            for (Map.Entry<String, String> indicator : result.getIndicators().entrySet()) {
+                writeString(indicator.getKey());
+                writeString(indicator.getValue());
+            }
+
+            CompactGeneratorModifications generators = new CompactGeneratorModifications(dictionary, result.getGeneratorModifications());
+            writeHeader(generators);
+            writeColumn(generators.getMinPColumn());
+            writeColumn(generators.getMaxPColumn());
+            writeColumn(generators.getTargetPColumn());
+            writeColumn(generators.getDeltaTargetPColumn());
+            writeColumn(generators.getTargetVColumn());
+            writeColumn(generators.getTargetQColumn());
+
+            CompactBatteryModifications batteries = new CompactBatteryModifications(dictionary, result.getBatteryModifications());
+            writeHeader(batteries);
+            writeColumn(batteries.getTargetPColumn());
+            writeColumn(batteries.getTargetQColumn());
+
+            CompactShuntCompensatorModifications shunts = new CompactShuntCompensatorModifications(dictionary, result.getShuntsModifications());
+            writeHeader(shunts);
+            writeColumn(shunts.getSectionCountColumn());
+
+            writeSetpoints(CompactSetpointModifications.ofSvc(dictionary, result.getSvcModifications()));
+
+            CompactTapPositionModifications taps = new CompactTapPositionModifications(dictionary, result.getTapPositionModifications());
+            writeHeader(taps);
+            writeColumn(taps.getTapPositionColumn());
+
+            writeSetpoints(CompactSetpointModifications.ofVsc(dictionary, result.getVscModifications()));
+
+            writeReactiveSlacks(result.getReactiveSlacks());
+            writeFixedParallelTransformers(result.getFixedParallelTransformers());
+            writeVoltageProfile(result.getVoltageProfile());
+            out.flush();
+        }
+
+        private void writeHeader(AbstractCompactModifications<?> modifications) throws IOException {
+            writeNewIds();
+            writeVarInt(modifications.size());
+            for (int i = 0; i < modifications.size(); i++) {
+                writeVarInt(modifications.getIdIndex(i));
+            }
+            for (int i = 0; i < modifications.size(); i++) {
+                writeVarInt(modifications.getMask(i));
+            }
+        }
+
+        private void writeSetpoints(CompactSetpointModifications<?> setpoints) throws IOException {
+            writeHeader(setpoints);
+            writeColumn(setpoints.getVoltageSetpointColumn());
+            writeColumn(setpoints.getReactivePowerSetpointColumn());
+        }
+
+        private void writeReactiveSlacks(List<ReactiveSlack> slacks) throws IOException {
+            int[] busIds = new int[slacks.size()];
+            int[] voltageLevelIds = new int[slacks.size()];
+            for (int i = 0; i < slacks.size(); i++) {
+                busIds[i] = dictionary.intern(slacks.get(i).getBusId());
+                voltageLevelIds[i] = dictionary.intern(slacks.get(i).getVoltageLevelId());
+            }
+            writeNewIds();
+            writeVarInt(slacks.size());
+            writeIndexes(busIds);
+            writeIndexes(voltageLevelIds);
+            for (ReactiveSlack slack : slacks) {
+                out.writeDouble(slack.getSlack());
+            }
+        }
+
+        private void writeFixedParallelTransformers(List<FixedParallelTransformer> transformers) throws IOException {
+            int[] transformerIds = new int[transformers.size()];
+            for (int i = 0; i < transformers.size(); i++) {
+                transformerIds[i] = dictionary.intern(transformers.get(i).getTransformerId());
+            }
+            writeNewIds();
+            writeVarInt(transformers.size());
+            writeIndexes(transformerIds);
+            for (FixedParallelTransformer transformer : transformers) {
+                writeSignedVarInt(transformer.getBundle());
+            }
+            for (FixedParallelTransformer transformer : transformers) {
+                out.writeDouble(transformer.getFixedEffectiveRho());
+            }
+        }
+
+        private void writeVoltageProfile(Map<String, Pair<Double, Double>> voltageProfile) throws IOException {
+            List<Map.Entry<String, Pair<Double, Double>>> entries = new ArrayList<>(voltageProfile.entrySet());
+            int[] busIds = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                busIds[i] = dictionary.intern(entries.get(i).getKey());
+            }
+            writeNewIds();
+            writeVarInt(entries.size());
+            writeIndexes(busIds);
+            for (Map.Entry<String, Pair<Double, Double>> entry : entries) {
+                out.writeDouble(entry.getValue().getFirst());
+            }
+            for (Map.Entry<String, Pair<Double, Double>> entry : entries) {
+                out.writeDouble(entry.getValue().getSecond());
+            }
+        }
+
+        /**
+         * Writes the ids added to the dictionary since the last call, in index order.
+         */
+        private void writeNewIds() throws IOException {
+            int size = dictionary.size();
+            writeVarInt(size - writtenIds);
+            for (int i = writtenIds; i < size; i++) {
+                writeString(dictionary.getId(i));
+            }
+            writtenIds = size;
+        }
+
+        private void writeIndexes(int[] indexes) throws IOException {
+            for (int index : indexes) {
+                writeVarInt(index);
+            }
+        }
+
+        private void writeColumn(double[] column) throws IOException {
+            out.writeBoolean(column != null);
+            if (column != null) {
+                for (double value : column) {
+                    out.writeDouble(value);
+                }
+            }
+        }
+
+        private void writeColumn(int[] column) throws IOException {
+            out.writeBoolean(column != null);
+            if (column != null) {
+                for (int value : column) {
+                    writeSignedVarInt(value);
+                }
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeSignedVarInt(int value) throws IOException {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte(remaining);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final IdDictionary dictionary = new IdDictionary();
+
+        private Reader(InputStream is) {
+            // not buffered here, so that nothing is consumed past the end of the result
+            this.in = new DataInputStream(is);
+        }
+
+        private OpenReacResult read() throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new PowsyblException("Not an OpenReac result binary stream");
+            }
+            int version = readVarInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported OpenReac result binary version " + version + ", expected " + VERSION);
+            }
+            OpenReacResult.Builder builder = OpenReacResult.builder(readStatus());
+            int indicatorCount = readSize();
+            Map<String, String> indicators = HashMap.newHashMap(initialCapacity(indicatorCount));
+            for (int i = 0; i < indicatorCount; i++) {
+                indicators.put(readString(), readString());
+            }
+            builder.setIndicators(indicators);
+
+            Header generators = readHeader();
+            CompactGeneratorModifications generatorModifications = new CompactGeneratorModifications(dictionary, generators.ids,
+                    generators.masks, readDoubleColumn(generators.size()), readDoubleColumn(generators.size()),
+                    readDoubleColumn(generators.size()), readDoubleColumn(generators.size()), readDoubleColumn(generators.size()),
+                    readDoubleColumn(generators.size()));
+            builder.setGeneratorModifications(materialize("generator", generatorModifications));
+
+            Header batteries = readHeader();
+            builder.setBatteryModifications(materialize("battery", new CompactBatteryModifications(dictionary, batteries.ids,
+                    batteries.masks, readDoubleColumn(batteries.size()), readDoubleColumn(batteries.size()))));
+
+            Header shunts = readHeader();
+            builder.setShuntsModifications(materialize("shunt compensator", new CompactShuntCompensatorModifications(dictionary,
+                    shunts.ids, shunts.masks, readIntColumn(shunts.size()))));
+
+            Header svcs = readHeader();
+            builder.setSvcModifications(materialize("static var compensator", new CompactSetpointModifications<>(dictionary,
+                    svcs.ids, svcs.masks, readDoubleColumn(svcs.size()), readDoubleColumn(svcs.size()),
+                    StaticVarCompensatorModification::new)));
+
+            Header taps = readHeader();
+            int[] tapPositions = readIntColumn(taps.size());
+            if (tapPositions == null && taps.size() > 0) {
+                throw new PowsyblException("Missing tap positions in OpenReac result binary stream");
+            }
+            builder.setTapPositionModifications(materialize("tap position", new CompactTapPositionModifications(dictionary,
+                    taps.ids, taps.masks, tapPositions != null ? tapPositions : new int[0])));
+
+            Header vscs = readHeader();
+            builder.setVscModifications(materialize("VSC converter station", new CompactSetpointModifications<>(dictionary,
+                    vscs.ids, vscs.masks, readDoubleColumn(vscs.size()), readDoubleColumn(vscs.size()),
+                    VscConverterStationModification::new)));
+
+            builder.setReactiveSlacks(readReactiveSlacks());
+            builder.setFixedParallelTransformers(readFixedParallelTransformers());
+            builder.setVoltageProfile(readVoltageProfile());
+            return builder.build();
+        }
+
+        private record Header(int[] ids, int[] masks) {
+            int size() {
+                return ids.length;
+            }
+        }
+
+        private Header readHeader() throws IOException {
+            readNewIds();
+            int size = readSize();
+            return new Header(readIndexes(size), readVarInts(size));
+        }
+
+        /**
+         * The presence bits of the masks are not checked against the columns read: a field of an element whose
+         * column is missing only fails when the modification is built.
+         */
+        private static <T extends NetworkModification> List<T> materialize(String type,
+                AbstractCompactModifications<T> modifications) {
+            try {
+                return modifications.toList();
+            } catch (NullPointerException | IllegalArgumentException e) {
+                throw new PowsyblException("Inconsistent " + type + " modifications in OpenReac result binary stream", e);
+            }
+        }
+
+        private List<ReactiveSlack> readReactiveSlacks() throws IOException {
+            readNewIds();
+            int size = readSize();
+            int[] busIds = readIndexes(size);
+            int[] voltageLevelIds = readIndexes(size);
+            List<ReactiveSlack> slacks = new ArrayList<>(initialCapacity(size));
+            for (int i = 0; i < size; i++) {
+                slacks.add(new ReactiveSlack(dictionary.getId(busIds[i]), dictionary.getId(voltageLevelIds[i]), in.readDouble()));
+            }
+            return slacks;
+        }
+
+        private List<FixedParallelTransformer> readFixedParallelTransformers() throws IOException {
+            readNewIds();
+            int size = readSize();
+            int[] transformerIds = readIndexes(size);
+            int[] bundles = readSignedVarInts(size);
+            List<FixedParallelTransformer> transformers = new ArrayList<>(initialCapacity(size));
+            for (int i = 0; i < size; i++) {
+                transformers.add(new FixedParallelTransformer(bundles[i], dictionary.getId(transformerIds[i]), in.readDouble()));
+            }
+            return transformers;
+        }
+
+        private Map<String, Pair<Double, Double>> readVoltageProfile() throws IOException {
+            readNewIds();
+            int size = readSize();
+            int[] busIds = readIndexes(size);
+            double[] voltages = readDoubles(size);
+            Map<String, Pair<Double, Double>> voltageProfile = HashMap.newHashMap(initialCapacity(size));
+            for (int i = 0; i < size; i++) {
+                voltageProfile.put(dictionary.getId(busIds[i]), Pair.of(voltages[i], in.readDouble()));
+            }
+            return voltageProfile;
+        }
+
+        private void readNewIds() throws IOException {
+            int count = readSize();
+            for (int i = 0; i < count; i++) {
+                dictionary.intern(readString());
+            }
+        }
+
+        private OpenReacStatus readStatus() throws IOException {
+            String status = readString();
+            try {
+                return OpenReacStatus.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                throw new PowsyblException("Unknown status '" + status + "' in OpenReac result binary stream", e);
+            }
+        }
+
+        private int readSize() throws IOException {
+            int size = readVarInt();
+            if (size < 0) {
+                throw new PowsyblException("Invalid size " + size + " in OpenReac result binary stream");
+            }
+            return size;
+        }
+
+        /**
+         * @return the index of an id already read in the dictionary.
+         */
+        private int readIndex() throws IOException {
+            int index = readVarInt();
+            if (index < 0 || index >= dictionary.size()) {
+                throw new PowsyblException("Invalid id index " + index + " in OpenReac result binary stream, "
+                        + dictionary.size() + " ids read");
+            }
+            return index;
+        }
+
+        private int[] readIndexes(int size) throws IOException {
+            int[] indexes = new int[initialCapacity(size)];
+            for (int i = 0; i < size; i++) {
+                indexes = ensureCapacity(indexes, i, size);
+                indexes[i] = readIndex();
+            }
+            return indexes;
+        }
+
+        private int[] readVarInts(int size) throws IOException {
+            int[] values = new int[initialCapacity(size)];
+            for (int i = 0; i < size; i++) {
+                values = ensureCapacity(values, i, size);
+                values[i] = readVarInt();
+            }
+            return values;
+        }
+
+        private int[] readSignedVarInts(int size) throws IOException {
+            int[] values = new int[initialCapacity(size)];
+            for (int i = 0; i < size; i++) {
+                values = ensureCapacity(values, i, size);
+                values[i] = readSignedVarInt();
+            }
+            return values;
+        }
+
+        private double[] readDoubles(int size) throws IOException {
+            double[] values = new double[initialCapacity(size)];
+            for (int i = 0; i < size; i++) {
+                if (i == values.length) {
+                    values = Arrays.copyOf(values, grownCapacity(i, size));
+                }
+                values[i] = in.readDouble();
+            }
+            return values;
+        }
+
+        private double[] readDoubleColumn(int size) throws IOException {
+            return in.readBoolean() ? readDoubles(size) : null;
+        }
+
+        private int[] readIntColumn(int size) throws IOException {
+            return in.readBoolean() ? readSignedVarInts(size) : null;
+        }
+
+        private String readString() throws IOException {
+            int length = readSize();
+            // not allocated upfront, a corrupt length only fails at the end of the stream
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException();
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static int initialCapacity(int size) {
+            return Math.min(size, MAX_INITIAL_CAPACITY);
+        }
+
+        private static int grownCapacity(int length, int size) {
+            return (int) Math.min(size, 2L * length);
+        }
+
+        private static int[] ensureCapacity(int[] values, int index, int size) {
+            return index == values.length ? Arrays.copyOf(values, grownCapacity(index, size)) : values;
+        }
+
+        private int readSignedVarInt() throws IOException {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new PowsyblException("Malformed variable length integer in OpenReac result binary stream");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.modification.BatteryModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class BatteryModificationDeserializer extends StdDeserializer<BatteryModification> {
+
+    public BatteryModificationDeserializer() {
+        super(BatteryModification.class);
+    }
+
+    @Override
+    public BatteryModification deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String batteryId = null;
+        Double targetP = null;
+        Double targetQ = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "batteryId" -> batteryId = readString(parser);
+                case "targetP" -> targetP = readDouble(parser);
+                case "targetQ" -> targetQ = readDouble(parser);
+                default -> throw unexpectedField(parser);
+            }
+        }
+        return new BatteryModification(batteryId, targetP, targetQ);
+    }
+}
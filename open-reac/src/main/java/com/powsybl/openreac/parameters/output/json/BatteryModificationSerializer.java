@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.iidm.modification.BatteryModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.writeOptionalField;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class BatteryModificationSerializer extends StdSerializer<BatteryModification> {
+
+    public BatteryModificationSerializer() {
+        super(BatteryModification.class);
+    }
+
+    @Override
+    public void serialize(BatteryModification modification, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("batteryId", modification.getBatteryId());
+        writeOptionalField(jsonGenerator, "targetP", modification.getTargetP());
+        writeOptionalField(jsonGenerator, "targetQ", modification.getTargetQ());
+        jsonGenerator.writeEndObject();
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.modification.GeneratorModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class GeneratorModificationDeserializer extends StdDeserializer<GeneratorModification> {
+
+    public GeneratorModificationDeserializer() {
+        super(GeneratorModification.class);
+    }
+
+    @Override
+    public GeneratorModification deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String generatorId = null;
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "generatorId" -> generatorId = readString(parser);
+                case "minP" -> modifs.setMinP(readDouble(parser));
+                case "maxP" -> modifs.setMaxP(readDouble(parser));
+                case "targetP" -> modifs.setTargetP(readDouble(parser));
+                case "deltaTargetP" -> modifs.setDeltaTargetP(readDouble(parser));
+                case "targetV" -> modifs.setTargetV(readDouble(parser));
+                case "targetQ" -> modifs.setTargetQ(readDouble(parser));
+                case "voltageRegulatorOn" -> modifs.setVoltageRegulatorOn(readBoolean(parser));
+                case "connected" -> modifs.setConnected(readBoolean(parser));
+                case "ignoreCorrectiveOperations" -> modifs.setIgnoreCorrectiveOperations(readBoolean(parser));
+                default -> throw unexpectedField(parser);
+            }
+        }
+        return new GeneratorModification(generatorId, modifs);
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.iidm.modification.GeneratorModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.writeOptionalField;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class GeneratorModificationSerializer extends StdSerializer<GeneratorModification> {
+
+    public GeneratorModificationSerializer() {
+        super(GeneratorModification.class);
+    }
+
+    @Override
+    public void serialize(GeneratorModification modification, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("generatorId", modification.getGeneratorId());
+        GeneratorModification.Modifs modifs = modification.getModifs();
+        writeOptionalField(jsonGenerator, "minP", modifs.getMinP());
+        writeOptionalField(jsonGenerator, "maxP", modifs.getMaxP());
+        writeOptionalField(jsonGenerator, "targetP", modifs.getTargetP());
+        writeOptionalField(jsonGenerator, "deltaTargetP", modifs.getDeltaTargetP());
+        writeOptionalField(jsonGenerator, "targetV", modifs.getTargetV());
+        writeOptionalField(jsonGenerator, "targetQ", modifs.getTargetQ());
+        writeOptionalField(jsonGenerator, "voltageRegulatorOn", modifs.getVoltageRegulatorOn());
+        writeOptionalField(jsonGenerator, "connected", modifs.getConnected());
+        if (modifs.isIgnoreCorrectiveOperations()) {
+            jsonGenerator.writeBooleanField("ignoreCorrectiveOperations", true);
+        }
+        jsonGenerator.writeEndObject();
+    }
+}
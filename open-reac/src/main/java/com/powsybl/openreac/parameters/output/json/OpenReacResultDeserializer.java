@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput.FixedParallelTransformer;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.ReactiveSlackOutput.ReactiveSlack;
+import org.jgrapht.alg.util.Pair;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * Reads an {@link OpenReacResult} token by token: the document is never loaded as a tree, the only memory
+ * used is the one of the result being built.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class OpenReacResultDeserializer extends StdDeserializer<OpenReacResult> {
+
+    public OpenReacResultDeserializer() {
+        super(OpenReacResult.class);
+    }
+
+    @Override
+    public OpenReacResult deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String version = null;
+        OpenReacStatus status = null;
+        Map<String, String> indicators = Map.of();
+        List<GeneratorModification> generatorModifications = List.of();
+        List<BatteryModification> batteryModifications = List.of();
+        List<ShuntCompensatorModification> shuntsModifications = List.of();
+        List<StaticVarCompensatorModification> svcModifications = List.of();
+        List<VscConverterStationModification> vscModifications = List.of();
+        List<RatioTapPositionModification> tapPositionModifications = List.of();
+        List<ReactiveSlack> reactiveSlacks = List.of();
+        List<FixedParallelTransformer> fixedParallelTransformers = List.of();
+        Map<String, Pair<Double, Double>> voltageProfile = Map.of();
+
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "version" -> version = readString(parser);
+                case "status" -> status = OpenReacStatus.valueOf(readString(parser));
+                case "indicators" -> indicators = readIndicators(parser);
+                case "generatorModifications" -> generatorModifications = readArray(parser, deserializationContext, GeneratorModification.class);
+                case "batteryModifications" -> batteryModifications = readArray(parser, deserializationContext, BatteryModification.class);
+                case "shuntsModifications" -> shuntsModifications = readArray(parser, deserializationContext, ShuntCompensatorModification.class);
+                case "svcModifications" -> svcModifications = readArray(parser, deserializationContext, StaticVarCompensatorModification.class);
+                case "vscModifications" -> vscModifications = readArray(parser, deserializationContext, VscConverterStationModification.class);
+                case "tapPositionModifications" -> tapPositionModifications = readArray(parser, deserializationContext, RatioTapPositionModification.class);
+                case "reactiveSlacks" -> reactiveSlacks = readReactiveSlacks(parser);
+                case "fixedParallelTransformers" -> fixedParallelTransformers = readFixedParallelTransformers(parser);
+                case "voltageProfile" -> voltageProfile = readVoltageProfile(parser);
+                default -> throw unexpectedField(parser);
+            }
+        }
+        if (version == null) {
+            throw new IllegalStateException("Missing version of OpenReacResult");
+        }
+        JsonUtil.assertLessThanOrEqualToReferenceVersion("OpenReacResult", "version", version, OpenReacResultSerializer.VERSION);
+        if (status == null) {
+            throw new IllegalStateException("Missing status of OpenReacResult");
+        }
+        return OpenReacResult.builder(status)
+                .setIndicators(indicators)
+                .setGeneratorModifications(generatorModifications)
+                .setBatteryModifications(batteryModifications)
+                .setShuntsModifications(shuntsModifications)
+                .setSvcModifications(svcModifications)
+                .setVscModifications(vscModifications)
+                .setTapPositionModifications(tapPositionModifications)
+                .setReactiveSlacks(reactiveSlacks)
+                .setFixedParallelTransformers(fixedParallelTransformers)
+                .setVoltageProfile(voltageProfile)
+                .build();
+    }
+
+    private static Map<String, String> readIndicators(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Map<String, String> indicators = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String name = parser.getCurrentName();
+            indicators.put(name, readString(parser));
+        }
+        return indicators;
+    }
+
+    /**
+     * The element deserializer is looked up once per section, not once per element.
+     */
+    private static <T> List<T> readArray(JsonParser parser, DeserializationContext deserializationContext, Class<T> type) throws IOException {
+        JsonDeserializer<Object> deserializer = deserializationContext.findRootValueDeserializer(deserializationContext.constructType(type));
+        expect(parser, JsonToken.START_ARRAY);
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(type.cast(deserializer.deserialize(parser, deserializationContext)));
+        }
+        return values;
+    }
+
+    private static List<ReactiveSlack> readReactiveSlacks(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<ReactiveSlack> slacks = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String busId = null;
+            String voltageLevelId = null;
+            double slack = Double.NaN;
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                switch (parser.getCurrentName()) {
+                    case "busId" -> busId = readString(parser);
+                    case "voltageLevelId" -> voltageLevelId = readString(parser);
+                    case "slack" -> slack = readDouble(parser);
+                    default -> throw unexpectedField(parser);
+                }
+            }
+            slacks.add(new ReactiveSlack(busId, voltageLevelId, slack));
+        }
+        return slacks;
+    }
+
+    private static List<FixedParallelTransformer> readFixedParallelTransformers(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<FixedParallelTransformer> transformers = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            int bundle = 0;
+            String transformerId = null;
+            double fixedEffectiveRho = Double.NaN;
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                switch (parser.getCurrentName()) {
+                    case "bundle" -> bundle = readInt(parser);
+                    case "transformerId" -> transformerId = readString(parser);
+                    case "fixedEffectiveRho" -> fixedEffectiveRho = readDouble(parser);
+                    default -> throw unexpectedField(parser);
+                }
+            }
+            transformers.add(new FixedParallelTransformer(bundle, transformerId, fixedEffectiveRho));
+        }
+        return transformers;
+    }
+
+    private static Map<String, Pair<Double, Double>> readVoltageProfile(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        Map<String, Pair<Double, Double>> voltageProfile = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String busId = parser.getCurrentName();
+            expect(parser, JsonToken.START_OBJECT);
+            double v = Double.NaN;
+            double angle = Double.NaN;
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                switch (parser.getCurrentName()) {
+                    case "v" -> v = readDouble(parser);
+                    case "angle" -> angle = readDouble(parser);
+                    default -> throw unexpectedField(parser);
+                }
+            }
+            voltageProfile.put(busId, Pair.of(v, angle));
+        }
+        return voltageProfile;
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.nextToken() != token) {
+            throw new IllegalStateException("Expected " + token + " for field " + parser.getCurrentName() + ", got " + parser.currentToken());
+        }
+    }
+}
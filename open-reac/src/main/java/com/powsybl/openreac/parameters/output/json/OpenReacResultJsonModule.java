@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+
+/**
+ * Streaming JSON support of {@link OpenReacResult} and of the network modifications it holds.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class OpenReacResultJsonModule extends SimpleModule {
+
+    public OpenReacResultJsonModule() {
+        addSerializer(OpenReacResult.class, new OpenReacResultSerializer());
+        addSerializer(GeneratorModification.class, new GeneratorModificationSerializer());
+        addSerializer(BatteryModification.class, new BatteryModificationSerializer());
+        addSerializer(ShuntCompensatorModification.class, new ShuntCompensatorModificationSerializer());
+        addSerializer(StaticVarCompensatorModification.class, new StaticVarCompensatorModificationSerializer());
+        addSerializer(VscConverterStationModification.class, new VscConverterStationModificationSerializer());
+        addSerializer(RatioTapPositionModification.class, new RatioTapPositionModificationSerializer());
+        addDeserializer(OpenReacResult.class, new OpenReacResultDeserializer());
+        addDeserializer(GeneratorModification.class, new GeneratorModificationDeserializer());
+        addDeserializer(BatteryModification.class, new BatteryModificationDeserializer());
+        addDeserializer(ShuntCompensatorModification.class, new ShuntCompensatorModificationDeserializer());
+        addDeserializer(StaticVarCompensatorModification.class, new StaticVarCompensatorModificationDeserializer());
+        addDeserializer(VscConverterStationModification.class, new VscConverterStationModificationDeserializer());
+        addDeserializer(RatioTapPositionModification.class, new RatioTapPositionModificationDeserializer());
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput.FixedParallelTransformer;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.ReactiveSlackOutput.ReactiveSlack;
+import org.jgrapht.alg.util.Pair;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes an {@link OpenReacResult} token by token: sections are iterated in place and no intermediate tree
+ * is built, whatever the size of the result.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class OpenReacResultSerializer extends StdSerializer<OpenReacResult> {
+
+    static final String VERSION = "1.0";
+
+    public OpenReacResultSerializer() {
+        super(OpenReacResult.class);
+    }
+
+    @Override
+    public void serialize(OpenReacResult result, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeStringField("version", VERSION);
+        jsonGenerator.writeStringField("status", result.getStatus().name());
+
+        jsonGenerator.writeObjectFieldStart("indicators");
+        for (Map.Entry<String, String> indicator : result.getIndicators().entrySet()) {
+            jsonGenerator.writeStringField(indicator.getKey(), indicator.getValue());
+        }
+        jsonGenerator.writeEndObject();
+
+        writeArray("generatorModifications", result.getGeneratorModifications(), GeneratorModification.class, jsonGenerator, serializerProvider);
+        writeArray("batteryModifications", result.getBatteryModifications(), BatteryModification.class, jsonGenerator, serializerProvider);
+        writeArray("shuntsModifications", result.getShuntsModifications(), ShuntCompensatorModification.class, jsonGenerator, serializerProvider);
+        writeArray("svcModifications", result.getSvcModifications(), StaticVarCompensatorModification.class, jsonGenerator, serializerProvider);
+        writeArray("vscModifications", result.getVscModifications(), VscConverterStationModification.class, jsonGenerator, serializerProvider);
+        writeArray("tapPositionModifications", result.getTapPositionModifications(), RatioTapPositionModification.class, jsonGenerator, serializerProvider);
+
+        jsonGenerator.writeArrayFieldStart("reactiveSlacks");
+        for (ReactiveSlack slack : result.getReactiveSlacks()) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("busId", slack.getBusId());
+            jsonGenerator.writeStringField("voltageLevelId", slack.getVoltageLevelId());
+            jsonGenerator.writeNumberField("slack", slack.getSlack());
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndArray();
+
+        jsonGenerator.writeArrayFieldStart("fixedParallelTransformers");
+        for (FixedParallelTransformer transformer : result.getFixedParallelTransformers()) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField("bundle", transformer.getBundle());
+            jsonGenerator.writeStringField("transformerId", transformer.getTransformerId());
+            jsonGenerator.writeNumberField("fixedEffectiveRho", transformer.getFixedEffectiveRho());
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndArray();
+
+        jsonGenerator.writeObjectFieldStart("voltageProfile");
+        for (Map.Entry<String, Pair<Double, Double>> voltage : result.getVoltageProfile().entrySet()) {
+            jsonGenerator.writeObjectFieldStart(voltage.getKey());
+            jsonGenerator.writeNumberField("v", voltage.getValue().getFirst());
+            jsonGenerator.writeNumberField("angle", voltage.getValue().getSecond());
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndObject();
+
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * The element serializer is looked up once per section, not once per element.
+     */
+    private static <T> void writeArray(String name, List<T> values, Class<T> type, JsonGenerator jsonGenerator,
+                                       SerializerProvider serializerProvider) throws IOException {
+        JsonSerializer<Object> serializer = serializerProvider.findValueSerializer(type);
+        jsonGenerator.writeArrayFieldStart(name);
+        for (T value : values) {
+            serializer.serialize(value, jsonGenerator, serializerProvider);
+        }
+        jsonGenerator.writeEndArray();
+    }
+}
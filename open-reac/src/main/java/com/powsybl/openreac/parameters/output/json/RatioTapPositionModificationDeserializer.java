@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.ThreeSides;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class RatioTapPositionModificationDeserializer extends StdDeserializer<RatioTapPositionModification> {
+
+    public RatioTapPositionModificationDeserializer() {
+        super(RatioTapPositionModification.class);
+    }
+
+    @Override
+    public RatioTapPositionModification deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String transformerId = null;
+        int tapPosition = 0;
+        ThreeSides leg = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "transformerId" -> transformerId = readString(parser);
+                case "tapPosition" -> tapPosition = readInt(parser);
+                case "leg" -> leg = ThreeSides.valueOf(readString(parser));
+                default -> throw unexpectedField(parser);
+            }
+        }
+        return leg != null ? new RatioTapPositionModification(transformerId, tapPosition, leg) : new RatioTapPositionModification(transformerId, tapPosition);
+    }
+}
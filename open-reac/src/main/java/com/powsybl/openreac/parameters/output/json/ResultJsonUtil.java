@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Streaming helpers shared by the result (de)serializers, for the nullable fields of network modifications.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+final class ResultJsonUtil {
+
+    private ResultJsonUtil() {
+    }
+
+    static void writeOptionalField(JsonGenerator jsonGenerator, String name, Double value) throws IOException {
+        if (value != null) {
+            jsonGenerator.writeNumberField(name, value);
+        }
+    }
+
+    static void writeOptionalField(JsonGenerator jsonGenerator, String name, Boolean value) throws IOException {
+        if (value != null) {
+            jsonGenerator.writeBooleanField(name, value);
+        }
+    }
+
+    static void writeOptionalField(JsonGenerator jsonGenerator, String name, Integer value) throws IOException {
+        if (value != null) {
+            jsonGenerator.writeNumberField(name, value);
+        }
+    }
+
+    /**
+     * Reads the value of the current field, NaN and infinite values being written as strings.
+     */
+    static double readDouble(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getValueAsDouble();
+    }
+
+    static int readInt(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getIntValue();
+    }
+
+    static boolean readBoolean(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getBooleanValue();
+    }
+
+    static String readString(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getText();
+    }
+
+    static IllegalStateException unexpectedField(JsonParser parser) throws IOException {
+        return new IllegalStateException("Unexpected field: " + parser.getCurrentName());
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.modification.ShuntCompensatorModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class ShuntCompensatorModificationDeserializer extends StdDeserializer<ShuntCompensatorModification> {
+
+    public ShuntCompensatorModificationDeserializer() {
+        super(ShuntCompensatorModification.class);
+    }
+
+    @Override
+    public ShuntCompensatorModification deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String shuntCompensatorId = null;
+        Boolean connect = null;
+        Integer sectionCount = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "shuntCompensatorId" -> shuntCompensatorId = readString(parser);
+                case "connect" -> connect = readBoolean(parser);
+                case "sectionCount" -> sectionCount = readInt(parser);
+                default -> throw unexpectedField(parser);
+            }
+        }
+        return new ShuntCompensatorModification(shuntCompensatorId, connect, sectionCount);
+    }
+}
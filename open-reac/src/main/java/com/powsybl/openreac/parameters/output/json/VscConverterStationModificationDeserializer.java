@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.iidm.modification.VscConverterStationModification;
+
+import java.io.IOException;
+
+import static com.powsybl.openreac.parameters.output.json.ResultJsonUtil.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class VscConverterStationModificationDeserializer extends StdDeserializer<VscConverterStationModification> {
+
+    public VscConverterStationModificationDeserializer() {
+        super(VscConverterStationModification.class);
+    }
+
+    @Override
+    public VscConverterStationModification deserialize(JsonParser parser, DeserializationContext deserializationContext) throws IOException {
+        String vscConverterStationId = null;
+        Double voltageSetpoint = null;
+        Double reactivePowerSetpoint = null;
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            switch (parser.getCurrentName()) {
+                case "vscConverterStationId" -> vscConverterStationId = readString(parser);
+                case "voltageSetpoint" -> voltageSetpoint = readDouble(parser);
+                case "reactivePowerSetpoint" -> reactivePowerSetpoint = readDouble(parser);
+                default -> throw unexpectedField(parser);
+            }
+        }
+        return new VscConverterStationModification(vscConverterStationId, voltageSetpoint, reactivePowerSetpoint);
+    }
+}
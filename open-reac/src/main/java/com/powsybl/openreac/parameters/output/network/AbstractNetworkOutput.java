@@ -12,6 +12,7 @@ import com.powsybl.openreac.parameters.output.AbstractNoThrowOutput;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Abstract class that reads output from ampl and generates network modifications
@@ -22,10 +23,19 @@ import java.util.List;
 public abstract class AbstractNetworkOutput<T extends NetworkModification> extends AbstractNoThrowOutput {
 
     protected final Network network;
+    protected final AmplNetworkView networkView;
     protected final List<T> modifications = new ArrayList<>();
 
     protected AbstractNetworkOutput(Network network) {
+        this(network, new AmplNetworkView(network));
+    }
+
+    /**
+     * @param networkView view of the network elements by AMPL number, shared by the readers of a run.
+     */
+    protected AbstractNetworkOutput(Network network, AmplNetworkView networkView) {
         this.network = network;
+        this.networkView = Objects.requireNonNull(networkView);
     }
 
     public List<T> getModifications() {
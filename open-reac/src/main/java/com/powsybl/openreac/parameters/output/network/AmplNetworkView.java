@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.network;
+
+import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.util.StringToIntMapper;
+import com.powsybl.iidm.network.*;
+import com.powsybl.openreac.network.VariantScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Per-run view of the network elements read back from the AMPL outputs, in dense arrays indexed by AMPL number.
+ * Each entry holds the element with the data the output readers need, so that parsing a line is an array access
+ * instead of several id lookups in the network.
+ * <p>
+ * The arrays of an element type are built on first request, from the network and the mapper of the run, and shared
+ * by the readers of the run through {@link NetworkModifications}. The values captured in the entries are the ones of
+ * the network at that time, read on the working variant at the creation of the view, whatever the thread parsing the
+ * outputs. When the outputs are parsed later than the run, {@link #capture} builds all the arrays when the run ends,
+ * so that they are parsed against the values sent to AMPL even if the network or its variant changed since.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class AmplNetworkView {
+
+    public record GeneratorEntry(Generator generator, double regulatingNominalV, double targetV, double targetQ) {
+        private GeneratorEntry(Generator generator) {
+            this(generator, generator.getRegulatingTerminal().getVoltageLevel().getNominalV(), generator.getTargetV(), generator.getTargetQ());
+        }
+    }
+
+    public record StaticVarCompensatorEntry(StaticVarCompensator staticVarCompensator, double regulatingNominalV,
+                                            double voltageSetpoint, double reactivePowerSetpoint) {
+        private StaticVarCompensatorEntry(StaticVarCompensator svc) {
+            this(svc, svc.getRegulatingTerminal().getVoltageLevel().getNominalV(), svc.getVoltageSetpoint(), svc.getReactivePowerSetpoint());
+        }
+    }
+
+    public record VscConverterStationEntry(VscConverterStation vscConverterStation, double regulatingNominalV,
+                                           double voltageSetpoint, double reactivePowerSetpoint) {
+        private VscConverterStationEntry(VscConverterStation vsc) {
+            this(vsc, vsc.getRegulatingTerminal().getVoltageLevel().getNominalV(), vsc.getVoltageSetpoint(), vsc.getReactivePowerSetpoint());
+        }
+    }
+
+    /**
+     * @param connectableBusId id of the bus view connectable bus of the shunt, <code>null</code> if there is none.
+     * @param sectionCount     section count of the shunt on the variant of the run.
+     */
+    public record ShuntCompensatorEntry(ShuntCompensator shuntCompensator, String connectableBusId, int sectionCount,
+                                        ShuntSusceptanceTables.SectionTable sectionTable) {
+    }
+
+    /**
+     * Only two windings transformers with a ratio tap changer have an entry.
+     */
+    public record RatioTapChangerEntry(TwoWindingsTransformer transformer, int lowTapPosition) {
+        private RatioTapChangerEntry(TwoWindingsTransformer transformer) {
+            this(transformer, transformer.getRatioTapChanger().getLowTapPosition());
+        }
+    }
+
+    /**
+     * Entries of one element type, indexed by AMPL number.
+     */
+    public static final class Entries<E> {
+
+        private final List<E> byNumber;
+
+        private Entries(List<E> byNumber) {
+            this.byNumber = byNumber;
+        }
+
+        /**
+         * @return the entry of the given AMPL number, <code>null</code> if it does not match an element of the network.
+         */
+        public E get(int amplNumber) {
+            return amplNumber >= 0 && amplNumber < byNumber.size() ? byNumber.get(amplNumber) : null;
+        }
+    }
+
+    private final Network network;
+    private final String variantId;
+    private Entries<GeneratorEntry> generators;
+    private Entries<StaticVarCompensatorEntry> staticVarCompensators;
+    private Entries<VscConverterStationEntry> vscConverterStations;
+    private Entries<ShuntCompensatorEntry> shuntCompensators;
+    private Entries<RatioTapChangerEntry> ratioTapChangers;
+
+    public AmplNetworkView(Network network) {
+        this.network = network;
+        this.variantId = network != null ? network.getVariantManager().getWorkingVariantId() : null;
+    }
+
+    public synchronized Entries<GeneratorEntry> getGenerators(StringToIntMapper<AmplSubset> mapper) {
+        if (generators == null) {
+            generators = onVariant(() -> build(network.getGeneratorStream(), AmplSubset.GENERATOR, mapper, GeneratorEntry::new));
+        }
+        return generators;
+    }
+
+    public synchronized Entries<StaticVarCompensatorEntry> getStaticVarCompensators(StringToIntMapper<AmplSubset> mapper) {
+        if (staticVarCompensators == null) {
+            staticVarCompensators = onVariant(() -> build(network.getStaticVarCompensatorStream(), AmplSubset.STATIC_VAR_COMPENSATOR, mapper,
+                    StaticVarCompensatorEntry::new));
+        }
+        return staticVarCompensators;
+    }
+
+    public synchronized Entries<VscConverterStationEntry> getVscConverterStations(StringToIntMapper<AmplSubset> mapper) {
+        if (vscConverterStations == null) {
+            vscConverterStations = onVariant(() -> build(network.getVscConverterStationStream(), AmplSubset.VSC_CONVERTER_STATION, mapper,
+                    VscConverterStationEntry::new));
+        }
+        return vscConverterStations;
+    }
+
+    public synchronized Entries<ShuntCompensatorEntry> getShuntCompensators(StringToIntMapper<AmplSubset> mapper) {
+        if (shuntCompensators == null) {
+            shuntCompensators = onVariant(() -> {
+                ShuntSusceptanceTables tables = ShuntSusceptanceTables.attach(network);
+                return build(network.getShuntCompensatorStream(), AmplSubset.SHUNT, mapper, shunt -> {
+                    Bus connectableBus = shunt.getTerminal().getBusView().getConnectableBus();
+                    return new ShuntCompensatorEntry(shunt, connectableBus != null ? connectableBus.getId() : null,
+                            shunt.getSectionCount(), tables.get(shunt));
+                });
+            });
+        }
+        return shuntCompensators;
+    }
+
+    public synchronized Entries<RatioTapChangerEntry> getRatioTapChangers(StringToIntMapper<AmplSubset> mapper) {
+        if (ratioTapChangers == null) {
+            ratioTapChangers = onVariant(() -> build(network.getTwoWindingsTransformerStream().filter(TwoWindingsTransformer::hasRatioTapChanger),
+                    AmplSubset.BRANCH, mapper, RatioTapChangerEntry::new));
+        }
+        return ratioTapChangers;
+    }
+
+    /**
+     * Builds the arrays of all the element types that are not built yet.
+     */
+    public synchronized void capture(StringToIntMapper<AmplSubset> mapper) {
+        getGenerators(mapper);
+        getStaticVarCompensators(mapper);
+        getVscConverterStations(mapper);
+        getShuntCompensators(mapper);
+        getRatioTapChangers(mapper);
+    }
+
+    private <E> Entries<E> onVariant(Supplier<Entries<E>> builder) {
+        try (VariantScope variantScope = VariantScope.enter(network, variantId)) {
+            return builder.get();
+        }
+    }
+
+    private static <T extends Identifiable<?>, E> Entries<E> build(Stream<T> elements, AmplSubset subset,
+                                                                   StringToIntMapper<AmplSubset> mapper, Function<T, E> entryFactory) {
+        Objects.requireNonNull(mapper);
+        List<E> byNumber = new ArrayList<>();
+        elements.forEach(element -> {
+            if (mapper.isMapped(subset, element.getId())) {
+                int amplNumber = mapper.getInt(subset, element.getId());
+                while (byNumber.size() <= amplNumber) {
+                    byNumber.add(null);
+                }
+                byNumber.set(amplNumber, entryFactory.apply(element));
+            }
+        });
+        return new Entries<>(byNumber);
+    }
+}
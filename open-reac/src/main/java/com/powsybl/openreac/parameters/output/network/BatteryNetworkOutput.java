@@ -30,6 +30,10 @@ public class BatteryNetworkOutput extends AbstractNetworkOutput<BatteryModificat
         super(network);
     }
 
+    public BatteryNetworkOutput(Network network, AmplNetworkView networkView) {
+        super(network, networkView);
+    }
+
     @Override
     public String getElement() {
         return ELEMENT;
@@ -7,9 +7,11 @@
 package com.powsybl.openreac.parameters.output.network;
 
 import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.GeneratorModification;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.parameters.output.network.AmplNetworkView.GeneratorEntry;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -25,6 +27,10 @@ public class GeneratorNetworkOutput extends AbstractNetworkOutput<GeneratorModif
         super(network);
     }
 
+    public GeneratorNetworkOutput(Network network, AmplNetworkView networkView) {
+        super(network, networkView);
+    }
+
     @Override
     public String getElement() {
         return ELEMENT;
@@ -37,17 +43,20 @@ public class GeneratorNetworkOutput extends AbstractNetworkOutput<GeneratorModif
 
     @Override
     protected void readLine(String[] tokens, StringToIntMapper<AmplSubset> stringToIntMapper) {
-        String id = stringToIntMapper.getId(AmplSubset.GENERATOR, Integer.parseInt(tokens[ID_COLUMN_INDEX]));
-        double targetV = readDouble(tokens[TARGET_V_COLUMN_INDEX]) * network.getGenerator(id).getRegulatingTerminal().getVoltageLevel().getNominalV();
+        GeneratorEntry generator = networkView.getGenerators(stringToIntMapper).get(Integer.parseInt(tokens[ID_COLUMN_INDEX]));
+        if (generator == null) {
+            throw new PowsyblException("Error parsing generators from " + getFileName() + ", invalid number.");
+        }
+        double targetV = readDouble(tokens[TARGET_V_COLUMN_INDEX]) * generator.regulatingNominalV();
         double targetQ = readDouble(tokens[TARGET_Q_COLUMN_INDEX]);
 
         GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
-        if (targetQ != network.getGenerator(id).getTargetQ()) {
+        if (targetQ != generator.targetQ()) {
             modifs.setTargetQ(targetQ);
         }
-        if (targetV != network.getGenerator(id).getTargetV()) {
+        if (targetV != generator.targetV()) {
             modifs.setTargetV(targetV);
         }
-        modifications.add(new GeneratorModification(id, modifs));
+        modifications.add(new GeneratorModification(generator.generator().getId(), modifs));
     }
 }
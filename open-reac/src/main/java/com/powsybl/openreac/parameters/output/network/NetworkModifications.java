@@ -6,7 +6,9 @@
  */
 package com.powsybl.openreac.parameters.output.network;
 
+import com.powsybl.ampl.converter.AmplSubset;
 import com.powsybl.ampl.executor.AmplOutputFile;
+import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.BatteryModification;
 import com.powsybl.iidm.modification.GeneratorModification;
 import com.powsybl.iidm.modification.ShuntCompensatorModification;
@@ -25,6 +27,7 @@ import java.util.List;
  */
 public class NetworkModifications {
 
+    private final AmplNetworkView networkView;
     private final GeneratorNetworkOutput generatorNetworkOutput;
     private final BatteryNetworkOutput batteryOutput;
     private final ShuntCompensatorNetworkOutput shuntsOutput;
@@ -33,18 +36,52 @@ public class NetworkModifications {
     private final TapPositionNetworkOutput tapPositionOutput;
 
     public NetworkModifications(Network network, double shuntCompensatorActivationAlertThreshold) {
-        generatorNetworkOutput = new GeneratorNetworkOutput(network);
-        batteryOutput = new BatteryNetworkOutput(network);
-        shuntsOutput = new ShuntCompensatorNetworkOutput(network, shuntCompensatorActivationAlertThreshold);
-        vscOutput = new VscNetworkOutput(network);
-        svcOutput = new SvcNetworkOutput(network);
-        tapPositionOutput = new TapPositionNetworkOutput(network);
+        // the readers of a run share the same view of the network elements by AMPL number
+        networkView = new AmplNetworkView(network);
+        generatorNetworkOutput = new GeneratorNetworkOutput(network, networkView);
+        batteryOutput = new BatteryNetworkOutput(network, networkView);
+        shuntsOutput = new ShuntCompensatorNetworkOutput(network, networkView, shuntCompensatorActivationAlertThreshold);
+        vscOutput = new VscNetworkOutput(network, networkView);
+        svcOutput = new SvcNetworkOutput(network, networkView);
+        tapPositionOutput = new TapPositionNetworkOutput(network, networkView);
+    }
+
+    /**
+     * Captures the network elements read by the outputs, so that outputs parsed later are read against the network
+     * as it was sent to AMPL, see {@link AmplNetworkView#capture}.
+     */
+    public void captureNetworkView(StringToIntMapper<AmplSubset> mapper) {
+        networkView.capture(mapper);
     }
 
     public List<AmplOutputFile> getOutputFiles() {
         return List.of(generatorNetworkOutput, batteryOutput, shuntsOutput, vscOutput, svcOutput, tapPositionOutput);
     }
 
+    public GeneratorNetworkOutput getGeneratorOutput() {
+        return generatorNetworkOutput;
+    }
+
+    public BatteryNetworkOutput getBatteryOutput() {
+        return batteryOutput;
+    }
+
+    public ShuntCompensatorNetworkOutput getShuntsOutput() {
+        return shuntsOutput;
+    }
+
+    public VscNetworkOutput getVscOutput() {
+        return vscOutput;
+    }
+
+    public SvcNetworkOutput getSvcOutput() {
+        return svcOutput;
+    }
+
+    public TapPositionNetworkOutput getTapPositionOutput() {
+        return tapPositionOutput;
+    }
+
     public List<GeneratorModification> getGeneratorModifications() {
         return generatorNetworkOutput.getModifications();
     }
@@ -12,6 +12,7 @@ import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.ShuntCompensatorModification;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.openreac.parameters.output.network.AmplNetworkView.ShuntCompensatorEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +37,11 @@ public class ShuntCompensatorNetworkOutput extends AbstractNetworkOutput<ShuntCo
     public record ShuntWithDeltaDiscreteOptimalOverThreshold(String id, int maximumSectionCount, double discretizedReactiveValue, double optimalReactiveValue) { }
 
     public ShuntCompensatorNetworkOutput(Network network, double shuntCompensatorActivationAlertThreshold) {
-        super(network);
+        this(network, new AmplNetworkView(network), shuntCompensatorActivationAlertThreshold);
+    }
+
+    public ShuntCompensatorNetworkOutput(Network network, AmplNetworkView networkView, double shuntCompensatorActivationAlertThreshold) {
+        super(network, networkView);
         this.shuntCompensatorActivationAlertThreshold = shuntCompensatorActivationAlertThreshold;
     }
 
@@ -52,37 +57,33 @@ public class ShuntCompensatorNetworkOutput extends AbstractNetworkOutput<ShuntCo
 
     @Override
     protected void readLine(String[] tokens, StringToIntMapper<AmplSubset> stringToIntMapper) {
-        String id = stringToIntMapper.getId(AmplSubset.SHUNT, Integer.parseInt(tokens[ID_COLUMN_INDEX]));
-        ShuntCompensator shuntCompensator = network.getShuntCompensator(id);
-        if (!Objects.isNull(shuntCompensator)) {
-            double b = readDouble(tokens[B_COLUMN_INDEX]) * AmplConstants.SB / Math.pow(shuntCompensator.getTerminal().getVoltageLevel().getNominalV(), 2);
+        int amplNumber = Integer.parseInt(tokens[ID_COLUMN_INDEX]);
+        ShuntCompensatorEntry shunt = networkView.getShuntCompensators(stringToIntMapper).get(amplNumber);
+        if (!Objects.isNull(shunt)) {
+            ShuntSusceptanceTables.SectionTable sectionTable = shunt.sectionTable();
+            double b = readDouble(tokens[B_COLUMN_INDEX]) * AmplConstants.SB / sectionTable.getNominalVSquare();
             String busId = stringToIntMapper.getId(AmplSubset.BUS, Integer.parseInt(tokens[BUS_COLUMN_INDEX]));
             Boolean reconnect = null;
-            if (busId != null && busId.equals(shuntCompensator.getTerminal().getBusView().getConnectableBus().getId())) {
+            if (busId != null && busId.equals(shunt.connectableBusId())) {
                 reconnect = true;
             }
-            modifications.add(new ShuntCompensatorModification(id, reconnect, findSectionCount(shuntCompensator, b)));
+            modifications.add(new ShuntCompensatorModification(shunt.shuntCompensator().getId(), reconnect, findSectionCount(shunt, b)));
         } else {
-            LOGGER.warn("Shunt compensator with id {} not found in the network", id);
+            LOGGER.warn("Shunt compensator with id {} not found in the network", stringToIntMapper.getId(AmplSubset.SHUNT, amplNumber));
         }
     }
 
     /**
      * As b is continuous in output files, we have to find the shunt closest section that matches with b.
+     * The sections are looked up in the susceptance table of the shunt, cached per network, the ties being broken
+     * with the section count of the variant of the run.
      */
-    private int findSectionCount(ShuntCompensator sc, double b) {
-        double minDistance = Math.abs(b - sc.getB());
-        double distance;
-        int sectionCount = sc.getSectionCount();
-        for (int i = 0; i <= sc.getMaximumSectionCount(); i++) {
-            distance = Math.abs(b - sc.getB(i));
-            if (distance < minDistance) {
-                minDistance = distance;
-                sectionCount = i;
-            }
-        }
-        double optimalReactiveValue = Math.abs(b * Math.pow(sc.getTerminal().getVoltageLevel().getNominalV(), 2));
-        double discretizedReactiveValue = Math.abs(sc.getB(sectionCount) * Math.pow(sc.getTerminal().getVoltageLevel().getNominalV(), 2));
+    private int findSectionCount(ShuntCompensatorEntry shunt, double b) {
+        ShuntCompensator sc = shunt.shuntCompensator();
+        ShuntSusceptanceTables.SectionTable sectionTable = shunt.sectionTable();
+        int sectionCount = sectionTable.findClosestSection(b, shunt.sectionCount());
+        double optimalReactiveValue = Math.abs(b * sectionTable.getNominalVSquare());
+        double discretizedReactiveValue = Math.abs(sectionTable.getB(sectionCount) * sectionTable.getNominalVSquare());
         if (Math.abs(discretizedReactiveValue - optimalReactiveValue) > shuntCompensatorActivationAlertThreshold) {
             shuntWithDeltaDiscreteOptimalOverThresholds.add(new ShuntWithDeltaDiscreteOptimalOverThreshold(sc.getId(), sc.getMaximumSectionCount(), discretizedReactiveValue, optimalReactiveValue));
         }
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.network;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the susceptance of each section of the shunt compensators of a network, attached to the network as an
+ * extension, sorted to find the section closest to a continuous susceptance by binary search.
+ * <p>
+ * The table of a shunt is built on first lookup and kept until its model changes: the cache listens to the
+ * network and drops the table of a shunt when one of its model attributes is updated, or all the tables when
+ * a nominal voltage changes. Section count and regulation updates, such as the ones applied from OpenReac
+ * results, keep the tables.
+ * <p>
+ * Removing the extension from the network removes the listener.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public final class ShuntSusceptanceTables extends AbstractExtension<Network> {
+
+    public static final String NAME = "openReacShuntSusceptanceTables";
+
+    /**
+     * Attributes of a shunt compensator that do not change its sections.
+     */
+    private static final Set<String> NON_MODEL_ATTRIBUTES = Set.of("sectionCount", "solvedSectionCount", "targetV",
+            "targetDeadband", "voltageRegulatorOn", "regulatingTerminal", "p", "q", "name", "fictitious");
+
+    private final NetworkListener listener = new InvalidationListener();
+    private final Map<String, SectionTable> tables = new ConcurrentHashMap<>();
+
+    private ShuntSusceptanceTables(Network network) {
+        super(network);
+        network.addListener(listener);
+    }
+
+    /**
+     * @return the tables attached to the network, attached first if absent.
+     */
+    public static synchronized ShuntSusceptanceTables attach(Network network) {
+        ShuntSusceptanceTables tables = network.getExtension(ShuntSusceptanceTables.class);
+        if (tables == null) {
+            tables = new ShuntSusceptanceTables(network);
+            network.addExtension(ShuntSusceptanceTables.class, tables);
+        }
+        return tables;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void cleanup() {
+        getExtendable().removeListener(listener);
+        tables.clear();
+    }
+
+    public SectionTable get(ShuntCompensator shuntCompensator) {
+        return tables.computeIfAbsent(shuntCompensator.getId(), id -> new SectionTable(shuntCompensator));
+    }
+
+    int size() {
+        return tables.size();
+    }
+
+    /**
+     * Sections of a shunt compensator sorted by susceptance, ties sorted by section count.
+     */
+    public static final class SectionTable {
+
+        private final double nominalVSquare;
+        private final double[] susceptanceBySection;
+        private final double[] sortedSusceptances;
+        private final int[] sortedSections;
+
+        private SectionTable(ShuntCompensator shuntCompensator) {
+            this.nominalVSquare = Math.pow(shuntCompensator.getTerminal().getVoltageLevel().getNominalV(), 2);
+            int sectionCount = shuntCompensator.getMaximumSectionCount() + 1;
+            this.susceptanceBySection = new double[sectionCount];
+            Integer[] sections = new Integer[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                susceptanceBySection[i] = shuntCompensator.getB(i);
+                sections[i] = i;
+            }
+            Arrays.sort(sections, Comparator.<Integer>comparingDouble(i -> susceptanceBySection[i]).thenComparingInt(i -> i));
+            this.sortedSusceptances = new double[sectionCount];
+            this.sortedSections = new int[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                sortedSections[i] = sections[i];
+                sortedSusceptances[i] = susceptanceBySection[sections[i]];
+            }
+        }
+
+        /**
+         * @return the square of the nominal voltage of the shunt, in kV².
+         */
+        public double getNominalVSquare() {
+            return nominalVSquare;
+        }
+
+        public double getB(int sectionCount) {
+            return susceptanceBySection[sectionCount];
+        }
+
+        /**
+         * Finds the section whose susceptance is the closest to the given one. On equal distances, the current
+         * section is kept if it is one of the closest, otherwise the lowest section count is chosen.
+         */
+        public int findClosestSection(double b, int currentSectionCount) {
+            int position = lowerBound(b);
+            double minDistance = Double.POSITIVE_INFINITY;
+            if (position < sortedSusceptances.length) {
+                minDistance = Math.abs(b - sortedSusceptances[position]);
+            }
+            if (position > 0) {
+                minDistance = Math.min(minDistance, Math.abs(b - sortedSusceptances[position - 1]));
+            }
+            // NaN distances never become closer than the current section
+            if (!(Math.abs(b - susceptanceBySection[currentSectionCount]) > minDistance)) {
+                return currentSectionCount;
+            }
+            // distances only grow away from the position on both sides, the closest sections are contiguous
+            int section = Integer.MAX_VALUE;
+            for (int i = position; i < sortedSusceptances.length && Math.abs(b - sortedSusceptances[i]) == minDistance; i++) {
+                section = Math.min(section, sortedSections[i]);
+            }
+            for (int i = position - 1; i >= 0 && Math.abs(b - sortedSusceptances[i]) == minDistance; i--) {
+                section = Math.min(section, sortedSections[i]);
+            }
+            return section;
+        }
+
+        /**
+         * @return the index of the first sorted susceptance greater than or equal to b.
+         */
+        private int lowerBound(double b) {
+            int low = 0;
+            int high = sortedSusceptances.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sortedSusceptances[middle] < b) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private final class InvalidationListener implements NetworkListener {
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            if (identifiable instanceof ShuntCompensator && !NON_MODEL_ATTRIBUTES.contains(attribute)) {
+                tables.remove(identifiable.getId());
+            } else if (identifiable instanceof VoltageLevel && "nominalV".equals(attribute)) {
+                tables.clear();
+            }
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            tables.remove(id);
+        }
+    }
+}
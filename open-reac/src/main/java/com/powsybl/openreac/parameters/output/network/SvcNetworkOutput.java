@@ -7,10 +7,11 @@
 package com.powsybl.openreac.parameters.output.network;
 
 import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.StaticVarCompensatorModification;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.network.StaticVarCompensator;
+import com.powsybl.openreac.parameters.output.network.AmplNetworkView.StaticVarCompensatorEntry;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -26,6 +27,10 @@ public class SvcNetworkOutput extends AbstractNetworkOutput<StaticVarCompensator
         super(network);
     }
 
+    public SvcNetworkOutput(Network network, AmplNetworkView networkView) {
+        super(network, networkView);
+    }
+
     @Override
     public String getElement() {
         return ELEMENT;
@@ -38,19 +43,18 @@ public class SvcNetworkOutput extends AbstractNetworkOutput<StaticVarCompensator
 
     @Override
     protected void readLine(String[] tokens, StringToIntMapper<AmplSubset> stringToIntMapper) {
-        String id = stringToIntMapper.getId(AmplSubset.STATIC_VAR_COMPENSATOR,
-            Integer.parseInt(tokens[ID_COLUMN_INDEX]));
-        StaticVarCompensator staticVarCompensator = network.getStaticVarCompensator(id);
-        Double targetV = readDouble(tokens[SET_POINT_V_COLUMN_INDEX]) * staticVarCompensator
-                .getRegulatingTerminal()
-                .getVoltageLevel()
-                .getNominalV();
+        StaticVarCompensatorEntry svc = networkView.getStaticVarCompensators(stringToIntMapper).get(Integer.parseInt(tokens[ID_COLUMN_INDEX]));
+        if (svc == null) {
+            throw new PowsyblException("Error parsing static var compensators from " + getFileName() + ", invalid number.");
+        }
+        String id = svc.staticVarCompensator().getId();
+        Double targetV = readDouble(tokens[SET_POINT_V_COLUMN_INDEX]) * svc.regulatingNominalV();
         Double targetQ = readDouble(tokens[SET_POINT_Q_COLUMN_INDEX]);
 
-        if (targetQ == staticVarCompensator.getReactivePowerSetpoint()) {
+        if (targetQ == svc.reactivePowerSetpoint()) {
             targetQ = null;
         }
-        if (targetV == staticVarCompensator.getVoltageSetpoint()) {
+        if (targetV == svc.voltageSetpoint()) {
             targetV = null;
         }
         modifications.add(new StaticVarCompensatorModification(id, targetV, targetQ));
@@ -11,7 +11,7 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.openreac.parameters.output.network.AmplNetworkView.RatioTapChangerEntry;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -26,6 +26,10 @@ public class TapPositionNetworkOutput extends AbstractNetworkOutput<RatioTapPosi
         super(network);
     }
 
+    public TapPositionNetworkOutput(Network network, AmplNetworkView networkView) {
+        super(network, networkView);
+    }
+
     @Override
     public String getElement() {
         return ELEMENT;
@@ -38,13 +42,12 @@ public class TapPositionNetworkOutput extends AbstractNetworkOutput<RatioTapPosi
 
     @Override
     protected void readLine(String[] tokens, StringToIntMapper<AmplSubset> stringToIntMapper) {
-        String transfoId = stringToIntMapper.getId(AmplSubset.BRANCH, Integer.parseInt(tokens[TRANSFO_ID_COLUMN_INDEX]));
-        TwoWindingsTransformer twt = network.getTwoWindingsTransformer(transfoId);
-        if (twt == null || !twt.hasRatioTapChanger()) {
+        RatioTapChangerEntry rtc = networkView.getRatioTapChangers(stringToIntMapper).get(Integer.parseInt(tokens[TRANSFO_ID_COLUMN_INDEX]));
+        if (rtc == null) {
             throw new PowsyblException("Error parsing rtc from " + getFileName() + ", invalid number.");
         }
-        int tapPosition = -1 + twt.getRatioTapChanger().getLowTapPosition()
+        int tapPosition = -1 + rtc.lowTapPosition()
             + Integer.parseInt(tokens[TAP_POS_COLUMN_INDEX]);
-        modifications.add(new RatioTapPositionModification(transfoId, tapPosition));
+        modifications.add(new RatioTapPositionModification(rtc.transformer().getId(), tapPosition));
     }
 }
@@ -7,10 +7,11 @@
 package com.powsybl.openreac.parameters.output.network;
 
 import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.modification.VscConverterStationModification;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.network.VscConverterStation;
+import com.powsybl.openreac.parameters.output.network.AmplNetworkView.VscConverterStationEntry;
 
 /**
  * @author Nicolas Pierre {@literal <nicolas.pierre at artelys.com>}
@@ -26,6 +27,10 @@ public class VscNetworkOutput extends AbstractNetworkOutput<VscConverterStationM
         super(network);
     }
 
+    public VscNetworkOutput(Network network, AmplNetworkView networkView) {
+        super(network, networkView);
+    }
+
     @Override
     public String getElement() {
         return ELEMENT;
@@ -38,18 +43,18 @@ public class VscNetworkOutput extends AbstractNetworkOutput<VscConverterStationM
 
     @Override
     protected void readLine(String[] tokens, StringToIntMapper<AmplSubset> stringToIntMapper) {
-        String id = stringToIntMapper.getId(AmplSubset.VSC_CONVERTER_STATION, Integer.parseInt(tokens[ID_COLUMN_INDEX]));
-        VscConverterStation vscConverterStation = network.getVscConverterStation(id);
-        Double targetV = readDouble(tokens[SET_POINT_V_COLUMN_INDEX]) * vscConverterStation
-            .getRegulatingTerminal()
-            .getVoltageLevel()
-            .getNominalV();
+        VscConverterStationEntry vsc = networkView.getVscConverterStations(stringToIntMapper).get(Integer.parseInt(tokens[ID_COLUMN_INDEX]));
+        if (vsc == null) {
+            throw new PowsyblException("Error parsing vsc converter stations from " + getFileName() + ", invalid number.");
+        }
+        String id = vsc.vscConverterStation().getId();
+        Double targetV = readDouble(tokens[SET_POINT_V_COLUMN_INDEX]) * vsc.regulatingNominalV();
         Double targetQ = readDouble(tokens[SET_POINT_Q_COLUMN_INDEX]);
 
-        if (targetQ == vscConverterStation.getReactivePowerSetpoint()) {
+        if (targetQ == vsc.reactivePowerSetpoint()) {
             targetQ = null;
         }
-        if (targetV == vscConverterStation.getVoltageSetpoint()) {
+        if (targetV == vsc.voltageSetpoint()) {
             targetV = null;
         }
         modifications.add(new VscConverterStationModification(id, targetV, targetQ));
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.commons.config.MapModuleConfig;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class AmplAdmissionControllerTest {
+
+    @Test
+    void testTokens() {
+        AmplAdmissionController controller = new AmplAdmissionController(2);
+        CompletableFuture<AmplAdmissionController.Permit> first = controller.acquire(0, 0);
+        CompletableFuture<AmplAdmissionController.Permit> second = controller.acquire(0, 0);
+        CompletableFuture<AmplAdmissionController.Permit> third = controller.acquire(0, 0);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        assertEquals(0, controller.getAvailableTokens());
+        assertEquals(1, controller.getWaitingCount());
+
+        // released once only
+        first.join().close();
+        first.join().close();
+        assertTrue(third.isDone());
+        assertEquals(0, controller.getAvailableTokens());
+        second.join().close();
+        third.join().close();
+        assertEquals(2, controller.getAvailableTokens());
+    }
+
+    @Test
+    void testPriorityAndFairness() {
+        AmplAdmissionController controller = new AmplAdmissionController(10, 100, network -> 0);
+        CompletableFuture<AmplAdmissionController.Permit> running = controller.acquire(80, 0);
+        List<String> admitted = new ArrayList<>();
+        // the large run waits for memory, and the smaller ones of same priority wait behind it
+        controller.acquire(50, 0).thenRun(() -> admitted.add("large"));
+        controller.acquire(10, 0).thenRun(() -> admitted.add("small"));
+        controller.acquire(10, 1).thenRun(() -> admitted.add("urgent"));
+        assertEquals(List.of("urgent"), admitted);
+        assertEquals(10, controller.getAvailableMemory());
+
+        running.join().close();
+        assertEquals(List.of("urgent", "large", "small"), admitted);
+        assertEquals(30, controller.getAvailableMemory());
+
+        // a run above the budget is admitted alone
+        AmplAdmissionController small = new AmplAdmissionController(10, 100, network -> 0);
+        CompletableFuture<AmplAdmissionController.Permit> huge = small.acquire(1000, 0);
+        assertEquals(100, huge.join().getMemory());
+        assertFalse(small.acquire(1, 0).isDone());
+    }
+
+    @Test
+    void testWithdrawnRequest() {
+        AmplAdmissionController controller = new AmplAdmissionController(10, 100, network -> 0);
+        CompletableFuture<AmplAdmissionController.Permit> running = controller.acquire(60, 0);
+        CompletableFuture<AmplAdmissionController.Permit> large = controller.acquire(50, 0);
+        CompletableFuture<AmplAdmissionController.Permit> small = controller.acquire(10, 0);
+        assertFalse(small.isDone());
+        large.cancel(false);
+        assertTrue(small.isDone());
+        assertEquals(0, controller.getWaitingCount());
+
+        // a failed job releases its admission
+        CompletableFuture<Object> failed = controller.submit(30, 0, () -> CompletableFuture.failedFuture(new IllegalStateException()));
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals("done", controller.call(30, 0, () -> "done"));
+        assertEquals(30, controller.getAvailableMemory());
+        running.join().close();
+        small.join().close();
+        assertEquals(100, controller.getAvailableMemory());
+
+        assertThrows(IllegalArgumentException.class, () -> controller.acquire(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AmplAdmissionController(0));
+    }
+
+    @Test
+    void testCancelledSubmit() {
+        AmplAdmissionController controller = new AmplAdmissionController(10, 100, network -> 0);
+        CompletableFuture<AmplAdmissionController.Permit> running = controller.acquire(60, 0);
+        AtomicBoolean queuedJobStarted = new AtomicBoolean();
+        CompletableFuture<String> queued = controller.submit(50, 0, () -> {
+            queuedJobStarted.set(true);
+            return CompletableFuture.completedFuture("queued");
+        });
+        List<String> admitted = new ArrayList<>();
+        controller.acquire(10, 0).thenRun(() -> admitted.add("small"));
+        assertTrue(admitted.isEmpty());
+
+        // the cancelled request no longer holds back the ones after it, and its job never runs
+        queued.cancel(false);
+        assertEquals(List.of("small"), admitted);
+        assertEquals(0, controller.getWaitingCount());
+        running.join().close();
+        assertFalse(queuedJobStarted.get());
+        assertEquals(90, controller.getAvailableMemory());
+
+        // once started, the job itself is cancelled, and the admission released
+        CompletableFuture<String> job = new CompletableFuture<>();
+        CompletableFuture<String> started = controller.submit(50, 0, () -> job);
+        started.cancel(false);
+        assertTrue(job.isCancelled());
+        assertEquals(90, controller.getAvailableMemory());
+    }
+
+    @Test
+    void testMemoryEstimateAndConfig() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        // 4 buses and 4 branches
+        assertEquals(1000 + 4 * 10 + 4 * 5, AmplAdmissionController.linearMemoryEstimator(1000, 10, 5).applyAsLong(network));
+
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+            assertTrue(OpenReacConfig.load(platformConfig).getAdmissionController().isEmpty());
+
+            MapModuleConfig moduleConfig = platformConfig.createModuleConfig("open-reac");
+            moduleConfig.setStringProperty("ampl-max-tokens", "4");
+            moduleConfig.setStringProperty("ampl-memory-budget-mb", "8192");
+            AmplAdmissionController controller = OpenReacConfig.load(platformConfig).getAdmissionController().orElseThrow();
+            assertEquals(4, controller.getMaxTokens());
+            assertEquals(8192L * 1024 * 1024, controller.getMemoryBudget());
+            assertEquals(200L * 1024 * 1024 + 4 * 64 * 1024 + 4 * 32 * 1024, controller.estimateMemory(network));
+            // shared by the configs of same limits
+            assertSame(controller, OpenReacConfig.load(platformConfig).getAdmissionController().orElseThrow());
+        }
+    }
+}
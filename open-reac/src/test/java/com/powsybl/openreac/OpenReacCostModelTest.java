@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacCostModelTest {
+
+    @Test
+    void testStatistics() {
+        Network network = EurostagTutorialExample1Factory.create();
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableTwoWindingsTransformers(List.of("NHV2_NLOAD"));
+        OpenReacJobStatistics statistics = OpenReacJobStatistics.of(network, parameters, new OpenReacConfig(false));
+        assertEquals(new OpenReacJobStatistics(4, 4, 0, 1, 0), statistics);
+
+        // the sizes of a past run prevail, the unreadable ones are ignored
+        assertEquals(new OpenReacJobStatistics(3, 4, 2, 1, 0),
+                statistics.withIndicators(Map.of("nb_bus_in_AC_CC", "3", "nb_shunt_with_variable_value", "2",
+                        "nb_branch_in_AC_CC", "x")));
+        assertThrows(IllegalArgumentException.class, () -> new OpenReacJobStatistics(-1, 0, 0, 0, 0));
+    }
+
+    @Test
+    void testPeakMemory() {
+        Network network = EurostagTutorialExample1Factory.create();
+        OpenReacJobStatistics statistics = OpenReacJobStatistics.of(network, new OpenReacParameters(), new OpenReacConfig(false));
+
+        // 200 MB + 4 buses * 64 KB + 4 branches * 32 KB, as estimated by the admission controller
+        assertEquals(200L * 1024 * 1024 + 4 * 64 * 1024 + 4 * 32 * 1024, statistics.estimatePeakMemory());
+        assertEquals(new AmplAdmissionController(1, Long.MAX_VALUE, AmplAdmissionController.linearMemoryEstimator(1000, 10, 5))
+                .estimateMemory(network), statistics.estimatePeakMemory(1000, 10, 5));
+        assertEquals(1000 + 3 * 10, statistics.withIndicators(Map.of("nb_bus_in_AC_CC", "3", "nb_branch_in_AC_CC", "0"))
+                .estimatePeakMemory(1000, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> statistics.estimatePeakMemory(-1, 0, 0));
+    }
+
+    @Test
+    void testLearning() {
+        OpenReacCostModel costModel = new OpenReacCostModel();
+        OpenReacJobStatistics small = new OpenReacJobStatistics(100, 150, 5, 10, 1);
+        OpenReacJobStatistics large = new OpenReacJobStatistics(10000, 15000, 50, 50, 5);
+
+        // prior: 1000 + 0.5 * 100 + 0.3 * 150 + 2 * 5 + 2 * 10 + 5 * 1 ms
+        assertEquals(Duration.ofMillis(1130), costModel.estimate(small));
+        assertEquals(List.of(small, large), sortedShortestFirst(costModel, large, small));
+
+        // runs actually costing 100 ms + 2 ms per bus
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            int buses = 10 + random.nextInt(20000);
+            OpenReacJobStatistics statistics = new OpenReacJobStatistics(buses, buses + random.nextInt(buses),
+                    random.nextInt(100), random.nextInt(100), random.nextInt(10));
+            costModel.record(statistics, Duration.ofMillis(100 + 2L * buses));
+        }
+        assertEquals(200, costModel.getWallTimeSampleCount());
+        assertEquals(100 + 2 * 10000, costModel.estimate(large).toMillis(), 0.05 * 20100);
+        assertEquals(List.of(small, large), sortedShortestFirst(costModel, large, small));
+
+        assertThrows(IllegalArgumentException.class, () -> costModel.record(small, Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new OpenReacCostModel(new double[] {1}, 1));
+    }
+
+    private static List<OpenReacJobStatistics> sortedShortestFirst(OpenReacCostModel costModel, OpenReacJobStatistics... statistics) {
+        List<OpenReacJobStatistics> sorted = new ArrayList<>(List.of(statistics));
+        sorted.sort(costModel.shortestFirst());
+        return sorted;
+    }
+}
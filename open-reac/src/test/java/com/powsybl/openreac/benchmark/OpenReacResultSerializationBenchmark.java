@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.modification.GeneratorModification;
+import com.powsybl.iidm.modification.ShuntCompensatorModification;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.compact.OpenReacResultBinaryCodec;
+import com.powsybl.openreac.parameters.output.json.OpenReacResultJsonModule;
+import org.jgrapht.alg.util.Pair;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary codec and the streaming JSON module of {@link OpenReacResult} with a Jackson tree
+ * mapping baseline, on synthetic results.
+ * Run with the main method, benchmarks are not part of the unit tests.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenReacResultSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int busCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper streamingObjectMapper = new ObjectMapper().registerModule(new OpenReacResultJsonModule());
+    private OpenReacResult result;
+    private byte[] binary;
+    private byte[] json;
+    private byte[] streamingJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        result = createSyntheticResult(busCount);
+        binary = writeBinary();
+        json = writeJson();
+        streamingJson = writeStreamingJson();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(result, os);
+        return os.toByteArray();
+    }
+
+    @Benchmark
+    public OpenReacResult readBinary() {
+        return OpenReacResultBinaryCodec.read(new ByteArrayInputStream(binary));
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(toJsonTree(result));
+    }
+
+    @Benchmark
+    public OpenReacResult readJson() throws IOException {
+        return fromJsonTree(objectMapper.readValue(json, new TypeReference<>() {
+        }));
+    }
+
+    @Benchmark
+    public byte[] writeStreamingJson() throws IOException {
+        return streamingObjectMapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public OpenReacResult readStreamingJson() throws IOException {
+        return streamingObjectMapper.readValue(streamingJson, OpenReacResult.class);
+    }
+
+    /**
+     * A result of the shape of an OpenReac run: one generator per 5 buses, one shunt per 20 buses,
+     * one transformer per 10 buses.
+     */
+    static OpenReacResult createSyntheticResult(int busCount) {
+        Random random = new Random(42);
+        List<GeneratorModification> generators = new ArrayList<>();
+        for (int i = 0; i < busCount / 5; i++) {
+            GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+            modifs.setTargetV(380 + 40 * random.nextDouble());
+            modifs.setTargetQ(200 * random.nextDouble() - 100);
+            generators.add(new GeneratorModification("GEN_" + i, modifs));
+        }
+        List<ShuntCompensatorModification> shunts = new ArrayList<>();
+        for (int i = 0; i < busCount / 20; i++) {
+            shunts.add(new ShuntCompensatorModification("SHUNT_" + i, null, random.nextInt(5)));
+        }
+        List<RatioTapPositionModification> taps = new ArrayList<>();
+        for (int i = 0; i < busCount / 10; i++) {
+            taps.add(new RatioTapPositionModification("T2WT_" + i, random.nextInt(33)));
+        }
+        Map<String, Pair<Double, Double>> voltageProfile = new HashMap<>();
+        for (int i = 0; i < busCount; i++) {
+            voltageProfile.put("VL_" + i + "_0", Pair.of(0.9 + 0.2 * random.nextDouble(), random.nextDouble() - 0.5));
+        }
+        return OpenReacResult.builder(OpenReacStatus.OK)
+                .setIndicators(Map.of("final_status", "OK"))
+                .setGeneratorModifications(generators)
+                .setShuntsModifications(shunts)
+                .setTapPositionModifications(taps)
+                .setVoltageProfile(voltageProfile)
+                .build();
+    }
+
+    private static Map<String, Object> toJsonTree(OpenReacResult result) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("status", result.getStatus().name());
+        tree.put("indicators", result.getIndicators());
+        tree.put("generators", result.getGeneratorModifications().stream()
+                .map(m -> Map.of("id", m.getGeneratorId(), "targetV", m.getModifs().getTargetV(), "targetQ", m.getModifs().getTargetQ()))
+                .toList());
+        tree.put("shunts", result.getShuntsModifications().stream()
+                .map(m -> Map.of("id", m.getShuntCompensatorId(), "sectionCount", m.getSectionCount()))
+                .toList());
+        tree.put("taps", result.getTapPositionModifications().stream()
+                .map(m -> Map.of("id", m.getTransformerId(), "tapPosition", m.getTapPosition()))
+                .toList());
+        tree.put("voltages", result.getVoltageProfile().entrySet().stream()
+                .map(e -> Map.of("id", e.getKey(), "v", e.getValue().getFirst(), "angle", e.getValue().getSecond()))
+                .toList());
+        return tree;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OpenReacResult fromJsonTree(Map<String, Object> tree) {
+        List<GeneratorModification> generators = ((List<Map<String, Object>>) tree.get("generators")).stream()
+                .map(m -> {
+                    GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+                    modifs.setTargetV(((Number) m.get("targetV")).doubleValue());
+                    modifs.setTargetQ(((Number) m.get("targetQ")).doubleValue());
+                    return new GeneratorModification((String) m.get("id"), modifs);
+                })
+                .toList();
+        List<ShuntCompensatorModification> shunts = ((List<Map<String, Object>>) tree.get("shunts")).stream()
+                .map(m -> new ShuntCompensatorModification((String) m.get("id"), null, (Integer) m.get("sectionCount")))
+                .toList();
+        List<RatioTapPositionModification> taps = ((List<Map<String, Object>>) tree.get("taps")).stream()
+                .map(m -> new RatioTapPositionModification((String) m.get("id"), (Integer) m.get("tapPosition")))
+                .toList();
+        Map<String, Pair<Double, Double>> voltageProfile = new HashMap<>();
+        ((List<Map<String, Object>>) tree.get("voltages")).forEach(m -> voltageProfile.put((String) m.get("id"),
+                Pair.of(((Number) m.get("v")).doubleValue(), ((Number) m.get("angle")).doubleValue())));
+        return OpenReacResult.builder(OpenReacStatus.valueOf((String) tree.get("status")))
+                .setIndicators((Map<String, String>) tree.get("indicators"))
+                .setGeneratorModifications(generators)
+                .setShuntsModifications(shunts)
+                .setTapPositionModifications(taps)
+                .setVoltageProfile(voltageProfile)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OpenReacResultSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
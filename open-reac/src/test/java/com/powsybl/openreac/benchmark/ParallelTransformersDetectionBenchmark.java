@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.benchmark;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.network.ParallelTransformersNetworkFactory;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detection of parallel transformers on synthetic networks whose substations hold many buses, where the search
+ * of closed loops dominates.
+ * Run with the main method, benchmarks are not part of the unit tests.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelTransformersDetectionBenchmark {
+
+    private static final int SUBSTATION_COUNT = 10;
+
+    @Param({"20", "200", "2000"})
+    private int busesPerSubstation;
+
+    private Network network;
+
+    @Setup
+    public void setUp() {
+        network = ParallelTransformersNetworkFactory.createLargeSynthetic(SUBSTATION_COUNT, busesPerSubstation, 1);
+        // the bus view is computed once, outside the measurements
+        network.getBusView().getBuses().forEach(bus -> { });
+    }
+
+    @Benchmark
+    public ParallelTwoWindingsTransformersDetector.DetectionResult detect() {
+        return ParallelTwoWindingsTransformersDetector.detect(network);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParallelTransformersDetectionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
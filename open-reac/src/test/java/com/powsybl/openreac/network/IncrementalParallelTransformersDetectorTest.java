@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.DetectionResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class IncrementalParallelTransformersDetectorTest {
+
+    @Test
+    void testOnlyChangedSubstationsRecomputed() {
+        Network network = ParallelTransformersNetworkFactory.createLargeSynthetic(50, 6, 11);
+        IncrementalParallelTransformersDetector detector = IncrementalParallelTransformersDetector.attach(network);
+        assertSame(detector, IncrementalParallelTransformersDetector.attach(network));
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(50, detector.getLastRecomputedSubstationCount());
+
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(0, detector.getLastRecomputedSubstationCount());
+
+        // disconnection in one substation, ratio tap changer removal in another
+        TwoWindingsTransformer disconnected = network.getSubstation("S3").getTwoWindingsTransformers().iterator().next();
+        disconnected.getTerminal1().disconnect();
+        network.getSubstation("S7").getTwoWindingsTransformerStream()
+                .filter(TwoWindingsTransformer::hasRatioTapChanger)
+                .findFirst().orElseThrow()
+                .getRatioTapChanger().remove();
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(2, detector.getLastRecomputedSubstationCount());
+
+        // tap changes are not topology changes
+        network.getTwoWindingsTransformerStream()
+                .filter(TwoWindingsTransformer::hasRatioTapChanger)
+                .forEach(twt -> twt.getRatioTapChanger().setTapPosition(0));
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(0, detector.getLastRecomputedSubstationCount());
+
+        // reconnection, removal and creation of transformers
+        disconnected.getTerminal1().connect();
+        network.getSubstation("S12").getTwoWindingsTransformers().iterator().next().remove();
+        Substation s20 = network.getSubstation("S20");
+        TwoWindingsTransformer copied = s20.getTwoWindingsTransformerStream()
+                .filter(TwoWindingsTransformer::hasRatioTapChanger)
+                .findFirst().orElseThrow();
+        TwoWindingsTransformer added = s20.newTwoWindingsTransformer()
+                .setId("S20_NEW")
+                .setVoltageLevel1(copied.getTerminal1().getVoltageLevel().getId())
+                .setBus1(copied.getTerminal1().getBusBreakerView().getBus().getId())
+                .setVoltageLevel2(copied.getTerminal2().getVoltageLevel().getId())
+                .setBus2(copied.getTerminal2().getBusBreakerView().getBus().getId())
+                .setRatedU1(copied.getRatedU1()).setRatedU2(copied.getRatedU2())
+                .setR(0.1).setX(1.0).setG(0).setB(0)
+                .add();
+        added.newRatioTapChanger()
+                .beginStep().setRho(1).setR(0).setX(0).setG(0).setB(0).endStep()
+                .setTapPosition(0)
+                .setLoadTapChangingCapabilities(false)
+                .add();
+        DetectionResult result = detector.detect();
+        assertDetectionEquals(network, result);
+        assertEquals(3, detector.getLastRecomputedSubstationCount());
+        assertTrue(result.bundles().stream().anyMatch(b -> b.members().stream().anyMatch(m -> m.transformerId().equals("S20_NEW"))));
+
+        network.removeExtension(IncrementalParallelTransformersDetector.class);
+        assertNull(network.getExtension(IncrementalParallelTransformersDetector.class));
+        assertNotSame(detector, IncrementalParallelTransformersDetector.attach(network));
+    }
+
+    @Test
+    void testSwitchAndVariant() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        IncrementalParallelTransformersDetector detector = IncrementalParallelTransformersDetector.attach(network);
+        assertDetectionEquals(network, detector.detect());
+        network.getSwitch("S1VL1_TWT_BREAKER").setOpen(true);
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(1, detector.getLastRecomputedSubstationCount());
+
+        // the first detection on a variant computes all its substations
+        variantManager.cloneVariant(initialVariantId, "other");
+        variantManager.setWorkingVariant("other");
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(network.getSubstationCount(), detector.getLastRecomputedSubstationCount());
+
+        // the switches are variant dependent: the other variants keep their bundles
+        network.getSwitch("S1VL1_TWT_BREAKER").setOpen(false);
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(1, detector.getLastRecomputedSubstationCount());
+        variantManager.setWorkingVariant(initialVariantId);
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(0, detector.getLastRecomputedSubstationCount());
+
+        // a removed variant is computed again
+        variantManager.removeVariant("other");
+        variantManager.cloneVariant(initialVariantId, "other");
+        variantManager.setWorkingVariant("other");
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(network.getSubstationCount(), detector.getLastRecomputedSubstationCount());
+    }
+
+    @Test
+    void testUnknownAttribute() {
+        Network network = ParallelTransformersNetworkFactory.createLargeSynthetic(5, 6, 11);
+        IncrementalParallelTransformersDetector detector = IncrementalParallelTransformersDetector.attach(network);
+        detector.detect();
+        // the voltage limits do not change the topology, an unknown attribute may
+        VoltageLevel voltageLevel = network.getSubstation("S2").getVoltageLevels().iterator().next();
+        voltageLevel.setHighVoltageLimit(2 * voltageLevel.getNominalV());
+        detector.detect();
+        assertEquals(0, detector.getLastRecomputedSubstationCount());
+        network.getSubstation("S3").getTwoWindingsTransformers().iterator().next().setR(1);
+        assertDetectionEquals(network, detector.detect());
+        assertEquals(1, detector.getLastRecomputedSubstationCount());
+    }
+
+    private static void assertDetectionEquals(Network network, DetectionResult result) {
+        DetectionResult expected = ParallelTwoWindingsTransformersDetector.detect(network);
+        assertEquals(expected.bundles(), result.bundles());
+        assertEquals(expected.undecidedBundles(), result.undecidedBundles());
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the union-find merge of overlapping transformer sets with the pairwise merge it replaced, on candidate
+ * sets of 2 to 4 transformers drawn in areas of 12 transformers, 10 sets per area, as meshed substations produce
+ * them. The union-find merge grows linearly with the number of sets, the pairwise merge quadratically.
+ * In this package since the merge is package-private. Run with the main method, benchmarks are not part of the
+ * unit tests.
+ *
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverlappingSetsMergeBenchmark {
+
+    @Param({"1000", "10000", "30000"})
+    private int setCount;
+
+    private List<Set<String>> sets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        sets = new ArrayList<>(setCount);
+        for (int k = 0; k < setCount; k++) {
+            Set<String> set = new HashSet<>();
+            int size = 2 + random.nextInt(3);
+            while (set.size() < size) {
+                set.add("T" + (k / 10 * 12 + random.nextInt(12)));
+            }
+            sets.add(set);
+        }
+    }
+
+    @Benchmark
+    public List<Set<String>> unionFindMerge() {
+        return ParallelTwoWindingsTransformersDetector.mergeOverlappingSets(sets);
+    }
+
+    @Benchmark
+    public List<Set<String>> pairwiseMerge() {
+        List<Set<String>> merged = new ArrayList<>();
+        for (Set<String> current : sets) {
+            Set<String> combined = new HashSet<>(current);
+            List<Set<String>> updatedMerged = new ArrayList<>();
+            for (Set<String> existing : merged) {
+                if (!Collections.disjoint(existing, current)) {
+                    combined.addAll(existing);
+                } else {
+                    updatedMerged.add(existing);
+                }
+            }
+            updatedMerged.add(combined);
+            merged = updatedMerged;
+        }
+        return merged;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OverlappingSetsMergeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
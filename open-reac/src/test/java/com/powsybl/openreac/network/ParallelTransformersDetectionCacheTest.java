@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.DetectionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class ParallelTransformersDetectionCacheTest {
+
+    private FileSystem fileSystem;
+
+    @BeforeEach
+    void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    @Test
+    void testFingerprint() {
+        Network network = ParallelTransformersNetworkFactory.createTriangleCycle();
+        String fingerprint = ParallelTransformersDetectionCache.fingerprint(network);
+        assertEquals(fingerprint, ParallelTransformersDetectionCache.fingerprint(ParallelTransformersNetworkFactory.createTriangleCycle()));
+        assertNotEquals(fingerprint, ParallelTransformersDetectionCache.fingerprint(ParallelTransformersNetworkFactory.createSquareCycle()));
+
+        // a disconnected transformer changes the topology
+        network.getTwoWindingsTransformers().iterator().next().getTerminal1().disconnect();
+        assertNotEquals(fingerprint, ParallelTransformersDetectionCache.fingerprint(network));
+
+        // so does a removed ratio tap changer, but not a tap change
+        Network other = ParallelTransformersNetworkFactory.createThreeParallel();
+        String otherFingerprint = ParallelTransformersDetectionCache.fingerprint(other);
+        other.getTwoWindingsTransformers().iterator().next().getRatioTapChanger().setTapPosition(0);
+        assertEquals(otherFingerprint, ParallelTransformersDetectionCache.fingerprint(other));
+        other.getTwoWindingsTransformers().iterator().next().getRatioTapChanger().remove();
+        assertNotEquals(otherFingerprint, ParallelTransformersDetectionCache.fingerprint(other));
+    }
+
+    @Test
+    void testLineNominalVoltageFingerprint() {
+        // a voltage level only reached by an intra-substation line
+        Network network = ParallelTransformersNetworkFactory.createTriangleCycle();
+        VoltageLevel vl = network.getSubstation("S").newVoltageLevel()
+                .setId("VL_D")
+                .setNominalV(225.0)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl.getBusBreakerView().newBus().setId("D").add();
+        network.newLine()
+                .setId("L_AD")
+                .setVoltageLevel1("VL_A").setBus1("A").setConnectableBus1("A")
+                .setVoltageLevel2("VL_D").setBus2("D").setConnectableBus2("D")
+                .setR(0.1).setX(1.0)
+                .add();
+        String fingerprint = ParallelTransformersDetectionCache.fingerprint(network);
+        vl.setNominalV(90.0);
+        assertNotEquals(fingerprint, ParallelTransformersDetectionCache.fingerprint(network));
+    }
+
+    @Test
+    void testSharedCaches() {
+        Path directory = fileSystem.getPath("/shared");
+        ParallelTransformersDetectionCache cache = ParallelTransformersDetectionCache.shared(10, directory);
+        assertSame(cache, ParallelTransformersDetectionCache.shared(10, directory));
+        ParallelTransformersDetectionCache larger = ParallelTransformersDetectionCache.shared(20, directory);
+        assertNotSame(cache, larger);
+        assertEquals(20, larger.getMaxSize());
+    }
+
+    @Test
+    void testMemoryCache() {
+        ParallelTransformersDetectionCache cache = new ParallelTransformersDetectionCache(1);
+        Network network = ParallelTransformersNetworkFactory.createTriangleCycle();
+        DetectionResult result = cache.detect(network, false);
+        assertEquals(ParallelTwoWindingsTransformersDetector.detect(network), result);
+        // same topology, another network
+        assertSame(result, cache.detect(ParallelTransformersNetworkFactory.createTriangleCycle(), false));
+
+        // least recently used evicted
+        cache.detect(ParallelTransformersNetworkFactory.createSquareCycle(), false);
+        assertEquals(1, cache.size());
+        assertNotSame(result, cache.detect(network, false));
+
+        assertThrows(IllegalArgumentException.class, () -> new ParallelTransformersDetectionCache(0));
+    }
+
+    @Test
+    void testDiskCache() throws IOException {
+        Path directory = fileSystem.getPath("/cache");
+        Network network = ParallelTransformersNetworkFactory.createAntiParallelTriangle();
+        DetectionResult expected = ParallelTwoWindingsTransformersDetector.detect(network);
+        assertEquals(expected, new ParallelTransformersDetectionCache(4, directory).detect(network, false));
+        Path file = directory.resolve(ParallelTransformersDetectionCache.fingerprint(network) + ".json");
+        assertTrue(Files.exists(file));
+
+        // another cache, as in another JVM, reads the result back
+        assertEquals(expected, new ParallelTransformersDetectionCache(4, directory).detect(network, false));
+
+        Network undecided = ParallelTransformersNetworkFactory.createEqualVoltageSquareCycle();
+        DetectionResult expectedUndecided = ParallelTwoWindingsTransformersDetector.detect(undecided);
+        assertFalse(expectedUndecided.undecidedBundles().isEmpty());
+        new ParallelTransformersDetectionCache(4, directory).detect(undecided, false);
+        assertEquals(expectedUndecided, new ParallelTransformersDetectionCache(4, directory).detect(undecided, false));
+
+        // a corrupted file is ignored
+        Files.writeString(file, "{ not json");
+        assertEquals(expected, new ParallelTransformersDetectionCache(4, directory).detect(network, false));
+    }
+}
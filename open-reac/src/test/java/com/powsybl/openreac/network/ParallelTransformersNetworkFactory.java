@@ -9,6 +9,8 @@ package com.powsybl.openreac.network;
 
 import com.powsybl.iidm.network.*;
 
+import java.util.Random;
+
 /**
  * Networks created to test the parallel two-winding transformer detector
  *
@@ -196,6 +198,47 @@ public final class ParallelTransformersNetworkFactory {
         return network;
     }
 
+    /**
+     * Many substations of random topology: in each one, a few buses at 225, 90 and 20 kV linked by random
+     * transformers, with or without ratio tap changer, and a few intra-substation lines, so that simple parallels,
+     * triangles and squares appear. Substations are also linked by lines. The same seed gives the same network.
+     */
+    public static Network createLargeSynthetic(int substationCount, int busesPerSubstation, long seed) {
+        Random random = new Random(seed);
+        double[] nominalVs = {225.0, 90.0, 20.0};
+        Network network = Network.create("large-synthetic", "test");
+        for (int i = 0; i < substationCount; i++) {
+            Substation s = network.newSubstation().setId("S" + i).add();
+            String[] vlIds = new String[busesPerSubstation];
+            double[] busVs = new double[busesPerSubstation];
+            for (int b = 0; b < busesPerSubstation; b++) {
+                vlIds[b] = "S" + i + "_VL" + b;
+                busVs[b] = nominalVs[random.nextInt(nominalVs.length)];
+                createVoltageLevelAndBus(s, vlIds[b], busVs[b], vlIds[b] + "_B");
+            }
+            int branchCount = busesPerSubstation * 2;
+            for (int k = 0; k < branchCount; k++) {
+                int b1 = random.nextInt(busesPerSubstation);
+                int b2 = random.nextInt(busesPerSubstation);
+                if (b1 == b2) {
+                    continue;
+                }
+                String id = "S" + i + "_BR" + k;
+                if (busVs[b1] == busVs[b2] && random.nextInt(3) == 0) {
+                    addLine(network, id, vlIds[b1], vlIds[b1] + "_B", vlIds[b2], vlIds[b2] + "_B");
+                } else if (random.nextInt(5) == 0) {
+                    addFixedTransformer(s, id, vlIds[b1], vlIds[b1] + "_B", vlIds[b2], vlIds[b2] + "_B", busVs[b1], busVs[b2]);
+                } else {
+                    addRtcTransformer(s, id, vlIds[b1], vlIds[b1] + "_B", vlIds[b2], vlIds[b2] + "_B", busVs[b1], busVs[b2], 0.95, 1.05);
+                }
+            }
+            if (i > 0) {
+                addLine(network, "L" + (i - 1) + "_" + i, "S" + (i - 1) + "_VL0", "S" + (i - 1) + "_VL0_B", vlIds[0], vlIds[0] + "_B");
+            }
+        }
+        return network;
+    }
+
     // --- Helpers ---
 
     private static void createVoltageLevelAndBus(Substation s, String vlId, double nominalV, String busId) {
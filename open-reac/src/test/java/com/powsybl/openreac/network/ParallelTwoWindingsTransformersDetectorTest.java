@@ -7,18 +7,27 @@
  */
 package com.powsybl.openreac.network;
 
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
 import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.Bundle;
 import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.DetectionResult;
 import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector.Member;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -171,4 +180,137 @@ class ParallelTwoWindingsTransformersDetectorTest {
         assertEquals(1, merged.size());
         assertTrue(merged.contains(Set.of("A", "B", "C", "D", "E")));
     }
+
+    @Test
+    void mergeOverlappingSetsMatchesPairwiseMerge() {
+        Random random = new Random(3);
+        for (int run = 0; run < 20; run++) {
+            List<Set<String>> input = new ArrayList<>();
+            for (int k = 0; k < 200; k++) {
+                Set<String> set = new HashSet<>();
+                int size = 1 + random.nextInt(3);
+                for (int i = 0; i < size; i++) {
+                    set.add("T" + random.nextInt(400));
+                }
+                input.add(set);
+            }
+            assertEquals(pairwiseMerge(input), ParallelTwoWindingsTransformersDetector.mergeOverlappingSets(input));
+        }
+    }
+
+    // Reference quadratic merge: each input set absorbs all the previously merged sets it overlaps
+    private static List<Set<String>> pairwiseMerge(List<Set<String>> input) {
+        List<Set<String>> merged = new ArrayList<>();
+        for (Set<String> current : input) {
+            Set<String> combined = new HashSet<>(current);
+            List<Set<String>> updatedMerged = new ArrayList<>();
+            for (Set<String> existing : merged) {
+                if (!Collections.disjoint(existing, current)) {
+                    combined.addAll(existing);
+                } else {
+                    updatedMerged.add(existing);
+                }
+            }
+            updatedMerged.add(combined);
+            merged = updatedMerged;
+        }
+        return merged;
+    }
+
+    @Test
+    void parallelDetectionEqualsSerialDetection() {
+        for (long seed = 0; seed < 5; seed++) {
+            Network network = ParallelTransformersNetworkFactory.createLargeSynthetic(500, 6, seed);
+            DetectionResult serial = ParallelTwoWindingsTransformersDetector.detect(network, false);
+            DetectionResult parallel = ParallelTwoWindingsTransformersDetector.detect(network, true);
+            assertFalse(serial.bundles().isEmpty());
+            assertEquals(serial.bundles(), parallel.bundles());
+            assertEquals(serial.undecidedBundles(), parallel.undecidedBundles());
+            assertEquals(serial.bundles(), ParallelTwoWindingsTransformersDetector.detect(network).bundles());
+        }
+    }
+
+    @Test
+    void parallelDetectionOnWorkingVariant() {
+        Network network = ParallelTransformersNetworkFactory.createLargeSynthetic(300, 5, 42);
+        DetectionResult reference = ParallelTwoWindingsTransformersDetector.detect(network, false);
+        network.getVariantManager().cloneVariant(network.getVariantManager().getWorkingVariantId(), "other");
+        network.getVariantManager().setWorkingVariant("other");
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        DetectionResult parallel = ParallelTwoWindingsTransformersDetector.detect(network, true);
+        assertEquals(reference.bundles(), parallel.bundles());
+        assertEquals(reference.undecidedBundles(), parallel.undecidedBundles());
+        assertEquals("other", network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    void chordlessCyclesMatchBruteForce() {
+        Network network = ParallelTransformersNetworkFactory.createLargeSynthetic(20, 12, 7);
+        int squareCount = 0;
+        for (Substation substation : network.getSubstations()) {
+            List<Line> lines = network.getLineStream()
+                    .filter(l -> l.getTerminal1().getVoltageLevel().getSubstation().orElseThrow() == substation
+                            && l.getTerminal2().getVoltageLevel().getSubstation().orElseThrow() == substation)
+                    .toList();
+            List<List<String>> cycles = ParallelTwoWindingsTransformersDetector.findChordlessCyclesUpToSize4(substation, lines);
+            for (List<String> cycle : cycles) {
+                // canonical walk: smallest bus first, then its smallest cycle neighbor
+                assertEquals(Collections.min(cycle), cycle.getFirst());
+                assertTrue(cycle.get(1).compareTo(cycle.getLast()) < 0);
+            }
+            Set<Set<String>> found = cycles.stream().map(Set::copyOf).collect(Collectors.toSet());
+            assertEquals(cycles.size(), found.size());
+            assertEquals(bruteForceChordlessCycles(substation, lines), found);
+            squareCount += (int) cycles.stream().filter(cycle -> cycle.size() == 4).count();
+        }
+        assertTrue(squareCount > 0);
+    }
+
+    private static Set<Set<String>> bruteForceChordlessCycles(Substation substation, List<Line> lines) {
+        Set<Set<String>> edges = new HashSet<>();
+        List<Branch<?>> branches = new ArrayList<>(lines);
+        substation.getTwoWindingsTransformers().forEach(branches::add);
+        for (Branch<?> branch : branches) {
+            Bus b1 = branch.getTerminal1().getBusView().getBus();
+            Bus b2 = branch.getTerminal2().getBusView().getBus();
+            if (b1 != null && b2 != null && !b1.getId().equals(b2.getId())) {
+                edges.add(Set.of(b1.getId(), b2.getId()));
+            }
+        }
+        List<String> buses = edges.stream().flatMap(Set::stream).distinct().sorted().toList();
+        Set<Set<String>> cycles = new HashSet<>();
+        int n = buses.size();
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    List<String> three = List.of(buses.get(a), buses.get(b), buses.get(c));
+                    if (edgeCount(three, edges) == 3) {
+                        cycles.add(Set.copyOf(three));
+                    }
+                    for (int d = c + 1; d < n; d++) {
+                        List<String> four = List.of(buses.get(a), buses.get(b), buses.get(c), buses.get(d));
+                        // 4 edges on 4 buses without a triangle: a chordless square
+                        boolean square = edgeCount(four, edges) == 4
+                                && four.stream().allMatch(x -> four.stream().filter(y -> !x.equals(y) && edges.contains(Set.of(x, y))).count() == 2);
+                        if (square) {
+                            cycles.add(Set.copyOf(four));
+                        }
+                    }
+                }
+            }
+        }
+        return cycles;
+    }
+
+    private static int edgeCount(List<String> buses, Set<Set<String>> edges) {
+        int count = 0;
+        for (int i = 0; i < buses.size(); i++) {
+            for (int j = i + 1; j < buses.size(); j++) {
+                if (edges.contains(Set.of(buses.get(i), buses.get(j)))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
 }
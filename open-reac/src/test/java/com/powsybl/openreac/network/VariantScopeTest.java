@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.network;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class VariantScopeTest {
+
+    @Test
+    void testRestoresWorkingVariant() {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        try (VariantScope scope = VariantScope.enter(network, "v1")) {
+            assertEquals("v1", variantManager.getWorkingVariantId());
+        }
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+        assertThrows(PowsyblException.class, () -> VariantScope.enter(network, "unknown"));
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+    }
+
+    @Test
+    void testThreadConfined() throws Exception {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        variantManager.allowVariantMultiThreadAccess(true);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> {
+            // this thread has no working variant before the scope, and keeps the one of the scope after
+            assertThrows(PowsyblException.class, variantManager::getWorkingVariantId);
+            try (VariantScope scope = VariantScope.enter(network, "v1")) {
+                entered.countDown();
+                checked.await();
+                return variantManager.getWorkingVariantId();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }, command -> new Thread(command).start());
+
+        entered.await();
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+        checked.countDown();
+        assertEquals("v1", other.get());
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+    }
+}
@@ -128,6 +128,14 @@ abstract class AbstractOpenReacRunnerTest {
      */
     protected OpenReacResult runOpenReac(Network network, String subFolder, OpenReacParameters parameters,
                                          boolean onlyIndicators, ReportNode reportNode) throws IOException {
+        return runOpenReac(network, subFolder, parameters, onlyIndicators, reportNode, new OpenReacConfig(true));
+    }
+
+    /**
+     * Runs OpenReac with the given configuration and returns associated result.
+     */
+    protected OpenReacResult runOpenReac(Network network, String subFolder, OpenReacParameters parameters,
+                                         boolean onlyIndicators, ReportNode reportNode, OpenReacConfig config) throws IOException {
         // set default voltage limits to every voltage levels of the network
         setDefaultVoltageLimits(network);
         List<String> outputFileNames = new ArrayList<>(List.of(subFolder + "/reactiveopf_results_indic.txt"));
@@ -147,7 +155,7 @@ abstract class AbstractOpenReacRunnerTest {
         try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
                 localCommandExecutor, ForkJoinPool.commonPool())) {
             return OpenReacRunner.run(network, network.getVariantManager().getWorkingVariantId(), parameters,
-                    new OpenReacConfig(true), computationManager, reportNode, null);
+                    config, computationManager, reportNode, null);
         }
     }
 
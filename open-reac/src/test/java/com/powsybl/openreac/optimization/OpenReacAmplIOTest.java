@@ -19,11 +19,15 @@ import com.powsybl.openreac.parameters.input.algo.OpenReacAmplLogLevel;
 import com.powsybl.openreac.parameters.input.algo.OpenReacOptimisationObjective;
 import com.powsybl.openreac.parameters.input.algo.ReactiveSlackBusesMode;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacSolverStatistics;
+import com.powsybl.openreac.parameters.output.OpenReacSolverStatistics.Solve;
+import com.powsybl.openreac.parameters.output.OpenReacSolverStatistics.SolveStatistics;
 import com.powsybl.openreac.parameters.output.OpenReacStatus;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
@@ -167,4 +171,28 @@ class OpenReacAmplIOTest extends AbstractOpenReacRunnerTest {
         }
     }
 
+    @Test
+    void testSolverStatistics() throws IOException {
+        Network network = IeeeCdfNetworkFactory.create14();
+        setDefaultVoltageLimits(network);
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(List.of("optimization/indicators/solver-statistics-test/reactiveopf_results_indic.txt"));
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, ForkJoinPool.commonPool())) {
+            OpenReacResult openReacResult = OpenReacRunner.run(network,
+                    network.getVariantManager().getWorkingVariantId(), new OpenReacParameters(), new OpenReacConfig(true),
+                    computationManager);
+            assertEquals(OpenReacStatus.NOT_OK, openReacResult.getStatus());
+
+            OpenReacSolverStatistics statistics = openReacResult.getSolverStatistics();
+            assertEquals(List.of(Solve.values()), List.copyOf(statistics.getAll().keySet()));
+            assertEquals(new SolveStatistics(0, Duration.ofMillis(500), 12, 25, 3.552714e-12), statistics.get(Solve.ACOPF).orElseThrow());
+            SolveStatistics rounding = statistics.get(Solve.ACOPF_AFTER_ROUNDING).orElseThrow();
+            assertFalse(rounding.isFeasible());
+            assertEquals(0.25, rounding.feasibilityError());
+            assertEquals(19, statistics.getTotalIterations().orElseThrow());
+            assertEquals(Duration.ofMillis(1250), statistics.getAmplElapsedTime().orElseThrow());
+            assertEquals(Duration.ofMillis(875), statistics.getTotalSolveTime().orElseThrow());
+        }
+    }
+
 }
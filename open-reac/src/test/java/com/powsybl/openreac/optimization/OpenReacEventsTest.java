@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.optimization;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationConfig;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacRunner;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithLinearModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacEventsTest extends AbstractOpenReacRunnerTest {
+
+    private static final List<String> EVENT_NAMES = List.of("Validation", "ParallelTransformersDetection", "NetworkExport",
+            "AmplProcess", "OutputParsing", "ApplyModifications");
+
+    @Test
+    void testEvents(@TempDir Path recordingDir) throws IOException {
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        TestLocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        String variantId = network.getVariantManager().getWorkingVariantId();
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+        // the recordings are read from the default file system
+        Path recordingFile = recordingDir.resolve("openreac.jfr");
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, ForkJoinPool.commonPool());
+             Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable("com.powsybl.openreac." + name).withoutThreshold());
+            recording.start();
+            OpenReacResult result = OpenReacRunner.run(network, variantId, parameters, new OpenReacConfig(true), computationManager);
+            assertEquals(OpenReacStatus.OK, result.getStatus());
+            result.applyAllModifications(network);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName().substring("com.powsybl.openreac.".length())));
+        assertEquals(EVENT_NAMES.stream().sorted().toList(), events.keySet().stream().sorted().toList());
+        events.values().stream().flatMap(List::stream).forEach(event -> {
+            assertEquals(network.getId(), event.getString("networkId"));
+            assertEquals(variantId, event.getString("variantId"));
+            assertFalse(event.getDuration().isNegative());
+        });
+        assertEquals(1, events.get("Validation").getFirst().getInt("variableShuntCompensators"));
+        RecordedEvent export = events.get("NetworkExport").getFirst();
+        assertEquals(1, export.getInt("variableShuntCompensators"));
+        assertEquals(7, export.getInt("inputFiles"));
+        assertTrue(export.getLong("bytesWritten") > 0);
+        assertTrue(events.get("AmplProcess").getFirst().getBoolean("success"));
+        RecordedEvent shuntsParsing = events.get("OutputParsing").stream()
+                .filter(event -> event.getString("fileName").equals("reactiveopf_results_shunts.csv"))
+                .findFirst().orElseThrow();
+        assertTrue(shuntsParsing.getLong("bytesRead") > 0);
+        assertEquals(1, events.get("ApplyModifications").getFirst().getInt("shuntModifications"));
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.optimization;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationConfig;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.modification.GeneratorModification;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacRunner;
+import com.powsybl.openreac.exceptions.IncompatibleModelException;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacLazyResultsTest extends AbstractOpenReacRunnerTest {
+
+    private static final String SUB_FOLDER = "optimization/loadflow/openreac-output-ieee14";
+
+    @Test
+    void testLazyResultsEqualEagerResults() throws IOException {
+        OpenReacResult eager = runOpenReac(IeeeCdfNetworkFactory.create14(), SUB_FOLDER, new OpenReacParameters(), false);
+        try (OpenReacResult lazy = runLazy(IeeeCdfNetworkFactory.create14())) {
+            assertTrue(lazy.isLazy());
+            assertFalse(eager.isLazy());
+            assertEquals(eager.getStatus(), lazy.getStatus());
+            assertEquals(eager.getIndicators(), lazy.getIndicators());
+            assertEquals(eager.getVoltageProfile(), lazy.getVoltageProfile());
+            assertEquals(generatorTargets(eager), generatorTargets(lazy));
+            assertEquals(eager.getTapPositionModifications().stream().map(RatioTapPositionModification::getTransformerId).toList(),
+                    lazy.getTapPositionModifications().stream().map(RatioTapPositionModification::getTransformerId).toList());
+            assertEquals(eager.getShuntsModifications().size(), lazy.getShuntsModifications().size());
+            assertEquals(eager.getSvcModifications().size(), lazy.getSvcModifications().size());
+            assertEquals(eager.getVscModifications().size(), lazy.getVscModifications().size());
+            assertEquals(eager.getBatteryModifications().size(), lazy.getBatteryModifications().size());
+            assertEquals(eager.getReactiveSlacks().size(), lazy.getReactiveSlacks().size());
+            assertEquals(eager.getAllNetworkModifications().size(), lazy.getAllNetworkModifications().size());
+        }
+    }
+
+    @Test
+    void testSectionsParsedOnFirstAccess() throws IOException {
+        OpenReacResult result = runLazy(IeeeCdfNetworkFactory.create14());
+        assertEquals(OpenReacStatus.OK, result.getStatus());
+        Path retainedDirectory = getRetainedDirectory();
+        // generators, rtc, shunts, svc, vsc and voltages files, the other outputs are missing
+        assertEquals(6, countFiles(retainedDirectory));
+
+        assertFalse(result.getGeneratorModifications().isEmpty());
+        assertEquals(5, countFiles(retainedDirectory));
+        assertSame(result.getGeneratorModifications(), result.getGeneratorModifications());
+        assertEquals(5, countFiles(retainedDirectory));
+
+        result.close();
+        assertFalse(Files.exists(retainedDirectory));
+        // already parsed sections remain available, the others are released
+        assertFalse(result.getGeneratorModifications().isEmpty());
+        assertThrows(IllegalStateException.class, result::getVoltageProfile);
+    }
+
+    @Test
+    void testNetworkChangedBeforeFirstAccess() throws IOException {
+        OpenReacResult eager = runOpenReac(IeeeCdfNetworkFactory.create14(), SUB_FOLDER, new OpenReacParameters(), false);
+        Network network = IeeeCdfNetworkFactory.create14();
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        network.getVariantManager().cloneVariant(initialVariantId, "run");
+        network.getVariantManager().setWorkingVariant("run");
+        try (OpenReacResult lazy = runLazy(network)) {
+            // the sections are read against the network as it was sent to AMPL
+            network.getGeneratorStream().forEach(generator -> generator.setTargetQ(generator.getTargetQ() + 1));
+            network.getVariantManager().setWorkingVariant(initialVariantId);
+            network.getVariantManager().removeVariant("run");
+            assertEquals(generatorTargets(eager), generatorTargets(lazy));
+            assertEquals(eager.getShuntsModifications().size(), lazy.getShuntsModifications().size());
+            assertEquals(eager.getTapPositionModifications().size(), lazy.getTapPositionModifications().size());
+            assertEquals(eager.getSvcModifications().size(), lazy.getSvcModifications().size());
+            assertEquals(eager.getVscModifications().size(), lazy.getVscModifications().size());
+        }
+    }
+
+    @Test
+    void testConcurrentFirstAccess() throws IOException {
+        try (OpenReacResult result = runLazy(IeeeCdfNetworkFactory.create14())) {
+            List<CompletableFuture<Map<String, ?>>> profiles = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.<Map<String, ?>>supplyAsync(result::getVoltageProfile))
+                    .toList();
+            Map<String, ?> first = profiles.getFirst().join();
+            assertEquals(14, first.size());
+            profiles.forEach(profile -> assertSame(first, profile.join()));
+        }
+    }
+
+    @Test
+    void testCorruptReactiveSlacks() throws IOException {
+        // the status depends on the reactive slacks: they are parsed by the run as in eager mode, and not left to
+        // the first access of the section
+        OpenReacConfig lazyConfig = new OpenReacConfig(true).setLazyResults(true);
+        CompletionException eager = assertThrows(CompletionException.class, () -> runWithCorruptReactiveSlacks(new OpenReacConfig(true)));
+        CompletionException lazy = assertThrows(CompletionException.class, () -> runWithCorruptReactiveSlacks(lazyConfig));
+        assertInstanceOf(IncompatibleModelException.class, eager.getCause());
+        assertInstanceOf(IncompatibleModelException.class, lazy.getCause());
+    }
+
+    private OpenReacResult runWithCorruptReactiveSlacks(OpenReacConfig config) throws IOException {
+        Network network = IeeeCdfNetworkFactory.create14();
+        setDefaultVoltageLimits(network);
+        List<String> outputFileNames = Stream.of("indic.txt", "generators.csv", "rtc.csv", "shunts.csv",
+                        "static_var_compensators.csv", "vsc_converter_stations.csv", "voltages.csv")
+                .map(file -> SUB_FOLDER + "/reactiveopf_results_" + file)
+                .collect(Collectors.toCollection(ArrayList::new));
+        outputFileNames.add("optimization/loadflow/openreac-output-corrupt-slacks/reactiveopf_results_reactive_slacks.csv");
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                new TestLocalCommandExecutor(outputFileNames), ForkJoinPool.commonPool())) {
+            return OpenReacRunner.run(network, network.getVariantManager().getWorkingVariantId(), new OpenReacParameters(),
+                    config, computationManager, ReportNode.NO_OP, null);
+        }
+    }
+
+    private OpenReacResult runLazy(Network network) throws IOException {
+        return runOpenReac(network, SUB_FOLDER, new OpenReacParameters(), false, ReportNode.NO_OP,
+                new OpenReacConfig(true).setLazyResults(true));
+    }
+
+    private Path getRetainedDirectory() throws IOException {
+        try (Stream<Path> paths = Files.list(tmpDir)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("openreac_results_"))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+
+    private static List<String> generatorTargets(OpenReacResult result) {
+        return result.getGeneratorModifications().stream()
+                .map(m -> m.getGeneratorId() + ":" + targets(m))
+                .toList();
+    }
+
+    private static String targets(GeneratorModification modification) {
+        return modification.getModifs().getTargetV() + "/" + modification.getModifs().getTargetQ();
+    }
+}
@@ -17,8 +17,14 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.RatioTapChanger;
 import com.powsybl.iidm.network.ShuntCompensator;
 import com.powsybl.iidm.network.StaticVarCompensator;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.openreac.AmplAdmissionController;
 import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacCostModel;
+import com.powsybl.openreac.OpenReacJobStatistics;
 import com.powsybl.openreac.OpenReacRunner;
+import com.powsybl.openreac.exceptions.InvalidParametersException;
 import com.powsybl.openreac.network.HvdcNetworkFactory;
 import com.powsybl.openreac.network.VoltageControlNetworkFactory;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
@@ -27,10 +33,15 @@ import com.powsybl.openreac.parameters.output.OpenReacStatus;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithLinearModel;
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,6 +78,42 @@ class OpenReacOptimizationAndLoadFlowTest extends AbstractOpenReacRunnerTest {
         }
     }
 
+    @Test
+    void testRunAsyncOnExecutor() throws IOException {
+        Network network = IeeeCdfNetworkFactory.create14();
+        String subFolder = "optimization/loadflow/openreac-output-ieee14";
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        List<Runnable> tasks = new ArrayList<>();
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+             ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                     localCommandExecutor, virtualThreads)) {
+            // invalid parameters complete the future exceptionally instead of throwing
+            CompletableFuture<OpenReacResult> invalid = OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(),
+                    new OpenReacParameters(), new OpenReacConfig(true), computationManager, ReportNode.NO_OP, null, virtualThreads);
+            CompletionException e = assertThrows(CompletionException.class, invalid::join);
+            assertInstanceOf(InvalidParametersException.class, e.getCause());
+
+            // nothing is done on the calling thread
+            setDefaultVoltageLimits(network);
+            ReportNode reportNode = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+            CompletableFuture<OpenReacResult> openReacResults = OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(),
+                    new OpenReacParameters(), new OpenReacConfig(true), computationManager, reportNode, null, tasks::add);
+            assertFalse(openReacResults.isDone());
+            assertTrue(reportNode.getChildren().isEmpty());
+            assertEquals(1, tasks.size());
+            tasks.getFirst().run();
+            assertEquals(OpenReacStatus.OK, openReacResults.join().getStatus());
+            assertFalse(reportNode.getChildren().isEmpty());
+        }
+    }
+
     @Test
     void testOnlyGenerator() throws IOException {
         Network network = IeeeCdfNetworkFactory.create14();
@@ -124,6 +171,224 @@ class OpenReacOptimizationAndLoadFlowTest extends AbstractOpenReacRunnerTest {
         assertEquals(420.8, shunt.getTargetV()); // targetV has been updated
     }
 
+    @Test
+    void testConcurrentRunAsyncReports() throws Exception {
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        int runs = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, executor)) {
+            String expectedReport = print(runShuntAsync(computationManager).join());
+
+            // runs are started from several threads at once, so that their reports are built concurrently
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CompletableFuture<ReportNode>>> futures = IntStream.range(0, runs)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return runShuntAsync(computationManager);
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<CompletableFuture<ReportNode>> future : futures) {
+                assertEquals(expectedReport, print(future.get().join()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentRunsOnVariants() throws Exception {
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        VariantManager variantManager = network.getVariantManager();
+        int runs = 8;
+        for (int i = 0; i < runs; i++) {
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v" + i);
+        }
+        variantManager.allowVariantMultiThreadAccess(true);
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        ExecutorService executor = Executors.newFixedThreadPool(runs);
+        ExecutorService computationExecutor = Executors.newFixedThreadPool(runs);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, computationExecutor)) {
+            // each thread works on the initial variant and runs OpenReac on its own variant
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = IntStream.range(0, runs)
+                    .mapToObj(i -> executor.submit(() -> {
+                        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+                        start.await();
+                        OpenReacParameters parameters = new OpenReacParameters();
+                        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+                        CompletableFuture<OpenReacResult> result = OpenReacRunner.runAsync(network, "v" + i, parameters,
+                                new OpenReacConfig(true), computationManager);
+                        String workingVariantId = variantManager.getWorkingVariantId();
+                        assertEquals(OpenReacStatus.OK, result.join().getStatus());
+                        return workingVariantId;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, future.get());
+            }
+            assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+        } finally {
+            executor.shutdownNow();
+            computationExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAdmissionControl() throws Exception {
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger executions = new AtomicInteger();
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv")) {
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir,
+                               Map<String, String> env) throws IOException {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executions.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                    return super.execute(program, args, outFile, errFile, workingDir, env);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        AmplAdmissionController controller = new AmplAdmissionController(2);
+        OpenReacConfig config = new OpenReacConfig(true).setAdmissionController(controller);
+        ExecutorService computationExecutor = Executors.newFixedThreadPool(8);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir, 8),
+                localCommandExecutor, computationExecutor)) {
+            List<CompletableFuture<OpenReacResult>> results = IntStream.range(0, 6).mapToObj(i -> {
+                Network network = createWithLinearModel();
+                setDefaultVoltageLimits(network);
+                OpenReacParameters parameters = new OpenReacParameters();
+                parameters.addVariableShuntCompensators(List.of("SHUNT"));
+                return OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(), parameters,
+                        config, computationManager);
+            }).toList();
+            for (CompletableFuture<OpenReacResult> result : results) {
+                assertEquals(OpenReacStatus.OK, result.get(30, TimeUnit.SECONDS).getStatus());
+            }
+            assertTrue(maxRunning.get() <= 2, "Too many AMPL processes at once: " + maxRunning.get());
+            assertEquals(2, controller.getAvailableTokens());
+
+            // a cancelled run waiting for its admission is withdrawn, and its AMPL process never started
+            List<AmplAdmissionController.Permit> permits = List.of(controller.acquire(0, 0).join(), controller.acquire(0, 0).join());
+            Network queuedNetwork = createWithLinearModel();
+            setDefaultVoltageLimits(queuedNetwork);
+            OpenReacParameters queuedParameters = new OpenReacParameters();
+            queuedParameters.addVariableShuntCompensators(List.of("SHUNT"));
+            CompletableFuture<OpenReacResult> queued = OpenReacRunner.runAsync(queuedNetwork,
+                    queuedNetwork.getVariantManager().getWorkingVariantId(), queuedParameters, config, computationManager);
+            assertEquals(1, controller.getWaitingCount());
+            int executionCount = executions.get();
+            assertTrue(queued.cancel(false));
+            assertEquals(0, controller.getWaitingCount());
+            permits.forEach(AmplAdmissionController.Permit::close);
+            assertEquals(2, controller.getAvailableTokens());
+            assertEquals(executionCount, executions.get());
+
+            // the synchronous runs are admitted too
+            Network network = createWithLinearModel();
+            setDefaultVoltageLimits(network);
+            OpenReacParameters parameters = new OpenReacParameters().setPriority(1);
+            assertEquals(OpenReacStatus.OK, OpenReacRunner.run(network, network.getVariantManager().getWorkingVariantId(),
+                    parameters, config, computationManager).getStatus());
+            assertEquals(2, controller.getAvailableTokens());
+        } finally {
+            computationExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCostModelLearning() throws IOException {
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        LocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        OpenReacCostModel costModel = new OpenReacCostModel();
+        OpenReacConfig config = new OpenReacConfig(true).setCostModel(costModel);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, ForkJoinPool.commonPool())) {
+            Network network = createWithLinearModel();
+            setDefaultVoltageLimits(network);
+            OpenReacParameters parameters = new OpenReacParameters();
+            parameters.addVariableShuntCompensators(List.of("SHUNT"));
+            OpenReacJobStatistics statistics = OpenReacJobStatistics.of(network, parameters, config);
+            assertEquals(1, statistics.variableShunts());
+
+            OpenReacResult result = OpenReacRunner.run(network, network.getVariantManager().getWorkingVariantId(), parameters,
+                    config, computationManager);
+            assertEquals(1, costModel.getWallTimeSampleCount());
+            assertEquals(OpenReacStatus.OK, OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(),
+                    parameters, config, computationManager).join().getStatus());
+            assertEquals(2, costModel.getWallTimeSampleCount());
+
+            // the past indicators give the size of the problem actually optimized
+            assertEquals(statistics, statistics.withIndicators(result.getIndicators()));
+        }
+    }
+
+    private CompletableFuture<ReportNode> runShuntAsync(ComputationManager computationManager) {
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+        ReportNode reportNode = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+        return OpenReacRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(), parameters,
+                        new OpenReacConfig(true), computationManager, reportNode, null)
+                .thenApply(result -> {
+                    assertEquals(OpenReacStatus.OK, result.getStatus());
+                    return reportNode;
+                });
+    }
+
+    private static String print(ReportNode reportNode) {
+        StringWriter writer = new StringWriter();
+        try {
+            reportNode.print(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
     @Test
     void testShuntWithDeltaBetweenDiscretizedAndOptimalReactiveValueUnderThreshold() throws IOException {
         Network network = createWithLinearModel();
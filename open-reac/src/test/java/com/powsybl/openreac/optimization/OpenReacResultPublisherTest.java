@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.optimization;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationConfig;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacResultPublisher;
+import com.powsybl.openreac.exceptions.InvalidParametersException;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithLinearModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacResultPublisherTest extends AbstractOpenReacRunnerTest {
+
+    private static final String SUB_FOLDER = "optimization/loadflow/openreac-output-shunt";
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final TestLocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+            List.of(SUB_FOLDER + "/reactiveopf_results_generators.csv",
+                    SUB_FOLDER + "/reactiveopf_results_indic.txt",
+                    SUB_FOLDER + "/reactiveopf_results_rtc.csv",
+                    SUB_FOLDER + "/reactiveopf_results_shunts.csv",
+                    SUB_FOLDER + "/reactiveopf_results_static_var_compensators.csv",
+                    SUB_FOLDER + "/reactiveopf_results_vsc_converter_stations.csv",
+                    SUB_FOLDER + "/reactiveopf_results_voltages.csv")) {
+        @Override
+        public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir,
+                           Map<String, String> env) throws IOException {
+            executions.incrementAndGet();
+            return super.execute(program, args, outFile, errFile, workingDir, env);
+        }
+    };
+
+    @Test
+    void testBackpressure() throws Exception {
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        VariantManager variantManager = network.getVariantManager();
+        int runs = 20;
+        for (int i = 0; i < runs; i++) {
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v" + i);
+        }
+        variantManager.allowVariantMultiThreadAccess(true);
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+
+        ExecutorService computationExecutor = Executors.newFixedThreadPool(4);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, computationExecutor);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            OpenReacResultPublisher publisher = OpenReacResultPublisher.ofVariants(network,
+                    IntStream.range(0, runs).mapToObj(i -> "v" + i), parameters, new OpenReacConfig(true),
+                    computationManager, executor, 3);
+            TestSubscriber subscriber = new TestSubscriber();
+            publisher.subscribe(subscriber);
+
+            // one result requested: the publisher only prefetches up to the in-flight limit
+            subscriber.subscription.request(1);
+            assertEquals(OpenReacStatus.OK, subscriber.results.take().getStatus());
+            Thread.sleep(200);
+            assertTrue(executions.get() <= 1 + 3, "Too many runs started: " + executions.get());
+            assertTrue(subscriber.results.isEmpty());
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            for (int i = 1; i < runs; i++) {
+                assertEquals(OpenReacStatus.OK, subscriber.results.take().getStatus());
+            }
+            assertNull(subscriber.end.get(10, TimeUnit.SECONDS));
+            assertEquals(runs, executions.get());
+
+            // a publisher can only be subscribed once
+            TestSubscriber other = new TestSubscriber();
+            publisher.subscribe(other);
+            assertInstanceOf(IllegalStateException.class, other.end.get(10, TimeUnit.SECONDS));
+        } finally {
+            computationExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedRun() throws Exception {
+        Network network = createWithLinearModel();
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+        // no voltage limits on the network: the parameters are invalid
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, ForkJoinPool.commonPool());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            OpenReacResultPublisher publisher = OpenReacResultPublisher.ofNetworks(Stream.of(network), parameters,
+                    new OpenReacConfig(true), computationManager, executor, 2);
+            TestSubscriber subscriber = new TestSubscriber();
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(1);
+            // the failure of the run is unwrapped
+            assertInstanceOf(InvalidParametersException.class, subscriber.end.get(10, TimeUnit.SECONDS));
+            assertTrue(subscriber.results.isEmpty());
+            assertEquals(0, executions.get());
+        }
+        assertThrows(IllegalArgumentException.class, () -> OpenReacResultPublisher.ofNetworks(Stream.empty(),
+                parameters, new OpenReacConfig(true), LocalComputationManager.getDefault(), Runnable::run, 0));
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        VariantManager variantManager = network.getVariantManager();
+        int runs = 5;
+        for (int i = 0; i < runs; i++) {
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v" + i);
+        }
+        variantManager.allowVariantMultiThreadAccess(true);
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+
+        TestSubscriber subscriber = new TestSubscriber();
+        ExecutorService computationExecutor = Executors.newFixedThreadPool(4);
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, computationExecutor);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // the lazy results retain their output files until closed
+            OpenReacResultPublisher publisher = OpenReacResultPublisher.ofVariants(network,
+                    IntStream.range(0, runs).mapToObj(i -> "v" + i), parameters,
+                    new OpenReacConfig(true).setLazyResults(true), computationManager, executor, 3);
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(1);
+            try (OpenReacResult result = subscriber.results.take()) {
+                assertEquals(OpenReacStatus.OK, result.getStatus());
+                subscriber.subscription.cancel();
+            }
+        } finally {
+            // waits for the runs already started
+            computationExecutor.shutdown();
+            assertTrue(computationExecutor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        // the results ready or completing after the cancellation are dropped and closed
+        assertTrue(executions.get() > 1);
+        assertTrue(executions.get() <= 1 + 3, "Too many runs started: " + executions.get());
+        assertEquals(0, countRetainedDirectories());
+        assertTrue(subscriber.results.isEmpty());
+        assertFalse(subscriber.end.isDone());
+    }
+
+    private long countRetainedDirectories() throws IOException {
+        try (Stream<Path> paths = Files.list(tmpDir)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("openreac_results_")).count();
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<OpenReacResult> {
+
+        private final BlockingQueue<OpenReacResult> results = new LinkedBlockingQueue<>();
+
+        /**
+         * Completed with <code>null</code> on completion, with the error otherwise.
+         */
+        private final CompletableFuture<Throwable> end = new CompletableFuture<>();
+
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(OpenReacResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            end.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            end.complete(null);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.optimization;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationConfig;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.OpenReacRunner;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.OpenReacTimings;
+import com.powsybl.openreac.parameters.output.OpenReacTimings.Phase;
+import com.powsybl.optimizer.commons.metrics.OptimizerMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithLinearModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacTimingsTest extends AbstractOpenReacRunnerTest {
+
+    private record Measure(String optimizer, String phase, Duration duration, long allocatedBytes) {
+    }
+
+    @Test
+    void testTimings() throws IOException {
+        String subFolder = "optimization/loadflow/openreac-output-shunt";
+        TestLocalCommandExecutor localCommandExecutor = new TestLocalCommandExecutor(
+                List.of(subFolder + "/reactiveopf_results_generators.csv",
+                        subFolder + "/reactiveopf_results_indic.txt",
+                        subFolder + "/reactiveopf_results_rtc.csv",
+                        subFolder + "/reactiveopf_results_shunts.csv",
+                        subFolder + "/reactiveopf_results_static_var_compensators.csv",
+                        subFolder + "/reactiveopf_results_vsc_converter_stations.csv",
+                        subFolder + "/reactiveopf_results_voltages.csv"));
+        List<Measure> measures = Collections.synchronizedList(new ArrayList<>());
+        OptimizerMetrics metrics = (optimizer, phase, duration, allocatedBytes) -> measures.add(new Measure(optimizer, phase, duration, allocatedBytes));
+        Network network = createWithLinearModel();
+        setDefaultVoltageLimits(network);
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensators(List.of("SHUNT"));
+        try (ComputationManager computationManager = new LocalComputationManager(new LocalComputationConfig(tmpDir),
+                localCommandExecutor, ForkJoinPool.commonPool())) {
+            OpenReacResult result = OpenReacRunner.run(network, network.getVariantManager().getWorkingVariantId(), parameters,
+                    new OpenReacConfig(true).setMetrics(metrics), computationManager);
+            assertEquals(OpenReacStatus.OK, result.getStatus());
+
+            OpenReacTimings timings = result.getTimings();
+            assertEquals(EnumSet.complementOf(EnumSet.of(Phase.APPLY_MODIFICATIONS)), timings.getAll().keySet());
+            timings.getAll().values().forEach(timing -> assertFalse(timing.duration().isNegative()));
+            // the allocations are only known for the phases in a single thread of the JVM
+            assertTrue(timings.get(Phase.VALIDATION).orElseThrow().allocatedBytes() > 0);
+            assertTrue(timings.get(Phase.OUTPUT_PARSING).orElseThrow().allocatedBytes() > 0);
+            assertEquals(-1, timings.get(Phase.NETWORK_EXPORT).orElseThrow().allocatedBytes());
+            assertEquals(-1, timings.get(Phase.AMPL_PROCESS).orElseThrow().allocatedBytes());
+            assertEquals(6, measures.size());
+            assertTrue(measures.stream().allMatch(m -> m.optimizer().equals(OpenReacTimings.OPTIMIZER_NAME)));
+            assertTrue(measures.contains(new Measure(OpenReacTimings.OPTIMIZER_NAME, "validation",
+                    timings.get(Phase.VALIDATION).orElseThrow().duration(), timings.get(Phase.VALIDATION).orElseThrow().allocatedBytes())));
+
+            // the later phases are forwarded as they are measured
+            result.applyAllModifications(network);
+            assertTrue(timings.get(Phase.APPLY_MODIFICATIONS).isPresent());
+            assertEquals(7, measures.size());
+            assertEquals("apply_modifications", measures.getLast().phase());
+            assertTrue(timings.getTotalDuration().compareTo(timings.get(Phase.AMPL_PROCESS).orElseThrow().duration()) >= 0);
+        }
+    }
+
+    @Test
+    void testMetrics() {
+        List<String> phases = new ArrayList<>();
+        OptimizerMetrics metrics = OptimizerMetrics.of(List.of((optimizer, phase, duration, allocatedBytes) -> phases.add(phase),
+                (optimizer, phase, duration, allocatedBytes) -> phases.add("other " + phase)));
+        OpenReacTimings timings = new OpenReacTimings(metrics);
+        timings.add(Phase.OUTPUT_PARSING, Duration.ofMillis(2), 100);
+        timings.add(Phase.OUTPUT_PARSING, Duration.ofMillis(3), 50);
+        assertEquals(new OpenReacTimings.PhaseTiming(Duration.ofMillis(5), 150), timings.get(Phase.OUTPUT_PARSING).orElseThrow());
+        timings.add(Phase.OUTPUT_PARSING, Duration.ofMillis(1), -1);
+        assertEquals(new OpenReacTimings.PhaseTiming(Duration.ofMillis(6), -1), timings.get(Phase.OUTPUT_PARSING).orElseThrow());
+        assertTrue(phases.isEmpty());
+
+        timings.publish();
+        timings.publish();
+        assertEquals(List.of("output_parsing", "other output_parsing"), phases);
+        assertSame(OptimizerMetrics.NO_OP, OptimizerMetrics.of(List.of()));
+        assertSame(OptimizerMetrics.NO_OP, new OpenReacConfig(false).getMetrics());
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class ElementSelectorTest {
+
+    @Test
+    void testSelectors() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Generator gen = network.getGenerator("GEN");
+        TwoWindingsTransformer ngenNhv1 = network.getTwoWindingsTransformer("NGEN_NHV1");
+        network.getSubstation("P2").setCountry(Country.BE);
+
+        assertTrue(ElementSelector.all().test(gen));
+        assertTrue(ElementSelector.nominalVoltageRange(20, 30).test(gen));
+        assertFalse(ElementSelector.nominalVoltageRange(63, Double.POSITIVE_INFINITY).test(gen));
+        // a transformer matches if one of its sides does
+        assertTrue(ElementSelector.nominalVoltageRange(63, Double.POSITIVE_INFINITY).test(ngenNhv1));
+        assertTrue(ElementSelector.substations(List.of("P1")).test(gen));
+        assertFalse(ElementSelector.substations(List.of("P2")).test(gen));
+        assertTrue(ElementSelector.countries(List.of(Country.FR)).test(ngenNhv1));
+        assertFalse(ElementSelector.countries(List.of(Country.BE)).test(ngenNhv1));
+        assertTrue(ElementSelector.predicate(e -> e.getId().startsWith("NGEN")).test(ngenNhv1));
+        assertTrue(ElementSelector.nominalVoltageRange(380, 380).test(network.getBusView().getBus("VLHV1_0")));
+
+        assertEquals(ElementSelector.substations(List.of("P1")), ElementSelector.substations(List.of("P1", "P1")));
+        assertThrows(IllegalArgumentException.class, () -> ElementSelector.nominalVoltageRange(400, 63));
+        assertThrows(IllegalArgumentException.class, () -> ElementSelector.nominalVoltageRange(Double.NaN, 63));
+    }
+
+    @Test
+    void testResolveElements() {
+        Network network = EurostagTutorialExample1Factory.create();
+        OpenReacParameters parameters = new OpenReacParameters();
+
+        // explicit lists are deduplicated
+        parameters.addVariableTwoWindingsTransformers(List.of("NHV2_NLOAD", "NHV2_NLOAD"));
+        parameters.addVariableTwoWindingsTransformers(List.of("NHV2_NLOAD"));
+        assertEquals(List.of("NHV2_NLOAD"), parameters.getVariableTwoWindingsTransformers());
+        assertEquals(Set.of("NHV2_NLOAD"), parameters.resolveElements(network).variableTwoWindingsTransformers());
+
+        // and the ids can be removed
+        List<String> generators = parameters.getConstantQGenerators();
+        parameters.addConstantQGenerators(List.of("GEN", "GEN2", "GEN3"));
+        assertFalse(generators.add("GEN"));
+        assertTrue(generators.remove("GEN2"));
+        assertFalse(generators.contains("GEN2"));
+        assertEquals("GEN", generators.remove(0));
+        assertEquals(List.of("GEN3"), generators);
+        assertTrue(generators.add("GEN"));
+        generators.removeIf("GEN3"::equals);
+        assertEquals(List.of("GEN"), generators);
+        assertEquals(Set.of("GEN"), parameters.resolveElements(network).constantQGenerators());
+        generators.clear();
+        assertTrue(generators.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> generators.set(0, "GEN"));
+
+        // explicit ids first, then selected ones in network order
+        parameters.addVariableTwoWindingsTransformerSelector(ElementSelector.all());
+        parameters.addConstantQGeneratorSelector(ElementSelector.nominalVoltageRange(63, Double.POSITIVE_INFINITY));
+        parameters.addConfiguredReactiveSlackBusSelector(ElementSelector.substations(List.of("P2")));
+        ResolvedElements elements = parameters.resolveElements(network);
+        assertEquals(List.of("NHV2_NLOAD", "NGEN_NHV1"), List.copyOf(elements.variableTwoWindingsTransformers()));
+        assertEquals(Set.of(), elements.constantQGenerators());
+        assertEquals(Set.of("VLHV2_0", "VLLOAD_0"), elements.configuredReactiveSlackBuses());
+        assertTrue(elements.variableShuntCompensators().isEmpty());
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openreac.exceptions.InvalidParametersException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class NetworkValidationCacheTest {
+
+    @Test
+    void testInvalidation() {
+        Network network = createNetwork();
+        NetworkValidationCache cache = NetworkValidationCache.attach(network);
+        assertSame(cache, NetworkValidationCache.attach(network));
+        OpenReacParameters parameters = new OpenReacParameters();
+        double threshold = parameters.getLowImpedanceThreshold();
+        NetworkValidation validation = parameters.validate(network, ReportNode.NO_OP);
+        Line line = network.getLines().iterator().next();
+        VoltageLevel vl = network.getVoltageLevels().iterator().next();
+        assertTrue(cache.isBranchCached(threshold, line.getId()));
+        assertTrue(cache.isVoltageLevelCached(vl.getId()));
+
+        // injection changes do not evict anything
+        network.getGenerators().iterator().next().setTargetP(10);
+        network.getLoads().iterator().next().setP0(10);
+        assertTrue(cache.isBranchCached(threshold, line.getId()));
+        assertTrue(cache.isVoltageLevelCached(vl.getId()));
+
+        // impedance and limit changes do
+        line.setR(line.getR() * 2);
+        assertFalse(cache.isBranchCached(threshold, line.getId()));
+        vl.setHighVoltageLimit(1.12 * vl.getNominalV());
+        assertFalse(cache.isVoltageLevelCached(vl.getId()));
+        assertEquals(validation.getVoltageLevelsWithLimitsOutOfNominalVRange(),
+                parameters.validate(network, ReportNode.NO_OP).getVoltageLevelsWithLimitsOutOfNominalVRange());
+        assertTrue(cache.isBranchCached(threshold, line.getId()));
+
+        // a limit out of the nominal voltage range is still found after a cached validation
+        vl.setHighVoltageLimit(2 * vl.getNominalV() + 10);
+        assertEquals(List.of(vl.getId()),
+                List.copyOf(parameters.validate(network, ReportNode.NO_OP).getVoltageLevelsWithLimitsOutOfNominalVRange().keySet()));
+
+        // so is a missing limit
+        vl.setHighVoltageLimit(Double.NaN);
+        assertThrows(InvalidParametersException.class, () -> parameters.validate(network, ReportNode.NO_OP));
+
+        // nominal voltage changes evict the branches of the voltage level
+        vl.setHighVoltageLimit(1.1 * vl.getNominalV());
+        parameters.validate(network, ReportNode.NO_OP);
+        Line vlLine = vl.getLines().iterator().next();
+        assertTrue(cache.isBranchCached(threshold, vlLine.getId()));
+        vl.setNominalV(vl.getNominalV() + 1);
+        assertFalse(cache.isBranchCached(threshold, vlLine.getId()));
+
+        // removing the extension removes the listener
+        parameters.validate(network, ReportNode.NO_OP);
+        network.removeExtension(NetworkValidationCache.class);
+        assertFalse(cache.isBranchCached(threshold, vlLine.getId()));
+        parameters.validate(network, ReportNode.NO_OP);
+        assertFalse(cache.isBranchCached(threshold, vlLine.getId()));
+    }
+
+    @Test
+    void testLowImpedanceThreshold() {
+        Network network = createNetwork();
+        Line line = network.getLines().iterator().next();
+        line.setR(0).setX(1e-6);
+        NetworkValidationCache cache = NetworkValidationCache.attach(network);
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.validate(network, ReportNode.NO_OP);
+        assertTrue(cache.isBranchCached(parameters.getLowImpedanceThreshold(), line.getId()));
+        assertFalse(cache.isBranchCached(0, line.getId()));
+
+        // the findings of another threshold are kept apart, for validations running concurrently
+        new OpenReacParameters().setLowImpedanceThreshold(0).validate(network, ReportNode.NO_OP);
+        assertTrue(cache.isBranchCached(0, line.getId()));
+        assertTrue(cache.isBranchCached(parameters.getLowImpedanceThreshold(), line.getId()));
+        assertEquals(1, cache.getBranchFindings(parameters.getLowImpedanceThreshold(), line, (branch, findings) -> fail()).size());
+        assertEquals(List.of(), cache.getBranchFindings(0, line, (branch, findings) -> fail()));
+        assertTrue(cache.isVoltageLevelCached(line.getTerminal1().getVoltageLevel().getId()));
+
+        // a change of the branch evicts it for all the thresholds
+        line.setX(2e-6);
+        assertFalse(cache.isBranchCached(0, line.getId()));
+        assertFalse(cache.isBranchCached(parameters.getLowImpedanceThreshold(), line.getId()));
+    }
+
+    @Test
+    void testSameFindingsAsWithoutCache() {
+        Network network = createNetwork();
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addSpecificVoltageLimits(List.of(new VoltageLimitOverride(network.getVoltageLevels().iterator().next().getId(),
+                VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT, true, 100)));
+        NetworkValidation expected = parameters.validate(network, ReportNode.NO_OP);
+        NetworkValidationCache.attach(network);
+        assertEquals(expected.getVoltageLevelsWithLimitsOutOfNominalVRange(),
+                parameters.validate(network, ReportNode.NO_OP).getVoltageLevelsWithLimitsOutOfNominalVRange());
+        assertEquals(expected.getVoltageLevelsWithLimitsOutOfNominalVRange(),
+                parameters.validate(network, ReportNode.NO_OP).getVoltageLevelsWithLimitsOutOfNominalVRange());
+    }
+
+    private static Network createNetwork() {
+        Network network = IeeeCdfNetworkFactory.create57();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            vl.setLowVoltageLimit(0.9 * vl.getNominalV());
+            vl.setHighVoltageLimit(1.1 * vl.getNominalV());
+        }
+        return network;
+    }
+}
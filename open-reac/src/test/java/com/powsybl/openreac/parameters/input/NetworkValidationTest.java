@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.input;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openreac.exceptions.InvalidParametersException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class NetworkValidationTest {
+
+    @Test
+    void testFindingsInElementOrder() {
+        List<Integer> elements = IntStream.range(0, 100_000).boxed().toList();
+        List<Integer> findings = NetworkValidation.<Integer, Integer>collectFindings(elements.stream(), (element, consumer) -> {
+            if (element % 3 == 0) {
+                consumer.accept(element);
+                consumer.accept(-element);
+            }
+        });
+        List<Integer> expected = new ArrayList<>();
+        elements.stream().filter(e -> e % 3 == 0).forEach(e -> {
+            expected.add(e);
+            expected.add(-e);
+        });
+        assertEquals(expected, findings);
+    }
+
+    @Test
+    void testLimitsOutOfNominalVRange() throws IOException {
+        Network network = IeeeCdfNetworkFactory.create118();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            vl.setLowVoltageLimit(0.9 * vl.getNominalV());
+            vl.setHighVoltageLimit(1.1 * vl.getNominalV());
+        }
+        List<VoltageLevel> voltageLevels = new ArrayList<>();
+        network.getVoltageLevels().forEach(voltageLevels::add);
+        voltageLevels.get(3).setHighVoltageLimit(2 * voltageLevels.get(3).getNominalV());
+        voltageLevels.get(40).setLowVoltageLimit(0.5 * voltageLevels.get(40).getNominalV());
+        voltageLevels.get(80).setHighVoltageLimit(1.5 * voltageLevels.get(80).getNominalV());
+
+        // the override brings back the limit of the first one in the range, and takes the one of the last one out
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addSpecificVoltageLimits(List.of(
+                new VoltageLimitOverride(voltageLevels.get(3).getId(), VoltageLimitOverride.VoltageLimitType.HIGH_VOLTAGE_LIMIT, false, 1.1 * voltageLevels.get(3).getNominalV()),
+                new VoltageLimitOverride(voltageLevels.get(100).getId(), VoltageLimitOverride.VoltageLimitType.LOW_VOLTAGE_LIMIT, true, -0.5 * voltageLevels.get(100).getNominalV())));
+
+        NetworkValidation validation = parameters.validate(network, ReportNode.NO_OP);
+        assertEquals(List.of(voltageLevels.get(40).getId(), voltageLevels.get(80).getId(), voltageLevels.get(100).getId()),
+                List.copyOf(validation.getVoltageLevelsWithLimitsOutOfNominalVRange().keySet()));
+        assertEquals(0.4 * voltageLevels.get(100).getNominalV(),
+                validation.getVoltageLevelsWithLimitsOutOfNominalVRange().get(voltageLevels.get(100).getId()).lowLimit(), 1e-9);
+
+        // same report with and without the validation
+        ReportNode reportWithValidation = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+        new VoltageLevelLimitsOverrideInput(parameters.getSpecificVoltageLimits(), network, validation, reportWithValidation);
+        ReportNode reportWithoutValidation = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+        new VoltageLevelLimitsOverrideInput(parameters.getSpecificVoltageLimits(), network, reportWithoutValidation);
+        assertEquals(print(reportWithoutValidation), print(reportWithValidation));
+    }
+
+    @Test
+    void testMissingLimits() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        OpenReacParameters parameters = new OpenReacParameters();
+        InvalidParametersException e = assertThrows(InvalidParametersException.class, () -> parameters.validate(network, ReportNode.NO_OP));
+        assertEquals("At least one voltage level has an undefined or incorrect voltage limit.", e.getMessage());
+    }
+
+    @Test
+    void testReportDetailsLimit() {
+        Network network = IeeeCdfNetworkFactory.create118();
+        int voltageLevelsCount = network.getVoltageLevelCount();
+        OpenReacParameters parameters = new OpenReacParameters();
+        assertEquals(100, parameters.getReportDetailsLimit());
+        assertThrows(IllegalArgumentException.class, () -> parameters.setReportDetailsLimit(-1));
+
+        // the count is always reported, the details are capped and the other ones summarized in a single node
+        ReportNode reportNode = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+        assertThrows(InvalidParametersException.class, () -> parameters.validate(network, reportNode));
+        List<ReportNode> children = reportNode.getChildren();
+        assertEquals(1 + 100 + 1, children.size());
+        assertEquals("optimizer.openreac.nbVoltageLevelsWithMissingLimits", children.getFirst().getMessageKey());
+        assertEquals(String.valueOf(voltageLevelsCount), children.getFirst().getValue("size").orElseThrow().getValue().toString());
+        assertEquals("optimizer.openreac.omittedDetails", children.getLast().getMessageKey());
+        assertEquals(voltageLevelsCount - 100, children.getLast().getValue("count").orElseThrow().getValue());
+
+        ReportNode countOnlyReportNode = ReportNode.newRootReportNode().withAllResourceBundlesFromClasspath().withMessageTemplate("optimizer.openreac.openReac").build();
+        parameters.setReportDetailsLimit(0);
+        assertThrows(InvalidParametersException.class, () -> parameters.validate(network, countOnlyReportNode));
+        assertEquals(2, countOnlyReportNode.getChildren().size());
+        assertEquals("... and " + voltageLevelsCount + " more", countOnlyReportNode.getChildren().getLast().getMessage());
+    }
+
+    private static String print(ReportNode reportNode) throws IOException {
+        StringWriter writer = new StringWriter();
+        reportNode.print(writer);
+        return writer.toString();
+    }
+}
@@ -13,6 +13,8 @@ import com.powsybl.ampl.executor.AmplInputFile;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.util.StringToIntMapper;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.OpenReacConfig;
+import com.powsybl.openreac.network.IncrementalParallelTransformersDetector;
 import com.powsybl.openreac.network.ParallelTransformersNetworkFactory;
 import com.powsybl.openreac.network.ParallelTwoWindingsTransformersDetector;
 import com.powsybl.openreac.parameters.OpenReacAmplIOFiles;
@@ -24,6 +26,7 @@ import java.io.StringWriter;
 import java.io.Writer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -101,6 +104,31 @@ class ParallelTransformersInputFilesTest {
         }
     }
 
+    @Test
+    void membershipIncrementalDetection() throws IOException {
+        Network network = ParallelTransformersNetworkFactory.createTwoSeparateBundles();
+        OpenReacConfig config = new OpenReacConfig(false).setIncrementalParallelTransformersDetection(true);
+        OpenReacAmplIOFiles io = new OpenReacAmplIOFiles(new OpenReacParameters(), null, network, config, null, null, null,
+                ReportNode.NO_OP);
+        // the detector is attached to the network, for the next runs
+        assertNotNull(network.getExtension(IncrementalParallelTransformersDetector.class));
+        AmplInputFile input = io.getInputParameters().stream()
+                .filter(f -> ParallelTwoWindingsTransformersBundles.PARAM_PARALLEL_TRANSFORMERS_FILE_NAME.equals(f.getFileName()))
+                .findFirst().orElseThrow();
+        StringToIntMapper<AmplSubset> mapper = AmplUtil.createMapper(network);
+
+        try (Writer w = new StringWriter();
+             BufferedWriter writer = new BufferedWriter(w);
+             Writer expectedW = new StringWriter();
+             BufferedWriter expectedWriter = new BufferedWriter(expectedW)) {
+            input.write(writer, mapper);
+            new ParallelTwoWindingsTransformersBundles(ParallelTwoWindingsTransformersDetector.detect(network).bundles())
+                    .write(expectedWriter, mapper);
+            assertEquals(expectedW.toString(), w.toString());
+            assertTrue(w.toString().contains(System.lineSeparator() + "2 "));
+        }
+    }
+
     @Test
     void membershipEmptyWhenGroupingIsOptedOut() throws IOException {
         Network network = ParallelTransformersNetworkFactory.createSimpleParallel();
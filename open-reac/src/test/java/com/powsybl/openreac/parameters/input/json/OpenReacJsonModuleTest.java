@@ -9,6 +9,8 @@ package com.powsybl.openreac.parameters.input.json;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.commons.test.ComparisonUtils;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.openreac.parameters.input.ElementSelector;
 import com.powsybl.openreac.parameters.input.OpenReacParameters;
 import com.powsybl.openreac.parameters.input.VoltageLimitOverride;
 import com.powsybl.openreac.parameters.input.algo.OpenReacAmplLogLevel;
@@ -198,4 +200,32 @@ class OpenReacJsonModuleTest {
         assertEquals(List.of("g1", "g2"), parameters.getConstantQGenerators());
         assertEquals(0.1, parameters.getShuntVariableScalingFactor());
     }
+
+    @Test
+    void testElementSelectors() throws IOException {
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new OpenReactJsonModule());
+        OpenReacParameters parameters = new OpenReacParameters();
+        parameters.addVariableShuntCompensatorSelector(ElementSelector.nominalVoltageRange(63, Double.POSITIVE_INFINITY));
+        parameters.addConstantQGeneratorSelector(ElementSelector.countries(List.of(Country.FR, Country.BE)));
+        parameters.addVariableTwoWindingsTransformerSelector(ElementSelector.substations(List.of("S1", "S2")));
+        parameters.addVariableTwoWindingsTransformerSelector(ElementSelector.all());
+        parameters.setReactiveSlackBusesMode(ReactiveSlackBusesMode.CONFIGURED);
+        parameters.addConfiguredReactiveSlackBusSelector(ElementSelector.nominalVoltageRange(20, 90));
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(parameters);
+        OpenReacParameters parameters2 = objectMapper.readValue(json, OpenReacParameters.class);
+        assertEquals(parameters.getVariableShuntCompensatorSelectors(), parameters2.getVariableShuntCompensatorSelectors());
+        assertEquals(parameters.getConstantQGeneratorSelectors(), parameters2.getConstantQGeneratorSelectors());
+        assertEquals(parameters.getVariableTwoWindingsTransformerSelectors(), parameters2.getVariableTwoWindingsTransformerSelectors());
+        assertEquals(parameters.getConfiguredReactiveSlackBusSelectors(), parameters2.getConfiguredReactiveSlackBusSelectors());
+
+        // selectors are not readable from a previous version
+        String previousVersionJson = json.replace("\"version\" : \"1.3\"", "\"version\" : \"1.2\"");
+        assertThrows(Exception.class, () -> objectMapper.readValue(previousVersionJson, OpenReacParameters.class));
+
+        // predicates cannot be written
+        parameters.addConstantQGeneratorSelector(ElementSelector.predicate(e -> true));
+        assertThrows(Exception.class, () -> objectMapper.writeValueAsString(parameters));
+    }
 }
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.util.StringToIntMapper;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.modification.GeneratorModification;
+import com.powsybl.iidm.modification.ShuntCompensatorModification;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openreac.parameters.output.network.GeneratorNetworkOutput;
+import org.jgrapht.alg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacResultDiffTest {
+
+    private static final OpenReacResultDiff.Tolerances TOLERANCES = new OpenReacResultDiff.Tolerances()
+            .setTargetVoltage(0.1)
+            .setReactivePower(1)
+            .setBusVoltage(1e-3)
+            .setBusAngle(1e-3);
+
+    @Test
+    void testDeltaWithinTolerances() {
+        OpenReacResult previous = result(Map.of("B1-G", 143.1, "B2-G", 142.), 1, Map.of("VL1_0", 1.06, "VL9_0", 1.05));
+        OpenReacResult next = result(Map.of("B1-G", 143.15, "B2-G", 142.5, "B3-G", 135.), 1, Map.of("VL1_0", 1.0605, "VL9_0", 1.052));
+
+        OpenReacResultDiff diff = OpenReacResultDiff.between(previous, next, TOLERANCES);
+        OpenReacResult delta = diff.getDelta();
+        // B1-G moved within the tolerance, B3-G is new
+        assertEquals(List.of("B2-G", "B3-G"), delta.getGeneratorModifications().stream().map(GeneratorModification::getGeneratorId).toList());
+        assertTrue(delta.getShuntsModifications().isEmpty());
+        assertEquals(Set.of("VL9_0"), diff.getChangedBuses());
+        assertEquals(2, diff.getModificationCount());
+        assertFalse(diff.isEmpty());
+
+        assertTrue(OpenReacResultDiff.between(next, next, new OpenReacResultDiff.Tolerances()).isEmpty());
+    }
+
+    @Test
+    void testApplyDelta() {
+        OpenReacResult previous = result(Map.of("B1-G", 143.1, "B2-G", 142.), 1, Map.of("VL1_0", 1.06, "VL9_0", 1.05));
+        OpenReacResult next = result(Map.of("B1-G", 143.15, "B2-G", 142.5), 1, Map.of("VL1_0", 1.0605, "VL9_0", 1.052));
+
+        Network network = IeeeCdfNetworkFactory.create14();
+        previous.applyAllModifications(network);
+        Network reference = IeeeCdfNetworkFactory.create14();
+        next.applyAllModifications(reference);
+
+        OpenReacResultDiff.between(previous, next, TOLERANCES).apply(network);
+        // changed beyond the tolerance
+        assertEquals(142.5, network.getGenerator("B2-G").getTargetV());
+        // within the tolerance, the previous value is kept
+        assertEquals(143.1, network.getGenerator("B1-G").getTargetV());
+        assertEquals(network.getBusView().getBus("VL1_0").getV(), 1.06 * network.getVoltageLevel("VL1").getNominalV());
+        // the shunt section is unchanged, but its target follows its regulated bus
+        assertEquals(reference.getShuntCompensator("B9-SH").getTargetV(), network.getShuntCompensator("B9-SH").getTargetV());
+        assertEquals(reference.getBusView().getBus("VL9_0").getV(), network.getBusView().getBus("VL9_0").getV());
+    }
+
+    @Test
+    void testApplyChangedShunt() {
+        OpenReacResult previous = result(Map.of(), 1, Map.of("VL9_0", 1.05));
+        OpenReacResult next = result(Map.of(), 0, Map.of("VL9_0", 1.05));
+
+        Network network = IeeeCdfNetworkFactory.create14();
+        previous.applyAllModifications(network);
+        network.getShuntCompensator("B9-SH").setTargetV(0.);
+
+        OpenReacResultDiff diff = OpenReacResultDiff.between(previous, next, TOLERANCES);
+        assertTrue(diff.getChangedBuses().isEmpty());
+        diff.apply(network);
+        assertEquals(0, network.getShuntCompensator("B9-SH").getSectionCount());
+        // the shunt is part of the delta, its target is updated even if the bus did not change
+        assertEquals(1.05 * network.getVoltageLevel("VL9").getNominalV(), network.getShuntCompensator("B9-SH").getTargetV(), 1e-9);
+    }
+
+    @Test
+    void testChainedDiffs() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        OpenReacResult first = result(Map.of("B1-G", 143.), 1, Map.of("VL1_0", 1.06, "VL9_0", 1.05));
+        first.applyAllModifications(network);
+
+        // each run moves the setpoint under the tolerance, the moves are cumulated against the written value
+        OpenReacResultDiff diff = OpenReacResultDiff.between(first, result(Map.of("B1-G", 143.04), 1, Map.of("VL1_0", 1.0604, "VL9_0", 1.05)), TOLERANCES);
+        assertTrue(diff.isEmpty());
+        diff.apply(network);
+        diff = diff.then(result(Map.of("B1-G", 143.08), 1, Map.of("VL1_0", 1.0608, "VL9_0", 1.05)));
+        assertTrue(diff.isEmpty());
+        diff.apply(network);
+        assertEquals(143., network.getGenerator("B1-G").getTargetV());
+        diff = diff.then(result(Map.of("B1-G", 143.12), 1, Map.of("VL1_0", 1.0612, "VL9_0", 1.05)));
+        assertEquals(1, diff.getModificationCount());
+        assertEquals(Set.of("VL1_0"), diff.getChangedBuses());
+        diff.apply(network);
+        assertEquals(143.12, network.getGenerator("B1-G").getTargetV());
+        assertEquals(143.12, diff.getApplied().getGeneratorModifications().getFirst().getModifs().getTargetV());
+        assertEquals(1.0612, diff.getApplied().getVoltageProfile().get("VL1_0").getFirst());
+    }
+
+    @Test
+    void testDeltaOfReadResults() throws IOException {
+        Network network = IeeeCdfNetworkFactory.create14();
+        StringToIntMapper<AmplSubset> mapper = new StringToIntMapper<>(AmplSubset.class);
+        network.getGeneratorStream().forEach(g -> mapper.newInt(AmplSubset.GENERATOR, g.getId()));
+        OpenReacResult first = readGenerators(network, mapper, Map.of("B1-G", 1.06, "B2-G", 1.045));
+        first.applyAllModifications(network);
+
+        // the setpoints equal to the ones on the network are read as undefined
+        OpenReacResult second = readGenerators(network, mapper, Map.of("B1-G", 1.06, "B2-G", 1.05));
+        GeneratorModification.Modifs stable = second.getGeneratorModifications().getFirst().getModifs();
+        assertNull(stable.getTargetV());
+        assertNull(stable.getTargetQ());
+        OpenReacResultDiff diff = OpenReacResultDiff.between(first, second, TOLERANCES);
+        assertEquals(List.of("B2-G"), diff.getDelta().getGeneratorModifications().stream().map(GeneratorModification::getGeneratorId).toList());
+        diff.apply(network);
+        assertEquals(1.05 * network.getVoltageLevel("VL2").getNominalV(), network.getGenerator("B2-G").getTargetV(), 1e-9);
+        // the undefined values of the delta are the previous ones in the values written
+        GeneratorModification.Modifs applied = diff.getApplied().getGeneratorModifications().get(1).getModifs();
+        assertEquals(network.getGenerator("B2-G").getTargetQ(), applied.getTargetQ());
+        assertEquals(network.getGenerator("B2-G").getTargetV(), applied.getTargetV());
+
+        // nothing moved since
+        diff = diff.then(readGenerators(network, mapper, Map.of("B1-G", 1.06, "B2-G", 1.05)));
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    void testInvalidTolerance() {
+        OpenReacResultDiff.Tolerances tolerances = new OpenReacResultDiff.Tolerances();
+        assertThrows(IllegalArgumentException.class, () -> tolerances.setBusVoltage(-1));
+        assertThrows(IllegalArgumentException.class, () -> tolerances.setTargetVoltage(Double.NaN));
+    }
+
+    /**
+     * @return the generators read from an output with the given voltages in p.u. and a null reactive power.
+     */
+    private static OpenReacResult readGenerators(Network network, StringToIntMapper<AmplSubset> mapper, Map<String, Double> targetV) throws IOException {
+        StringBuilder content = new StringBuilder("#variant;num;bus;vRegul;V(pu);targetP(MW);targetQ(Mvar);P(MW);Q(MVAr);\n");
+        targetV.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(e -> content.append("1;")
+                .append(mapper.getInt(AmplSubset.GENERATOR, e.getKey())).append(";1;true;").append(e.getValue()).append(";0;0;0;0;\n"));
+        GeneratorNetworkOutput output = new GeneratorNetworkOutput(network);
+        output.read(new BufferedReader(new StringReader(content.toString())), mapper);
+        return OpenReacResult.builder(OpenReacStatus.OK)
+                .setGeneratorModifications(output.getModifications())
+                .build();
+    }
+
+    private static OpenReacResult result(Map<String, Double> generatorTargetV, int shuntSectionCount, Map<String, Double> voltages) {
+        List<GeneratorModification> generators = generatorTargetV.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> {
+                    GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+                    modifs.setTargetV(e.getValue());
+                    return new GeneratorModification(e.getKey(), modifs);
+                })
+                .toList();
+        return OpenReacResult.builder(OpenReacStatus.OK)
+                .setGeneratorModifications(generators)
+                .setShuntsModifications(List.of(new ShuntCompensatorModification("B9-SH", null, shuntSectionCount)))
+                .setVoltageProfile(voltages.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> Pair.of(e.getValue(), 0.))))
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output;
+
+import com.powsybl.openreac.parameters.output.OpenReacSolverStatistics.Solve;
+import com.powsybl.openreac.parameters.output.OpenReacSolverStatistics.SolveStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacSolverStatisticsTest {
+
+    @Test
+    void testMissingIndicators() {
+        // indicators of a model predating the statistics
+        OpenReacSolverStatistics statistics = OpenReacSolverStatistics.of(Map.of("final_status", "OK"));
+        assertTrue(statistics.getAll().isEmpty());
+        assertTrue(statistics.getTotalIterations().isEmpty());
+        assertTrue(statistics.getAmplElapsedTime().isEmpty());
+        assertTrue(statistics.getTotalSolveTime().isEmpty());
+    }
+
+    @Test
+    void testPartialIndicators() {
+        // failure of the dcopf, the acopf not happening, and an unreadable value
+        OpenReacSolverStatistics statistics = OpenReacSolverStatistics.of(Map.of(
+                "cc_solve_result", "0",
+                "cc_solve_time", "0.001000",
+                "cc_solve_iterations", "x",
+                "dcopf_solve_result", "201",
+                "dcopf_solve_time", "2.000000",
+                "dcopf_solve_iterations", "40",
+                "dcopf_solve_function_evaluations", "81",
+                "dcopf_solve_feasibility_error", "1.000000e+01",
+                "acopf_solve_result", "-1",
+                "acopf_solve_time", "-1.000000"));
+        assertEquals(new SolveStatistics(0, Duration.ofMillis(1), -1, -1, Double.NaN), statistics.get(Solve.CONNECTED_COMPONENT).orElseThrow());
+        SolveStatistics dcopf = statistics.get(Solve.DCOPF).orElseThrow();
+        assertFalse(dcopf.isFeasible());
+        assertEquals(new SolveStatistics(201, Duration.ofSeconds(2), 40, 81, 10), dcopf);
+        assertTrue(statistics.get(Solve.ACOPF).isEmpty());
+        assertTrue(statistics.get(Solve.ACOPF_AFTER_ROUNDING).isEmpty());
+    }
+}
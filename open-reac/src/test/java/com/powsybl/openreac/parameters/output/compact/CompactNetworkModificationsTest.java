@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.openreac.parameters.OpenReacAmplIOFiles;
+import com.powsybl.openreac.parameters.input.OpenReacParameters;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.network.NetworkModifications;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class CompactNetworkModificationsTest {
+
+    @Test
+    void testGeneratorModificationsRoundTrip() {
+        GeneratorModification.Modifs modifs1 = new GeneratorModification.Modifs();
+        modifs1.setTargetV(401.5);
+        modifs1.setTargetQ(-12.25);
+        GeneratorModification.Modifs modifs2 = new GeneratorModification.Modifs();
+        modifs2.setTargetQ(Double.NaN);
+        modifs2.setVoltageRegulatorOn(false);
+        modifs2.setConnected(true);
+        modifs2.setIgnoreCorrectiveOperations(true);
+
+        CompactGeneratorModifications compact = new CompactGeneratorModifications(new IdDictionary(),
+                List.of(new GeneratorModification("G1", modifs1), new GeneratorModification("G2", modifs2)));
+        assertEquals(2, compact.size());
+        assertEquals(401.5, compact.getTargetV(0));
+        assertTrue(Double.isNaN(compact.getTargetV(1)));
+        assertEquals(-12.25, compact.getTargetQ(0));
+        // present even if NaN
+        assertNull(compact.getMinPColumn());
+        assertNotNull(compact.get(1).getModifs().getTargetQ());
+
+        GeneratorModification g1 = compact.get(0);
+        assertEquals("G1", g1.getGeneratorId());
+        assertEquals(401.5, g1.getModifs().getTargetV());
+        assertEquals(-12.25, g1.getModifs().getTargetQ());
+        assertNull(g1.getModifs().getMinP());
+        assertNull(g1.getModifs().getVoltageRegulatorOn());
+        assertNull(g1.getModifs().getConnected());
+        assertFalse(g1.getModifs().isIgnoreCorrectiveOperations());
+
+        GeneratorModification g2 = compact.get(1);
+        assertNull(g2.getModifs().getTargetV());
+        assertEquals(Boolean.FALSE, g2.getModifs().getVoltageRegulatorOn());
+        assertEquals(Boolean.TRUE, g2.getModifs().getConnected());
+        assertTrue(g2.getModifs().isIgnoreCorrectiveOperations());
+    }
+
+    @Test
+    void testOtherModificationsRoundTrip() {
+        IdDictionary dictionary = new IdDictionary();
+        CompactShuntCompensatorModifications shunts = new CompactShuntCompensatorModifications(dictionary,
+                List.of(new ShuntCompensatorModification("SH1", null, 3), new ShuntCompensatorModification("SH2", false, null)));
+        assertEquals(3, shunts.getSectionCount(0));
+        assertEquals(-1, shunts.getSectionCount(1));
+        assertNull(shunts.get(0).getConnect());
+        assertEquals(Boolean.FALSE, shunts.get(1).getConnect());
+        assertNull(shunts.get(1).getSectionCount());
+
+        CompactBatteryModifications batteries = new CompactBatteryModifications(dictionary,
+                List.of(new BatteryModification("B1", null, 5.)));
+        assertTrue(Double.isNaN(batteries.getTargetP(0)));
+        assertEquals(5., batteries.get(0).getTargetQ());
+        assertNull(batteries.get(0).getTargetP());
+
+        CompactSetpointModifications<StaticVarCompensatorModification> svcs = CompactSetpointModifications.ofSvc(dictionary,
+                List.of(new StaticVarCompensatorModification("SVC1", 225., null)));
+        assertEquals("SVC1", svcs.get(0).getStaticVarCompensatorId());
+        assertEquals(225., svcs.get(0).getVoltageSetpoint());
+        assertNull(svcs.get(0).getReactivePowerSetpoint());
+
+        CompactSetpointModifications<VscConverterStationModification> vscs = CompactSetpointModifications.ofVsc(dictionary,
+                List.of(new VscConverterStationModification("VSC1", null, 10.)));
+        assertEquals("VSC1", vscs.get(0).getVscConverterStationId());
+        assertEquals(10., vscs.getReactivePowerSetpoint(0));
+
+        CompactTapPositionModifications taps = new CompactTapPositionModifications(dictionary,
+                List.of(new RatioTapPositionModification("T1", 4), new RatioTapPositionModification("T3", 2, ThreeSides.TWO)));
+        assertEquals(4, taps.getTapPosition(0));
+        assertTrue(taps.get(0).getOptionalLeg().isEmpty());
+        assertEquals(ThreeSides.TWO, taps.get(1).getLegSide());
+        assertEquals(2, taps.get(1).getTapPosition());
+
+        assertEquals(7, dictionary.size());
+    }
+
+    @Test
+    void testSharedDictionaryAndOrder() {
+        var network = IeeeCdfNetworkFactory.create14();
+        IdDictionary dictionary = new IdDictionary();
+        OpenReacResult result1 = createResult(network, 1.0);
+        OpenReacResult result2 = createResult(network, 1.1);
+        CompactNetworkModifications compact1 = CompactNetworkModifications.of(result1, dictionary);
+        CompactNetworkModifications compact2 = CompactNetworkModifications.of(result2, dictionary);
+
+        // ids are stored once for both results
+        assertEquals(3, dictionary.size());
+        assertEquals(compact1.getGeneratorModifications().getIdIndex(0), compact2.getGeneratorModifications().getIdIndex(0));
+        assertEquals(1.1, compact2.getGeneratorModifications().getTargetV(0));
+
+        List<NetworkModification> expected = result1.getAllNetworkModifications();
+        List<NetworkModification> actual = compact1.getAllNetworkModifications();
+        assertEquals(expected.size(), compact1.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getClass(), actual.get(i).getClass());
+        }
+        assertEquals("B1-G", ((GeneratorModification) actual.get(0)).getGeneratorId());
+        assertEquals("T4-7-1", ((RatioTapPositionModification) actual.get(2)).getTransformerId());
+    }
+
+    @Test
+    void testColumnSizesChecked() {
+        IdDictionary dictionary = new IdDictionary();
+        int[] ids = {dictionary.intern("B1")};
+        int[] masks = {CompactBatteryModifications.TARGET_P};
+        assertThrows(IllegalArgumentException.class, () -> new CompactBatteryModifications(dictionary, ids, masks, new double[2], null));
+        assertThrows(IllegalArgumentException.class, () -> new CompactBatteryModifications(dictionary, ids, new int[2], null, null));
+        assertEquals(1.5, new CompactBatteryModifications(dictionary, ids, masks, new double[] {1.5}, null).getTargetP(0));
+    }
+
+    private static OpenReacResult createResult(com.powsybl.iidm.network.Network network, double targetV) {
+        OpenReacAmplIOFiles io = new OpenReacAmplIOFiles(new OpenReacParameters(), null, network, false, ReportNode.NO_OP);
+        NetworkModifications modifications = io.getNetworkModifications();
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        modifs.setTargetV(targetV);
+        modifications.getGeneratorModifications().add(new GeneratorModification("B1-G", modifs));
+        modifications.getShuntModifications().add(new ShuntCompensatorModification("B9-SH", null, 1));
+        modifications.getTapPositionModifications().add(new RatioTapPositionModification("T4-7-1", 0));
+        return new OpenReacResult(OpenReacStatus.OK, io, Map.of());
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.compact;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.modification.*;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.openreac.parameters.output.FixedParallelTransformersOutput.FixedParallelTransformer;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import com.powsybl.openreac.parameters.output.ReactiveSlackOutput.ReactiveSlack;
+import org.jgrapht.alg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+public class OpenReacResultBinaryCodecTest {
+
+    public static OpenReacResult createResult() {
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        modifs.setTargetV(402.123456789);
+        modifs.setTargetQ(-0.1);
+        modifs.setVoltageRegulatorOn(true);
+        return OpenReacResult.builder(OpenReacStatus.OK)
+                .setIndicators(Map.of("final_status", "OK", "nb_iter_total", "12"))
+                .setGeneratorModifications(List.of(new GeneratorModification("GEN", modifs)))
+                .setBatteryModifications(List.of(new BatteryModification("BAT", null, 3.5)))
+                .setShuntsModifications(List.of(new ShuntCompensatorModification("SHUNT", true, 2)))
+                .setSvcModifications(List.of(new StaticVarCompensatorModification("SVC", 225.5, null)))
+                .setTapPositionModifications(List.of(new RatioTapPositionModification("T2WT", -3)))
+                .setVscModifications(List.of(new VscConverterStationModification("VSC", null, 12.)))
+                .setReactiveSlacks(List.of(new ReactiveSlack("BUS1", "VL1", 1.25)))
+                .setFixedParallelTransformers(List.of(new FixedParallelTransformer(0, "T2WT", 0.98)))
+                .setVoltageProfile(Map.of("BUS1", Pair.of(1.02, -0.05), "BUS2", Pair.of(0.99, 0.)))
+                .build();
+    }
+
+    @Test
+    void testRoundTrip() {
+        OpenReacResult result = createResult();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(result, os);
+        OpenReacResult read = OpenReacResultBinaryCodec.read(new ByteArrayInputStream(os.toByteArray()));
+        assertResultEquals(result, read);
+    }
+
+    @Test
+    void testSeveralResultsInSameStreamAndFile() throws IOException {
+        OpenReacResult result = createResult();
+        OpenReacResult empty = OpenReacResult.builder(OpenReacStatus.NOT_OK).build();
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            Path file = fileSystem.getPath("results.bin");
+            OpenReacResultBinaryCodec.write(result, file);
+            assertResultEquals(result, OpenReacResultBinaryCodec.read(file));
+        }
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(empty, os);
+        OpenReacResultBinaryCodec.write(result, os);
+        InputStream is = new BufferedInputStream(new ByteArrayInputStream(os.toByteArray()));
+        assertResultEquals(empty, OpenReacResultBinaryCodec.read(is));
+        assertResultEquals(result, OpenReacResultBinaryCodec.read(is));
+        assertEquals(-1, is.read());
+    }
+
+    @Test
+    void testInvalidStreams() {
+        ByteArrayInputStream notAResult = new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5});
+        assertEquals("Not an OpenReac result binary stream",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(notAResult)).getMessage());
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(createResult(), os);
+        byte[] bytes = os.toByteArray();
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 3);
+        assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(truncated)));
+
+        bytes[4] = 2; // version
+        assertEquals("Unsupported OpenReac result binary version 2, expected 1",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(bytes))).getMessage());
+    }
+
+    @Test
+    void testTruncatedStreams() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(createResult(), os);
+        byte[] bytes = os.toByteArray();
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = java.util.Arrays.copyOf(bytes, length);
+            assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(truncated)),
+                    "Truncated to " + length + " bytes");
+        }
+    }
+
+    @Test
+    void testCorruptStreams() {
+        // magic, version, then a status of length -1
+        byte[] negativeSize = {0x4F, 0x52, 0x42, 0x52, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        assertEquals("Invalid size -1 in OpenReac result binary stream",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(negativeSize))).getMessage());
+
+        // status "XX"
+        byte[] unknownStatus = {0x4F, 0x52, 0x42, 0x52, 1, 2, 'X', 'X', 0};
+        assertEquals("Unknown status 'XX' in OpenReac result binary stream",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(unknownStatus))).getMessage());
+
+        // status "OK", no indicator, then a generator of id 5 while no id was read
+        byte[] invalidIndex = {0x4F, 0x52, 0x42, 0x52, 1, 2, 'O', 'K', 0, 0, 1, 5};
+        assertEquals("Invalid id index 5 in OpenReac result binary stream, 0 ids read",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(invalidIndex))).getMessage());
+
+        // a huge string length is not allocated upfront
+        byte[] hugeSize = {0x4F, 0x52, 0x42, 0x52, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        assertEquals("Unexpected end of OpenReac result binary stream",
+                assertThrows(PowsyblException.class, () -> OpenReacResultBinaryCodec.read(new ByteArrayInputStream(hugeSize))).getMessage());
+
+        // any corrupt byte is either read or rejected with a PowsyblException
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        OpenReacResultBinaryCodec.write(createResult(), os);
+        byte[] bytes = os.toByteArray();
+        for (int i = 5; i < bytes.length; i++) {
+            for (byte value : new byte[] {0, 1, 0x7F, (byte) 0x80, (byte) 0xFF}) {
+                byte[] corrupt = bytes.clone();
+                corrupt[i] = value;
+                try {
+                    OpenReacResultBinaryCodec.read(new ByteArrayInputStream(corrupt));
+                } catch (PowsyblException e) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    public static void assertResultEquals(OpenReacResult expected, OpenReacResult actual) {
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getIndicators(), actual.getIndicators());
+        assertEquals(expected.getVoltageProfile(), actual.getVoltageProfile());
+        assertEquals(expected.getGeneratorModifications().size(), actual.getGeneratorModifications().size());
+        for (int i = 0; i < expected.getGeneratorModifications().size(); i++) {
+            GeneratorModification.Modifs e = expected.getGeneratorModifications().get(i).getModifs();
+            GeneratorModification.Modifs a = actual.getGeneratorModifications().get(i).getModifs();
+            assertEquals(expected.getGeneratorModifications().get(i).getGeneratorId(), actual.getGeneratorModifications().get(i).getGeneratorId());
+            assertEquals(e.getTargetV(), a.getTargetV());
+            assertEquals(e.getTargetQ(), a.getTargetQ());
+            assertEquals(e.getVoltageRegulatorOn(), a.getVoltageRegulatorOn());
+            assertEquals(e.getMinP(), a.getMinP());
+        }
+        assertEquals(expected.getBatteryModifications().stream().map(m -> m.getBatteryId() + m.getTargetP() + m.getTargetQ()).toList(),
+                actual.getBatteryModifications().stream().map(m -> m.getBatteryId() + m.getTargetP() + m.getTargetQ()).toList());
+        assertEquals(expected.getShuntsModifications().stream().map(m -> m.getShuntCompensatorId() + m.getConnect() + m.getSectionCount()).toList(),
+                actual.getShuntsModifications().stream().map(m -> m.getShuntCompensatorId() + m.getConnect() + m.getSectionCount()).toList());
+        assertEquals(expected.getSvcModifications().stream().map(m -> m.getStaticVarCompensatorId() + m.getVoltageSetpoint() + m.getReactivePowerSetpoint()).toList(),
+                actual.getSvcModifications().stream().map(m -> m.getStaticVarCompensatorId() + m.getVoltageSetpoint() + m.getReactivePowerSetpoint()).toList());
+        assertEquals(expected.getVscModifications().stream().map(m -> m.getVscConverterStationId() + m.getVoltageSetpoint() + m.getReactivePowerSetpoint()).toList(),
+                actual.getVscModifications().stream().map(m -> m.getVscConverterStationId() + m.getVoltageSetpoint() + m.getReactivePowerSetpoint()).toList());
+        assertEquals(expected.getTapPositionModifications().stream().map(m -> m.getTransformerId() + m.getTapPosition()).toList(),
+                actual.getTapPositionModifications().stream().map(m -> m.getTransformerId() + m.getTapPosition()).toList());
+        assertEquals(expected.getReactiveSlacks().stream().map(s -> s.getBusId() + s.getVoltageLevelId() + s.getSlack()).toList(),
+                actual.getReactiveSlacks().stream().map(s -> s.getBusId() + s.getVoltageLevelId() + s.getSlack()).toList());
+        assertEquals(expected.getFixedParallelTransformers().stream().map(t -> t.getBundle() + t.getTransformerId() + t.getFixedEffectiveRho()).toList(),
+                actual.getFixedParallelTransformers().stream().map(t -> t.getBundle() + t.getTransformerId() + t.getFixedEffectiveRho()).toList());
+    }
+}
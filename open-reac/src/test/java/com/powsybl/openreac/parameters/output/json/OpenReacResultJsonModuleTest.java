@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.iidm.modification.GeneratorModification;
+import com.powsybl.iidm.modification.tapchanger.RatioTapPositionModification;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import com.powsybl.openreac.parameters.output.OpenReacStatus;
+import org.jgrapht.alg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.powsybl.openreac.parameters.output.compact.OpenReacResultBinaryCodecTest.assertResultEquals;
+import static com.powsybl.openreac.parameters.output.compact.OpenReacResultBinaryCodecTest.createResult;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class OpenReacResultJsonModuleTest {
+
+    private final ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+            .registerModule(new OpenReacResultJsonModule());
+
+    @Test
+    void testRoundTrip() throws IOException {
+        OpenReacResult result = createResult();
+        String json = objectMapper.writeValueAsString(result);
+        assertTrue(json.startsWith("{\"version\":\"1.0\",\"status\":\"OK\""));
+        assertResultEquals(result, objectMapper.readValue(json, OpenReacResult.class));
+    }
+
+    @Test
+    void testModificationFields() throws IOException {
+        GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+        modifs.setMinP(-10.);
+        modifs.setMaxP(100.);
+        modifs.setTargetP(50.);
+        modifs.setTargetV(Double.NaN);
+        modifs.setConnected(false);
+        modifs.setIgnoreCorrectiveOperations(true);
+        GeneratorModification generator = new GeneratorModification("GEN", modifs);
+        String json = objectMapper.writeValueAsString(generator);
+        assertEquals("{\"generatorId\":\"GEN\",\"minP\":-10.0,\"maxP\":100.0,\"targetP\":50.0,\"targetV\":NaN,\"connected\":false,\"ignoreCorrectiveOperations\":true}", json);
+        GeneratorModification.Modifs read = objectMapper.readValue(json, GeneratorModification.class).getModifs();
+        assertEquals(-10., read.getMinP());
+        assertEquals(100., read.getMaxP());
+        assertEquals(50., read.getTargetP());
+        assertTrue(Double.isNaN(read.getTargetV()));
+        assertNull(read.getTargetQ());
+        assertNull(read.getVoltageRegulatorOn());
+        assertFalse(read.getConnected());
+        assertTrue(read.isIgnoreCorrectiveOperations());
+
+        RatioTapPositionModification tap = new RatioTapPositionModification("T3WT", 4, ThreeSides.TWO);
+        json = objectMapper.writeValueAsString(tap);
+        assertEquals("{\"transformerId\":\"T3WT\",\"tapPosition\":4,\"leg\":\"TWO\"}", json);
+        RatioTapPositionModification readTap = objectMapper.readValue(json, RatioTapPositionModification.class);
+        assertEquals(4, readTap.getTapPosition());
+        assertEquals(ThreeSides.TWO, readTap.getLegSide());
+    }
+
+    @Test
+    void testStreamedLargeResult() throws IOException {
+        List<GeneratorModification> generators = new ArrayList<>();
+        Map<String, Pair<Double, Double>> voltageProfile = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            GeneratorModification.Modifs modifs = new GeneratorModification.Modifs();
+            modifs.setTargetV(400. + i * 1e-3);
+            generators.add(new GeneratorModification("GEN_" + i, modifs));
+            voltageProfile.put("BUS_" + i, Pair.of(1. + i * 1e-6, -0.1));
+        }
+        OpenReacResult result = OpenReacResult.builder(OpenReacStatus.OK)
+                .setGeneratorModifications(generators)
+                .setVoltageProfile(voltageProfile)
+                .build();
+
+        // through the streaming API directly, as a service would do on a response body
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+            objectMapper.writeValue(generator, result);
+        }
+        OpenReacResult read;
+        try (JsonParser parser = objectMapper.createParser(writer.toString())) {
+            read = objectMapper.readValue(parser, OpenReacResult.class);
+        }
+        assertResultEquals(result, read);
+    }
+
+    @Test
+    void testInvalidDocuments() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> objectMapper.readValue("{\"version\":\"1.0\",\"status\":\"OK\",\"foo\":1}", OpenReacResult.class));
+        assertTrue(e.getMessage().contains("Unexpected field: foo"));
+        PowsyblException versionException = assertThrows(PowsyblException.class,
+                () -> objectMapper.readValue("{\"version\":\"9.0\",\"status\":\"OK\"}", OpenReacResult.class));
+        assertTrue(versionException.getMessage().contains("9.0"));
+        e = assertThrows(IllegalStateException.class, () -> objectMapper.readValue("{\"status\":\"OK\"}", OpenReacResult.class));
+        assertTrue(e.getMessage().contains("Missing version of OpenReacResult"));
+    }
+}
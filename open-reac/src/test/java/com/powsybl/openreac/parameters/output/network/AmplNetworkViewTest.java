@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.network;
+
+import com.powsybl.ampl.converter.AmplSubset;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.StringToIntMapper;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class AmplNetworkViewTest {
+
+    @Test
+    void testEntriesByAmplNumber() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        StringToIntMapper<AmplSubset> mapper = new StringToIntMapper<>(AmplSubset.class);
+        network.getGeneratorStream().forEach(g -> mapper.newInt(AmplSubset.GENERATOR, g.getId()));
+        mapper.newInt(AmplSubset.SHUNT, "B9-SH");
+        mapper.newInt(AmplSubset.SHUNT, "NOT_IN_NETWORK");
+
+        AmplNetworkView view = new AmplNetworkView(network);
+        AmplNetworkView.Entries<AmplNetworkView.GeneratorEntry> generators = view.getGenerators(mapper);
+        assertSame(generators, view.getGenerators(mapper));
+        for (Generator generator : network.getGenerators()) {
+            AmplNetworkView.GeneratorEntry entry = generators.get(mapper.getInt(AmplSubset.GENERATOR, generator.getId()));
+            assertSame(generator, entry.generator());
+            assertEquals(generator.getTargetV(), entry.targetV());
+            assertEquals(generator.getTargetQ(), entry.targetQ());
+            assertEquals(generator.getRegulatingTerminal().getVoltageLevel().getNominalV(), entry.regulatingNominalV());
+        }
+        assertNull(generators.get(0));
+        assertNull(generators.get(-1));
+        assertNull(generators.get(100));
+
+        AmplNetworkView.Entries<AmplNetworkView.ShuntCompensatorEntry> shunts = view.getShuntCompensators(mapper);
+        AmplNetworkView.ShuntCompensatorEntry shunt = shunts.get(mapper.getInt(AmplSubset.SHUNT, "B9-SH"));
+        assertEquals("VL9_0", shunt.connectableBusId());
+        assertSame(ShuntSusceptanceTables.attach(network).get(shunt.shuntCompensator()), shunt.sectionTable());
+        assertNull(shunts.get(mapper.getInt(AmplSubset.SHUNT, "NOT_IN_NETWORK")));
+    }
+
+    @Test
+    void testValuesOfTheViewVariant() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        StringToIntMapper<AmplSubset> mapper = new StringToIntMapper<>(AmplSubset.class);
+        mapper.newInt(AmplSubset.SHUNT, "B9-SH");
+        String runVariantId = network.getVariantManager().getWorkingVariantId();
+        AmplNetworkView view = new AmplNetworkView(network);
+
+        // the outputs are parsed while another variant is the working one
+        network.getVariantManager().cloneVariant(runVariantId, "other");
+        network.getVariantManager().setWorkingVariant("other");
+        network.getShuntCompensator("B9-SH").setSectionCount(0);
+        AmplNetworkView.ShuntCompensatorEntry shunt = view.getShuntCompensators(mapper).get(mapper.getInt(AmplSubset.SHUNT, "B9-SH"));
+        assertEquals(1, shunt.sectionCount());
+        assertEquals("other", network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    void testUnknownGeneratorNumber() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        StringToIntMapper<AmplSubset> mapper = new StringToIntMapper<>(AmplSubset.class);
+        mapper.newInt(AmplSubset.GENERATOR, "B1-G");
+        GeneratorNetworkOutput output = new GeneratorNetworkOutput(network);
+        String content = "#variant;num;bus;vRegul;V(pu);targetP(MW);targetQ(Mvar);P(MW);Q(MVAr);\n1;2;1;true;1.05;0;10;0;0;\n";
+        PowsyblException e = assertThrows(PowsyblException.class, () -> output.read(new BufferedReader(new StringReader(content)), mapper));
+        assertEquals("Error parsing generators from reactiveopf_results_generators.csv, invalid number.", e.getMessage());
+    }
+}
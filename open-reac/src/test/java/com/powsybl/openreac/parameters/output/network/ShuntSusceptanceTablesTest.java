@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.openreac.parameters.output.network;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.iidm.network.ShuntCompensatorLinearModel;
+import com.powsybl.iidm.network.ShuntCompensatorNonLinearModelAdder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithLinearModel;
+import static com.powsybl.openreac.network.ShuntNetworkFactory.createWithNonLinearModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Oscar Lamolet {@literal <lamoletoscar at proton.me>}
+ */
+class ShuntSusceptanceTablesTest {
+
+    @Test
+    void testSameSectionsAsLinearScan() {
+        Network network = createWithNonLinearModel();
+        // unsorted susceptances, with duplicates to exercise ties
+        double[] susceptances = {2e-3, -1e-3, 2e-3, 5e-4, -1e-3, 4e-3, 0., 3e-3};
+        ShuntCompensatorNonLinearModelAdder modelAdder = network.getVoltageLevel("vl3").newShuntCompensator()
+                .setId("NON_LINEAR")
+                .setBus("b3")
+                .setConnectableBus("b3")
+                .setSectionCount(0)
+                .newNonLinearModel();
+        for (double b : susceptances) {
+            modelAdder.beginSection().setB(b).setG(0.).endSection();
+        }
+        ShuntCompensator shunt = modelAdder.add().add();
+        ShuntSusceptanceTables.SectionTable table = ShuntSusceptanceTables.attach(network).get(shunt);
+
+        Random random = new Random(0);
+        for (int current = 0; current <= shunt.getMaximumSectionCount(); current++) {
+            shunt.setSectionCount(current);
+            for (int k = 0; k < 500; k++) {
+                double b = -2e-3 + 7e-3 * random.nextDouble();
+                assertEquals(linearScan(shunt, b), table.findClosestSection(b, current));
+            }
+            // exact susceptances and midpoints between them
+            for (double b1 : susceptances) {
+                assertEquals(linearScan(shunt, b1), table.findClosestSection(b1, current));
+                for (double b2 : susceptances) {
+                    double middle = (b1 + b2) / 2;
+                    assertEquals(linearScan(shunt, middle), table.findClosestSection(middle, current));
+                }
+            }
+            assertEquals(current, table.findClosestSection(Double.NaN, current));
+            assertEquals(linearScan(shunt, Double.POSITIVE_INFINITY), table.findClosestSection(Double.POSITIVE_INFINITY, current));
+        }
+    }
+
+    @Test
+    void testInvalidation() {
+        Network network = createWithLinearModel();
+        ShuntSusceptanceTables tables = ShuntSusceptanceTables.attach(network);
+        assertSame(tables, ShuntSusceptanceTables.attach(network));
+        ShuntCompensator shunt = network.getShuntCompensatorStream().findFirst().orElseThrow();
+        ShuntSusceptanceTables.SectionTable table = tables.get(shunt);
+        assertSame(table, tables.get(shunt));
+
+        // section count and regulation updates keep the table
+        shunt.setSectionCount(shunt.getMaximumSectionCount());
+        shunt.setTargetV(shunt.getTargetV() + 1);
+        assertSame(table, tables.get(shunt));
+
+        // model updates rebuild it
+        shunt.getModel(ShuntCompensatorLinearModel.class).setBPerSection(2 * table.getB(1));
+        ShuntSusceptanceTables.SectionTable rebuilt = tables.get(shunt);
+        assertNotSame(table, rebuilt);
+        assertEquals(2 * table.getB(1), rebuilt.getB(1));
+
+        shunt.getTerminal().getVoltageLevel().setNominalV(2 * shunt.getTerminal().getVoltageLevel().getNominalV());
+        assertEquals(0, tables.size());
+        assertEquals(4 * rebuilt.getNominalVSquare(), tables.get(shunt).getNominalVSquare());
+
+        shunt.remove();
+        assertEquals(0, tables.size());
+    }
+
+    @Test
+    void testExtension() {
+        Network network = createWithLinearModel();
+        ShuntSusceptanceTables tables = ShuntSusceptanceTables.attach(network);
+        assertSame(tables, network.getExtension(ShuntSusceptanceTables.class));
+        assertSame(tables, network.getExtensionByName(ShuntSusceptanceTables.NAME));
+        ShuntCompensator shunt = network.getShuntCompensatorStream().findFirst().orElseThrow();
+        ShuntSusceptanceTables.SectionTable table = tables.get(shunt);
+
+        // removing the extension removes the listener
+        network.removeExtension(ShuntSusceptanceTables.class);
+        assertEquals(0, tables.size());
+        tables.get(shunt);
+        shunt.getModel(ShuntCompensatorLinearModel.class).setBPerSection(2 * table.getB(1));
+        assertEquals(1, tables.size());
+        assertNotSame(tables, ShuntSusceptanceTables.attach(network));
+    }
+
+    private static int linearScan(ShuntCompensator sc, double b) {
+        double minDistance = Math.abs(b - sc.getB());
+        int sectionCount = sc.getSectionCount();
+        for (int i = 0; i <= sc.getMaximumSectionCount(); i++) {
+            double distance = Math.abs(b - sc.getB(i));
+            if (distance < minDistance) {
+                minDistance = distance;
+                sectionCount = i;
+            }
+        }
+        return sectionCount;
+    }
+}